@@ -47,6 +47,7 @@ public final class AppSyncGraphQLRequest<R> extends GraphQLRequest<R> {
     private final SelectionSet selectionSet;
     private final Map<String, Object> variables;
     private final Map<String, String> variableTypes;
+    private volatile String query;
 
     /**
      * Constructor for AppSyncGraphQLRequest.
@@ -91,10 +92,21 @@ public final class AppSyncGraphQLRequest<R> extends GraphQLRequest<R> {
      *            }
      *       }
      *
+     * The request is immutable, so the document is built on first use and reused afterwards.
+     *
      * @return String value used for GraphQL "query" in HTTP request body
      */
     @Override
     public String getQuery() {
+        String current = query;
+        if (current == null) {
+            current = buildQuery();
+            query = current;
+        }
+        return current;
+    }
+
+    private String buildQuery() {
         String inputTypeString = "";
         String inputParameterString = "";
         if (variableTypes.size() > 0) {
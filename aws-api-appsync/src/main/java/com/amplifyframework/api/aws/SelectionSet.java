@@ -45,6 +45,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Class representing a node of a SelectionSet for use in a GraphQLDocument.
@@ -52,9 +53,11 @@ import java.util.Set;
  */
 public final class SelectionSet {
     private static final String INDENT = "  ";
+    private static final Map<BuildKey, SelectionSet> BUILT_SELECTION_SETS = new ConcurrentHashMap<>();
 
     private final String value;
     private final Set<SelectionSet> nodes;
+    private volatile Rendering rendering;
 
     /**
      * Copy constructor.
@@ -62,7 +65,7 @@ public final class SelectionSet {
      */
     @SuppressWarnings("CopyConstructorMissesField") // It is cloned, by recursion
     public SelectionSet(SelectionSet selectionSet) {
-        this(selectionSet.value, new HashSet<>(selectionSet.nodes));
+        this(selectionSet.value, selectionSet.nodes);
     }
 
     /**
@@ -74,18 +77,19 @@ public final class SelectionSet {
     }
 
     /**
-     * Default constructor.
+     * Default constructor. The child nodes are copied, so that a selection set can't be
+     * changed once it has been built. Built selection sets are shared between requests.
      * @param value String value of the field
      * @param nodes Set of child nodes
      */
     public SelectionSet(String value, @NonNull Set<SelectionSet> nodes) {
         this.value = value;
-        this.nodes = Objects.requireNonNull(nodes);
+        this.nodes = Collections.unmodifiableSet(new HashSet<>(Objects.requireNonNull(nodes)));
     }
 
     /**
      * Returns child nodes.
-     * @return child nodes
+     * @return An unmodifiable view of the child nodes
      */
     @NonNull
     public Set<SelectionSet> getNodes() {
@@ -119,6 +123,15 @@ public final class SelectionSet {
      * @return String value of the SelectionSet for a GraphQL query document.
      */
     public String toString(String margin) {
+        Rendering current = rendering;
+        if (current == null || !current.margin.equals(margin)) {
+            current = new Rendering(margin, render(margin));
+            rendering = current;
+        }
+        return current.document;
+    }
+
+    private String render(String margin) {
         List<String> fieldsList = new ArrayList<>();
         StringBuilder builder = new StringBuilder();
 
@@ -128,7 +141,7 @@ public final class SelectionSet {
 
         if (!Empty.check(nodes)) {
             for (SelectionSet node : nodes) {
-                fieldsList.add(node.toString(margin + INDENT));
+                fieldsList.add(node.render(margin + INDENT));
             }
             Collections.sort(fieldsList);
             String delimiter = "\n" + margin + INDENT;
@@ -198,6 +211,10 @@ public final class SelectionSet {
 
         /**
          * Builds the SelectionSet containing all of the fields of the provided model class.
+         *
+         * Selection sets depend only on the model, the operation and the request options, so
+         * the result is built once per combination of those and shared by later requests.
+         * A selection set can't be modified, so sharing it is safe.
          * @return selection set
          * @throws AmplifyException if a ModelSchema cannot be created from the provided model class.
          */
@@ -207,6 +224,18 @@ public final class SelectionSet {
                         "Provide either a modelClass or a modelSchema to build the selection set");
             }
             Objects.requireNonNull(this.operation);
+            BuildKey key = new BuildKey(
+                    SerializedModel.class == modelClass ? modelSchema : modelClass, operation, requestOptions);
+            SelectionSet cached = BUILT_SELECTION_SETS.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            SelectionSet built = buildUncached();
+            cached = BUILT_SELECTION_SETS.putIfAbsent(key, built);
+            return cached != null ? cached : built;
+        }
+
+        private SelectionSet buildUncached() throws AmplifyException {
             SelectionSet node = new SelectionSet(null,
                     SerializedModel.class == modelClass
                             ? getModelFields(modelSchema, requestOptions.maxDepth())
@@ -383,4 +412,65 @@ public final class SelectionSet {
             return result;
         }
     }
+
+    /**
+     * The rendered document for a selection set, along with the margin it was rendered at.
+     */
+    private static final class Rendering {
+        private final String margin;
+        private final String document;
+
+        Rendering(String margin, String document) {
+            this.margin = margin;
+            this.document = document;
+        }
+    }
+
+    /**
+     * Everything a built selection set depends upon: the model (its class, or its schema for
+     * {@link SerializedModel}s), the operation, and the request options that shape the document.
+     */
+    private static final class BuildKey {
+        private final Object model;
+        private final Operation operation;
+        private final String listField;
+        private final List<String> paginationFields;
+        private final List<String> modelMetaFields;
+        private final int maxDepth;
+        private final LeafSerializationBehavior leafSerializationBehavior;
+
+        BuildKey(Object model, Operation operation, GraphQLRequestOptions requestOptions) {
+            this.model = model;
+            this.operation = operation;
+            this.listField = requestOptions.listField();
+            this.paginationFields = requestOptions.paginationFields();
+            this.modelMetaFields = requestOptions.modelMetaFields();
+            this.maxDepth = requestOptions.maxDepth();
+            this.leafSerializationBehavior = requestOptions.leafSerializationBehavior();
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (object == null || getClass() != object.getClass()) {
+                return false;
+            }
+            BuildKey that = (BuildKey) object;
+            return maxDepth == that.maxDepth &&
+                    ObjectsCompat.equals(model, that.model) &&
+                    ObjectsCompat.equals(operation, that.operation) &&
+                    ObjectsCompat.equals(listField, that.listField) &&
+                    ObjectsCompat.equals(paginationFields, that.paginationFields) &&
+                    ObjectsCompat.equals(modelMetaFields, that.modelMetaFields) &&
+                    ObjectsCompat.equals(leafSerializationBehavior, that.leafSerializationBehavior);
+        }
+
+        @Override
+        public int hashCode() {
+            return ObjectsCompat.hash(model, operation, listField, paginationFields, modelMetaFields,
+                    maxDepth, leafSerializationBehavior);
+        }
+    }
 }
@@ -80,6 +80,8 @@ public final class GsonPredicateAdapters {
                     return context.deserialize(json, NotEqualQueryOperator.class);
                 case BEGINS_WITH:
                     return context.deserialize(json, BeginsWithQueryOperator.class);
+                case IN:
+                    return context.deserialize(json, InQueryOperator.class);
                 default:
                     throw new JsonParseException("Unable to deserialize " +
                             json.toString() + " to QueryOperator instance.");
@@ -109,6 +111,8 @@ public final class GsonPredicateAdapters {
                 return context.serialize(operator, NotEqualQueryOperator.class);
             } else if (operator instanceof BeginsWithQueryOperator) {
                 return context.serialize(operator, BeginsWithQueryOperator.class);
+            } else if (operator instanceof InQueryOperator) {
+                return context.serialize(operator, InQueryOperator.class);
             } else {
                 throw new JsonParseException("Unable to serialize a QueryOperator " +
                         "of type " + operator.type().name() + ".");
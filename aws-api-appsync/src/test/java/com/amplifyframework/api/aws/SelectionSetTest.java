@@ -28,6 +28,8 @@ import org.junit.runner.RunWith;
 import org.robolectric.RobolectricTestRunner;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 @RunWith(RobolectricTestRunner.class)
 public class SelectionSetTest {
@@ -86,4 +88,45 @@ public class SelectionSetTest {
                 .build();
         assertEquals(Resources.readAsString("selection-set-ownerauth.txt"), selectionSet.toString() + "\n");
     }
+
+    /**
+     * Test that a selection set is built once per model and operation, and then reused,
+     * while a different operation on the same model gets its own selection set.
+     * @throws AmplifyException if a ModelSchema can't be derived from Post.class
+     */
+    @Test
+    public void selectionSetIsReusedForSameModelAndOperation() throws AmplifyException {
+        SelectionSet first = SelectionSet.builder()
+                .modelClass(Post.class)
+                .operation(QueryType.LIST)
+                .requestOptions(new DefaultGraphQLRequestOptions())
+                .build();
+        SelectionSet second = SelectionSet.builder()
+                .modelClass(Post.class)
+                .operation(QueryType.LIST)
+                .requestOptions(new DefaultGraphQLRequestOptions())
+                .build();
+        SelectionSet single = SelectionSet.builder()
+                .modelClass(Post.class)
+                .operation(QueryType.GET)
+                .requestOptions(new DefaultGraphQLRequestOptions())
+                .build();
+        assertSame(first, second);
+        assertNotSame(first, single);
+        assertEquals(first.toString("  "), second.toString("  "));
+    }
+
+    /**
+     * Test that a shared selection set can't be changed through its child nodes.
+     * @throws AmplifyException if a ModelSchema can't be derived from Post.class
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void sharedSelectionSetCannotBeModified() throws AmplifyException {
+        SelectionSet selectionSet = SelectionSet.builder()
+                .modelClass(Post.class)
+                .operation(QueryType.GET)
+                .requestOptions(new DefaultGraphQLRequestOptions())
+                .build();
+        selectionSet.getNodes().add(new SelectionSet("unexpectedField"));
+    }
 }
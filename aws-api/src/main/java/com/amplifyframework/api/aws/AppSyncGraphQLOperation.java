@@ -123,24 +123,18 @@ public final class AppSyncGraphQLOperation<R> extends GraphQLOperation<R> {
         public void onResponse(@NonNull Call call,
                                @NonNull Response response) {
             final ResponseBody responseBody = response.body();
-            String jsonResponse = null;
-            if (responseBody != null) {
-                try {
-                    jsonResponse = responseBody.string();
-                } catch (IOException exception) {
-                    onFailure.accept(new ApiException(
-                        "Could not retrieve the response body from the returned JSON",
-                        exception, AmplifyException.TODO_RECOVERY_SUGGESTION
-                    ));
-                    return;
-                }
-            }
-
             try {
-                onResponse.accept(wrapResponse(jsonResponse, getResponseType()));
+                // The body is parsed as it is streamed, rather than first being read into a String.
+                onResponse.accept(responseBody != null
+                    ? wrapResponse(responseBody.charStream(), getResponseType())
+                    : wrapResponse((String) null, getResponseType()));
                 //TODO: Dispatch to hub
             } catch (ApiException exception) {
                 onFailure.accept(exception);
+            } finally {
+                if (responseBody != null) {
+                    responseBody.close();
+                }
             }
         }
 
@@ -26,24 +26,50 @@ import com.amplifyframework.util.GsonFactory;
 import com.amplifyframework.util.TypeMaker;
 
 import com.google.gson.Gson;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Converts JSON strings into models of a given type, using Gson.
+ *
+ * A single Gson instance is built up front, and its type adapters are re-used for every
+ * response of the same type. The request whose response is being deserialized is made
+ * available to the {@link IterableAdapterFactory} for the duration of each call, so that
+ * Gson does not need to be rebuilt for every response.
+ *
+ * Responses are parsed as a stream. When a response is read from a {@link Reader}, such as
+ * the body of an HTTP response, the items of a list are built one at a time as they are read,
+ * so the response is never held in memory as a whole, either as text or as a JSON tree.
+ * Every item of a list is still built before the response is returned, though, and the
+ * resulting {@link PaginatedResult} holds all of them. So, the memory that is needed for a
+ * page grows with the number of items in it: it holds the page's models, but not its JSON.
  */
 final class GsonGraphQLResponseFactory implements GraphQLResponse.Factory {
-    private final Gson gson;
+    private static final String DATA_KEY = "data";
+    private static final String ERRORS_KEY = "errors";
+    private static final Type ERRORS_TYPE =
+        TypeMaker.getParameterizedType(ArrayList.class, GraphQLResponse.Error.class);
+
+    private final Gson responseGson;
+    private final Map<Type, TypeAdapter<?>> dataAdapters;
 
     GsonGraphQLResponseFactory() {
         this(GsonFactory.instance());
@@ -51,84 +77,215 @@ final class GsonGraphQLResponseFactory implements GraphQLResponse.Factory {
 
     @VisibleForTesting
     GsonGraphQLResponseFactory(Gson gson) {
-        this.gson = gson;
+        this.responseGson = gson.newBuilder()
+            .registerTypeAdapterFactory(new IterableAdapterFactory())
+            .create();
+        this.dataAdapters = new ConcurrentHashMap<>();
     }
 
     @Override
     public <T> GraphQLResponse<T> buildResponse(GraphQLRequest<T> request, String responseJson, Type typeOfT)
             throws ApiException {
-        Type responseType = TypeMaker.getParameterizedType(GraphQLResponse.class, typeOfT);
+        if (responseJson == null) {
+            // As would be returned by Gson.fromJson(String, Type).
+            return null;
+        }
+        return buildResponse(request, new StringReader(responseJson), typeOfT);
+    }
+
+    @Override
+    public <T> GraphQLResponse<T> buildResponse(GraphQLRequest<T> request, Reader responseReader, Type typeOfT)
+            throws ApiException {
+        GraphQLRequest<?> enclosingRequest = IterableAdapterFactory.CURRENT_REQUEST.get();
+        IterableAdapterFactory.CURRENT_REQUEST.set(request);
         try {
-            Gson responseGson = gson.newBuilder()
-                .registerTypeHierarchyAdapter(Iterable.class, new IterableDeserializer<>(request))
-                .create();
-            return responseGson.fromJson(responseJson, responseType);
-        } catch (JsonSyntaxException jsonSyntaxException) {
+            // Read the same way as Gson.fromJson(Reader, Type).
+            JsonReader reader = new JsonReader(responseReader);
+            reader.setLenient(true);
+            try {
+                reader.peek();
+            } catch (EOFException emptyDocument) {
+                return null;
+            }
+            GraphQLResponse<T> response = readResponse(reader, typeOfT);
+            if (reader.peek() != JsonToken.END_DOCUMENT) {
+                throw new JsonSyntaxException("JSON document was not fully consumed.");
+            }
+            return response;
+        } catch (JsonParseException | IOException | IllegalStateException parseFailure) {
             throw new ApiException(
                 "Amplify encountered an error while deserializing an object.",
-                jsonSyntaxException,
+                parseFailure,
                 AmplifyException.TODO_RECOVERY_SUGGESTION
             );
+        } finally {
+            if (enclosingRequest == null) {
+                IterableAdapterFactory.CURRENT_REQUEST.remove();
+            } else {
+                IterableAdapterFactory.CURRENT_REQUEST.set(enclosingRequest);
+            }
         }
     }
 
-    static final class IterableDeserializer<R> implements JsonDeserializer<Iterable<Object>> {
-        private static final String ITEMS_KEY = "items";
-        private static final String NEXT_TOKEN_KEY = "nextToken";
+    // Reads the response object, i.e. { "data": { "queryName": <data> }, "errors": [ ... ] }
+    private <T> GraphQLResponse<T> readResponse(JsonReader reader, Type typeOfT) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            throw new JsonParseException(
+                "Expected a JsonObject while deserializing GraphQLResponse but found " + reader.peek()
+            );
+        }
+        T data = null;
+        List<GraphQLResponse.Error> errors = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case DATA_KEY:
+                    data = readData(reader, typeOfT);
+                    break;
+                case ERRORS_KEY:
+                    errors = this.<List<GraphQLResponse.Error>>getAdapter(ERRORS_TYPE).read(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+        return new GraphQLResponse<>(data, errors != null ? errors : Collections.emptyList());
+    }
 
-        private final GraphQLRequest<R> request;
+    // Skips the query level, i.e. { "queryName": <data> }, and reads the data inside of it.
+    private <T> T readData(JsonReader reader, Type typeOfT) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        reader.beginObject();
+        if (!reader.hasNext()) {
+            throw new JsonParseException(
+                "Amplify encountered an error while serializing/deserializing an object.  " +
+                    "Please add a single top level field in your query."
+            );
+        }
+        reader.nextName();
+        T data = this.<T>getAdapter(typeOfT).read(reader);
+        if (reader.hasNext()) {
+            throw new JsonParseException(
+                "Amplify encountered an error while serializing/deserializing an object.  " +
+                    "Please reduce your query to a single top level field."
+            );
+        }
+        reader.endObject();
+        return data;
+    }
 
-        IterableDeserializer(GraphQLRequest<R> request) {
-            this.request = request;
+    @SuppressWarnings("unchecked") // Adapters are only ever stored against their own type.
+    private <T> TypeAdapter<T> getAdapter(Type type) {
+        TypeAdapter<?> adapter = dataAdapters.get(type);
+        if (adapter == null) {
+            adapter = responseGson.getAdapter(TypeToken.get(type));
+            dataAdapters.put(type, adapter);
         }
+        return (TypeAdapter<T>) adapter;
+    }
 
+    /**
+     * Creates adapters which read lists of items as they are streamed. At the root level of
+     * a response, a list is read into a {@link PaginatedResult}, which knows how to request
+     * the next page of results.
+     */
+    static final class IterableAdapterFactory implements TypeAdapterFactory {
+        private static final String ITEMS_KEY = "items";
+        private static final String NEXT_TOKEN_KEY = "nextToken";
+        // The request whose response is being deserialized on the current thread, if any.
+        private static final ThreadLocal<GraphQLRequest<?>> CURRENT_REQUEST = new ThreadLocal<>();
+
+        @SuppressWarnings("unchecked") // The adapter reads an Iterable, which is a T.
         @Override
-        public Iterable<Object> deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
-                throws JsonParseException {
-            final Type templateClassType;
-            if (typeOfT instanceof ParameterizedType) {
-                templateClassType = ((ParameterizedType) typeOfT).getActualTypeArguments()[0];
-            } else {
-                throw new JsonParseException("Expected a parameterized type during list deserialization.");
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            if (!Iterable.class.isAssignableFrom(type.getRawType())) {
+                return null;
+            }
+            return (TypeAdapter<T>) new IterableAdapter(gson, this, type);
+        }
+
+        /**
+         * Reads JSON such as the following, building each item as soon as it has been read, and
+         * adding it to a list which is returned once the whole of the JSON has been read:
+         * <pre>
+         *   {
+         *      "items" : [
+         *          {
+         *              "description": null,
+         *              "id": "92863611-684a-424d-b3e5-94d42c4914c9",
+         *              "name": "some name"
+         *          }
+         *      ],
+         *      "nextToken" : "some_next_token"
+         *   }
+         * </pre>
+         * A plain JSON array of items is also accepted.
+         */
+        private static final class IterableAdapter extends TypeAdapter<Iterable<Object>> {
+            private final Gson gson;
+            private final TypeAdapterFactory skipPast;
+            private final TypeToken<?> type;
+            // Looked up lazily, since an item may contain a list of its own type.
+            private volatile TypeAdapter<Object> itemAdapter;
+            private volatile TypeAdapter<Object> delegate;
+
+            IterableAdapter(Gson gson, TypeAdapterFactory skipPast, TypeToken<?> type) {
+                this.gson = gson;
+                this.skipPast = skipPast;
+                this.type = type;
             }
 
-            // If the json we got is not really a list and the list has a generics type...
-            if (json.isJsonObject()) {
-                /*
-                 * Parses JSON such as the following:
-                 *   {
-                 *      "items" : [
-                 *          {
-                 *              "description": null,
-                 *              "id": "92863611-684a-424d-b3e5-94d42c4914c9",
-                 *              "name": "some name"
-                 *          }
-                 *      ],
-                 *      "nextToken" : "some_next_token"
-                 *   }
-                 */
-                JsonObject jsonObject = json.getAsJsonObject();
-                // ...and it is in the format we expect from AppSync
-                // for a list of objects in a relationship
-                if (jsonObject.has(ITEMS_KEY) && jsonObject.get(ITEMS_KEY).isJsonArray()) {
-                    JsonArray itemsArray = jsonObject.get(ITEMS_KEY).getAsJsonArray();
-                    Iterable<Object> items = toList(itemsArray, templateClassType, context);
-                    if (PaginatedResult.class.equals(((ParameterizedType) typeOfT).getRawType())) {
-                        // Results of a GraphQL query at the root level are parsed into a PaginatedResult.
-                        // A PaginatedResult extends the Iterable class, augmenting it with knowledge
-                        // of whether a next page exists, and how to request that next page
-                        // (via the nextToken).
-                        return buildPaginatedResult(items, jsonObject.get(NEXT_TOKEN_KEY));
+            @SuppressWarnings("unchecked") // Writing is left to the adapter Gson would otherwise use.
+            @Override
+            public void write(JsonWriter out, Iterable<Object> value) throws IOException {
+                if (delegate == null) {
+                    delegate = (TypeAdapter<Object>) gson.getDelegateAdapter(skipPast, type);
+                }
+                delegate.write(out, value);
+            }
+
+            @Override
+            public Iterable<Object> read(JsonReader reader) throws IOException {
+                if (reader.peek() == JsonToken.NULL) {
+                    reader.nextNull();
+                    return null;
+                }
+                if (reader.peek() == JsonToken.BEGIN_ARRAY) {
+                    return readItems(reader);
+                }
+                if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                    throw new JsonParseException(
+                        "Got a JSON value that was not an object or a list. " +
+                            "Refusing to deserialize into a Java Iterable."
+                    );
+                }
+                List<Object> items = null;
+                String nextToken = null;
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    String name = reader.nextName();
+                    if (ITEMS_KEY.equals(name) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                        items = readItems(reader);
+                    } else if (NEXT_TOKEN_KEY.equals(name) && reader.peek() == JsonToken.BOOLEAN) {
+                        nextToken = String.valueOf(reader.nextBoolean());
+                    } else if (NEXT_TOKEN_KEY.equals(name) &&
+                            (reader.peek() == JsonToken.STRING || reader.peek() == JsonToken.NUMBER)) {
+                        nextToken = reader.nextString();
                     } else {
-                        // Results below than the root level are parsed as a List, because that
-                        // is the type on the code generated model for a one to many relationship
-                        // to a list of objects.  For this case, a nextToken may be present,
-                        // but we currently ignore it.  In the future, we could update the
-                        // generated model to use a PaginatedResult instead of List,
-                        // which would expose these details for customers.
-                        return items;
+                        reader.skipValue();
                     }
-                } else {
+                }
+                reader.endObject();
+                if (items == null) {
                     throw new JsonParseException(
                         "Got JSON from an API call which was supposed to go with a List " +
                             "but is in the form of an object rather than an array. " +
@@ -137,41 +294,60 @@ final class GsonGraphQLResponseFactory implements GraphQLResponse.Factory {
                             "to deserialize it."
                     );
                 }
-            } else if (json.isJsonArray()) {
-                return toList(json.getAsJsonArray(), templateClassType, context);
+                if (PaginatedResult.class.equals(type.getRawType())) {
+                    // Results of a GraphQL query at the root level are parsed into a PaginatedResult.
+                    // A PaginatedResult extends the Iterable class, augmenting it with knowledge
+                    // of whether a next page exists, and how to request that next page
+                    // (via the nextToken).
+                    return buildPaginatedResult(items, nextToken);
+                } else {
+                    // Results below than the root level are parsed as a List, because that
+                    // is the type on the code generated model for a one to many relationship
+                    // to a list of objects.  For this case, a nextToken may be present,
+                    // but we currently ignore it.  In the future, we could update the
+                    // generated model to use a PaginatedResult instead of List,
+                    // which would expose these details for customers.
+                    return items;
+                }
             }
-            throw new JsonParseException(
-                    "Got a JSON value that was not an object or a list. " +
-                            "Refusing to deserialize into a Java Iterable."
-            );
-        }
 
-        private Iterable<Object> toList(JsonArray jsonArray, Type type, JsonDeserializationContext context) {
-            final List<Object> items = new ArrayList<>();
-            for (JsonElement item : jsonArray) {
-                items.add(context.deserialize(item, type));
+            @SuppressWarnings("unchecked") // Items are returned as Objects.
+            private List<Object> readItems(JsonReader reader) throws IOException {
+                if (itemAdapter == null) {
+                    if (!(type.getType() instanceof ParameterizedType)) {
+                        throw new JsonParseException("Expected a parameterized type during list deserialization.");
+                    }
+                    Type itemType = ((ParameterizedType) type.getType()).getActualTypeArguments()[0];
+                    itemAdapter = (TypeAdapter<Object>) gson.getAdapter(TypeToken.get(itemType));
+                }
+                final List<Object> items = new ArrayList<>();
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    items.add(itemAdapter.read(reader));
+                }
+                reader.endArray();
+                return items;
             }
-            return items;
-        }
 
-        private PaginatedResult<Object> buildPaginatedResult(Iterable<Object> items, JsonElement nextTokenElement) {
-            GraphQLRequest<PaginatedResult<Object>> requestForNextPage = null;
-            if (nextTokenElement.isJsonPrimitive()) {
-                String nextToken = nextTokenElement.getAsJsonPrimitive().getAsString();
-                try {
-                    if (request instanceof AppSyncGraphQLRequest) {
-                        requestForNextPage = ((AppSyncGraphQLRequest<R>) request).newBuilder()
-                                .variable(NEXT_TOKEN_KEY, "String", nextToken)
-                                .build();
+            private PaginatedResult<Object> buildPaginatedResult(Iterable<Object> items, String nextToken) {
+                GraphQLRequest<PaginatedResult<Object>> requestForNextPage = null;
+                GraphQLRequest<?> request = CURRENT_REQUEST.get();
+                if (nextToken != null) {
+                    try {
+                        if (request instanceof AppSyncGraphQLRequest) {
+                            requestForNextPage = ((AppSyncGraphQLRequest<?>) request).newBuilder()
+                                    .variable(NEXT_TOKEN_KEY, "String", nextToken)
+                                    .build();
+                        }
+                    } catch (AmplifyException exception) {
+                        throw new JsonParseException(
+                            "Failed to create requestForNextPage with nextToken variable",
+                            exception
+                        );
                     }
-                } catch (AmplifyException exception) {
-                    throw new JsonParseException(
-                        "Failed to create requestForNextPage with nextToken variable",
-                        exception
-                    );
                 }
+                return new PaginatedResult<>(items, requestForNextPage);
             }
-            return new PaginatedResult<>(items, requestForNextPage);
         }
     }
 }
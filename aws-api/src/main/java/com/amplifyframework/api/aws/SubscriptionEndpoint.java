@@ -18,6 +18,8 @@ package com.amplifyframework.api.aws;
 import android.net.Uri;
 import android.util.Base64;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 import androidx.core.util.ObjectsCompat;
 
 import com.amplifyframework.AmplifyException;
@@ -36,15 +38,22 @@ import org.json.JSONObject;
 import java.lang.reflect.Type;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 import okhttp3.OkHttpClient;
@@ -61,6 +70,9 @@ final class SubscriptionEndpoint {
     private static final Logger LOG = Amplify.Logging.forNamespace("amplify:aws-api");
     private static final int CONNECTION_ACKNOWLEDGEMENT_TIMEOUT = 30 /* seconds */;
     private static final int NORMAL_CLOSURE_STATUS = 1000;
+    private static final int MAX_RECONNECT_ATTEMPTS = 5;
+    private static final long RECONNECT_BASE_DELAY_MS = 1_000;
+    private static final long RECONNECT_MAX_DELAY_MS = 30_000;
 
     private final ApiConfiguration apiConfiguration;
     private final SubscriptionAuthorizer authorizer;
@@ -68,28 +80,64 @@ final class SubscriptionEndpoint {
     private final GraphQLResponse.Factory responseFactory;
     private final TimeoutWatchdog timeoutWatchdog;
     private final Set<String> pendingSubscriptionIds;
-    private final OkHttpClient okHttpClient;
+    private final WebSocket.Factory webSocketFactory;
+    private final ScheduledExecutorService timeoutScheduler;
+    private final Random random;
     private WebSocket webSocket;
     private AmplifyWebSocketListener webSocketListener;
+    private int reconnectAttempts;
 
     SubscriptionEndpoint(
             @NonNull ApiConfiguration apiConfiguration,
             @NonNull GraphQLResponse.Factory responseFactory,
             @NonNull SubscriptionAuthorizer authorizer
     ) throws ApiException {
+        this(apiConfiguration, responseFactory, authorizer, new OkHttpClient.Builder()
+            .addNetworkInterceptor(UserAgentInterceptor.using(UserAgent::string))
+            .retryOnConnectionFailure(true)
+            .build(), new Random());
+    }
+
+    @VisibleForTesting
+    SubscriptionEndpoint(
+            @NonNull ApiConfiguration apiConfiguration,
+            @NonNull GraphQLResponse.Factory responseFactory,
+            @NonNull SubscriptionAuthorizer authorizer,
+            @NonNull WebSocket.Factory webSocketFactory,
+            @NonNull Random random
+    ) {
         this.apiConfiguration = Objects.requireNonNull(apiConfiguration);
         this.subscriptions = new ConcurrentHashMap<>();
         this.responseFactory = Objects.requireNonNull(responseFactory);
         this.authorizer = Objects.requireNonNull(authorizer);
         this.timeoutWatchdog = new TimeoutWatchdog();
         this.pendingSubscriptionIds = Collections.synchronizedSet(new HashSet<>());
-        this.okHttpClient = new OkHttpClient.Builder()
-            .addNetworkInterceptor(UserAgentInterceptor.using(UserAgent::string))
-            .retryOnConnectionFailure(true)
-            .build();
+        this.webSocketFactory = Objects.requireNonNull(webSocketFactory);
+        // A single thread keeps time for every connection and subscription acknowledgement.
+        this.timeoutScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "amplify-subscription-timeouts");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.random = Objects.requireNonNull(random);
     }
 
-    synchronized <T> void requestSubscription(
+    /**
+     * Requests a new subscription. This does not wait for the subscription to be established:
+     * the start message is sent as soon as the connection is ready, and onSubscriptionStarted
+     * is invoked when the endpoint acknowledges it. Many subscriptions may be starting at once.
+     * If the connection is lost, the subscription is resumed on a new connection, and
+     * onSubscriptionStarted is invoked again, with the same ID. Responses which were sent
+     * while the connection was down are not received, so the caller may catch up on them then.
+     * @param request A GraphQL subscription request
+     * @param onSubscriptionStarted Invoked with the subscription ID, each time the subscription is acknowledged
+     * @param onNextItem Invoked with each item received on the subscription
+     * @param onSubscriptionError Invoked if the subscription fails, or if it is not acknowledged in time
+     * @param onSubscriptionComplete Invoked when the subscription is completed
+     * @param <T> The type of data in the subscription's responses
+     * @return The ID of the subscription, which may be used to release it, even before it has started
+     */
+    <T> String requestSubscription(
             @NonNull GraphQLRequest<T> request,
             @NonNull Consumer<String> onSubscriptionStarted,
             @NonNull Consumer<GraphQLResponse<T>> onNextItem,
@@ -101,66 +149,219 @@ final class SubscriptionEndpoint {
         Objects.requireNonNull(onSubscriptionError);
         Objects.requireNonNull(onSubscriptionComplete);
 
-        // The first call to subscribe OR a disconnected websocket listener will
-        // force a new connection to be created.
-        if (webSocketListener == null || webSocketListener.isDisconnectedState()) {
-            webSocketListener = new AmplifyWebSocketListener();
-            try {
-                webSocket = okHttpClient.newWebSocket(new Request.Builder()
-                    .url(buildConnectionRequestUrl())
-                    .addHeader("Sec-WebSocket-Protocol", "graphql-ws")
-                    .build(), webSocketListener);
-            } catch (ApiException apiException) {
-                onSubscriptionError.accept(apiException);
+        final String subscriptionId = UUID.randomUUID().toString();
+        // The start message, including its authorization, is built on the caller's thread,
+        // so that it can be sent from the WebSocket listener without further work.
+        final String startMessage;
+        try {
+            startMessage = buildStartMessage(subscriptionId, request);
+        } catch (JSONException | ApiException exception) {
+            onSubscriptionError.accept(new ApiException(
+                "Failed to construct subscription registration message.",
+                exception,
+                AmplifyException.TODO_RECOVERY_SUGGESTION
+            ));
+            return subscriptionId;
+        }
+
+        Subscription<T> subscription = new Subscription<>(
+            startMessage, onSubscriptionStarted, onNextItem, onSubscriptionError, onSubscriptionComplete,
+            responseFactory, request.getResponseType(), request
+        );
+        synchronized (this) {
+            // The first call to subscribe OR a disconnected websocket listener will
+            // force a new connection to be created.
+            if (webSocketListener == null || webSocketListener.isDisconnectedState()) {
+                try {
+                    openConnection();
+                } catch (ApiException apiException) {
+                    onSubscriptionError.accept(apiException);
+                    return subscriptionId;
+                }
+            }
+            subscriptions.put(subscriptionId, subscription);
+            pendingSubscriptionIds.add(subscriptionId);
+            // If the connection is not ready yet, the start message is sent once it is acknowledged.
+            if (webSocketListener.isConnected() && subscription.markStartSent()) {
+                sendStartMessage(webSocket, subscriptionId, subscription);
+            }
+        }
+        return subscriptionId;
+    }
+
+    private String buildStartMessage(String subscriptionId, GraphQLRequest<?> request)
+            throws JSONException, ApiException {
+        return new JSONObject()
+            .put("id", subscriptionId)
+            .put("type", "start")
+            .put("payload", new JSONObject()
+            .put("data", request.getContent())
+            .put("extensions", new JSONObject()
+            .put("authorization", authorizer.createHeadersForSubscription(request))))
+            .toString();
+    }
+
+    // Opens a new WebSocket connection, on which subscriptions are started once it is acknowledged.
+    private synchronized void openConnection() throws ApiException {
+        AmplifyWebSocketListener newListener = new AmplifyWebSocketListener();
+        webSocket = webSocketFactory.newWebSocket(new Request.Builder()
+            .url(buildConnectionRequestUrl())
+            .addHeader("Sec-WebSocket-Protocol", "graphql-ws")
+            .build(), newListener);
+        webSocketListener = newListener;
+        newListener.attach(webSocket);
+    }
+
+    /**
+     * Handles the loss of a connection that subscriptions depend on. Rather than failing every
+     * subscription, the endpoint reconnects after a jittered, exponential backoff, and then
+     * re-sends the start message of each subscription, under the same subscription ID. Only if
+     * that fails too many times in a row are the subscriptions failed.
+     * @param lostListener The listener of the connection that was lost
+     * @param failureReason A description of the loss, used if the subscriptions are failed
+     * @param failure The cause of the loss, if any
+     */
+    private void handleConnectionLoss(
+            AmplifyWebSocketListener lostListener, String failureReason, @Nullable Throwable failure) {
+        if (!lostListener.retire()) {
+            // The loss of this connection was already handled.
+            return;
+        }
+        lostListener.cancelConnection();
+        final long reconnectDelayMs;
+        synchronized (this) {
+            if (lostListener != webSocketListener) {
+                // A newer connection has already replaced this one.
                 return;
             }
+            timeoutWatchdog.stop();
+            if (subscriptions.isEmpty() || reconnectAttempts >= MAX_RECONNECT_ATTEMPTS) {
+                reconnectDelayMs = -1;
+            } else {
+                reconnectDelayMs = nextReconnectDelayMs(reconnectAttempts++);
+                resumeSubscriptions();
+            }
+        }
+        if (reconnectDelayMs < 0) {
+            // This will fail any pending subscriptions that haven't been established yet.
+            failPendingSubscriptions(failureReason);
+            // This will broadcast the error to all other subscriptions, which won't be resumed.
+            failAllSubscriptions(failure != null ? failure
+                : new ApiException(failureReason, AmplifyException.TODO_RECOVERY_SUGGESTION));
+            return;
+        }
+        LOG.info("Subscription connection lost: " + failureReason + " Reconnecting in " + reconnectDelayMs + "ms.");
+        timeoutScheduler.schedule(this::reconnect, reconnectDelayMs, TimeUnit.MILLISECONDS);
+    }
+
+    // Full jitter: a random delay of up to the exponentially growing backoff.
+    @VisibleForTesting
+    long nextReconnectDelayMs(int attempt) {
+        long backoffMs = Math.min(RECONNECT_MAX_DELAY_MS, RECONNECT_BASE_DELAY_MS << attempt);
+        return (long) (random.nextDouble() * backoffMs);
+    }
 
+    // Marks each live subscription as pending again, so that it is re-started on the next connection.
+    // Subscriptions which were released, or which failed to start, are not resumed.
+    private void resumeSubscriptions() {
+        for (Map.Entry<String, Subscription<?>> entry : subscriptions.entrySet()) {
+            Subscription<?> subscription = entry.getValue();
+            boolean isLive = subscription.hasStarted() || pendingSubscriptionIds.contains(entry.getKey());
+            if (subscription.isAbandoned() || subscription.isReleased() || !isLive) {
+                subscriptions.remove(entry.getKey());
+                // The lost connection won't complete the subscription, so nobody waits for it to.
+                subscription.acknowledgeSubscriptionCompleted();
+            } else {
+                subscription.resetForRestart();
+                pendingSubscriptionIds.add(entry.getKey());
+            }
         }
-        final String subscriptionId = UUID.randomUUID().toString();
-        pendingSubscriptionIds.add(subscriptionId);
-        // Every request waits here for the connection to be ready.
-        Connection connection = webSocketListener.waitForConnectionReady();
-        if (connection.hasFailure()) {
-            // If the latch didn't count all the way down
-            if (pendingSubscriptionIds.remove(subscriptionId)) {
-                // The subscription was pending, so we need to emit an error.
-                onSubscriptionError.accept(
-                    new ApiException(connection.getFailureReason(), AmplifyException.TODO_RECOVERY_SUGGESTION));
+    }
+
+    private void reconnect() {
+        // Authorization may have expired, so each start message is built again.
+        for (String subscriptionId : copyOfPendingSubscriptionIds()) {
+            Subscription<?> subscription = subscriptions.get(subscriptionId);
+            if (subscription == null) {
+                continue;
+            }
+            try {
+                subscription.setStartMessage(buildStartMessage(subscriptionId, subscription.getRequest()));
+            } catch (JSONException | ApiException exception) {
+                // The old start message may no longer be authorized, so the subscription is failed instead.
+                LOG.warn("Failed to rebuild start message for subscription " + subscriptionId, exception);
+                if (pendingSubscriptionIds.remove(subscriptionId)) {
+                    subscriptions.remove(subscriptionId);
+                    subscription.dispatchError(new ApiException(
+                        "Failed to construct subscription registration message.",
+                        exception,
+                        AmplifyException.TODO_RECOVERY_SUGGESTION
+                    ));
+                }
+            }
+        }
+        synchronized (this) {
+            if (subscriptions.isEmpty()) {
+                // None of the subscriptions is left to resume.
                 return;
             }
+            if (!webSocketListener.isDisconnectedState()) {
+                // A new connection was opened by a subscription request in the meantime.
+                if (webSocketListener.isConnected()) {
+                    startPendingSubscriptions(webSocket);
+                }
+                return;
+            }
+            try {
+                openConnection();
+                return;
+            } catch (ApiException exception) {
+                LOG.warn("Failed to reconnect subscription endpoint.", exception);
+            }
         }
+        failPendingSubscriptions("Failed to reconnect subscription endpoint.");
+    }
 
-        try {
-            webSocket.send(new JSONObject()
-                .put("id", subscriptionId)
-                .put("type", "start")
-                .put("payload", new JSONObject()
-                .put("data", request.getContent())
-                .put("extensions", new JSONObject()
-                .put("authorization", authorizer.createHeadersForSubscription(request))))
-                .toString()
-            );
-        } catch (JSONException | ApiException exception) {
-            // If the subscriptionId was still pending, then we can call the onSubscriptionError
+    // Sends a start message, and fails the subscription if it isn't acknowledged in time.
+    private void sendStartMessage(WebSocket socket, String subscriptionId, Subscription<?> subscription) {
+        subscription.scheduleStartTimeout(timeoutScheduler, () -> {
             if (pendingSubscriptionIds.remove(subscriptionId)) {
-                onSubscriptionError.accept(new ApiException(
-                    "Failed to construct subscription registration message.",
-                    exception,
+                subscription.dispatchError(new ApiException(
+                    "Timed out waiting for subscription start_ack.",
                     AmplifyException.TODO_RECOVERY_SUGGESTION
                 ));
             }
+        });
+        socket.send(subscription.getStartMessage());
+    }
 
-            return;
+    // Sends the start message of every subscription that was requested before the connection was ready.
+    private void startPendingSubscriptions(WebSocket socket) {
+        for (String subscriptionId : copyOfPendingSubscriptionIds()) {
+            Subscription<?> subscription = subscriptions.get(subscriptionId);
+            if (subscription != null && subscription.markStartSent()) {
+                sendStartMessage(socket, subscriptionId, subscription);
+            }
         }
+    }
 
-        Subscription<T> subscription = new Subscription<>(
-            onNextItem, onSubscriptionError, onSubscriptionComplete,
-            responseFactory, request.getResponseType(), request
-        );
-        subscriptions.put(subscriptionId, subscription);
-        if (subscription.awaitSubscriptionReady()) {
-            pendingSubscriptionIds.remove(subscriptionId);
-            onSubscriptionStarted.accept(subscriptionId);
+    // Fails every subscription which has not been acknowledged, when the connection can't be used.
+    private void failPendingSubscriptions(String failureReason) {
+        for (String subscriptionId : copyOfPendingSubscriptionIds()) {
+            if (pendingSubscriptionIds.remove(subscriptionId)) {
+                Subscription<?> subscription = subscriptions.remove(subscriptionId);
+                if (subscription != null) {
+                    subscription.cancelStartTimeout();
+                    subscription.dispatchError(
+                        new ApiException(failureReason, AmplifyException.TODO_RECOVERY_SUGGESTION));
+                }
+            }
+        }
+    }
+
+    private List<String> copyOfPendingSubscriptionIds() {
+        synchronized (pendingSubscriptionIds) {
+            return new ArrayList<>(pendingSubscriptionIds);
         }
     }
 
@@ -169,7 +370,9 @@ final class SubscriptionEndpoint {
         // If the subscription is still present (and it should also be pending if it hasn't been canceled),
         // then invoke the callback
         if (subscription != null && pendingSubscriptionIds.remove(subscriptionId)) {
-            subscription.acknowledgeSubscriptionReady();
+            subscription.acknowledgeSubscriptionReady(subscriptionId);
+        } else if (subscription != null && subscription.isAbandoned()) {
+            LOG.debug("Subscription was released before it was acknowledged: " + subscriptionId);
         } else {
             throw new ApiException(
                 "Acknowledgement for unknown subscription: " + subscriptionId,
@@ -204,6 +407,9 @@ final class SubscriptionEndpoint {
 
         dispatcher.dispatchCompleted();
         dispatcher.acknowledgeSubscriptionCompleted();
+        if (dispatcher.isAbandoned()) {
+            subscriptions.remove(subscriptionId);
+        }
     }
 
     private void notifyError(Throwable error) {
@@ -216,6 +422,22 @@ final class SubscriptionEndpoint {
         }
     }
 
+    // Fails every subscription for good, removing it, so that the endpoint no longer tracks it.
+    private void failAllSubscriptions(Throwable error) {
+        for (Map.Entry<String, Subscription<?>> entry : subscriptions.entrySet()) {
+            Subscription<?> dispatcher = entry.getValue();
+            if (subscriptions.remove(entry.getKey(), dispatcher)) {
+                // The lost connection won't complete the subscription, so nobody waits for it to.
+                dispatcher.acknowledgeSubscriptionCompleted();
+                dispatcher.dispatchError(new ApiException(
+                    "Subscription failed.",
+                    error,
+                    AmplifyException.TODO_RECOVERY_SUGGESTION
+                ));
+            }
+        }
+    }
+
     private void notifySubscriptionData(String subscriptionId, String data) throws ApiException {
         final Subscription<?> dispatcher = subscriptions.get(subscriptionId);
         if (dispatcher == null) {
@@ -227,44 +449,78 @@ final class SubscriptionEndpoint {
         dispatcher.dispatchNextMessage(data);
     }
 
-    synchronized void releaseSubscription(String subscriptionId) throws ApiException {
-        // First thing we should do is remove it from the pending subscription collection so
-        // the other methods can't grab a hold of the subscription.
-        final Subscription<?> subscription = subscriptions.get(subscriptionId);
-        boolean wasSubscriptionPending = pendingSubscriptionIds.remove(subscriptionId);
-        // If the subscription was not in the either of the subscriptions collections.
-        if (subscription == null && !wasSubscriptionPending) {
-            throw new ApiException(
-                "No existing subscription with the given id.",
-                AmplifyException.TODO_RECOVERY_SUGGESTION
-            );
-        }
-
-        // Only do this if the subscription was NOT pending.
-        // Otherwise it would probably fail since it was never established in the first place.
-        if (!wasSubscriptionPending) {
-            try {
-                webSocket.send(new JSONObject()
-                    .put("type", "stop")
-                    .put("id", subscriptionId)
-                    .toString());
-            } catch (JSONException jsonException) {
+    /**
+     * Releases a subscription. A subscription which has started is asked to stop, and this waits
+     * for the endpoint to acknowledge that it has. The wait is not made while holding the lock of
+     * the endpoint, so other subscriptions may be requested, released and delivered meanwhile.
+     * @param subscriptionId ID of the subscription, as returned when it was requested
+     * @throws ApiException If there is no such subscription, or if it can't be asked to stop
+     */
+    void releaseSubscription(String subscriptionId) throws ApiException {
+        final Subscription<?> subscription;
+        synchronized (this) {
+            // First thing we should do is remove it from the pending subscription collection so
+            // the other methods can't grab a hold of the subscription.
+            subscription = subscriptions.get(subscriptionId);
+            boolean wasSubscriptionPending = pendingSubscriptionIds.remove(subscriptionId);
+            // If the subscription was not in the either of the subscriptions collections.
+            if (subscription == null && !wasSubscriptionPending) {
                 throw new ApiException(
-                    "Failed to construct subscription release message.",
-                    jsonException,
+                    "No existing subscription with the given id.",
                     AmplifyException.TODO_RECOVERY_SUGGESTION
                 );
             }
-            subscription.awaitSubscriptionCompleted();
+
+            if (subscription == null || wasSubscriptionPending) {
+                if (subscription != null) {
+                    // The subscription is released before it was acknowledged, so it is never reported as started.
+                    subscription.abandon();
+                    if (subscription.markStartSent()) {
+                        // The start message was never sent, and now it won't be.
+                        subscriptions.remove(subscriptionId);
+                    } else {
+                        // The endpoint may still start the subscription, so ask it to stop, but don't wait for it.
+                        sendStopMessage(subscriptionId);
+                    }
+                }
+                closeIfIdle();
+                return;
+            }
+            // Once released, the subscription is not resumed if the connection is lost.
+            subscription.release();
+            sendStopMessage(subscriptionId);
         }
 
-        // If we have zero subscriptions, close the WebSocket
-        if (subscriptions.size() == 0) {
+        subscription.awaitSubscriptionCompleted();
+        synchronized (this) {
+            subscriptions.remove(subscriptionId, subscription);
+            closeIfIdle();
+        }
+    }
+
+    // If we have zero subscriptions, close the WebSocket
+    private void closeIfIdle() {
+        if (subscriptions.isEmpty() && webSocket != null) {
             timeoutWatchdog.stop();
             webSocket.close(NORMAL_CLOSURE_STATUS, "No active subscriptions");
         }
     }
 
+    private void sendStopMessage(String subscriptionId) throws ApiException {
+        try {
+            webSocket.send(new JSONObject()
+                .put("type", "stop")
+                .put("id", subscriptionId)
+                .toString());
+        } catch (JSONException jsonException) {
+            throw new ApiException(
+                "Failed to construct subscription release message.",
+                jsonException,
+                AmplifyException.TODO_RECOVERY_SUGGESTION
+            );
+        }
+    }
+
     /*
      * Discover WebSocket endpoint from the AppSync endpoint.
      * AppSync endpoint : https://xxxxxxxxxxxx.appsync-api.ap-southeast-2.amazonaws.com/graphql
@@ -303,64 +559,129 @@ final class SubscriptionEndpoint {
     static final class Subscription<T> {
         private static final int ACKNOWLEDGEMENT_TIMEOUT = 10 /* seconds */;
 
+        private final Consumer<String> onSubscriptionStarted;
         private final Consumer<GraphQLResponse<T>> onNextItem;
         private final Consumer<ApiException> onSubscriptionError;
         private final Action onSubscriptionComplete;
         private final GraphQLResponse.Factory responseFactory;
         private final Type responseType;
         private final GraphQLRequest<T> request;
-        private final CountDownLatch subscriptionReadyAcknowledgment;
+        private final AtomicBoolean startSent;
+        private final AtomicBoolean started;
         private final CountDownLatch subscriptionCompletionAcknowledgement;
-        private boolean failed;
+        private volatile String startMessage;
+        private volatile ScheduledFuture<?> startTimeout;
+        private volatile boolean abandoned;
+        private volatile boolean released;
 
+        @SuppressWarnings("ParameterNumber")
         Subscription(
+                String startMessage,
+                Consumer<String> onSubscriptionStarted,
                 Consumer<GraphQLResponse<T>> onNextItem,
                 Consumer<ApiException> onSubscriptionError,
                 Action onSubscriptionComplete,
                 GraphQLResponse.Factory responseFactory,
                 Type responseType,
                 GraphQLRequest<T> request) {
+            this.startMessage = startMessage;
+            this.onSubscriptionStarted = onSubscriptionStarted;
             this.onNextItem = onNextItem;
             this.onSubscriptionError = onSubscriptionError;
             this.onSubscriptionComplete = onSubscriptionComplete;
             this.responseFactory = responseFactory;
             this.responseType = responseType;
             this.request = request;
-            this.subscriptionReadyAcknowledgment = new CountDownLatch(1);
+            this.startSent = new AtomicBoolean(false);
+            this.started = new AtomicBoolean(false);
             this.subscriptionCompletionAcknowledgement = new CountDownLatch(1);
-            this.failed = false;
+            this.abandoned = false;
+            this.released = false;
         }
 
-        void acknowledgeSubscriptionReady() {
-            subscriptionReadyAcknowledgment.countDown();
+        String getStartMessage() {
+            return startMessage;
         }
 
-        void acknowledgeSubscriptionFailure() {
-            failed = true;
-            subscriptionReadyAcknowledgment.countDown();
+        void setStartMessage(String startMessage) {
+            this.startMessage = startMessage;
         }
 
-        boolean awaitSubscriptionReady() {
-            try {
-                if (!subscriptionReadyAcknowledgment.await(ACKNOWLEDGEMENT_TIMEOUT, TimeUnit.SECONDS)) {
-                    dispatchError(new ApiException(
-                        "Timed out waiting for subscription start_ack.",
-                        AmplifyException.TODO_RECOVERY_SUGGESTION
-                    ));
-                    return false;
-                } else if (failed) {
-                    // An error was already dispatched at the time of failure, so don't dispatch a second one.
-                    return false;
-                }
-            } catch (InterruptedException interruptedException) {
-                // Triggered when the Future created in SubscriptionOperation is cancelled, which happens when the
-                // subscription Observable is disposed, which happens when a SUBSCRIPTION_ERROR occurs.  Don't dispatch
-                // any error because the caller has likely already been disposed.
-                LOG.warn("Thread interrupted awaiting subscription acknowledgement.", interruptedException);
-                return false;
+        GraphQLRequest<T> getRequest() {
+            return request;
+        }
+
+        /**
+         * Prepares the subscription to be started again on a new connection,
+         * under the same subscription ID.
+         */
+        void resetForRestart() {
+            cancelStartTimeout();
+            startSent.set(false);
+        }
+
+        /**
+         * Claims the right to send this subscription's start message. This returns true only once,
+         * so that the message is sent at most once, by whichever thread finds the connection ready.
+         * @return true if the start message should now be sent
+         */
+        boolean markStartSent() {
+            return startSent.compareAndSet(false, true);
+        }
+
+        void scheduleStartTimeout(ScheduledExecutorService scheduler, Runnable onTimeout) {
+            startTimeout = scheduler.schedule(onTimeout, ACKNOWLEDGEMENT_TIMEOUT, TimeUnit.SECONDS);
+        }
+
+        void cancelStartTimeout() {
+            ScheduledFuture<?> timeout = startTimeout;
+            if (timeout != null) {
+                timeout.cancel(false);
             }
+        }
 
-            return true;
+        void acknowledgeSubscriptionReady(String subscriptionId) {
+            cancelStartTimeout();
+            // A subscription that is resumed on a new connection is reported as started again,
+            // so that its subscriber knows that it may have missed some responses.
+            if (!abandoned) {
+                started.set(true);
+                onSubscriptionStarted.accept(subscriptionId);
+            }
+        }
+
+        void acknowledgeSubscriptionFailure() {
+            // The error itself is dispatched from the payload of the failure message.
+            cancelStartTimeout();
+        }
+
+        /**
+         * Marks a subscription that was released before it was acknowledged. Nothing more
+         * is dispatched to its callbacks.
+         */
+        void abandon() {
+            abandoned = true;
+            cancelStartTimeout();
+        }
+
+        boolean isAbandoned() {
+            return abandoned;
+        }
+
+        /**
+         * Marks a started subscription which has been asked to stop. It still receives
+         * whatever the endpoint sends until the endpoint acknowledges the stop.
+         */
+        void release() {
+            released = true;
+        }
+
+        boolean isReleased() {
+            return released;
+        }
+
+        boolean hasStarted() {
+            return started.get();
         }
 
         void acknowledgeSubscriptionCompleted() {
@@ -385,6 +706,9 @@ final class SubscriptionEndpoint {
         }
 
         void dispatchNextMessage(String message) {
+            if (abandoned) {
+                return;
+            }
             try {
                 onNextItem.accept(responseFactory.buildResponse(request, message, responseType));
             } catch (ApiException exception) {
@@ -393,11 +717,15 @@ final class SubscriptionEndpoint {
         }
 
         void dispatchError(ApiException error) {
-            onSubscriptionError.accept(error);
+            if (!abandoned) {
+                onSubscriptionError.accept(error);
+            }
         }
 
         void dispatchCompleted() {
-            onSubscriptionComplete.call();
+            if (!abandoned) {
+                onSubscriptionComplete.call();
+            }
         }
 
         @Override
@@ -426,7 +754,7 @@ final class SubscriptionEndpoint {
             if (!ObjectsCompat.equals(responseType, that.responseType)) {
                 return false;
             }
-            if (!ObjectsCompat.equals(subscriptionReadyAcknowledgment, that.subscriptionReadyAcknowledgment)) {
+            if (!ObjectsCompat.equals(request, that.request)) {
                 return false;
             }
             return ObjectsCompat.equals(
@@ -442,24 +770,44 @@ final class SubscriptionEndpoint {
             result = 31 * result + onSubscriptionComplete.hashCode();
             result = 31 * result + responseFactory.hashCode();
             result = 31 * result + responseType.hashCode();
-            result = 31 * result + subscriptionReadyAcknowledgment.hashCode();
+            result = 31 * result + request.hashCode();
             result = 31 * result + subscriptionCompletionAcknowledgement.hashCode();
             return result;
         }
     }
 
     final class AmplifyWebSocketListener extends WebSocketListener {
-        private final CountDownLatch connectionResponse;
         private final AtomicReference<EndpointStatus> endpointStatus;
-        private OkHttpClient okHttpClient;
+        // Set once the loss of this listener's connection has been handled.
+        private final AtomicBoolean retired;
+        private volatile WebSocket attachedWebSocket;
 
         AmplifyWebSocketListener() {
-            this(new CountDownLatch(1));
+            this.endpointStatus = new AtomicReference<>(EndpointStatus.CONNECTING);
+            this.retired = new AtomicBoolean(false);
+        }
+
+        // Attaches the listener to its connection, which is lost if it is not acknowledged in time.
+        void attach(WebSocket webSocket) {
+            this.attachedWebSocket = webSocket;
+            timeoutScheduler.schedule(() -> {
+                if (EndpointStatus.CONNECTING.equals(endpointStatus.get())) {
+                    LOG.warn("Timed out waiting for connection acknowledgement.");
+                    handleConnectionLoss(this, "Timed out waiting for connection acknowledgement.", null);
+                }
+            }, CONNECTION_ACKNOWLEDGEMENT_TIMEOUT, TimeUnit.SECONDS);
+        }
+
+        boolean retire() {
+            endpointStatus.set(EndpointStatus.CONNECTION_FAILED);
+            return retired.compareAndSet(false, true);
         }
 
-        AmplifyWebSocketListener(CountDownLatch latch) {
-            this.connectionResponse = latch;
-            this.endpointStatus = new AtomicReference<>(EndpointStatus.DISCONNECTED);
+        void cancelConnection() {
+            WebSocket socket = attachedWebSocket;
+            if (socket != null) {
+                socket.cancel();
+            }
         }
 
         @Override
@@ -478,42 +826,35 @@ final class SubscriptionEndpoint {
 
         @Override
         public void onClosing(@NonNull WebSocket webSocket, int code, @NonNull String reason) {
-            notifyAllSubscriptionsCompleted();
+            if (!retired.get()) {
+                notifyAllSubscriptionsCompleted();
+            }
         }
 
         @Override
         public void onFailure(@NonNull WebSocket webSocket, @NonNull Throwable failure, Response response) {
+            if (retired.get()) {
+                // This connection was already given up on, e.g. when it was canceled to reconnect.
+                return;
+            }
             LOG.warn("Websocket connection failed.", failure);
-            endpointStatus.set(EndpointStatus.CONNECTION_FAILED);
-            webSocket.cancel();
-            // This will free up any pending subscriptions that haven't been established yet.
-            connectionResponse.countDown();
-            // This will broadcast the error to all subscriptions
-            notifyError(failure);
+            handleConnectionLoss(this, "Websocket connection failed: " + failure.getMessage(), failure);
         }
 
         @Override
         public void onClosed(@NonNull WebSocket webSocket, int code, @NonNull String reason) {
             super.onClosed(webSocket, code, reason);
-            endpointStatus.set(EndpointStatus.DISCONNECTED);
+            if (!retired.get()) {
+                endpointStatus.set(EndpointStatus.DISCONNECTED);
+            }
         }
 
         public boolean isDisconnectedState() {
             return endpointStatus.get().isDisconnectedState();
         }
 
-        public Connection waitForConnectionReady() {
-            try {
-                if (!connectionResponse.await(CONNECTION_ACKNOWLEDGEMENT_TIMEOUT, TimeUnit.SECONDS)) {
-                    LOG.warn("Timed out waiting for connection acknowledgement.");
-                    return new Connection("Timed out waiting for connection acknowledgement.");
-                }
-            } catch (InterruptedException exception) {
-                LOG.warn("Thread interrupted waiting for connection acknowledgement");
-                return new Connection("Thread interrupted waiting for connection acknowledgement");
-            }
-            LOG.debug("Current endpoint status: " + endpointStatus.get());
-            return new Connection();
+        public boolean isConnected() {
+            return EndpointStatus.CONNECTED.equals(endpointStatus.get());
         }
 
         private void sendConnectionInit(WebSocket webSocket) {
@@ -534,21 +875,29 @@ final class SubscriptionEndpoint {
 
                 switch (subscriptionMessageType) {
                     case CONNECTION_ACK:
-                        timeoutWatchdog.start(() -> webSocket.close(
-                                NORMAL_CLOSURE_STATUS,
-                                "WebSocket closed due to timeout."
-                            ),
+                        // If keep-alive messages stop arriving, the connection is re-established.
+                        // The watchdog runs on the main thread, so the work is handed off.
+                        timeoutWatchdog.start(() -> timeoutScheduler.execute(() -> handleConnectionLoss(
+                                this,
+                                "Timed out waiting for keep-alive message.",
+                                null
+                            )),
                             Integer.parseInt(
                                 jsonMessage.getJSONObject("payload").getString("connectionTimeoutMs")
                             )
                         );
                         endpointStatus.set(EndpointStatus.CONNECTED);
-                        connectionResponse.countDown();
+                        synchronized (SubscriptionEndpoint.this) {
+                            reconnectAttempts = 0;
+                        }
+                        startPendingSubscriptions(webSocket);
                         break;
                     case CONNECTION_ERROR:
-                        endpointStatus.set(EndpointStatus.CONNECTION_FAILED);
                         LOG.warn("Websocket listener received a CONNECTION_ERROR event. " + message);
-                        connectionResponse.countDown();
+                        // The endpoint refused the connection, so it is not retried.
+                        if (retire()) {
+                            failPendingSubscriptions("Websocket listener received a CONNECTION_ERROR event.");
+                        }
                         break;
                     case SUBSCRIPTION_ACK:
                         notifySubscriptionAcknowledged(jsonMessage.getString("id"));
@@ -582,26 +931,6 @@ final class SubscriptionEndpoint {
         }
     }
 
-    static final class Connection {
-        private final String failureReason;
-
-        Connection() {
-            this.failureReason = null;
-        }
-
-        Connection(String failureReason) {
-            this.failureReason = failureReason;
-        }
-
-        public String getFailureReason() {
-            return failureReason;
-        }
-
-        public boolean hasFailure() {
-            return failureReason != null;
-        }
-    }
-
     enum EndpointStatus {
         DISCONNECTED,
         CONNECTING,
@@ -42,8 +42,10 @@ final class SubscriptionOperation<T> extends GraphQLOperation<T> {
     private final Action onSubscriptionComplete;
     private final AtomicBoolean canceled;
 
-    private String subscriptionId;
+    private volatile String subscriptionId;
     private Future<?> subscriptionFuture;
+    // Set by cancel(), which may be called before the ID of the subscription is known.
+    private boolean cancelRequested;
 
     @SuppressWarnings("ParameterNumber")
     private SubscriptionOperation(
@@ -72,20 +74,21 @@ final class SubscriptionOperation<T> extends GraphQLOperation<T> {
 
     @Override
     public synchronized void start() {
-        if (canceled.get()) {
+        if (canceled.get() || cancelRequested) {
             onSubscriptionError.accept(new ApiException(
                 "Operation already canceled.", "Don't cancel the subscription before starting it!"
             ));
             return;
         }
+        // The endpoint doesn't wait for the subscription to be acknowledged, but preparing
+        // the request (e.g., its authorization) may still block, so it is done off of this thread.
         subscriptionFuture = executorService.submit(() -> {
             LOG.debug("Requesting subscription: " + getRequest().getContent());
-            subscriptionEndpoint.requestSubscription(
+            // The ID is known as soon as the subscription is requested, so that it can be
+            // released even if it is canceled before it has started.
+            String requestedId = subscriptionEndpoint.requestSubscription(
                 getRequest(),
-                subscriptionId -> {
-                    SubscriptionOperation.this.subscriptionId = subscriptionId;
-                    onSubscriptionStart.accept(subscriptionId);
-                },
+                onSubscriptionStart,
                 onNextItem,
                 apiException -> {
                     // Guard against calling something that's been cancelled already.
@@ -96,22 +99,52 @@ final class SubscriptionOperation<T> extends GraphQLOperation<T> {
                 },
                 onSubscriptionComplete
             );
+            final boolean releaseNow;
+            synchronized (SubscriptionOperation.this) {
+                subscriptionId = requestedId;
+                releaseNow = cancelRequested;
+            }
+            // The operation was canceled while the subscription was being requested.
+            if (releaseNow) {
+                release(requestedId);
+            }
         });
     }
 
     @Override
-    public synchronized void cancel() {
-        if (subscriptionId != null && !canceled.get()) {
-            canceled.set(true);
-            try {
-                subscriptionEndpoint.releaseSubscription(subscriptionId);
-            } catch (ApiException exception) {
-                onSubscriptionError.accept(exception);
+    public void cancel() {
+        final String idToRelease;
+        synchronized (this) {
+            if (cancelRequested) {
+                LOG.debug("Subscription was already canceled.");
+                return;
             }
-        } else if (subscriptionFuture != null && subscriptionFuture.cancel(true)) {
-            LOG.debug("Subscription attempt was canceled.");
-        } else {
-            LOG.debug("Nothing to cancel. Subscription not yet created.");
+            cancelRequested = true;
+            idToRelease = subscriptionId;
+            if (idToRelease == null) {
+                if (subscriptionFuture != null && subscriptionFuture.cancel(false)) {
+                    LOG.debug("Subscription attempt was canceled.");
+                } else if (subscriptionFuture != null) {
+                    LOG.debug("Subscription will be released once it has been requested.");
+                } else {
+                    LOG.debug("Nothing to cancel. Subscription not yet created.");
+                }
+                return;
+            }
+        }
+        // Releasing a started subscription waits for the endpoint, so it isn't done while holding the lock.
+        release(idToRelease);
+    }
+
+    private void release(String idToRelease) {
+        if (canceled.getAndSet(true)) {
+            // The subscription already failed, and so it has nothing left to release.
+            return;
+        }
+        try {
+            subscriptionEndpoint.releaseSubscription(idToRelease);
+        } catch (ApiException exception) {
+            onSubscriptionError.accept(exception);
         }
     }
 
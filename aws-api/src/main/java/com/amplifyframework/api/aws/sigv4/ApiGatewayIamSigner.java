@@ -15,6 +15,7 @@
 
 package com.amplifyframework.api.aws.sigv4;
 
+import com.amazonaws.Request;
 import com.amazonaws.auth.AWS4Signer;
 
 import java.net.URI;
@@ -61,4 +62,19 @@ final class ApiGatewayIamSigner extends AWS4Signer {
         }
         return canonicalizedPath;
     }
+
+    /**
+     * Uses the digest of buffered content when available, instead of
+     * reading the payload again to hash it.
+     * @param request The request being signed.
+     * @return Hex encoded SHA-256 digest of the request content.
+     */
+    @Override
+    protected String calculateContentHash(Request<?> request) {
+        final String bufferedContentHash = BufferedContent.contentHashOf(request);
+        if (bufferedContentHash != null) {
+            return bufferedContentHash;
+        }
+        return super.calculateContentHash(request);
+    }
 }
@@ -24,10 +24,9 @@ import com.amplifyframework.util.Empty;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
+import com.amazonaws.auth.Signer;
 import com.amazonaws.http.HttpMethodName;
-import com.amazonaws.util.IOUtils;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -62,9 +61,9 @@ public final class AppSyncSigV4SignerInterceptor implements Interceptor {
 
     private final CognitoUserPoolsAuthProvider cognitoUserPoolsAuthProvider;
     private final OidcAuthProvider oidcAuthProvider;
-    private final String awsRegion;
     private final AuthorizationType authType;
     private final EndpointType endpointType;
+    private final Signer iamSigner;
 
     private AppSyncSigV4SignerInterceptor(AWSCredentialsProvider credentialsProvider,
                                           ApiKeyAuthProvider apiKeyProvider,
@@ -77,9 +76,9 @@ public final class AppSyncSigV4SignerInterceptor implements Interceptor {
         this.apiKeyProvider = apiKeyProvider;
         this.cognitoUserPoolsAuthProvider = cognitoUserPoolsAuthProvider;
         this.oidcAuthProvider = oidcAuthProvider;
-        this.awsRegion = awsRegion;
         this.authType = authType;
         this.endpointType = endpointType;
+        this.iamSigner = AuthorizationType.AWS_IAM.equals(authType) ? createIamSigner(awsRegion, endpointType) : null;
     }
 
     /**
@@ -170,18 +169,14 @@ public final class AppSyncSigV4SignerInterceptor implements Interceptor {
         //set the http method
         dr.setHttpMethod(HttpMethodName.valueOf(req.method()));
 
-        //set the request body
-        final byte[] bodyBytes;
+        //set the request body. The body is buffered once; the signer hashes
+        //that buffer and the outgoing request is sent from the same segments.
+        final Buffer bodyBuffer = new Buffer();
         RequestBody body = req.body();
         if (body != null) {
-            //write the body to a byte array.
-            final Buffer buffer = new Buffer();
-            body.writeTo(buffer);
-            bodyBytes = IOUtils.toByteArray(buffer.inputStream());
-        } else {
-            bodyBytes = "".getBytes();
+            body.writeTo(bodyBuffer);
         }
-        dr.setContent(new ByteArrayInputStream(bodyBytes));
+        dr.setContent(new BufferedContent(bodyBuffer));
 
         //set the query string parameters
         dr.setParameters(splitQuery(req.url().url()));
@@ -193,11 +188,7 @@ public final class AppSyncSigV4SignerInterceptor implements Interceptor {
                 //Get credentials - This will refresh the credentials if necessary
                 AWSCredentials credentials = this.credentialsProvider.getCredentials();
                 //sign the request
-                if (endpointType == EndpointType.GRAPHQL) {
-                    new AppSyncV4Signer(this.awsRegion).sign(dr, credentials);
-                } else {
-                    new ApiGatewayIamSigner(this.awsRegion).sign(dr, credentials);
-                }
+                iamSigner.sign(dr, credentials);
             } catch (Exception error) {
                 throw new IOException("Failed to read credentials to sign the request.", error);
             }
@@ -228,7 +219,7 @@ public final class AppSyncSigV4SignerInterceptor implements Interceptor {
         //Set the URL and Method
         okReqBuilder.url(req.url());
         final RequestBody requestBody = req.body() != null ?
-                RequestBody.create(bodyBytes, JSON_MEDIA_TYPE) : null;
+                RequestBody.create(bodyBuffer.snapshot(), JSON_MEDIA_TYPE) : null;
 
         okReqBuilder.method(req.method(), requestBody);
 
@@ -236,6 +227,15 @@ public final class AppSyncSigV4SignerInterceptor implements Interceptor {
         return chain.proceed(okReqBuilder.build());
     }
 
+    // Signers carry no per-request state, so one instance is shared by every request through this interceptor.
+    private static Signer createIamSigner(String awsRegion, EndpointType endpointType) {
+        if (endpointType == EndpointType.GRAPHQL) {
+            return new AppSyncV4Signer(awsRegion);
+        } else {
+            return new ApiGatewayIamSigner(awsRegion);
+        }
+    }
+
     // Extracts query string parameters from a URL.
     // Source: https://stackoverflow.com/questions/13592236/parse-a-uri-string-into-name-value-collection
     @NonNull
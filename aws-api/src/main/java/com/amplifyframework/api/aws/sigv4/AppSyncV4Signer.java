@@ -82,6 +82,10 @@ public final class AppSyncV4Signer extends AWS4Signer {
 
     @Override
     public String calculateContentHash(Request<?> request) {
+        final String bufferedContentHash = BufferedContent.contentHashOf(request);
+        if (bufferedContentHash != null) {
+            return bufferedContentHash;
+        }
         final InputStream payloadStream = request.getContent();
         payloadStream.mark(-1);
         // We will not reset this as OkHttp does not allow reset of stream.
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.api.aws.sigv4;
+
+import androidx.annotation.NonNull;
+
+import com.amazonaws.Request;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import okio.Buffer;
+
+/**
+ * Request content backed by an okio {@link Buffer}.
+ *
+ * The content is readable as a stream, as the signer expects, but it
+ * also knows its own SHA-256 digest. Signers in this package use that
+ * digest directly rather than re-reading the payload to hash it.
+ * Reads are served from a segment-sharing copy of the buffer, so the
+ * original buffer stays intact and can still be sent on the wire.
+ */
+final class BufferedContent extends InputStream {
+    private final Buffer source;
+    private final InputStream readable;
+
+    /**
+     * Constructs content over a buffered request body.
+     * @param source Buffer holding the full request body
+     */
+    BufferedContent(@NonNull Buffer source) {
+        this.source = source;
+        this.readable = source.clone().inputStream();
+    }
+
+    /**
+     * Gets the hex-encoded SHA-256 digest of the request content, if the
+     * request carries buffered content.
+     * @param request A request about to be signed
+     * @return Hex encoded SHA-256 digest of the body, or null if the request
+     *         content is not {@link BufferedContent}
+     */
+    static String contentHashOf(@NonNull Request<?> request) {
+        InputStream content = request.getContent();
+        if (content instanceof BufferedContent) {
+            return ((BufferedContent) content).source.sha256().hex();
+        }
+        return null;
+    }
+
+    @Override
+    public int read() throws IOException {
+        return readable.read();
+    }
+
+    @Override
+    public int read(@NonNull byte[] sink, int offset, int byteCount) throws IOException {
+        return readable.read(sink, offset, byteCount);
+    }
+
+    @Override
+    public int available() throws IOException {
+        return readable.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+        readable.close();
+    }
+}
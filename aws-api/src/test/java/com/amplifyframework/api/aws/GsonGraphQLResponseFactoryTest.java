@@ -37,6 +37,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.robolectric.RobolectricTestRunner;
 
+import java.io.StringReader;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -49,6 +50,7 @@ import java.util.concurrent.TimeUnit;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Unit test for implementation of ResponseFactory.
@@ -227,6 +229,50 @@ public final class GsonGraphQLResponseFactoryTest {
         assertEquals(expectedResponse, response);
     }
 
+    /**
+     * Validates that when responses of the same type are built for different requests,
+     * the request for the next page of each result is derived from its own request.
+     * @throws AmplifyException From API configuration
+     */
+    @Test
+    public void responsesOfSameTypeUseTheirOwnRequestForNextResult() throws AmplifyException {
+        String nextToken = "eyJ2ZXJzaW9uIjoyLCJ0b2tlbiI6IkFRSUNBSGg5OUIvN3BjWU41eE96NDZJMW5GeGM4";
+        Type responseType = TypeMaker.getParameterizedType(PaginatedResult.class, Todo.class);
+        final String partialResponseJson = Resources.readAsString("partial-gql-response.json");
+
+        for (int limit = 10; limit <= 20; limit += 10) {
+            AppSyncGraphQLRequest<PaginatedResult<Todo>> request = buildDummyRequest(responseType);
+            request = request.newBuilder().variable("limit", "Int", limit).build();
+            final GraphQLResponse<PaginatedResult<Todo>> response =
+                    responseFactory.buildResponse(request, partialResponseJson, responseType);
+
+            final GraphQLRequest<PaginatedResult<Todo>> expectedRequestForNextResult =
+                    request.newBuilder().variable("nextToken", "String", nextToken).build();
+            assertEquals(expectedRequestForNextResult, response.getData().getRequestForNextResult());
+        }
+    }
+
+    /**
+     * Validates that a response which is streamed from a reader is rendered the same
+     * as when it is read from a String.
+     * @throws AmplifyException From API configuration
+     */
+    @Test
+    public void responseCanBeStreamedFromReader() throws AmplifyException {
+        Type responseType = TypeMaker.getParameterizedType(PaginatedResult.class, Todo.class);
+        final String partialResponseJson = Resources.readAsString("partial-gql-response.json");
+        final GraphQLRequest<PaginatedResult<Todo>> request = buildDummyRequest(responseType);
+
+        final GraphQLResponse<PaginatedResult<Todo>> expectedResponse =
+                responseFactory.buildResponse(request, partialResponseJson, responseType);
+        final GraphQLResponse<PaginatedResult<Todo>> response =
+                responseFactory.buildResponse(request, new StringReader(partialResponseJson), responseType);
+
+        assertEquals(expectedResponse, response);
+        assertEquals(3, response.getErrors().size());
+        assertTrue(response.getData().hasNextResult());
+    }
+
     /**
      * This tests the GsonErrorDeserializer.  The test JSON response has 4 errors, which are all in
      * different formats, but are expected to be parsed into the same resulting object:
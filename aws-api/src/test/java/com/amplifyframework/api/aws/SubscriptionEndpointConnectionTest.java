@@ -0,0 +1,529 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.api.aws;
+
+import androidx.annotation.NonNull;
+
+import com.amplifyframework.api.ApiException;
+import com.amplifyframework.api.aws.sigv4.ApiKeyAuthProvider;
+import com.amplifyframework.api.graphql.GraphQLRequest;
+import com.amplifyframework.api.graphql.model.ModelSubscription;
+import com.amplifyframework.testmodels.personcar.Person;
+import com.amplifyframework.testutils.Latch;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okhttp3.Request;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okio.ByteString;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests how the {@link SubscriptionEndpoint} starts, releases and resumes subscriptions, against
+ * fake WebSocket connections whose messages are delivered by the test.
+ */
+@RunWith(RobolectricTestRunner.class)
+public final class SubscriptionEndpointConnectionTest {
+    private static final String TIMEOUT_THREAD_NAME = "amplify-subscription-timeouts";
+    private static final long REASONABLE_WAIT_TIME_MS = TimeUnit.SECONDS.toMillis(5);
+    private static final int MAX_RECONNECT_ATTEMPTS = 5;
+
+    private FakeWebSocketFactory webSocketFactory;
+    private GraphQLRequest<Person> request;
+    private List<String> startedSubscriptionIds;
+    private List<ApiException> subscriptionErrors;
+
+    /**
+     * Prepares a fake connection factory, and a subscription request.
+     */
+    @Before
+    public void setup() {
+        webSocketFactory = new FakeWebSocketFactory();
+        request = ModelSubscription.onCreate(Person.class);
+        startedSubscriptionIds = new CopyOnWriteArrayList<>();
+        subscriptionErrors = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * A subscription that is requested before the connection is ready is started
+     * once the connection is acknowledged, and reported as started once the
+     * subscription itself is acknowledged.
+     * @throws JSONException On failure to read the messages that were sent
+     */
+    @Test
+    public void pendingSubscriptionIsStartedOnceConnectionIsAcknowledged() throws JSONException {
+        SubscriptionEndpoint endpoint = createEndpoint(() -> "FAKE-API-KEY");
+        String subscriptionId = subscribe(endpoint);
+        FakeWebSocket connection = webSocketFactory.connection(0);
+        assertTrue(connection.startedIds().isEmpty());
+
+        connection.acknowledgeConnection();
+        assertEquals(Collections.singletonList(subscriptionId), connection.startedIds());
+        assertTrue(startedSubscriptionIds.isEmpty());
+
+        connection.acknowledgeStart(subscriptionId);
+        assertEquals(Collections.singletonList(subscriptionId), startedSubscriptionIds);
+    }
+
+    /**
+     * A subscription that is released before its start message is sent is never started,
+     * and the idle connection is closed.
+     * @throws ApiException On failure to release the subscription
+     * @throws JSONException On failure to read the messages that were sent
+     */
+    @Test
+    public void subscriptionReleasedBeforeConnectionIsReadyIsNeverStarted() throws ApiException, JSONException {
+        SubscriptionEndpoint endpoint = createEndpoint(() -> "FAKE-API-KEY");
+        String subscriptionId = subscribe(endpoint);
+        FakeWebSocket connection = webSocketFactory.connection(0);
+
+        endpoint.releaseSubscription(subscriptionId);
+        connection.acknowledgeConnection();
+
+        assertTrue(connection.startedIds().isEmpty());
+        assertTrue(connection.isClosed());
+    }
+
+    /**
+     * A subscription that is released after its start message is sent, but before it is
+     * acknowledged, is asked to stop, and is never reported as started.
+     * @throws ApiException On failure to release the subscription
+     * @throws JSONException On failure to read the messages that were sent
+     */
+    @Test
+    public void subscriptionReleasedBeforeAcknowledgementIsNeverReportedStarted() throws ApiException, JSONException {
+        SubscriptionEndpoint endpoint = createEndpoint(() -> "FAKE-API-KEY");
+        String subscriptionId = subscribe(endpoint);
+        FakeWebSocket connection = webSocketFactory.connection(0);
+        connection.acknowledgeConnection();
+
+        endpoint.releaseSubscription(subscriptionId);
+        connection.acknowledgeStart(subscriptionId);
+
+        assertEquals(Collections.singletonList(subscriptionId), connection.stoppedIds());
+        assertTrue(startedSubscriptionIds.isEmpty());
+        assertTrue(subscriptionErrors.isEmpty());
+    }
+
+    /**
+     * While a started subscription is being released, which waits for the endpoint to
+     * acknowledge that it has stopped, other subscriptions can still be started.
+     * @throws InterruptedException If interrupted while waiting for the release
+     * @throws JSONException On failure to read the messages that were sent
+     */
+    @Test
+    public void releasingStartedSubscriptionDoesNotBlockOtherSubscriptions()
+            throws InterruptedException, JSONException {
+        SubscriptionEndpoint endpoint = createEndpoint(() -> "FAKE-API-KEY");
+        String firstId = subscribe(endpoint);
+        FakeWebSocket connection = webSocketFactory.connection(0);
+        connection.acknowledgeConnection();
+        connection.acknowledgeStart(firstId);
+
+        CountDownLatch released = new CountDownLatch(1);
+        Thread releaseThread = new Thread(() -> {
+            try {
+                endpoint.releaseSubscription(firstId);
+            } catch (ApiException exception) {
+                subscriptionErrors.add(exception);
+            }
+            released.countDown();
+        });
+        releaseThread.start();
+        connection.awaitStop(firstId);
+
+        // The release is still waiting, but a second subscription is started meanwhile.
+        String secondId = subscribe(endpoint);
+        assertTrue(connection.startedIds().contains(secondId));
+        assertEquals(1, released.getCount());
+
+        connection.completeSubscription(firstId);
+        Latch.await(released);
+        releaseThread.join();
+        assertTrue(subscriptionErrors.isEmpty());
+        // The second subscription still uses the connection.
+        assertFalse(connection.isClosed());
+    }
+
+    /**
+     * When an operation is canceled while its subscription is still being requested, the
+     * subscription is released as soon as its ID is known, so it is never started.
+     * @throws InterruptedException If interrupted while waiting for the request to complete
+     * @throws JSONException On failure to read the messages that were sent
+     */
+    @Test
+    public void operationCanceledWhileRequestingReleasesSubscription() throws InterruptedException, JSONException {
+        CountDownLatch keyRequested = new CountDownLatch(1);
+        CountDownLatch keyProvided = new CountDownLatch(1);
+        SubscriptionEndpoint endpoint = createEndpoint(() -> {
+            keyRequested.countDown();
+            Latch.await(keyProvided);
+            return "FAKE-API-KEY";
+        });
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        SubscriptionOperation<Person> operation = SubscriptionOperation.<Person>builder()
+            .subscriptionEndpoint(endpoint)
+            .graphQlRequest(request)
+            .responseFactory(new GsonGraphQLResponseFactory())
+            .executorService(executorService)
+            .onSubscriptionStart(startedSubscriptionIds::add)
+            .onNextItem(item -> { })
+            .onSubscriptionError(subscriptionErrors::add)
+            .onSubscriptionComplete(() -> { })
+            .build();
+
+        operation.start();
+        Latch.await(keyRequested);
+        operation.cancel();
+        keyProvided.countDown();
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(REASONABLE_WAIT_TIME_MS, TimeUnit.MILLISECONDS));
+
+        FakeWebSocket connection = webSocketFactory.connection(0);
+        assertTrue(connection.isClosed());
+        connection.acknowledgeConnection();
+        assertTrue(connection.startedIds().isEmpty());
+        assertTrue(startedSubscriptionIds.isEmpty());
+        assertTrue(subscriptionErrors.isEmpty());
+    }
+
+    /**
+     * The timeouts of the connection and of every subscription are kept by a single
+     * thread, rather than by a thread per subscription.
+     * @throws JSONException On failure to read the messages that were sent
+     */
+    @Test
+    public void timeoutsOfManySubscriptionsShareOneThread() throws JSONException {
+        int threadsBefore = countThreadsNamed(TIMEOUT_THREAD_NAME);
+        SubscriptionEndpoint endpoint = createEndpoint(() -> "FAKE-API-KEY");
+        List<String> subscriptionIds = new ArrayList<>();
+        for (int index = 0; index < 10; index++) {
+            subscriptionIds.add(subscribe(endpoint));
+        }
+        FakeWebSocket connection = webSocketFactory.connection(0);
+        connection.acknowledgeConnection();
+
+        assertEquals(subscriptionIds, connection.startedIds());
+        assertEquals(threadsBefore + 1, countThreadsNamed(TIMEOUT_THREAD_NAME));
+    }
+
+    /**
+     * The delay before each attempt to reconnect is a random fraction of a backoff which
+     * doubles with each attempt, up to a maximum.
+     */
+    @Test
+    public void reconnectDelayBacksOffExponentially() {
+        SubscriptionEndpoint endpoint = createEndpoint(fixedRandom(0.5), AuthorizationType.API_KEY,
+            ApiAuthProviders.builder().apiKeyAuthProvider(() -> "FAKE-API-KEY").build());
+        long[] expectedDelaysMs = {500, 1_000, 2_000, 4_000, 8_000, 15_000, 15_000};
+        for (int attempt = 0; attempt < expectedDelaysMs.length; attempt++) {
+            assertEquals(expectedDelaysMs[attempt], endpoint.nextReconnectDelayMs(attempt));
+        }
+    }
+
+    /**
+     * When the connection is lost, a started subscription is started again on a new
+     * connection, under the same ID, and is reported as started again.
+     * @throws JSONException On failure to read the messages that were sent
+     * @throws InterruptedException If interrupted while waiting for the new connection
+     */
+    @Test
+    public void subscriptionIsResumedAfterConnectionIsLost() throws JSONException, InterruptedException {
+        SubscriptionEndpoint endpoint = createEndpoint(() -> "FAKE-API-KEY");
+        String subscriptionId = subscribe(endpoint);
+        FakeWebSocket connection = webSocketFactory.connection(0);
+        connection.acknowledgeConnection();
+        connection.acknowledgeStart(subscriptionId);
+
+        connection.fail();
+        FakeWebSocket newConnection = webSocketFactory.awaitConnection(1);
+        newConnection.acknowledgeConnection();
+        assertEquals(Collections.singletonList(subscriptionId), newConnection.startedIds());
+        newConnection.acknowledgeStart(subscriptionId);
+
+        assertEquals(Arrays.asList(subscriptionId, subscriptionId), startedSubscriptionIds);
+        assertTrue(subscriptionErrors.isEmpty());
+    }
+
+    /**
+     * When every attempt to reconnect is lost before it is acknowledged, the endpoint
+     * gives up after the maximum number of attempts, and fails the subscription once.
+     * The failed subscription is no longer tracked, so there is nothing left to release.
+     * @throws InterruptedException If interrupted while waiting for a new connection
+     */
+    @Test
+    public void subscriptionFailsAfterMaximumReconnectAttempts() throws InterruptedException {
+        SubscriptionEndpoint endpoint = createEndpoint(() -> "FAKE-API-KEY");
+        String subscriptionId = subscribe(endpoint);
+        webSocketFactory.connection(0).acknowledgeConnection();
+        webSocketFactory.connection(0).acknowledgeStart(subscriptionId);
+
+        for (int attempt = 1; attempt <= MAX_RECONNECT_ATTEMPTS; attempt++) {
+            webSocketFactory.connection(attempt - 1).fail();
+            webSocketFactory.awaitConnection(attempt);
+        }
+        webSocketFactory.connection(MAX_RECONNECT_ATTEMPTS).fail();
+
+        assertEquals(1, subscriptionErrors.size());
+        assertEquals(MAX_RECONNECT_ATTEMPTS + 1, webSocketFactory.connectionCount());
+        assertThrows(ApiException.class, () -> endpoint.releaseSubscription(subscriptionId));
+    }
+
+    /**
+     * When the start message of a subscription can't be authorized again for a new connection,
+     * the subscription is failed, instead of resending its old start message.
+     * @throws InterruptedException If interrupted while waiting for the failure
+     */
+    @Test
+    public void subscriptionFailsWhenItsStartMessageCantBeRebuilt() throws InterruptedException {
+        // The token is provided for the first start message and for the first connection only.
+        AtomicInteger tokenRequests = new AtomicInteger();
+        SubscriptionEndpoint endpoint = createEndpoint(fixedRandom(0), AuthorizationType.OPENID_CONNECT,
+            ApiAuthProviders.builder().oidcAuthProvider(() -> {
+                if (tokenRequests.incrementAndGet() > 2) {
+                    throw new ApiException("Token expired.", "Sign in again.");
+                }
+                return "FAKE-TOKEN";
+            }).build());
+        String subscriptionId = subscribe(endpoint);
+        FakeWebSocket connection = webSocketFactory.connection(0);
+        connection.acknowledgeConnection();
+        connection.acknowledgeStart(subscriptionId);
+
+        connection.fail();
+        long deadline = System.currentTimeMillis() + REASONABLE_WAIT_TIME_MS;
+        while (subscriptionErrors.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(1, subscriptionErrors.size());
+        assertEquals("Failed to construct subscription registration message.",
+            subscriptionErrors.get(0).getMessage());
+        // No connection is opened, since no subscription is left to resume.
+        assertEquals(1, webSocketFactory.connectionCount());
+    }
+
+    private SubscriptionEndpoint createEndpoint(ApiKeyAuthProvider apiKeyAuthProvider) {
+        // Without jitter, each reconnection is attempted immediately.
+        return createEndpoint(fixedRandom(0), AuthorizationType.API_KEY,
+            ApiAuthProviders.builder().apiKeyAuthProvider(apiKeyAuthProvider).build());
+    }
+
+    private SubscriptionEndpoint createEndpoint(
+            Random random, AuthorizationType authorizationType, ApiAuthProviders authProviders) {
+        ApiConfiguration configuration = ApiConfiguration.builder()
+            .endpoint("https://example.appsync-api.us-east-1.amazonaws.com/graphql")
+            .region("us-east-1")
+            .authorizationType(authorizationType)
+            .build();
+        return new SubscriptionEndpoint(
+            configuration,
+            new GsonGraphQLResponseFactory(),
+            new SubscriptionAuthorizer(configuration, authProviders),
+            webSocketFactory,
+            random
+        );
+    }
+
+    private static Random fixedRandom(double value) {
+        return new Random() {
+            @Override
+            public double nextDouble() {
+                return value;
+            }
+        };
+    }
+
+    private String subscribe(SubscriptionEndpoint endpoint) {
+        return endpoint.requestSubscription(
+            request, startedSubscriptionIds::add, item -> { }, subscriptionErrors::add, () -> { }
+        );
+    }
+
+    private static int countThreadsNamed(String name) {
+        int count = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (name.equals(thread.getName()) && thread.isAlive()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Creates a {@link FakeWebSocket} for each connection that is opened.
+     */
+    static final class FakeWebSocketFactory implements WebSocket.Factory {
+        private final List<FakeWebSocket> connections = new CopyOnWriteArrayList<>();
+
+        @NonNull
+        @Override
+        public WebSocket newWebSocket(@NonNull Request request, @NonNull WebSocketListener listener) {
+            FakeWebSocket connection = new FakeWebSocket(request, listener);
+            connections.add(connection);
+            return connection;
+        }
+
+        FakeWebSocket connection(int index) {
+            return connections.get(index);
+        }
+
+        // Reconnections are made from another thread, so the test waits for them.
+        FakeWebSocket awaitConnection(int index) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + REASONABLE_WAIT_TIME_MS;
+            while (connections.size() <= index) {
+                if (System.currentTimeMillis() > deadline) {
+                    throw new AssertionError("No connection was opened at index " + index);
+                }
+                Thread.sleep(10);
+            }
+            return connections.get(index);
+        }
+
+        int connectionCount() {
+            return connections.size();
+        }
+    }
+
+    /**
+     * A connection which records the messages sent on it, and through which the
+     * test delivers the messages of the endpoint.
+     */
+    static final class FakeWebSocket implements WebSocket {
+        private final Request request;
+        private final WebSocketListener listener;
+        private final List<JSONObject> sentMessages;
+        private final CountDownLatch closed;
+
+        FakeWebSocket(Request request, WebSocketListener listener) {
+            this.request = request;
+            this.listener = listener;
+            this.sentMessages = new CopyOnWriteArrayList<>();
+            this.closed = new CountDownLatch(1);
+        }
+
+        void acknowledgeConnection() {
+            receive("{\"type\":\"connection_ack\",\"payload\":{\"connectionTimeoutMs\":\"300000\"}}");
+        }
+
+        void acknowledgeStart(String subscriptionId) {
+            receive("{\"type\":\"start_ack\",\"id\":\"" + subscriptionId + "\"}");
+        }
+
+        void completeSubscription(String subscriptionId) {
+            receive("{\"type\":\"complete\",\"id\":\"" + subscriptionId + "\"}");
+        }
+
+        void fail() {
+            listener.onFailure(this, new RuntimeException("Connection lost."), null);
+        }
+
+        void receive(String message) {
+            listener.onMessage(this, message);
+        }
+
+        List<String> startedIds() throws JSONException {
+            return idsOfMessages("start");
+        }
+
+        List<String> stoppedIds() throws JSONException {
+            return idsOfMessages("stop");
+        }
+
+        void awaitStop(String subscriptionId) throws JSONException, InterruptedException {
+            long deadline = System.currentTimeMillis() + REASONABLE_WAIT_TIME_MS;
+            while (!stoppedIds().contains(subscriptionId)) {
+                if (System.currentTimeMillis() > deadline) {
+                    throw new AssertionError("No stop message for subscription " + subscriptionId);
+                }
+                Thread.sleep(10);
+            }
+        }
+
+        boolean isClosed() {
+            return closed.getCount() == 0;
+        }
+
+        private List<String> idsOfMessages(String type) throws JSONException {
+            List<String> ids = new ArrayList<>();
+            for (JSONObject message : sentMessages) {
+                if (type.equals(message.getString("type"))) {
+                    ids.add(message.getString("id"));
+                }
+            }
+            return ids;
+        }
+
+        @NonNull
+        @Override
+        public Request request() {
+            return request;
+        }
+
+        @Override
+        public long queueSize() {
+            return 0;
+        }
+
+        @Override
+        public boolean send(@NonNull String text) {
+            try {
+                sentMessages.add(new JSONObject(text));
+            } catch (JSONException exception) {
+                throw new IllegalArgumentException(exception);
+            }
+            return true;
+        }
+
+        @Override
+        public boolean send(@NonNull ByteString bytes) {
+            return false;
+        }
+
+        @Override
+        public boolean close(int code, String reason) {
+            closed.countDown();
+            return true;
+        }
+
+        @Override
+        public void cancel() {
+            closed.countDown();
+        }
+    }
+}
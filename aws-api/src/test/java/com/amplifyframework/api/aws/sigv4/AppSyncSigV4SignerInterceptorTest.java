@@ -0,0 +1,218 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.api.aws.sigv4;
+
+import com.amplifyframework.api.aws.EndpointType;
+
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.auth.AWS4Signer;
+import com.amazonaws.auth.AWSCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.http.HttpMethodName;
+import com.amazonaws.internal.StaticCredentialsProvider;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okio.Buffer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests that the {@link AppSyncSigV4SignerInterceptor}, which signs a request body from a
+ * {@link BufferedContent}, signs requests exactly as the {@link AWS4Signer} does when it
+ * reads the body from a stream.
+ */
+@RunWith(RobolectricTestRunner.class)
+public final class AppSyncSigV4SignerInterceptorTest {
+    private static final String REGION = "us-east-1";
+    private static final String AUTHORIZATION = "Authorization";
+    private static final String X_AMZ_DATE = "X-Amz-Date";
+    private static final MediaType JSON_MEDIA_TYPE = MediaType.parse("application/json");
+    // A signature is only comparable to another made in the same second.
+    private static final int MAX_SIGNING_ATTEMPTS = 3;
+
+    private final AWSCredentialsProvider credentialsProvider =
+        new StaticCredentialsProvider(new BasicAWSCredentials("AKIDEXAMPLE", "SECRETKEYEXAMPLE"));
+
+    /**
+     * The content hash of a buffered body is the same as the hash of the body read from
+     * a stream, for an empty body, a small body, and a body which spans several segments
+     * of the buffer. Hashing the buffer leaves its content to be read in full.
+     * @throws IOException On failure to read the content
+     */
+    @Test
+    public void bufferedContentHashMatchesStreamedHash() throws IOException {
+        for (byte[] body : new byte[][] {new byte[0], smallBody(), largeBody()}) {
+            AppSyncV4Signer appSyncSigner = new AppSyncV4Signer(REGION);
+            assertEquals(
+                appSyncSigner.calculateContentHash(request(new ByteArrayInputStream(body))),
+                appSyncSigner.calculateContentHash(request(bufferedContent(body)))
+            );
+            ApiGatewayIamSigner apiGatewaySigner = new ApiGatewayIamSigner(REGION);
+            assertEquals(
+                apiGatewaySigner.calculateContentHash(request(new ByteArrayInputStream(body))),
+                apiGatewaySigner.calculateContentHash(request(bufferedContent(body)))
+            );
+
+            DefaultRequest<?> request = request(bufferedContent(body));
+            appSyncSigner.calculateContentHash(request);
+            assertArrayEquals(body, readFully(request.getContent()));
+        }
+    }
+
+    /**
+     * A GraphQL request is signed with the same Authorization header as it was when its
+     * body was copied into a byte array and read from a stream, and is sent with the same body.
+     * @throws IOException On failure to intercept the request
+     */
+    @Test
+    public void graphQlRequestIsSignedAsFromStream() throws IOException {
+        Request request = new Request.Builder()
+            .url("https://example.appsync-api.us-east-1.amazonaws.com/graphql")
+            .addHeader("x-amz-user-agent", "amplify-android")
+            .post(RequestBody.create(largeBody(), JSON_MEDIA_TYPE))
+            .build();
+        assertSignedAsFromStream(
+            new AppSyncSigV4SignerInterceptor(credentialsProvider, REGION, EndpointType.GRAPHQL),
+            new AppSyncV4Signer(REGION),
+            request
+        );
+    }
+
+    /**
+     * A REST request, which may have query parameters, is signed with the same Authorization
+     * header as it was when its body was copied into a byte array and read from a stream.
+     * @throws IOException On failure to intercept the request
+     */
+    @Test
+    public void restRequestIsSignedAsFromStream() throws IOException {
+        Request request = new Request.Builder()
+            .url("https://example.execute-api.us-east-1.amazonaws.com/prod/items?limit=10&next=a%20b")
+            .put(RequestBody.create(smallBody(), JSON_MEDIA_TYPE))
+            .build();
+        assertSignedAsFromStream(
+            new AppSyncSigV4SignerInterceptor(credentialsProvider, REGION, EndpointType.REST),
+            new ApiGatewayIamSigner(REGION),
+            request
+        );
+    }
+
+    private void assertSignedAsFromStream(Interceptor interceptor, AWS4Signer signer, Request request)
+            throws IOException {
+        for (int attempt = 0; attempt < MAX_SIGNING_ATTEMPTS; attempt++) {
+            Request signed = intercept(interceptor, request);
+            DefaultRequest<?> expected = signFromStream(signer, request);
+            if (expected.getHeaders().get(X_AMZ_DATE).equals(signed.header(X_AMZ_DATE))) {
+                assertEquals(expected.getHeaders().get(AUTHORIZATION), signed.header(AUTHORIZATION));
+                assertArrayEquals(bodyOf(request), bodyOf(signed));
+                return;
+            }
+        }
+        fail("Could not sign the request twice within the same second.");
+    }
+
+    private static Request intercept(Interceptor interceptor, Request request) throws IOException {
+        Interceptor.Chain chain = mock(Interceptor.Chain.class);
+        when(chain.request()).thenReturn(request);
+        when(chain.proceed(any())).thenAnswer(invocation -> new Response.Builder()
+            .code(200)
+            .message("OK")
+            .protocol(Protocol.HTTP_1_1)
+            .request(invocation.getArgument(0))
+            .build());
+        return interceptor.intercept(chain).request();
+    }
+
+    // Signs the request as the interceptor used to, with its body read from a stream over a byte array.
+    private DefaultRequest<?> signFromStream(AWS4Signer signer, Request request) throws IOException {
+        DefaultRequest<?> streamed = request(new ByteArrayInputStream(bodyOf(request)));
+        streamed.setEndpoint(request.url().uri());
+        for (String headerName : request.headers().names()) {
+            streamed.addHeader(headerName, request.header(headerName));
+        }
+        streamed.setHttpMethod(HttpMethodName.valueOf(request.method()));
+        Map<String, String> parameters = new HashMap<>();
+        HttpUrl url = request.url();
+        for (String name : url.queryParameterNames()) {
+            parameters.put(name, url.queryParameter(name));
+        }
+        streamed.setParameters(parameters);
+        signer.sign(streamed, credentialsProvider.getCredentials());
+        return streamed;
+    }
+
+    private static DefaultRequest<?> request(InputStream content) {
+        DefaultRequest<?> request = new DefaultRequest<>("appsync");
+        request.setContent(content);
+        return request;
+    }
+
+    private static BufferedContent bufferedContent(byte[] body) {
+        return new BufferedContent(new Buffer().write(body));
+    }
+
+    private static byte[] bodyOf(Request request) throws IOException {
+        Buffer buffer = new Buffer();
+        RequestBody body = request.body();
+        if (body != null) {
+            body.writeTo(buffer);
+        }
+        return buffer.readByteArray();
+    }
+
+    private static byte[] readFully(InputStream content) throws IOException {
+        Buffer buffer = new Buffer();
+        byte[] chunk = new byte[1024];
+        int count;
+        while ((count = content.read(chunk, 0, chunk.length)) != -1) {
+            buffer.write(chunk, 0, count);
+        }
+        return buffer.readByteArray();
+    }
+
+    private static byte[] smallBody() {
+        return "{\"query\":\"query { listTodos { items { id } } }\",\"variables\":{}}".getBytes(StandardCharsets.UTF_8);
+    }
+
+    // Larger than a single segment of an okio Buffer.
+    private static byte[] largeBody() {
+        StringBuilder builder = new StringBuilder("{\"query\":\"");
+        for (int index = 0; index < 2_000; index++) {
+            builder.append("field").append(index).append(' ');
+        }
+        return builder.append("\"}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -138,6 +138,36 @@ public final class SynchronousStorageAdapter {
         );
     }
 
+    /**
+     * Save a batch of models, in a single transaction.
+     * @param models Models to save
+     * @param <T> Type of models being saved
+     * @return The changes that were made to the storage adapter, one per model
+     * @throws DataStoreException On any failure to save the batch of models
+     */
+    public <T extends Model> List<StorageItemChange<T>> saveAll(@NonNull List<T> models)
+            throws DataStoreException {
+        return Await.result(
+            operationTimeoutMs,
+            (Consumer<List<StorageItemChange<T>>> onResult, Consumer<DataStoreException> onError) ->
+                asyncDelegate.saveAll(models, StorageItemChange.Initiator.DATA_STORE_API, onResult, onError)
+        );
+    }
+
+    /**
+     * Try to save a batch of models, but /expect/ it not to work.
+     * @param models Models to save
+     * @param <T> Type of models being saved
+     * @return The exception that was raised while attempting to save the batch
+     */
+    public <T extends Model> DataStoreException saveAllExpectingError(@NonNull List<T> models) {
+        return Await.error(
+            operationTimeoutMs,
+            (Consumer<List<StorageItemChange<T>>> onResult, Consumer<DataStoreException> onError) ->
+                asyncDelegate.saveAll(models, StorageItemChange.Initiator.DATA_STORE_API, onResult, onError)
+        );
+    }
+
     /**
      * Try to save a model, but /expect/ it not to work.
      * @param model A model to save
@@ -237,6 +267,36 @@ public final class SynchronousStorageAdapter {
         );
     }
 
+    /**
+     * Delete a batch of models, in a single transaction.
+     * @param models Models to delete
+     * @param <T> Type of models being deleted
+     * @return The changes that were made to the storage adapter, one per model
+     * @throws DataStoreException On any failure to delete the batch of models
+     */
+    public <T extends Model> List<StorageItemChange<T>> deleteAll(@NonNull List<T> models)
+            throws DataStoreException {
+        return Await.result(
+            operationTimeoutMs,
+            (Consumer<List<StorageItemChange<T>>> onResult, Consumer<DataStoreException> onError) ->
+                asyncDelegate.deleteAll(models, StorageItemChange.Initiator.DATA_STORE_API, onResult, onError)
+        );
+    }
+
+    /**
+     * Try to delete a batch of models, but /expect/ it not to work.
+     * @param models Models to delete
+     * @param <T> Type of models being deleted
+     * @return The exception that was raised while attempting to delete the batch
+     */
+    public <T extends Model> DataStoreException deleteAllExpectingError(@NonNull List<T> models) {
+        return Await.error(
+            operationTimeoutMs,
+            (Consumer<List<StorageItemChange<T>>> onResult, Consumer<DataStoreException> onError) ->
+                asyncDelegate.deleteAll(models, StorageItemChange.Initiator.DATA_STORE_API, onResult, onError)
+        );
+    }
+
     /**
      * Delete a model, but /expect/ the operation to fail, due to some exception being thrown.
      * Return the raised {@link DataStoreException} in a synchronous way,
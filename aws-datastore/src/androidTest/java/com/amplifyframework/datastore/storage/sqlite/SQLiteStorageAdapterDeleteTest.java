@@ -18,6 +18,7 @@ package com.amplifyframework.datastore.storage.sqlite;
 import com.amplifyframework.core.model.query.predicate.QueryPredicate;
 import com.amplifyframework.datastore.DataStoreException;
 import com.amplifyframework.datastore.StrictMode;
+import com.amplifyframework.datastore.storage.StorageItemChange;
 import com.amplifyframework.datastore.storage.SynchronousStorageAdapter;
 import com.amplifyframework.testmodels.commentsblog.AmplifyModelProvider;
 import com.amplifyframework.testmodels.commentsblog.Blog;
@@ -28,6 +29,7 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
@@ -150,4 +152,57 @@ public final class SQLiteStorageAdapterDeleteTest {
         assertEquals(1, blogOwners.size());
         assertTrue(blogOwners.contains(mark));
     }
+
+    /**
+     * Deleting a batch of models removes every one of them, and reports a
+     * deletion for each.
+     * @throws DataStoreException On unexpected failure manipulating items in/out of DataStore
+     */
+    @Test
+    public void deleteAllDeletesEveryModel() throws DataStoreException {
+        final BlogOwner john = BlogOwner.builder()
+                .name("John")
+                .build();
+        final BlogOwner jane = BlogOwner.builder()
+                .name("Jane")
+                .build();
+        final BlogOwner mark = BlogOwner.builder()
+                .name("Mark")
+                .build();
+        adapter.save(john);
+        adapter.save(jane);
+        adapter.save(mark);
+
+        List<StorageItemChange<BlogOwner>> changes = adapter.deleteAll(Arrays.asList(john, jane));
+        assertEquals(2, changes.size());
+        for (StorageItemChange<BlogOwner> change : changes) {
+            assertEquals(StorageItemChange.Type.DELETE, change.type());
+        }
+
+        List<BlogOwner> blogOwners = adapter.query(BlogOwner.class);
+        assertEquals(1, blogOwners.size());
+        assertTrue(blogOwners.contains(mark));
+    }
+
+    /**
+     * If any model in a batch can't be deleted, none of the models in the batch are deleted.
+     * @throws DataStoreException On unexpected failure manipulating items in/out of DataStore
+     */
+    @Test
+    public void deleteAllRollsBackOnFailure() throws DataStoreException {
+        final BlogOwner john = BlogOwner.builder()
+                .name("John")
+                .build();
+        final BlogOwner neverSaved = BlogOwner.builder()
+                .name("Never Saved")
+                .build();
+        adapter.save(john);
+
+        //noinspection ThrowableNotThrown
+        adapter.deleteAllExpectingError(Arrays.asList(john, neverSaved));
+
+        List<BlogOwner> blogOwners = adapter.query(BlogOwner.class);
+        assertEquals(1, blogOwners.size());
+        assertTrue(blogOwners.contains(john));
+    }
 }
@@ -17,9 +17,11 @@ package com.amplifyframework.datastore.storage.sqlite;
 
 import android.util.Log;
 
+import com.amplifyframework.core.model.Model;
 import com.amplifyframework.core.model.query.predicate.QueryPredicate;
 import com.amplifyframework.datastore.DataStoreException;
 import com.amplifyframework.datastore.StrictMode;
+import com.amplifyframework.datastore.storage.StorageItemChange;
 import com.amplifyframework.datastore.storage.SynchronousStorageAdapter;
 import com.amplifyframework.testmodels.commentsblog.AmplifyModelProvider;
 import com.amplifyframework.testmodels.commentsblog.Blog;
@@ -30,10 +32,13 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 
 import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.observers.TestObserver;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -247,4 +252,100 @@ public final class SQLiteStorageAdapterSaveTest {
                 .blockingGet()
         );
     }
+
+    /**
+     * Saving a model that is not yet stored is reported as a creation, and saving it again
+     * is reported as an update.
+     * @throws DataStoreException On unexpected failure manipulating items in/out of DataStore
+     */
+    @Test
+    public void saveReportsCreationThenUpdate() throws DataStoreException {
+        TestObserver<StorageItemChange<? extends Model>> observer = adapter.observe().test();
+
+        final BlogOwner original = BlogOwner.builder()
+            .name("Ada Lovelace")
+            .build();
+        final BlogOwner updated = original.copyOfBuilder()
+            .name("Ada King")
+            .build();
+        adapter.save(original);
+        adapter.save(updated);
+
+        List<StorageItemChange<? extends Model>> changes = observer.awaitCount(2).values();
+        assertEquals(StorageItemChange.Type.CREATE, changes.get(0).type());
+        assertEquals(original, changes.get(0).item());
+        assertEquals(StorageItemChange.Type.UPDATE, changes.get(1).type());
+        assertEquals(updated, changes.get(1).item());
+        assertEquals(Collections.singletonList(updated), adapter.query(BlogOwner.class));
+        observer.dispose();
+    }
+
+    /**
+     * A conditional save of a model that is not yet stored creates the model, since there
+     * is no existing data for the condition to protect.
+     * @throws DataStoreException On unexpected failure manipulating items in/out of DataStore
+     */
+    @Test
+    public void saveModelWithPredicateCreatesNewModel() throws DataStoreException {
+        final BlogOwner owner = BlogOwner.builder()
+            .name("Grace Hopper")
+            .build();
+        adapter.save(owner, BlogOwner.NAME.beginsWith("J"));
+
+        assertEquals(Collections.singletonList(owner), adapter.query(BlogOwner.class));
+    }
+
+    /**
+     * Saving a batch of models should insert new models and update existing models,
+     * and report a {@link StorageItemChange} with the matching type for each of them.
+     * @throws DataStoreException On unexpected failure manipulating items in/out of DataStore
+     */
+    @Test
+    public void saveAllInsertsAndUpdatesInOneBatch() throws DataStoreException {
+        final BlogOwner existing = BlogOwner.builder()
+            .name("Existing Owner")
+            .build();
+        adapter.save(existing);
+
+        final BlogOwner updated = existing.copyOfBuilder()
+            .name("Updated Owner")
+            .build();
+        final BlogOwner created = BlogOwner.builder()
+            .name("New Owner")
+            .build();
+        List<StorageItemChange<BlogOwner>> changes = adapter.saveAll(Arrays.asList(updated, created));
+
+        assertEquals(2, changes.size());
+        assertEquals(StorageItemChange.Type.UPDATE, changes.get(0).type());
+        assertEquals(updated, changes.get(0).item());
+        assertEquals(StorageItemChange.Type.CREATE, changes.get(1).type());
+        assertEquals(created, changes.get(1).item());
+        assertEquals(
+            new HashSet<>(Arrays.asList(updated, created)),
+            new HashSet<>(adapter.query(BlogOwner.class))
+        );
+    }
+
+    /**
+     * If any model in a batch fails to save, none of the models in the batch are saved.
+     * @throws DataStoreException On unexpected failure manipulating items in/out of DataStore
+     */
+    @Test
+    public void saveAllRollsBackOnFailure() throws DataStoreException {
+        final BlogOwner owner = BlogOwner.builder()
+            .name("Alan Turing")
+            .build();
+        final Blog orphan = Blog.builder()
+            .name("Orphaned Blog")
+            .owner(BlogOwner.builder()
+                .name("Unsaved Owner")
+                .build())
+            .build();
+
+        //noinspection ThrowableNotThrown
+        adapter.saveAllExpectingError(Arrays.asList(owner, orphan));
+
+        assertTrue(adapter.query(BlogOwner.class).isEmpty());
+        assertTrue(adapter.query(Blog.class).isEmpty());
+    }
 }
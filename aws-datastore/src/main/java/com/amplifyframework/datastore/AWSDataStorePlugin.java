@@ -31,15 +31,17 @@ import com.amplifyframework.core.InitializationStatus;
 import com.amplifyframework.core.async.Cancelable;
 import com.amplifyframework.core.model.Model;
 import com.amplifyframework.core.model.ModelProvider;
+import com.amplifyframework.core.model.ModelSchema;
 import com.amplifyframework.core.model.ModelSchemaRegistry;
 import com.amplifyframework.core.model.query.QueryOptions;
 import com.amplifyframework.core.model.query.Where;
+import com.amplifyframework.core.model.query.predicate.Evaluable;
 import com.amplifyframework.core.model.query.predicate.QueryPredicate;
 import com.amplifyframework.core.model.query.predicate.QueryPredicates;
 import com.amplifyframework.datastore.appsync.AppSyncClient;
-import com.amplifyframework.datastore.appsync.SerializedModel;
 import com.amplifyframework.datastore.model.ModelProviderLocator;
 import com.amplifyframework.datastore.storage.ItemChangeMapper;
+import com.amplifyframework.datastore.storage.ItemChangeRouter;
 import com.amplifyframework.datastore.storage.LocalStorageAdapter;
 import com.amplifyframework.datastore.storage.StorageItemChange;
 import com.amplifyframework.datastore.storage.sqlite.SQLiteStorageAdapter;
@@ -51,6 +53,7 @@ import com.amplifyframework.logging.Logger;
 import org.json.JSONObject;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -69,6 +72,12 @@ public final class AWSDataStorePlugin extends DataStorePlugin<Void> {
     // manages the persistence of data on-device.
     private final LocalStorageAdapter sqliteStorageAdapter;
 
+    // Routes the changes in the local storage adapter to the observers which can match them
+    private final ItemChangeRouter itemChangeRouter;
+
+    // Schemas of the models which are warehoused by the local storage adapter
+    private final ModelSchemaRegistry modelSchemaRegistry;
+
     // A component which synchronizes data state between the
     // local storage adapter, and a remote API
     private final Orchestrator orchestrator;
@@ -89,6 +98,8 @@ public final class AWSDataStorePlugin extends DataStorePlugin<Void> {
             @NonNull ApiCategory api,
             @Nullable DataStoreConfiguration userProvidedConfiguration) {
         this.sqliteStorageAdapter = SQLiteStorageAdapter.forModels(modelSchemaRegistry, modelProvider);
+        this.itemChangeRouter = new ItemChangeRouter(sqliteStorageAdapter);
+        this.modelSchemaRegistry = modelSchemaRegistry;
         this.categoryInitializationsPending = new CountDownLatch(1);
         // Used to interrogate plugins, to understand if sync should be automatically turned on
         this.orchestrator = new Orchestrator(
@@ -359,6 +370,28 @@ public final class AWSDataStorePlugin extends DataStorePlugin<Void> {
         ), onFailureToSave);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends Model> void saveAll(
+            @NonNull List<T> items,
+            @NonNull Consumer<List<DataStoreItemChange<T>>> onItemsSaved,
+            @NonNull Consumer<DataStoreException> onFailureToSave) {
+        start(() -> sqliteStorageAdapter.saveAll(
+            items,
+            StorageItemChange.Initiator.DATA_STORE_API,
+            itemSaves -> {
+                try {
+                    onItemsSaved.accept(ItemChangeMapper.mapAll(itemSaves));
+                } catch (DataStoreException dataStoreException) {
+                    onFailureToSave.accept(dataStoreException);
+                }
+            },
+            onFailureToSave
+        ), onFailureToSave);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -394,6 +427,28 @@ public final class AWSDataStorePlugin extends DataStorePlugin<Void> {
         ), onFailureToDelete);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends Model> void deleteAll(
+            @NonNull List<T> items,
+            @NonNull Consumer<List<DataStoreItemChange<T>>> onItemsDeleted,
+            @NonNull Consumer<DataStoreException> onFailureToDelete) {
+        start(() -> sqliteStorageAdapter.deleteAll(
+            items,
+            StorageItemChange.Initiator.DATA_STORE_API,
+            itemDeletions -> {
+                try {
+                    onItemsDeleted.accept(ItemChangeMapper.mapAll(itemDeletions));
+                } catch (DataStoreException dataStoreException) {
+                    onFailureToDelete.accept(dataStoreException);
+                }
+            },
+            onFailureToDelete
+        ), onFailureToDelete);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -449,7 +504,7 @@ public final class AWSDataStorePlugin extends DataStorePlugin<Void> {
             @NonNull Consumer<DataStoreItemChange<? extends Model>> onDataStoreItemChange,
             @NonNull Consumer<DataStoreException> onObservationFailure,
             @NonNull Action onObservationCompleted) {
-        start(() -> onObservationStarted.accept(sqliteStorageAdapter.observe(
+        start(() -> onObservationStarted.accept(itemChangeRouter.observe(
             itemChange -> {
                 try {
                     onDataStoreItemChange.accept(ItemChangeMapper.map(itemChange));
@@ -469,14 +524,14 @@ public final class AWSDataStorePlugin extends DataStorePlugin<Void> {
             @NonNull Consumer<DataStoreItemChange<T>> onDataStoreItemChange,
             @NonNull Consumer<DataStoreException> onObservationFailure,
             @NonNull Action onObservationCompleted) {
-        start(() -> onObservationStarted.accept(sqliteStorageAdapter.observe(
+        start(() -> onObservationStarted.accept(itemChangeRouter.observeModel(
+            itemClass.getSimpleName(),
+            null,
             itemChange -> {
                 try {
-                    if (itemChange.modelSchema().getName().equals(itemClass.getSimpleName())) {
-                        @SuppressWarnings("unchecked") // This was just checked, right above.
-                        StorageItemChange<T> typedChange = (StorageItemChange<T>) itemChange;
-                        onDataStoreItemChange.accept(ItemChangeMapper.map(typedChange));
-                    }
+                    @SuppressWarnings("unchecked") // The router only passes changes to this model.
+                    StorageItemChange<T> typedChange = (StorageItemChange<T>) itemChange;
+                    onDataStoreItemChange.accept(ItemChangeMapper.map(typedChange));
                 } catch (DataStoreException dataStoreException) {
                     onObservationFailure.accept(dataStoreException);
                 }
@@ -502,17 +557,11 @@ public final class AWSDataStorePlugin extends DataStorePlugin<Void> {
             @NonNull Consumer<DataStoreItemChange<? extends Model>> onDataStoreItemChange,
             @NonNull Consumer<DataStoreException> onObservationFailure,
             @NonNull Action onObservationCompleted) {
-        start(() -> onObservationStarted.accept(sqliteStorageAdapter.observe(
+        start(() -> onObservationStarted.accept(itemChangeRouter.observeSerializedModel(
+            modelName,
             itemChange -> {
                 try {
-                    if (itemChange.modelSchema().getModelClass().equals(SerializedModel.class)) {
-                        if (((SerializedModel) itemChange.item()).getModelName().equals(modelName)) {
-                            @SuppressWarnings("unchecked") // This was just checked, right above.
-                            StorageItemChange<SerializedModel> typedChange =
-                                    (StorageItemChange<SerializedModel>) itemChange;
-                            onDataStoreItemChange.accept(ItemChangeMapper.map(itemChange));
-                        }
-                    }
+                    onDataStoreItemChange.accept(ItemChangeMapper.map(itemChange));
                 } catch (DataStoreException dataStoreException) {
                     onObservationFailure.accept(dataStoreException);
                 }
@@ -530,15 +579,14 @@ public final class AWSDataStorePlugin extends DataStorePlugin<Void> {
             @NonNull Consumer<DataStoreItemChange<T>> onDataStoreItemChange,
             @NonNull Consumer<DataStoreException> onObservationFailure,
             @NonNull Action onObservationCompleted) {
-        start(() -> onObservationStarted.accept(sqliteStorageAdapter.observe(
+        start(() -> onObservationStarted.accept(itemChangeRouter.observeItem(
+            itemClass.getSimpleName(),
+            uniqueId,
             itemChange -> {
                 try {
-                    if (itemChange.modelSchema().getName().equals(itemClass.getSimpleName()) &&
-                            itemChange.item().getId().equals(uniqueId)) {
-                        @SuppressWarnings("unchecked") // itemClass() was just inspected above. This is safe.
-                        StorageItemChange<T> typedChange = (StorageItemChange<T>) itemChange;
-                        onDataStoreItemChange.accept(ItemChangeMapper.map(typedChange));
-                    }
+                    @SuppressWarnings("unchecked") // The router only passes changes to this item.
+                    StorageItemChange<T> typedChange = (StorageItemChange<T>) itemChange;
+                    onDataStoreItemChange.accept(ItemChangeMapper.map(typedChange));
                 } catch (DataStoreException dataStoreException) {
                     onObservationFailure.accept(dataStoreException);
                 }
@@ -556,6 +604,91 @@ public final class AWSDataStorePlugin extends DataStorePlugin<Void> {
             @NonNull Consumer<DataStoreItemChange<T>> onDataStoreItemChange,
             @NonNull Consumer<DataStoreException> onObservationFailure,
             @NonNull Action onObservationCompleted) {
-        onObservationFailure.accept(new DataStoreException("Not implemented yet, buster!", "Check back later!"));
+        start(() -> {
+            final Evaluable<Object> filter;
+            try {
+                filter = compileFilter(itemClass, selectionCriteria);
+            } catch (DataStoreException compilationFailure) {
+                onObservationFailure.accept(compilationFailure);
+                return;
+            }
+            onObservationStarted.accept(itemChangeRouter.observeModel(
+                itemClass.getSimpleName(),
+                filter,
+                itemChange -> {
+                    try {
+                        @SuppressWarnings("unchecked") // The router only passes changes to this model.
+                        StorageItemChange<T> typedChange = (StorageItemChange<T>) itemChange;
+                        onDataStoreItemChange.accept(ItemChangeMapper.map(typedChange));
+                    } catch (DataStoreException dataStoreException) {
+                        onObservationFailure.accept(dataStoreException);
+                    }
+                },
+                onObservationFailure,
+                onObservationCompleted
+            ));
+        }, onObservationFailure);
+    }
+
+    @Override
+    public <T extends Model> void observeQuery(
+            @NonNull Class<T> itemClass,
+            @NonNull QueryOptions options,
+            @NonNull Consumer<Cancelable> onObservationStarted,
+            @NonNull Consumer<DataStoreQuerySnapshot<T>> onQuerySnapshot,
+            @NonNull Consumer<DataStoreException> onObservationFailure,
+            @NonNull Action onObservationCompleted) {
+        start(() -> {
+            QueryPredicate predicate = options.getQueryPredicate();
+            ModelSchema modelSchema = modelSchemaRegistry.getModelSchemaForModelClass(itemClass);
+            final LiveQuery<T> liveQuery;
+            try {
+                if (modelSchema == null) {
+                    throw new DataStoreException(
+                        "No schema found for " + itemClass.getSimpleName() + ".",
+                        "Make sure that " + itemClass.getSimpleName() + " is one of the models of the DataStore."
+                    );
+                }
+                Evaluable<Object> filter = compileFilter(itemClass, predicate);
+                liveQuery = new LiveQuery<>(modelSchema, filter, options, onQuerySnapshot);
+            } catch (DataStoreException invalidQuery) {
+                onObservationFailure.accept(invalidQuery);
+                return;
+            }
+            // Observe before querying, so that no change is missed in between. The live query
+            // holds on to the changes until the query results arrive.
+            Cancelable observation = itemChangeRouter.observeModel(
+                itemClass.getSimpleName(),
+                null,
+                itemChange -> {
+                    @SuppressWarnings("unchecked") // The router only passes changes to this model.
+                    StorageItemChange<T> typedChange = (StorageItemChange<T>) itemChange;
+                    liveQuery.onItemChange(typedChange);
+                },
+                onObservationFailure,
+                onObservationCompleted
+            );
+            Cancelable cancelable = () -> {
+                observation.cancel();
+                liveQuery.cancel();
+            };
+            // Sorting and paging are done by the live query, which needs every matching item.
+            sqliteStorageAdapter.query(itemClass, Where.matches(predicate), liveQuery::onQueryResults, error -> {
+                cancelable.cancel();
+                onObservationFailure.accept(error);
+            });
+            onObservationStarted.accept(cancelable);
+        }, onObservationFailure);
+    }
+
+    // Compiles the predicate against the model's schema, so that it resolves the fields the way
+    // that the schema names them. Without a schema, the predicate evaluates models by itself.
+    private <T extends Model> Evaluable<Object> compileFilter(Class<T> itemClass, QueryPredicate predicate)
+            throws DataStoreException {
+        ModelSchema modelSchema = modelSchemaRegistry.getModelSchemaForModelClass(itemClass);
+        if (modelSchema == null) {
+            return predicate;
+        }
+        return QueryPredicates.compile(predicate, modelSchema);
     }
 }
@@ -43,21 +43,29 @@ public final class DataStoreConfiguration {
     static final int DEFAULT_SYNC_MAX_RECORDS = 10_000;
     @VisibleForTesting 
     static final int DEFAULT_SYNC_PAGE_SIZE = 1_000;
+    @VisibleForTesting
+    static final int DEFAULT_SYNC_MAX_CONCURRENT_MODELS = 1;
 
     private final DataStoreErrorHandler errorHandler;
     private final DataStoreConflictHandler conflictHandler;
     private final Integer syncMaxRecords;
     private final Integer syncPageSize;
+    private final Integer syncMaxConcurrentModels;
     private final Map<String, DataStoreSyncExpression> syncExpressions;
     private final Long syncIntervalInMinutes;
+    private final Integer hubEventBatchSize;
+    private final Integer outboxMaxConcurrentMutations;
 
     private DataStoreConfiguration(Builder builder) {
         this.errorHandler = builder.errorHandler;
         this.conflictHandler = builder.conflictHandler;
         this.syncMaxRecords = builder.syncMaxRecords;
         this.syncPageSize = builder.syncPageSize;
+        this.syncMaxConcurrentModels = builder.syncMaxConcurrentModels;
         this.syncIntervalInMinutes = builder.syncIntervalInMinutes;
         this.syncExpressions = builder.syncExpressions;
+        this.hubEventBatchSize = builder.hubEventBatchSize;
+        this.outboxMaxConcurrentMutations = builder.outboxMaxConcurrentMutations;
     }
 
     /**
@@ -111,6 +119,7 @@ public final class DataStoreConfiguration {
             .syncInterval(DEFAULT_SYNC_INTERVAL_MINUTES, TimeUnit.MINUTES)
             .syncPageSize(DEFAULT_SYNC_PAGE_SIZE)
             .syncMaxRecords(DEFAULT_SYNC_MAX_RECORDS)
+            .syncMaxConcurrentModels(DEFAULT_SYNC_MAX_CONCURRENT_MODELS)
             .build();
     }
 
@@ -174,6 +183,17 @@ public final class DataStoreConfiguration {
         return this.syncPageSize;
     }
 
+    /**
+     * Gets the maximum number of models that may be synced at the same time, while the
+     * DataStore is being hydrated. A model is never synced at the same time as a model that
+     * it belongs to, since the model it belongs to must be synced first.
+     * @return The max number of models to sync concurrently
+     */
+    @IntRange(from = 1)
+    public Integer getSyncMaxConcurrentModels() {
+        return this.syncMaxConcurrentModels;
+    }
+
     /**
      * Returns the Map of all {@link DataStoreSyncExpression}s used to filter data received from AppSync, either during
      * a sync or over the real-time subscription.
@@ -184,6 +204,28 @@ public final class DataStoreConfiguration {
         return this.syncExpressions;
     }
 
+    /**
+     * Gets the maximum number of records announced together in a single Hub event, while data
+     * is merged from the cloud and outbox mutations are processed. If null, every record is
+     * announced in its own event.
+     * @return Max number of records per batched Hub event, or null if events are not batched
+     */
+    @Nullable
+    public Integer getHubEventBatchSize() {
+        return this.hubEventBatchSize;
+    }
+
+    /**
+     * Gets the maximum number of mutations from the outbox that may be published to the cloud
+     * at the same time. Mutations for the same model are always published one after another.
+     * If null, up to five mutations are published at the same time.
+     * @return Max number of outbox mutations in flight, or null to use the default
+     */
+    @Nullable
+    public Integer getOutboxMaxConcurrentMutations() {
+        return this.outboxMaxConcurrentMutations;
+    }
+
     @Override
     public boolean equals(@Nullable Object thatObject) {
         if (this == thatObject) {
@@ -205,12 +247,21 @@ public final class DataStoreConfiguration {
         if (!ObjectsCompat.equals(getSyncPageSize(), that.getSyncPageSize())) {
             return false;
         }
+        if (!ObjectsCompat.equals(getSyncMaxConcurrentModels(), that.getSyncMaxConcurrentModels())) {
+            return false;
+        }
         if (!ObjectsCompat.equals(getSyncIntervalInMinutes(), that.getSyncIntervalInMinutes())) {
             return false;
         }
         if (!ObjectsCompat.equals(getSyncExpressions(), that.getSyncExpressions())) {
             return false;
         }
+        if (!ObjectsCompat.equals(getHubEventBatchSize(), that.getHubEventBatchSize())) {
+            return false;
+        }
+        if (!ObjectsCompat.equals(getOutboxMaxConcurrentMutations(), that.getOutboxMaxConcurrentMutations())) {
+            return false;
+        }
         return true;
     }
 
@@ -220,8 +271,12 @@ public final class DataStoreConfiguration {
         result = 31 * result + (getConflictHandler() != null ? getConflictHandler().hashCode() : 0);
         result = 31 * result + (getSyncMaxRecords() != null ? getSyncMaxRecords().hashCode() : 0);
         result = 31 * result + (getSyncPageSize() != null ? getSyncPageSize().hashCode() : 0);
+        result = 31 * result + (getSyncMaxConcurrentModels() != null ? getSyncMaxConcurrentModels().hashCode() : 0);
         result = 31 * result + (getSyncIntervalInMinutes() != null ? getSyncIntervalInMinutes().hashCode() : 0);
         result = 31 * result + (getSyncExpressions() != null ? getSyncExpressions().hashCode() : 0);
+        result = 31 * result + (getHubEventBatchSize() != null ? getHubEventBatchSize().hashCode() : 0);
+        result = 31 * result +
+            (getOutboxMaxConcurrentMutations() != null ? getOutboxMaxConcurrentMutations().hashCode() : 0);
         return result;
     }
 
@@ -232,8 +287,11 @@ public final class DataStoreConfiguration {
             ", conflictHandler=" + conflictHandler +
             ", syncMaxRecords=" + syncMaxRecords +
             ", syncPageSize=" + syncPageSize +
+            ", syncMaxConcurrentModels=" + syncMaxConcurrentModels +
             ", syncIntervalInMinutes=" + syncIntervalInMinutes +
             ", syncExpressions=" + syncExpressions +
+            ", hubEventBatchSize=" + hubEventBatchSize +
+            ", outboxMaxConcurrentMutations=" + outboxMaxConcurrentMutations +
             '}';
     }
 
@@ -247,7 +305,10 @@ public final class DataStoreConfiguration {
         private Long syncIntervalInMinutes;
         private Integer syncMaxRecords;
         private Integer syncPageSize;
+        private Integer syncMaxConcurrentModels;
         private Map<String, DataStoreSyncExpression> syncExpressions;
+        private Integer hubEventBatchSize;
+        private Integer outboxMaxConcurrentMutations;
         private boolean ensureDefaults;
         private JSONObject pluginJson;
         private DataStoreConfiguration userProvidedConfiguration;
@@ -324,6 +385,18 @@ public final class DataStoreConfiguration {
             return Builder.this;
         }
 
+        /**
+         * Sets the maximum number of models that may be synced at the same time, while the
+         * DataStore is being hydrated. Models are still synced after any model that they belong to.
+         * @param syncMaxConcurrentModels Max number of models to sync concurrently
+         * @return Current builder
+         */
+        @NonNull
+        public Builder syncMaxConcurrentModels(@IntRange(from = 1) Integer syncMaxConcurrentModels) {
+            this.syncMaxConcurrentModels = syncMaxConcurrentModels;
+            return Builder.this;
+        }
+
         /**
          * Sets a sync expression for a particular model to filter which data is synced locally.  The expression
          * is evaluated each time DataStore is started.  The QueryPredicate is applied on both sync and subscriptions.
@@ -341,6 +414,34 @@ public final class DataStoreConfiguration {
             return Builder.this;
         }
 
+        /**
+         * Announces merged data and processed outbox mutations on Hub in batches of up to the
+         * given number of records, using the {@link DataStoreChannelEventName#SUBSCRIPTION_DATA_BATCH_PROCESSED}
+         * and {@link DataStoreChannelEventName#OUTBOX_MUTATION_BATCH_PROCESSED} events, instead of
+         * one event per record. The outbox status is then only announced when it changes.
+         * By default, events are not batched.
+         * @param hubEventBatchSize Max number of records per batched Hub event
+         * @return Current builder
+         */
+        @NonNull
+        public Builder hubEventBatchSize(@IntRange(from = 1) Integer hubEventBatchSize) {
+            this.hubEventBatchSize = hubEventBatchSize;
+            return Builder.this;
+        }
+
+        /**
+         * Sets the maximum number of mutations from the outbox that may be published to the cloud
+         * at the same time. Mutations for the same model are still published one after another.
+         * By default, up to five mutations are published at the same time.
+         * @param outboxMaxConcurrentMutations Max number of outbox mutations in flight
+         * @return Current builder
+         */
+        @NonNull
+        public Builder outboxMaxConcurrentMutations(@IntRange(from = 1) Integer outboxMaxConcurrentMutations) {
+            this.outboxMaxConcurrentMutations = outboxMaxConcurrentMutations;
+            return Builder.this;
+        }
+
         private void populateSettingsFromJson() throws DataStoreException {
             if (pluginJson == null) {
                 return;
@@ -369,6 +470,11 @@ public final class DataStoreConfiguration {
                         case SYNC_PAGE_SIZE:
                             this.syncPageSize(pluginJson.getInt(ConfigKey.SYNC_PAGE_SIZE.toString()));
                             break;
+                        case SYNC_MAX_CONCURRENT_MODELS:
+                            this.syncMaxConcurrentModels(
+                                pluginJson.getInt(ConfigKey.SYNC_MAX_CONCURRENT_MODELS.toString())
+                            );
+                            break;
                         default:
                             throw new IllegalArgumentException("Unsupported config key = " + configKey.toString());
                     }
@@ -392,7 +498,12 @@ public final class DataStoreConfiguration {
                 syncIntervalInMinutes);
             syncMaxRecords = getValueOrDefault(userProvidedConfiguration.getSyncMaxRecords(), syncMaxRecords);
             syncPageSize = getValueOrDefault(userProvidedConfiguration.getSyncPageSize(), syncPageSize);
+            syncMaxConcurrentModels = getValueOrDefault(
+                userProvidedConfiguration.getSyncMaxConcurrentModels(),
+                syncMaxConcurrentModels);
             syncExpressions = userProvidedConfiguration.getSyncExpressions();
+            hubEventBatchSize = userProvidedConfiguration.getHubEventBatchSize();
+            outboxMaxConcurrentMutations = userProvidedConfiguration.getOutboxMaxConcurrentMutations();
         }
 
         private static <T> T getValueOrDefault(T value, T defaultValue) {
@@ -419,6 +530,9 @@ public final class DataStoreConfiguration {
                 syncIntervalInMinutes = getValueOrDefault(syncIntervalInMinutes, DEFAULT_SYNC_INTERVAL_MINUTES);
                 syncMaxRecords = getValueOrDefault(syncMaxRecords, DEFAULT_SYNC_MAX_RECORDS);
                 syncPageSize = getValueOrDefault(syncPageSize, DEFAULT_SYNC_PAGE_SIZE);
+                syncMaxConcurrentModels = getValueOrDefault(
+                    syncMaxConcurrentModels,
+                    DEFAULT_SYNC_MAX_CONCURRENT_MODELS);
             }
             return new DataStoreConfiguration(this);
         }
@@ -438,7 +552,11 @@ public final class DataStoreConfiguration {
          * Number of records that the client wants to process, while it is requesting
          * a base/delta sync operation from AppSync.
          */
-        SYNC_MAX_RECORDS("syncMaxRecords");
+        SYNC_MAX_RECORDS("syncMaxRecords"),
+        /**
+         * Maximum number of models that may be synced at the same time, during hydration.
+         */
+        SYNC_MAX_CONCURRENT_MODELS("syncMaxConcurrentModels");
 
         private final String key;
 
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.amplifyframework.AmplifyException;
+import com.amplifyframework.core.Consumer;
+import com.amplifyframework.core.model.Model;
+import com.amplifyframework.core.model.ModelFieldReader;
+import com.amplifyframework.core.model.ModelSchema;
+import com.amplifyframework.core.model.query.QueryOptions;
+import com.amplifyframework.core.model.query.QueryPaginationInput;
+import com.amplifyframework.core.model.query.QuerySortBy;
+import com.amplifyframework.core.model.query.QuerySortOrder;
+import com.amplifyframework.core.model.query.predicate.Evaluable;
+import com.amplifyframework.datastore.DataStoreQuerySnapshot.Change;
+import com.amplifyframework.datastore.storage.StorageItemChange;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Keeps the results of a query up to date, as the items of its model change.
+ *
+ * All of the items which match the query's predicate are held in the query's sort order,
+ * with ties broken by item ID. Each change to an item is applied to those items by a binary
+ * search, and translated into the {@link Change}s to the query's page of results, so that
+ * the query never needs to be run again against storage. The sort fields are resolved
+ * through the model's schema, so they may also be the target names of its associations.
+ *
+ * The items are held in an array list. Finding an item's position takes O(log n)
+ * comparisons, but inserting or removing it shifts the items after it, which is O(n)
+ * in the number of matching items. Each snapshot copies the page of results, which is
+ * O(page size), or O(n) for a query that isn't paginated. This fits the result sets that
+ * are held in memory for display, which are rarely more than some thousands of items.
+ *
+ * Changes which arrive before the initial query results are buffered, and applied to the
+ * initial results before the first snapshot is emitted.
+ * @param <T> The type of the queried items
+ */
+final class LiveQuery<T extends Model> {
+    private final Evaluable<Object> filter;
+    private final Comparator<T> comparator;
+    private final int offset;
+    private final long end;
+    private final Consumer<DataStoreQuerySnapshot<T>> onQuerySnapshot;
+    private final List<T> items;
+    private final Map<String, T> itemsById;
+    private List<StorageItemChange<T>> pendingChanges;
+    private boolean cancelled;
+
+    /**
+     * Constructs a new LiveQuery.
+     * @param modelSchema Schema of the queried items
+     * @param filter Predicate on the queried items, compiled against their schema
+     * @param options Sorting and pagination options of the query; its predicate is
+     *                given by the filter, instead
+     * @param onQuerySnapshot Called with the first snapshot of the results, and then with
+     *                        a snapshot each time that the results change
+     * @throws DataStoreException If the items are sorted by a field that isn't in their schema
+     */
+    LiveQuery(
+            @NonNull ModelSchema modelSchema,
+            @NonNull Evaluable<Object> filter,
+            @NonNull QueryOptions options,
+            @NonNull Consumer<DataStoreQuerySnapshot<T>> onQuerySnapshot) throws DataStoreException {
+        this.filter = Objects.requireNonNull(filter);
+        this.comparator = comparatorFor(Objects.requireNonNull(modelSchema), options.getSortBy());
+        QueryPaginationInput paginationInput = options.getPaginationInput();
+        if (paginationInput != null) {
+            this.offset = paginationInput.getPage() * paginationInput.getLimit();
+            this.end = offset + (long) paginationInput.getLimit();
+        } else {
+            this.offset = 0;
+            this.end = Long.MAX_VALUE;
+        }
+        this.onQuerySnapshot = Objects.requireNonNull(onQuerySnapshot);
+        this.items = new ArrayList<>();
+        this.itemsById = new HashMap<>();
+        this.pendingChanges = new ArrayList<>();
+    }
+
+    /**
+     * Accepts the initial results of the query, applies any changes which arrived before
+     * them, and emits the first snapshot.
+     * @param results Every item which matches the query's predicate, in any order
+     */
+    synchronized void onQueryResults(@NonNull Iterator<T> results) {
+        while (results.hasNext()) {
+            T item = results.next();
+            items.add(item);
+            itemsById.put(item.getId(), item);
+        }
+        Collections.sort(items, comparator);
+        for (StorageItemChange<T> change : pendingChanges) {
+            apply(change, new ArrayList<>());
+        }
+        pendingChanges = null;
+        emit(Collections.emptyList());
+    }
+
+    /**
+     * Applies a change to an item of the queried model, and emits a snapshot if the
+     * change affected the query's page of results.
+     * @param change A change to an item of the queried model
+     */
+    synchronized void onItemChange(@NonNull StorageItemChange<T> change) {
+        if (pendingChanges != null) {
+            pendingChanges.add(change);
+            return;
+        }
+        List<Change<T>> changes = new ArrayList<>();
+        apply(change, changes);
+        if (!changes.isEmpty()) {
+            emit(changes);
+        }
+    }
+
+    /**
+     * Stops emitting snapshots.
+     */
+    synchronized void cancel() {
+        cancelled = true;
+    }
+
+    private void emit(List<Change<T>> changes) {
+        if (cancelled) {
+            return;
+        }
+        List<T> window = offset < items.size()
+            ? new ArrayList<>(items.subList(offset, (int) Math.min(items.size(), end)))
+            : Collections.emptyList();
+        onQuerySnapshot.accept(new DataStoreQuerySnapshot<>(window, changes));
+    }
+
+    private void apply(StorageItemChange<T> change, List<Change<T>> changes) {
+        T item = change.item();
+        T existing = itemsById.get(item.getId());
+        boolean matches = !StorageItemChange.Type.DELETE.equals(change.type()) && filter.evaluate(item);
+        if (existing != null) {
+            int oldPosition = Collections.binarySearch(items, existing, comparator);
+            if (matches) {
+                int search = Collections.binarySearch(items, item, comparator);
+                int newPosition = search >= 0 ? search : -search - 1;
+                if (newPosition == oldPosition || newPosition == oldPosition + 1) {
+                    // The item stays where it was, between the same neighbours.
+                    items.set(oldPosition, item);
+                    itemsById.put(item.getId(), item);
+                    if (oldPosition >= offset && oldPosition < end) {
+                        changes.add(new Change<>(Change.Type.CHANGED, oldPosition - offset, item));
+                    }
+                    return;
+                }
+            }
+            remove(oldPosition, changes);
+        }
+        if (matches) {
+            insert(item, changes);
+        }
+    }
+
+    private void remove(int position, List<Change<T>> changes) {
+        T removed = items.get(position);
+        T leaving = null;
+        if (position < offset) {
+            // The page's first item moves up out of the page.
+            leaving = offset < items.size() ? items.get(offset) : null;
+        } else if (position < end) {
+            leaving = removed;
+        }
+        items.remove(position);
+        itemsById.remove(removed.getId());
+        if (leaving == null) {
+            return;
+        }
+        int windowPosition = position < offset ? 0 : position - offset;
+        changes.add(new Change<>(Change.Type.REMOVED, windowPosition, leaving));
+        if (end <= items.size()) {
+            // The item after the page moves up into the page's last position.
+            int last = (int) end - 1;
+            changes.add(new Change<>(Change.Type.INSERTED, last - offset, items.get(last)));
+        }
+    }
+
+    private void insert(T item, List<Change<T>> changes) {
+        int position = -Collections.binarySearch(items, item, comparator) - 1;
+        items.add(position, item);
+        itemsById.put(item.getId(), item);
+        if (position >= end) {
+            return;
+        }
+        if (end < items.size()) {
+            // The page's last item is pushed out of the page.
+            int pushed = (int) end;
+            changes.add(new Change<>(Change.Type.REMOVED, pushed - 1 - offset, items.get(pushed)));
+        }
+        if (position < offset) {
+            // The item before the page moves down into the page's first position.
+            if (offset < items.size()) {
+                changes.add(new Change<>(Change.Type.INSERTED, 0, items.get(offset)));
+            }
+        } else {
+            changes.add(new Change<>(Change.Type.INSERTED, position - offset, item));
+        }
+    }
+
+    private static <T extends Model> Comparator<T> comparatorFor(
+            @NonNull ModelSchema modelSchema, @Nullable List<QuerySortBy> sortBy) throws DataStoreException {
+        final List<ModelFieldReader> fields = new ArrayList<>();
+        final List<QuerySortOrder> sortOrders = new ArrayList<>();
+        if (sortBy != null) {
+            for (QuerySortBy querySortBy : sortBy) {
+                try {
+                    fields.add(ModelFieldReader.forField(modelSchema, querySortBy.getField()));
+                } catch (AmplifyException fieldNotFound) {
+                    throw new DataStoreException(
+                        "Unable to sort " + modelSchema.getName() + " by the field " + querySortBy.getField() +
+                            ", which is not in its schema.",
+                        fieldNotFound,
+                        "Sort by the QueryFields of " + modelSchema.getName() + "."
+                    );
+                }
+                sortOrders.add(querySortBy.getSortOrder());
+            }
+        }
+        return (one, two) -> {
+            for (int index = 0; index < fields.size(); index++) {
+                ModelFieldReader field = fields.get(index);
+                int result = compareValues(field.read(one), field.read(two));
+                if (result != 0) {
+                    return QuerySortOrder.DESCENDING.equals(sortOrders.get(index)) ? -result : result;
+                }
+            }
+            return one.getId().compareTo(two.getId());
+        };
+    }
+
+    // Nulls sort first, as they do in SQLite.
+    @SuppressWarnings("unchecked") // Only compares values of the same Comparable class.
+    private static int compareValues(@Nullable Object one, @Nullable Object two) {
+        if (one == null || two == null) {
+            return one == null ? (two == null ? 0 : -1) : 1;
+        }
+        if (one instanceof Comparable && one.getClass().equals(two.getClass())) {
+            return ((Comparable<Object>) one).compareTo(two);
+        }
+        return one.toString().compareTo(two.toString());
+    }
+}
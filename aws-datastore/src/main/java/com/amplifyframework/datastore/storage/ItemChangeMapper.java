@@ -22,6 +22,9 @@ import com.amplifyframework.core.model.Model;
 import com.amplifyframework.datastore.DataStoreException;
 import com.amplifyframework.datastore.DataStoreItemChange;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Utility to map {@link StorageItemChange}s to the customer-visible type, {@link DataStoreItemChange}.
  */
@@ -48,6 +51,25 @@ public final class ItemChangeMapper {
             .build();
     }
 
+    /**
+     * Converts a list of {@link StorageItemChange}s into a list of {@link DataStoreItemChange}s,
+     * preserving their order.
+     *
+     * @param storageItemChanges A list of storage item changes
+     * @param <T>                Type of data that was changed in the storage layer
+     * @return A list of data store item changes representing the changes in the storage layer
+     * @throws DataStoreException On failure to map corresponding fields for any of the provided data
+     */
+    @NonNull
+    public static <T extends Model> List<DataStoreItemChange<T>> mapAll(
+            @NonNull List<StorageItemChange<T>> storageItemChanges) throws DataStoreException {
+        final List<DataStoreItemChange<T>> dataStoreItemChanges = new ArrayList<>(storageItemChanges.size());
+        for (StorageItemChange<T> storageItemChange : storageItemChanges) {
+            dataStoreItemChanges.add(map(storageItemChange));
+        }
+        return dataStoreItemChanges;
+    }
+
     private static DataStoreItemChange.Initiator map(StorageItemChange.Initiator initiator)
             throws DataStoreException {
         switch (initiator) {
@@ -0,0 +1,314 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.storage;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.amplifyframework.core.Action;
+import com.amplifyframework.core.Amplify;
+import com.amplifyframework.core.Consumer;
+import com.amplifyframework.core.async.Cancelable;
+import com.amplifyframework.core.model.Model;
+import com.amplifyframework.core.model.query.predicate.Evaluable;
+import com.amplifyframework.datastore.DataStoreException;
+import com.amplifyframework.datastore.appsync.SerializedModel;
+import com.amplifyframework.logging.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * Routes the changes observed from a {@link LocalStorageAdapter} to the observers that
+ * can match them. Observers are indexed by the name of the model they observe, and
+ * optionally by the ID of a single item, so a change is only offered to observers of
+ * its own model or item, instead of to every observer of the storage adapter.
+ *
+ * The router observes the storage adapter once, while it has at least one observer, and
+ * stops observing it when its last observer is cancelled. When the storage adapter's
+ * observation ends, with an error or by completing, every current observer is notified,
+ * and then forgotten. An observer whose callback throws is notified of the failure through
+ * its error callback, without keeping the change from the other observers.
+ */
+public final class ItemChangeRouter {
+    private static final Logger LOG = Amplify.Logging.forNamespace("amplify:aws-datastore");
+
+    private final LocalStorageAdapter localStorageAdapter;
+    private final Set<Route> allChanges;
+    private final ConcurrentMap<String, Set<Route>> changesByModelName;
+    private final ConcurrentMap<String, ConcurrentMap<String, Set<Route>>> changesByModelNameAndId;
+    private final ConcurrentMap<String, Set<Route>> serializedChangesByModelName;
+    private boolean observingStorage;
+    private Cancelable storageObservation;
+
+    /**
+     * Constructs a new ItemChangeRouter.
+     * @param localStorageAdapter Storage adapter whose changes will be routed
+     */
+    public ItemChangeRouter(@NonNull LocalStorageAdapter localStorageAdapter) {
+        this.localStorageAdapter = Objects.requireNonNull(localStorageAdapter);
+        this.allChanges = new CopyOnWriteArraySet<>();
+        this.changesByModelName = new ConcurrentHashMap<>();
+        this.changesByModelNameAndId = new ConcurrentHashMap<>();
+        this.serializedChangesByModelName = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Observe every change in the storage adapter.
+     * @param onItemChange Called with each change
+     * @param onObservationError Called if observation of the storage adapter fails
+     * @param onObservationComplete Called if observation of the storage adapter completes
+     * @return A Cancelable with which this observation may be terminated
+     */
+    @NonNull
+    public synchronized Cancelable observe(
+            @NonNull Consumer<StorageItemChange<? extends Model>> onItemChange,
+            @NonNull Consumer<DataStoreException> onObservationError,
+            @NonNull Action onObservationComplete) {
+        Route route = new Route(null, onItemChange, onObservationError, onObservationComplete);
+        return register(allChanges, route, () -> { });
+    }
+
+    /**
+     * Observe the changes to the items of a model, which are matched by a filter.
+     * @param modelName Name of the model, as in its schema
+     * @param filter Filter on the changed items, or null to observe every item of the model
+     * @param onItemChange Called with each change to a matching item
+     * @param onObservationError Called if observation of the storage adapter fails
+     * @param onObservationComplete Called if observation of the storage adapter completes
+     * @return A Cancelable with which this observation may be terminated
+     */
+    @NonNull
+    public synchronized Cancelable observeModel(
+            @NonNull String modelName,
+            @Nullable Evaluable<Object> filter,
+            @NonNull Consumer<StorageItemChange<? extends Model>> onItemChange,
+            @NonNull Consumer<DataStoreException> onObservationError,
+            @NonNull Action onObservationComplete) {
+        Route route = new Route(filter, onItemChange, onObservationError, onObservationComplete);
+        Set<Route> routes = routesFor(changesByModelName, modelName);
+        return register(routes, route, () -> changesByModelName.remove(modelName, routes));
+    }
+
+    /**
+     * Observe the changes to a single item of a model.
+     * @param modelName Name of the model, as in its schema
+     * @param modelId ID of the item
+     * @param onItemChange Called with each change to the item
+     * @param onObservationError Called if observation of the storage adapter fails
+     * @param onObservationComplete Called if observation of the storage adapter completes
+     * @return A Cancelable with which this observation may be terminated
+     */
+    @NonNull
+    public synchronized Cancelable observeItem(
+            @NonNull String modelName,
+            @NonNull String modelId,
+            @NonNull Consumer<StorageItemChange<? extends Model>> onItemChange,
+            @NonNull Consumer<DataStoreException> onObservationError,
+            @NonNull Action onObservationComplete) {
+        ConcurrentMap<String, Set<Route>> index = changesByModelNameAndId.get(modelName);
+        if (index == null) {
+            index = new ConcurrentHashMap<>();
+            ConcurrentMap<String, Set<Route>> existing = changesByModelNameAndId.putIfAbsent(modelName, index);
+            if (existing != null) {
+                index = existing;
+            }
+        }
+        final ConcurrentMap<String, Set<Route>> changesById = index;
+        Route route = new Route(null, onItemChange, onObservationError, onObservationComplete);
+        Set<Route> routes = routesFor(changesById, modelId);
+        return register(routes, route, () -> {
+            changesById.remove(modelId, routes);
+            if (changesById.isEmpty()) {
+                changesByModelNameAndId.remove(modelName, changesById);
+            }
+        });
+    }
+
+    /**
+     * Observe the changes to the {@link SerializedModel}s of a model.
+     * @param modelName Name of the model, as returned by {@link SerializedModel#getModelName()}
+     * @param onItemChange Called with each change to an item of the model
+     * @param onObservationError Called if observation of the storage adapter fails
+     * @param onObservationComplete Called if observation of the storage adapter completes
+     * @return A Cancelable with which this observation may be terminated
+     */
+    @NonNull
+    public synchronized Cancelable observeSerializedModel(
+            @NonNull String modelName,
+            @NonNull Consumer<StorageItemChange<? extends Model>> onItemChange,
+            @NonNull Consumer<DataStoreException> onObservationError,
+            @NonNull Action onObservationComplete) {
+        Route route = new Route(null, onItemChange, onObservationError, onObservationComplete);
+        Set<Route> routes = routesFor(serializedChangesByModelName, modelName);
+        return register(routes, route, () -> serializedChangesByModelName.remove(modelName, routes));
+    }
+
+    private static Set<Route> routesFor(ConcurrentMap<String, Set<Route>> index, String key) {
+        Set<Route> routes = index.get(key);
+        if (routes == null) {
+            routes = new CopyOnWriteArraySet<>();
+            Set<Route> existing = index.putIfAbsent(key, routes);
+            if (existing != null) {
+                routes = existing;
+            }
+        }
+        return routes;
+    }
+
+    // Called while holding the lock, so that the routes can't be detached in between being
+    // looked up, and the route being added to them. Once the routes are empty, they are
+    // removed from their index by the provided action.
+    private Cancelable register(Set<Route> routes, Route route, Action removeEmptyRoutes) {
+        routes.add(route);
+        if (!observingStorage) {
+            // Set first, since observation may end synchronously, for an adapter that has terminated.
+            observingStorage = true;
+            Cancelable observation = localStorageAdapter.observe(this::route, this::fail, this::complete);
+            if (observingStorage) {
+                storageObservation = observation;
+            }
+        }
+        return () -> unregister(routes, route, removeEmptyRoutes);
+    }
+
+    private synchronized void unregister(Set<Route> routes, Route route, Action removeEmptyRoutes) {
+        if (!routes.remove(route)) {
+            return;
+        }
+        if (routes.isEmpty()) {
+            removeEmptyRoutes.call();
+        }
+        if (observingStorage && !hasRoutes()) {
+            // The last observer is gone, so stop observing the storage adapter until there is another.
+            observingStorage = false;
+            Cancelable observation = storageObservation;
+            storageObservation = null;
+            if (observation != null) {
+                observation.cancel();
+            }
+        }
+    }
+
+    private boolean hasRoutes() {
+        return !allChanges.isEmpty() ||
+            !changesByModelName.isEmpty() ||
+            !changesByModelNameAndId.isEmpty() ||
+            !serializedChangesByModelName.isEmpty();
+    }
+
+    private void route(StorageItemChange<? extends Model> change) {
+        String modelName = change.modelSchema().getName();
+        deliver(allChanges, change);
+        deliver(changesByModelName.get(modelName), change);
+        ConcurrentMap<String, Set<Route>> changesById = changesByModelNameAndId.get(modelName);
+        if (changesById != null) {
+            deliver(changesById.get(change.item().getId()), change);
+        }
+        if (change.item() instanceof SerializedModel) {
+            deliver(serializedChangesByModelName.get(((SerializedModel) change.item()).getModelName()), change);
+        }
+    }
+
+    private static void deliver(@Nullable Set<Route> routes, StorageItemChange<? extends Model> change) {
+        if (routes == null) {
+            return;
+        }
+        for (Route route : routes) {
+            try {
+                if (route.filter == null || route.filter.evaluate(change.item())) {
+                    route.onItemChange.accept(change);
+                }
+            } catch (RuntimeException failure) {
+                // One observer's failure must not keep the change from the observers after it.
+                reportFailure(route, change, failure);
+            }
+        }
+    }
+
+    private static void reportFailure(
+            Route route, StorageItemChange<? extends Model> change, RuntimeException failure) {
+        try {
+            route.onObservationError.accept(new DataStoreException(
+                "An observer failed to handle a change to " + change.modelSchema().getName() + ".",
+                failure,
+                "Check the observer's callbacks, which must not throw."
+            ));
+        } catch (RuntimeException reportFailure) {
+            LOG.warn("An observer failed to handle a change, and then failed to handle that error.", reportFailure);
+        }
+    }
+
+    private void fail(DataStoreException error) {
+        for (Route route : detachAll()) {
+            route.onObservationError.accept(error);
+        }
+    }
+
+    private void complete() {
+        for (Route route : detachAll()) {
+            route.onObservationComplete.call();
+        }
+    }
+
+    // Forgets every observer, so that the next one observes the storage adapter afresh.
+    private synchronized List<Route> detachAll() {
+        List<Route> detached = new ArrayList<>(allChanges);
+        for (Set<Route> routes : changesByModelName.values()) {
+            detached.addAll(routes);
+        }
+        for (ConcurrentMap<String, Set<Route>> changesById : changesByModelNameAndId.values()) {
+            for (Set<Route> routes : changesById.values()) {
+                detached.addAll(routes);
+            }
+        }
+        for (Set<Route> routes : serializedChangesByModelName.values()) {
+            detached.addAll(routes);
+        }
+        allChanges.clear();
+        changesByModelName.clear();
+        changesByModelNameAndId.clear();
+        serializedChangesByModelName.clear();
+        observingStorage = false;
+        storageObservation = null;
+        return detached;
+    }
+
+    /**
+     * An observer, along with the filter on the changes that it receives.
+     */
+    private static final class Route {
+        private final Evaluable<Object> filter;
+        private final Consumer<StorageItemChange<? extends Model>> onItemChange;
+        private final Consumer<DataStoreException> onObservationError;
+        private final Action onObservationComplete;
+
+        Route(@Nullable Evaluable<Object> filter,
+              @NonNull Consumer<StorageItemChange<? extends Model>> onItemChange,
+              @NonNull Consumer<DataStoreException> onObservationError,
+              @NonNull Action onObservationComplete) {
+            this.filter = filter;
+            this.onItemChange = Objects.requireNonNull(onItemChange);
+            this.onObservationError = Objects.requireNonNull(onObservationError);
+            this.onObservationComplete = Objects.requireNonNull(onObservationComplete);
+        }
+    }
+}
@@ -84,6 +84,25 @@ public interface LocalStorageAdapter {
             @NonNull Consumer<DataStoreException> onError
     );
 
+    /**
+     * Save a batch of items into local storage, as a single unit of work. Either every
+     * item in the batch is written, or none of them are. A {@link StorageItemChange} is
+     * published to observers for each item in the batch, once the whole batch has been
+     * committed.
+     * @param <T> The type of the items being stored
+     * @param items The items to save into the repository
+     * @param initiator An identification of the actor who initiated this save
+     * @param onSuccess A callback that will be invoked with one change per item, in the
+     *                  same order as the provided items, if the batch save succeeds
+     * @param onError A callback that will be invoked if the batch save fails with an error
+     */
+    <T extends Model> void saveAll(
+            @NonNull List<T> items,
+            @NonNull StorageItemChange.Initiator initiator,
+            @NonNull Consumer<List<StorageItemChange<T>>> onSuccess,
+            @NonNull Consumer<DataStoreException> onError
+    );
+
     /**
      * Query the storage for items of a given type.
      * @param itemClass Items that have this class will be solicited
@@ -145,6 +164,44 @@ public interface LocalStorageAdapter {
             @NonNull Consumer<DataStoreException> onError
     );
 
+    /**
+     * Deletes a batch of items from local storage, as a single unit of work. Either every
+     * item in the batch is deleted, or none of them are. A {@link StorageItemChange} is
+     * published to observers for each item in the batch, once the whole batch has been
+     * committed.
+     * @param <T> The type of the items being deleted
+     * @param items Items to delete
+     * @param initiator An identification of the actor who initiated this deletion
+     * @param onSuccess A callback that will be invoked with one change per item, in the
+     *                  same order as the provided items, if the batch deletion succeeds
+     * @param onError A callback that will be invoked if the batch deletion fails with an error
+     */
+    <T extends Model> void deleteAll(
+            @NonNull List<T> items,
+            @NonNull StorageItemChange.Initiator initiator,
+            @NonNull Consumer<List<StorageItemChange<T>>> onSuccess,
+            @NonNull Consumer<DataStoreException> onError
+    );
+
+    /**
+     * Saves and deletes a batch of items in local storage, in the order of the batch, as a
+     * single unit of work. Either every write in the batch is made, or none of them are.
+     * Deletions of items which are not in local storage are skipped. A {@link StorageItemChange}
+     * is published to observers for each item that was saved or deleted, once the whole batch
+     * has been committed.
+     * @param writes The saves and deletions to make, in the order in which to make them
+     * @param initiator An identification of the actor who initiated these writes
+     * @param onSuccess A callback that will be invoked with one change per item that was saved
+     *                  or deleted, in the order of the writes, if the batch succeeds
+     * @param onError A callback that will be invoked if the batch fails with an error
+     */
+    void writeAll(
+            @NonNull List<StorageWrite<? extends Model>> writes,
+            @NonNull StorageItemChange.Initiator initiator,
+            @NonNull Consumer<List<StorageItemChange<? extends Model>>> onSuccess,
+            @NonNull Consumer<DataStoreException> onError
+    );
+
     /**
      * Observe all changes to that occur to any/all objects in the storage.
      * @param onItemChange
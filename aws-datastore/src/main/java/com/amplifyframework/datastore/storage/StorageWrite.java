@@ -0,0 +1,105 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.storage;
+
+import androidx.annotation.NonNull;
+import androidx.core.util.ObjectsCompat;
+
+import com.amplifyframework.core.model.Model;
+
+import java.util.Objects;
+
+/**
+ * A write to make to an item in a {@link LocalStorageAdapter}, as one of a batch of writes
+ * that are made together by {@link LocalStorageAdapter#writeAll}. The item is either saved
+ * or deleted.
+ * @param <T> The type of the item to write
+ */
+public final class StorageWrite<T extends Model> {
+    private final T item;
+    private final boolean deletion;
+
+    private StorageWrite(T item, boolean deletion) {
+        this.item = item;
+        this.deletion = deletion;
+    }
+
+    /**
+     * Creates a write which saves an item, creating it or updating it.
+     * @param item Item to save
+     * @param <T> The type of the item
+     * @return A write which saves the item
+     */
+    @NonNull
+    public static <T extends Model> StorageWrite<T> save(@NonNull T item) {
+        return new StorageWrite<>(Objects.requireNonNull(item), false);
+    }
+
+    /**
+     * Creates a write which deletes an item. If the item is not in storage, nothing is written.
+     * @param item Item to delete
+     * @param <T> The type of the item
+     * @return A write which deletes the item
+     */
+    @NonNull
+    public static <T extends Model> StorageWrite<T> delete(@NonNull T item) {
+        return new StorageWrite<>(Objects.requireNonNull(item), true);
+    }
+
+    /**
+     * Gets the item to write.
+     * @return Item to save or to delete
+     */
+    @NonNull
+    public T item() {
+        return item;
+    }
+
+    /**
+     * Checks whether the item is deleted, rather than saved.
+     * @return true if the item is deleted, false if it is saved
+     */
+    public boolean isDeletion() {
+        return deletion;
+    }
+
+    @Override
+    public boolean equals(Object thatObject) {
+        if (this == thatObject) {
+            return true;
+        }
+        if (thatObject == null || getClass() != thatObject.getClass()) {
+            return false;
+        }
+        StorageWrite<?> that = (StorageWrite<?>) thatObject;
+        return deletion == that.deletion &&
+            ObjectsCompat.equals(item, that.item);
+    }
+
+    @Override
+    public int hashCode() {
+        return ObjectsCompat.hash(item, deletion);
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "StorageWrite{" +
+            "item=" + item +
+            ", deletion=" + deletion +
+            '}';
+    }
+}
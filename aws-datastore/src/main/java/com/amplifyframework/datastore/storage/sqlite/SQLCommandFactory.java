@@ -58,6 +58,17 @@ interface SQLCommandFactory {
     SqlCommand queryFor(@NonNull ModelSchema modelSchema,
                         @NonNull QueryOptions options) throws DataStoreException;
 
+    /**
+     * Generates a command which counts the rows of a model's table that have a given
+     * primary key, in a raw string representation and a compiled prepared statement.
+     * The primary key value is bound to the compiled statement later.
+     *
+     * @param modelSchema schema of the model
+     * @return the SQL command that encapsulates the existence check
+     */
+    @NonNull
+    SqlCommand existsFor(@NonNull ModelSchema modelSchema);
+
     /**
      * Generates the INSERT INTO command in a raw string representation and a compiled
      * prepared statement that can be bound later with inputs.
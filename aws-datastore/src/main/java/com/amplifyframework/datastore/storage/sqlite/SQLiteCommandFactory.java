@@ -17,10 +17,12 @@ package com.amplifyframework.datastore.storage.sqlite;
 
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteStatement;
+import android.util.LruCache;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.WorkerThread;
 
+import com.amplifyframework.core.Amplify;
 import com.amplifyframework.core.model.Model;
 import com.amplifyframework.core.model.ModelIndex;
 import com.amplifyframework.core.model.ModelSchema;
@@ -35,7 +37,9 @@ import com.amplifyframework.datastore.DataStoreException;
 import com.amplifyframework.datastore.storage.sqlite.adapter.SQLPredicate;
 import com.amplifyframework.datastore.storage.sqlite.adapter.SQLiteColumn;
 import com.amplifyframework.datastore.storage.sqlite.adapter.SQLiteTable;
+import com.amplifyframework.logging.Logger;
 import com.amplifyframework.util.Empty;
+import com.amplifyframework.util.GsonFactory;
 import com.amplifyframework.util.Immutable;
 import com.amplifyframework.util.Wrap;
 
@@ -51,10 +55,36 @@ import java.util.Set;
 /**
  * A factory that produces the SQLite commands for a given
  * {@link Model} and {@link ModelSchema}.
+ *
+ * The text of each query is cached by the shape of the query, up to {@link #QUERY_CACHE_SIZE}
+ * shapes. Each time the text of a query has to be built, the number of hits and misses of
+ * that cache so far are logged at {@link com.amplifyframework.logging.LogLevel#DEBUG} in the
+ * "amplify:aws-datastore" namespace, for example:
+ * <pre>
+ *     Built query text for a new query shape. Query cache hits: 120, misses: 4.
+ * </pre>
+ * To see these lines, add an {@link com.amplifyframework.logging.AndroidLoggingPlugin} with
+ * a threshold of DEBUG. Misses should stop once each kind of query has been made once. If they
+ * keep growing with the hits, the app's queries have more shapes than the cache can hold.
  */
 final class SQLiteCommandFactory implements SQLCommandFactory {
+    private static final Logger LOG = Amplify.Logging.forNamespace("amplify:aws-datastore");
+
+    /**
+     * The number of query shapes whose text is cached. This is the same as the largest
+     * prepared statement cache that a SQLite connection can have, so that every cached
+     * query can also stay compiled.
+     */
+    static final int QUERY_CACHE_SIZE = SQLiteDatabase.MAX_SQL_CACHE_SIZE;
+
     private final ModelSchemaRegistry modelSchemaRegistry;
 
+    // Tables derived from each model schema.
+    private final SQLiteSchemaCache schemaCache;
+
+    // The text of recent queries, by the shape of the query.
+    private final LruCache<String, SqlCommand> queryCache;
+
     // Connection handle to a SQLiteDatabase.
     private final SQLiteDatabase databaseConnectionHandle;
 
@@ -72,7 +102,22 @@ final class SQLiteCommandFactory implements SQLCommandFactory {
     SQLiteCommandFactory(
             @NonNull ModelSchemaRegistry modelSchemaRegistry,
             @Nullable SQLiteDatabase databaseConnectionHandle) {
+        this(modelSchemaRegistry, new SQLiteSchemaCache(modelSchemaRegistry, GsonFactory.instance()),
+            databaseConnectionHandle);
+    }
+
+    /**
+     * Constructor with a cache of the tables derived from each model schema, and databaseConnectionHandle.
+     * @param schemaCache cache of the tables derived from each model schema.
+     * @param databaseConnectionHandle connection to a SQLiteDatabase.
+     */
+    SQLiteCommandFactory(
+            @NonNull ModelSchemaRegistry modelSchemaRegistry,
+            @NonNull SQLiteSchemaCache schemaCache,
+            @Nullable SQLiteDatabase databaseConnectionHandle) {
         this.modelSchemaRegistry = Objects.requireNonNull(modelSchemaRegistry);
+        this.schemaCache = Objects.requireNonNull(schemaCache);
+        this.queryCache = new LruCache<>(QUERY_CACHE_SIZE);
         this.databaseConnectionHandle = databaseConnectionHandle;
     }
 
@@ -82,7 +127,7 @@ final class SQLiteCommandFactory implements SQLCommandFactory {
     @NonNull
     @Override
     public SqlCommand createTableFor(@NonNull ModelSchema modelSchema) {
-        final SQLiteTable table = SQLiteTable.fromSchema(modelSchema);
+        final SQLiteTable table = schemaCache.getTable(modelSchema);
         final StringBuilder stringBuilder = new StringBuilder();
         stringBuilder.append("CREATE TABLE IF NOT EXISTS")
                 .append(SqlKeyword.DELIMITER)
@@ -110,7 +155,7 @@ final class SQLiteCommandFactory implements SQLCommandFactory {
     @NonNull
     @Override
     public Set<SqlCommand> createIndexesFor(@NonNull ModelSchema modelSchema) {
-        final SQLiteTable table = SQLiteTable.fromSchema(modelSchema);
+        final SQLiteTable table = schemaCache.getTable(modelSchema);
         Set<SqlCommand> indexCommands = new HashSet<>();
 
         for (ModelIndex modelIndex : modelSchema.getIndexes().values()) {
@@ -151,12 +196,66 @@ final class SQLiteCommandFactory implements SQLCommandFactory {
     @Override
     public SqlCommand queryFor(@NonNull ModelSchema modelSchema,
                                @NonNull QueryOptions options) throws DataStoreException {
-        final SQLiteTable table = SQLiteTable.fromSchema(modelSchema);
+        final SQLiteTable table = schemaCache.getTable(modelSchema);
+        final QueryPredicate predicate = options.getQueryPredicate();
+        final SQLPredicate sqlPredicate = QueryPredicates.all().equals(predicate) ? null : new SQLPredicate(predicate);
+        final List<QuerySortBy> sortByList = options.getSortBy();
+        final QueryPaginationInput paginationInput = options.getPaginationInput();
+
+        // The values of the predicate and the pagination are bound as arguments, so the
+        // text of the query depends only on the "shape" of the query. Queries that have the
+        // same shape re-use the same text, which also lets SQLite re-use its compiled statement.
+        final String queryShape = queryShapeOf(table, sqlPredicate, sortByList, paginationInput);
+        SqlCommand queryCommand = queryCache.get(queryShape);
+        if (queryCommand == null) {
+            queryCommand = buildQuery(table, sqlPredicate, sortByList, paginationInput);
+            queryCache.put(queryShape, queryCommand);
+            LOG.debug("Built query text for a new query shape. Query cache hits: " +
+                queryCache.hitCount() + ", misses: " + queryCache.missCount() + ".");
+        }
+
+        final List<Object> bindings = new ArrayList<>();
+        if (sqlPredicate != null) {
+            bindings.addAll(sqlPredicate.getBindings());
+        }
+        if (paginationInput != null) {
+            bindings.add(paginationInput.getLimit());
+            bindings.add(paginationInput.getPage() * paginationInput.getLimit());
+        }
+        return new SqlCommand(table.getName(), queryCommand.sqlStatement(), queryCommand.getColumns(), bindings);
+    }
+
+    // Describes the parts of a query that change its text: the table, the structure of the
+    // predicate (with "?" in place of its values), the sort order, and whether it is paginated.
+    private static String queryShapeOf(SQLiteTable table,
+                                       @Nullable SQLPredicate sqlPredicate,
+                                       @Nullable List<QuerySortBy> sortByList,
+                                       @Nullable QueryPaginationInput paginationInput) {
+        final StringBuilder shape = new StringBuilder(table.getName())
+            .append('|')
+            .append(sqlPredicate == null ? "" : sqlPredicate.toString())
+            .append('|');
+        if (sortByList != null) {
+            for (QuerySortBy sortBy : sortByList) {
+                shape.append(sortBy.getField())
+                    .append(' ')
+                    .append(sortBy.getSortOrder())
+                    .append(',');
+            }
+        }
+        return shape.append('|')
+            .append(paginationInput != null)
+            .toString();
+    }
+
+    private SqlCommand buildQuery(SQLiteTable table,
+                                  @Nullable SQLPredicate sqlPredicate,
+                                  @Nullable List<QuerySortBy> sortByList,
+                                  @Nullable QueryPaginationInput paginationInput) throws DataStoreException {
         final String tableName = table.getName();
         StringBuilder rawQuery = new StringBuilder();
         StringBuilder selectColumns = new StringBuilder();
         StringBuilder joinStatement = new StringBuilder();
-        final List<Object> bindings = new ArrayList<>();
 
         // Track the list of columns to return
         List<SQLiteColumn> columns = new LinkedList<>(table.getSortedColumns());
@@ -201,10 +300,7 @@ final class SQLiteCommandFactory implements SQLCommandFactory {
 
         // Append predicates.
         // WHERE condition
-        final QueryPredicate predicate = options.getQueryPredicate();
-        if (!QueryPredicates.all().equals(predicate)) {
-            final SQLPredicate sqlPredicate = new SQLPredicate(predicate);
-            bindings.addAll(sqlPredicate.getBindings());
+        if (sqlPredicate != null) {
             rawQuery.append(SqlKeyword.DELIMITER)
                     .append(SqlKeyword.WHERE)
                     .append(SqlKeyword.DELIMITER)
@@ -212,7 +308,6 @@ final class SQLiteCommandFactory implements SQLCommandFactory {
         }
 
         // Append order by
-        final List<QuerySortBy> sortByList = options.getSortBy();
         if (sortByList != null) {
             rawQuery.append(SqlKeyword.DELIMITER)
                     .append(SqlKeyword.ORDER_BY)
@@ -233,7 +328,6 @@ final class SQLiteCommandFactory implements SQLCommandFactory {
         }
 
         // Append pagination after order by
-        final QueryPaginationInput paginationInput = options.getPaginationInput();
         if (paginationInput != null) {
             rawQuery.append(SqlKeyword.DELIMITER)
                 .append(SqlKeyword.LIMIT)
@@ -243,13 +337,50 @@ final class SQLiteCommandFactory implements SQLCommandFactory {
                 .append(SqlKeyword.OFFSET)
                 .append(SqlKeyword.DELIMITER)
                 .append("?");
-            bindings.add(paginationInput.getLimit());
-            bindings.add(paginationInput.getPage() * paginationInput.getLimit());
         }
 
         rawQuery.append(";");
         final String queryString = rawQuery.toString();
-        return new SqlCommand(table.getName(), queryString, columns, bindings);
+        return new SqlCommand(table.getName(), queryString, Immutable.of(columns), Collections.emptyList());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This method should be invoked from a worker thread and not from the main thread
+     * as this method calls {@link SQLiteDatabase#compileStatement(String)}.
+     */
+    @NonNull
+    @WorkerThread
+    @Override
+    public SqlCommand existsFor(@NonNull ModelSchema modelSchema) {
+        final SQLiteTable table = schemaCache.getTable(modelSchema);
+        // SELECT COUNT(*) FROM `tableName` WHERE `tableName`.`id` = ?
+        final String preparedExistsStatement = "" +
+                SqlKeyword.SELECT +
+                SqlKeyword.DELIMITER +
+                "COUNT(*)" +
+                SqlKeyword.DELIMITER +
+                SqlKeyword.FROM +
+                SqlKeyword.DELIMITER +
+                Wrap.inBackticks(table.getName()) +
+                SqlKeyword.DELIMITER +
+                SqlKeyword.WHERE +
+                SqlKeyword.DELIMITER +
+                table.getPrimaryKeyColumnName() +
+                SqlKeyword.DELIMITER +
+                SqlKeyword.EQUAL +
+                SqlKeyword.DELIMITER +
+                "?;";
+        final SQLiteStatement compiledExistsStatement =
+                databaseConnectionHandle == null ?
+                null : databaseConnectionHandle.compileStatement(preparedExistsStatement);
+        return new SqlCommand(table.getName(),
+                preparedExistsStatement,
+                Collections.emptyList(),
+                Collections.emptyList(),
+                compiledExistsStatement
+        );
     }
 
     /**
@@ -262,7 +393,7 @@ final class SQLiteCommandFactory implements SQLCommandFactory {
     @WorkerThread
     @Override
     public SqlCommand insertFor(@NonNull ModelSchema modelSchema) {
-        final SQLiteTable table = SQLiteTable.fromSchema(modelSchema);
+        final SQLiteTable table = schemaCache.getTable(modelSchema);
         final StringBuilder stringBuilder = new StringBuilder();
         stringBuilder.append("INSERT INTO")
                 .append(SqlKeyword.DELIMITER)
@@ -310,7 +441,7 @@ final class SQLiteCommandFactory implements SQLCommandFactory {
     @Override
     public SqlCommand updateFor(@NonNull ModelSchema modelSchema,
                                 @NonNull QueryPredicate predicate) throws DataStoreException {
-        final SQLiteTable table = SQLiteTable.fromSchema(modelSchema);
+        final SQLiteTable table = schemaCache.getTable(modelSchema);
         final StringBuilder stringBuilder = new StringBuilder();
         stringBuilder.append("UPDATE")
                 .append(SqlKeyword.DELIMITER)
@@ -363,7 +494,7 @@ final class SQLiteCommandFactory implements SQLCommandFactory {
     @Override
     public SqlCommand deleteFor(@NonNull ModelSchema modelSchema,
                                 @NonNull QueryPredicate predicate) throws DataStoreException {
-        final SQLiteTable table = SQLiteTable.fromSchema(modelSchema);
+        final SQLiteTable table = schemaCache.getTable(modelSchema);
         final SQLPredicate sqlPredicate = new SQLPredicate(predicate);
 
         final String preparedDeleteStatement =
@@ -399,7 +530,7 @@ final class SQLiteCommandFactory implements SQLCommandFactory {
             final SQLiteColumn foreignKey = foreignKeyIterator.next();
             final String ownedTableName = foreignKey.getOwnedType();
             final ModelSchema ownedSchema = modelSchemaRegistry.getModelSchemaForModelClass(ownedTableName);
-            final SQLiteTable ownedTable = SQLiteTable.fromSchema(ownedSchema);
+            final SQLiteTable ownedTable = schemaCache.getTable(ownedSchema);
 
             columns.addAll(ownedTable.getSortedColumns());
 
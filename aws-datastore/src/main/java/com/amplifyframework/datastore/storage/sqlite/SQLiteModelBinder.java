@@ -0,0 +1,231 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.storage.sqlite;
+
+import android.database.Cursor;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.amplifyframework.AmplifyException;
+import com.amplifyframework.core.model.Model;
+import com.amplifyframework.core.model.ModelField;
+import com.amplifyframework.core.model.ModelSchema;
+import com.amplifyframework.core.model.ModelSchemaRegistry;
+import com.amplifyframework.datastore.DataStoreException;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.TypeAdapter;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Builds instances of a Java model class directly from the column values that are read by a
+ * {@link SQLiteModelFieldTypeConverter}. Previously, each row was put into a map, serialized into
+ * a JSON string, and then parsed back into a model. Instead, the binder sets each value directly
+ * onto the matching field of the model. The reflective field lookups are done once per binder.
+ *
+ * Models are allocated the same way that Gson would allocate them, and null values are
+ * left unset, just as when they were omitted from the JSON. A value whose type doesn't match
+ * the declared type of its field (for example, a list of custom types) is still adapted by Gson,
+ * but only that one value, not the whole row.
+ * @param <T> The type of model that is built
+ */
+final class SQLiteModelBinder<T extends Model> {
+    private final Class<T> modelClass;
+    private final ModelSchemaRegistry modelSchemaRegistry;
+    private final Gson gson;
+    private final TypeAdapter<T> typeAdapter;
+    private final List<FieldBinding> fieldBindings;
+
+    private SQLiteModelBinder(Class<T> modelClass,
+                              ModelSchemaRegistry modelSchemaRegistry,
+                              Gson gson,
+                              List<FieldBinding> fieldBindings) {
+        this.modelClass = modelClass;
+        this.modelSchemaRegistry = modelSchemaRegistry;
+        this.gson = gson;
+        this.typeAdapter = gson.getAdapter(modelClass);
+        this.fieldBindings = fieldBindings;
+    }
+
+    /**
+     * Creates a binder for a model class.
+     * @param modelClass The Java class of the model
+     * @param fields The fields of the model schema, in the order that they are
+     *               known by the model's {@link SQLiteModelFieldTypeConverter}
+     * @param modelSchemaRegistry A registry of schemas, used to find the schemas of associated models
+     * @param gson The Gson instance that would otherwise have been used to deserialize the model
+     * @param <T> The type of model
+     * @return A binder for the model class
+     */
+    @NonNull
+    static <T extends Model> SQLiteModelBinder<T> create(
+            @NonNull Class<T> modelClass,
+            @NonNull List<ModelField> fields,
+            @NonNull ModelSchemaRegistry modelSchemaRegistry,
+            @NonNull Gson gson) {
+        Objects.requireNonNull(modelClass);
+        Objects.requireNonNull(fields);
+        Objects.requireNonNull(modelSchemaRegistry);
+        Objects.requireNonNull(gson);
+        List<FieldBinding> fieldBindings = new ArrayList<>();
+        for (int position = 0; position < fields.size(); position++) {
+            ModelField modelField = fields.get(position);
+            Field javaField = findField(modelClass, modelField.getName());
+            // Gson would have ignored a value with no matching field, so we do, too.
+            if (javaField != null) {
+                javaField.setAccessible(true);
+                fieldBindings.add(new FieldBinding(position, modelField, javaField));
+            }
+        }
+        return new SQLiteModelBinder<>(
+            modelClass, modelSchemaRegistry, gson, Collections.unmodifiableList(fieldBindings)
+        );
+    }
+
+    /**
+     * Builds a model from the current row of a cursor.
+     * @param cursor A cursor, positioned at the row to read
+     * @param converter The converter for the schema of this binder's model
+     * @param columnIndexes The indexes of the model's columns in the cursor
+     * @return A model
+     * @throws DataStoreException If a value can't be read from the cursor, or set on the model
+     */
+    @NonNull
+    T fromCursor(
+            @NonNull Cursor cursor,
+            @NonNull SQLiteModelFieldTypeConverter converter,
+            @NonNull SQLiteModelFieldTypeConverter.ColumnIndexes columnIndexes) throws DataStoreException {
+        T model = newInstance();
+        for (FieldBinding fieldBinding : fieldBindings) {
+            bind(model, fieldBinding, converter.convertValueFromSource(cursor, fieldBinding.position, columnIndexes));
+        }
+        return model;
+    }
+
+    /**
+     * Builds a model from a map of field names to values, as for a model that was
+     * eagerly loaded through an association.
+     * @param values A map of field names to values
+     * @return A model
+     * @throws DataStoreException If a value can't be set on the model
+     */
+    @NonNull
+    T fromMap(@NonNull Map<String, Object> values) throws DataStoreException {
+        T model = newInstance();
+        for (FieldBinding fieldBinding : fieldBindings) {
+            bind(model, fieldBinding, values.get(fieldBinding.modelField.getName()));
+        }
+        return model;
+    }
+
+    private T newInstance() throws DataStoreException {
+        try {
+            return typeAdapter.fromJsonTree(new JsonObject());
+        } catch (RuntimeException instantiationFailure) {
+            throw new DataStoreException(
+                "Unable to create an instance of " + modelClass.getName(),
+                instantiationFailure,
+                AmplifyException.REPORT_BUG_TO_AWS_SUGGESTION
+            );
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void bind(T model, FieldBinding fieldBinding, @Nullable Object value) throws DataStoreException {
+        if (value == null) {
+            return;
+        }
+        final Field javaField = fieldBinding.javaField;
+        Object fieldValue = value;
+        if (fieldBinding.modelField.isModel() && value instanceof Map) {
+            fieldValue = fieldBinding.associatedModelBinder(modelSchemaRegistry, gson)
+                .fromMap((Map<String, Object>) value);
+        } else if (!(javaField.getGenericType() instanceof Class) || !javaField.getType().isInstance(value)) {
+            fieldValue = gson.fromJson(gson.toJsonTree(value), javaField.getGenericType());
+        }
+        try {
+            javaField.set(model, fieldValue);
+        } catch (IllegalAccessException | IllegalArgumentException bindingFailure) {
+            throw new DataStoreException(
+                "Unable to set field " + javaField.getName() + " of " + modelClass.getName(),
+                bindingFailure,
+                AmplifyException.REPORT_BUG_TO_AWS_SUGGESTION
+            );
+        }
+    }
+
+    @Nullable
+    private static Field findField(Class<?> modelClass, String fieldName) {
+        for (Class<?> current = modelClass; current != null && current != Object.class;
+                current = current.getSuperclass()) {
+            try {
+                Field field = current.getDeclaredField(fieldName);
+                int modifiers = field.getModifiers();
+                // Gson excludes static and transient fields, by default.
+                return Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) ? null : field;
+            } catch (NoSuchFieldException notDeclaredHere) {
+                // Look in the superclass.
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Associates a field of the model schema with the Java field that holds its value.
+     */
+    private static final class FieldBinding {
+        private final int position;
+        private final ModelField modelField;
+        private final Field javaField;
+        // Created lazily, since a model may be associated with itself.
+        private volatile SQLiteModelBinder<? extends Model> associatedModelBinder;
+
+        FieldBinding(int position, ModelField modelField, Field javaField) {
+            this.position = position;
+            this.modelField = modelField;
+            this.javaField = javaField;
+        }
+
+        SQLiteModelBinder<? extends Model> associatedModelBinder(
+                ModelSchemaRegistry modelSchemaRegistry, Gson gson) throws DataStoreException {
+            if (associatedModelBinder == null) {
+                if (!Model.class.isAssignableFrom(javaField.getType())) {
+                    throw new DataStoreException(
+                        "Field " + javaField.getName() + " is not a model, so it can't be built from an association.",
+                        AmplifyException.REPORT_BUG_TO_AWS_SUGGESTION
+                    );
+                }
+                ModelSchema associatedSchema =
+                    modelSchemaRegistry.getModelSchemaForModelClass(modelField.getTargetType());
+                associatedModelBinder = SQLiteModelBinder.create(
+                    javaField.getType().asSubclass(Model.class),
+                    new ArrayList<>(associatedSchema.getFields().values()),
+                    modelSchemaRegistry,
+                    gson
+                );
+            }
+            return associatedModelBinder;
+        }
+    }
+}
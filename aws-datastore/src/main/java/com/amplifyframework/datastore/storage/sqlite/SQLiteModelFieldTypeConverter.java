@@ -34,11 +34,14 @@ import com.amplifyframework.datastore.model.ModelHelper;
 import com.amplifyframework.datastore.storage.sqlite.adapter.SQLiteColumn;
 import com.amplifyframework.datastore.storage.sqlite.adapter.SQLiteTable;
 import com.amplifyframework.logging.Logger;
+import com.amplifyframework.util.Immutable;
 
 import com.google.gson.Gson;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
@@ -56,15 +59,45 @@ public final class SQLiteModelFieldTypeConverter implements ModelFieldTypeConver
     private final Gson gson;
     private final Map<String, SQLiteColumn> columns;
 
+    // The fields of the schema, and their column and Java type, by position.
+    private final List<ModelField> fields;
+    private final SQLiteColumn[] fieldColumns;
+    private final JavaFieldType[] fieldTypes;
+
+    // Converters for the models that are associated with this one, by field position.
+    private final SQLiteModelFieldTypeConverter[] associatedConverters;
+
+    // Every query for this model selects the same columns, so the index of
+    // each column in the query's cursor is only resolved once.
+    private volatile ColumnIndexes queryColumnIndexes;
+
+    SQLiteModelFieldTypeConverter(
+            @NonNull ModelSchema parentSchema,
+            @NonNull ModelSchemaRegistry modelSchemaRegistry,
+            @NonNull Gson gson
+    ) {
+        this(parentSchema, SQLiteTable.fromSchema(parentSchema), modelSchemaRegistry, gson);
+    }
+
     SQLiteModelFieldTypeConverter(
             @NonNull ModelSchema parentSchema,
+            @NonNull SQLiteTable parentTable,
             @NonNull ModelSchemaRegistry modelSchemaRegistry,
             @NonNull Gson gson
     ) {
         this.parentSchema = Objects.requireNonNull(parentSchema);
         this.modelSchemaRegistry = Objects.requireNonNull(modelSchemaRegistry);
         this.gson = Objects.requireNonNull(gson);
-        this.columns = SQLiteTable.fromSchema(parentSchema).getColumns();
+        this.columns = Objects.requireNonNull(parentTable).getColumns();
+        this.fields = Immutable.of(new ArrayList<>(parentSchema.getFields().values()));
+        this.fieldColumns = new SQLiteColumn[fields.size()];
+        this.fieldTypes = new JavaFieldType[fields.size()];
+        for (int position = 0; position < fields.size(); position++) {
+            ModelField field = fields.get(position);
+            fieldColumns[position] = columns.get(field.getName());
+            fieldTypes[position] = TypeConverter.getJavaFieldType(field);
+        }
+        this.associatedConverters = new SQLiteModelFieldTypeConverter[fields.size()];
     }
 
     /**
@@ -123,13 +156,115 @@ public final class SQLiteModelFieldTypeConverter implements ModelFieldTypeConver
     }
 
     Map<String, Object> buildMapForModel(@NonNull Cursor cursor) throws DataStoreException {
+        return buildMapForModel(cursor, getQueryColumnIndexes(cursor));
+    }
+
+    private Map<String, Object> buildMapForModel(@NonNull Cursor cursor, @NonNull ColumnIndexes columnIndexes)
+            throws DataStoreException {
         final Map<String, Object> mapForModel = new HashMap<>();
-        for (Map.Entry<String, ModelField> entry : parentSchema.getFields().entrySet()) {
-            mapForModel.put(entry.getKey(), convertValueFromSource(cursor, entry.getValue()));
+        for (int position = 0; position < fields.size(); position++) {
+            mapForModel.put(fields.get(position).getName(), convertValueFromSource(cursor, position, columnIndexes));
         }
         return mapForModel;
     }
 
+    /**
+     * Returns the fields of the model schema, in the order of the positions that
+     * are accepted by {@link #convertValueFromSource(Cursor, int, ColumnIndexes)}.
+     * @return The fields of the model schema
+     */
+    @NonNull
+    List<ModelField> getFields() {
+        return fields;
+    }
+
+    /**
+     * Returns the indexes of this model's columns (and those of its associated models) in the
+     * cursor of a query for the model. Every query for the model selects the same columns, so
+     * these are resolved from the first cursor that is seen, and are then re-used.
+     * @param cursor The cursor returned by a query for this model
+     * @return The indexes of this model's columns in the cursor
+     */
+    @NonNull
+    ColumnIndexes getQueryColumnIndexes(@NonNull Cursor cursor) {
+        ColumnIndexes columnIndexes = queryColumnIndexes;
+        if (columnIndexes == null || columnIndexes.columnCount != cursor.getColumnCount()) {
+            columnIndexes = resolveColumnIndexes(cursor);
+            queryColumnIndexes = columnIndexes;
+        }
+        return columnIndexes;
+    }
+
+    private ColumnIndexes resolveColumnIndexes(Cursor cursor) {
+        final int[] indexes = new int[fields.size()];
+        final ColumnIndexes[] associatedIndexes = new ColumnIndexes[fields.size()];
+        for (int position = 0; position < fields.size(); position++) {
+            final SQLiteColumn column = fieldColumns[position];
+            indexes[position] = column == null ? -1 : cursor.getColumnIndex(column.getAliasedName());
+            // The columns of an associated model are joined into the query, if this model owns
+            // the association. This follows the same path as the joins, which can't be cyclic.
+            if (column != null && fieldTypes[position] == JavaFieldType.MODEL) {
+                associatedIndexes[position] = getAssociatedConverter(position).resolveColumnIndexes(cursor);
+            }
+        }
+        return new ColumnIndexes(cursor.getColumnCount(), indexes, associatedIndexes);
+    }
+
+    private SQLiteModelFieldTypeConverter getAssociatedConverter(int position) {
+        SQLiteModelFieldTypeConverter converter = associatedConverters[position];
+        if (converter == null) {
+            ModelSchema innerModelSchema =
+                modelSchemaRegistry.getModelSchemaForModelClass(fields.get(position).getTargetType());
+            converter = new SQLiteModelFieldTypeConverter(innerModelSchema, modelSchemaRegistry, gson);
+            associatedConverters[position] = converter;
+        }
+        return converter;
+    }
+
+    /**
+     * Converts the value of the field at a position in {@link #getFields()}, from the current
+     * row of a cursor. Unlike {@link #convertValueFromSource(Cursor, ModelField)}, the column
+     * is not looked up by name.
+     * @param cursor A cursor, positioned at the row to read
+     * @param position The position of the field in {@link #getFields()}
+     * @param columnIndexes The indexes of this model's columns in the cursor
+     * @return The converted value
+     * @throws DataStoreException If the value can't be converted
+     */
+    @Nullable
+    Object convertValueFromSource(@NonNull Cursor cursor, int position, @NonNull ColumnIndexes columnIndexes)
+            throws DataStoreException {
+        final ModelField field = fields.get(position);
+        // Skip if there is no equivalent column for field in object
+        if (fieldColumns[position] == null) {
+            return null;
+        }
+        try {
+            final int columnIndex = columnIndexes.indexes[position];
+            if (columnIndex < 0) {
+                throw new IllegalArgumentException(
+                    "column '" + fieldColumns[position].getAliasedName() + "' does not exist"
+                );
+            }
+            // This check is necessary, because primitive values will return 0 even when null
+            if (cursor.isNull(columnIndex)) {
+                return null;
+            }
+            if (fieldTypes[position] == JavaFieldType.MODEL) {
+                return getAssociatedConverter(position)
+                    .buildMapForModel(cursor, columnIndexes.associatedIndexes[position]);
+            }
+            return convertColumnValue(cursor, field, fieldTypes[position], columnIndex);
+        } catch (Exception exception) {
+            throw new DataStoreException(
+                    String.format("Error converting field \"%s\" from model \"%s\"",
+                    field.getName(), parentSchema.getName()),
+                    exception,
+                    AmplifyException.REPORT_BUG_TO_AWS_SUGGESTION
+            );
+        }
+    }
+
     @Override
     public Object convertValueFromSource(
             @NonNull Cursor cursor,
@@ -151,41 +286,10 @@ public final class SQLiteModelFieldTypeConverter implements ModelFieldTypeConver
                 return null;
             }
 
-            final String valueAsString = cursor.getString(columnIndex);
-            LOGGER.verbose(String.format(
-                    "Attempt to convert value \"%s\" from field %s of type %s in model %s",
-                    valueAsString, field.getName(), field.getTargetType(), parentSchema.getName()
-            ));
-
-            switch (javaFieldType) {
-                case STRING:
-                    return cursor.getString(columnIndex);
-                case MODEL:
-                    return convertModelAssociationToTarget(cursor, field);
-                case ENUM:
-                    return convertEnumValueToTarget(valueAsString, field);
-                case CUSTOM_TYPE:
-                    return convertCustomTypeToTarget(cursor, field, columnIndex);
-                case INTEGER:
-                    return cursor.getInt(columnIndex);
-                case BOOLEAN:
-                    return cursor.getInt(columnIndex) != 0;
-                case FLOAT:
-                    return cursor.getFloat(columnIndex);
-                case LONG:
-                    return cursor.getLong(columnIndex);
-                case DATE:
-                    return new Temporal.Date(valueAsString);
-                case DATE_TIME:
-                    return new Temporal.DateTime(valueAsString);
-                case TIME:
-                    return new Temporal.Time(valueAsString);
-                case TIMESTAMP:
-                    return new Temporal.Timestamp(cursor.getLong(columnIndex), TimeUnit.SECONDS);
-                default:
-                    LOGGER.warn(String.format("Field of type %s is not supported. Fallback to null.", javaFieldType));
-                    return null;
+            if (javaFieldType == JavaFieldType.MODEL) {
+                return convertModelAssociationToTarget(cursor, field);
             }
+            return convertColumnValue(cursor, field, javaFieldType, columnIndex);
         } catch (Exception exception) {
             throw new DataStoreException(
                     String.format("Error converting field \"%s\" from model \"%s\"",
@@ -196,6 +300,40 @@ public final class SQLiteModelFieldTypeConverter implements ModelFieldTypeConver
         }
     }
 
+    private Object convertColumnValue(
+            @NonNull Cursor cursor,
+            @NonNull ModelField field,
+            @NonNull JavaFieldType javaFieldType,
+            int columnIndex) throws IOException {
+        switch (javaFieldType) {
+            case STRING:
+                return cursor.getString(columnIndex);
+            case ENUM:
+                return convertEnumValueToTarget(cursor.getString(columnIndex), field);
+            case CUSTOM_TYPE:
+                return convertCustomTypeToTarget(cursor, field, columnIndex);
+            case INTEGER:
+                return cursor.getInt(columnIndex);
+            case BOOLEAN:
+                return cursor.getInt(columnIndex) != 0;
+            case FLOAT:
+                return cursor.getFloat(columnIndex);
+            case LONG:
+                return cursor.getLong(columnIndex);
+            case DATE:
+                return new Temporal.Date(cursor.getString(columnIndex));
+            case DATE_TIME:
+                return new Temporal.DateTime(cursor.getString(columnIndex));
+            case TIME:
+                return new Temporal.Time(cursor.getString(columnIndex));
+            case TIMESTAMP:
+                return new Temporal.Timestamp(cursor.getLong(columnIndex), TimeUnit.SECONDS);
+            default:
+                LOGGER.warn(String.format("Field of type %s is not supported. Fallback to null.", javaFieldType));
+                return null;
+        }
+    }
+
     private Object convertModelAssociationToTarget(
             @NonNull Cursor cursor, @NonNull ModelField field) throws DataStoreException {
         // Eager load model if the necessary columns are present inside the cursor.
@@ -205,7 +343,8 @@ public final class SQLiteModelFieldTypeConverter implements ModelFieldTypeConver
             modelSchemaRegistry.getModelSchemaForModelClass(field.getTargetType());
         SQLiteModelFieldTypeConverter nestedModelConverter =
             new SQLiteModelFieldTypeConverter(innerModelSchema, modelSchemaRegistry, gson);
-        return nestedModelConverter.buildMapForModel(cursor);
+        // The cursor isn't from a query for the inner model, so its column indexes aren't re-used.
+        return nestedModelConverter.buildMapForModel(cursor, nestedModelConverter.resolveColumnIndexes(cursor));
     }
 
     private Object convertCustomTypeToTarget(Cursor cursor, ModelField field, int columnIndex) throws IOException {
@@ -237,4 +376,20 @@ public final class SQLiteModelFieldTypeConverter implements ModelFieldTypeConver
         final JavaFieldType javaFieldType = TypeConverter.getJavaFieldType(field);
         return convertRawValueToTarget(fieldValue, javaFieldType, gson);
     }
+
+    /**
+     * The indexes of a model's columns, and those of its associated models,
+     * in the cursor of a particular query.
+     */
+    static final class ColumnIndexes {
+        private final int columnCount;
+        private final int[] indexes;
+        private final ColumnIndexes[] associatedIndexes;
+
+        private ColumnIndexes(int columnCount, int[] indexes, ColumnIndexes[] associatedIndexes) {
+            this.columnCount = columnCount;
+            this.indexes = indexes;
+            this.associatedIndexes = associatedIndexes;
+        }
+    }
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.storage.sqlite;
+
+import androidx.annotation.NonNull;
+
+import com.amplifyframework.core.model.Model;
+import com.amplifyframework.core.model.ModelSchema;
+import com.amplifyframework.core.model.ModelSchemaRegistry;
+import com.amplifyframework.datastore.storage.sqlite.adapter.SQLiteTable;
+
+import com.google.gson.Gson;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A cache of the structures that the storage adapter derives from each {@link ModelSchema}:
+ * its {@link SQLiteTable}, its {@link SQLiteModelFieldTypeConverter}, and the
+ * {@link SQLiteModelBinder} for its Java class. Each of these is built the first time that
+ * it is needed, and is then re-used for every save and query of that model.
+ *
+ * Entries are keyed by model name. The cache must be cleared whenever the schemas may
+ * change, such as when the adapter is (re-)initialized, or when its database is cleared.
+ */
+final class SQLiteSchemaCache {
+    private final ModelSchemaRegistry modelSchemaRegistry;
+    private final Gson gson;
+    private final Map<String, SQLiteTable> tables;
+    private final Map<String, SQLiteModelFieldTypeConverter> converters;
+    private final Map<Class<? extends Model>, SQLiteModelBinder<? extends Model>> binders;
+
+    SQLiteSchemaCache(@NonNull ModelSchemaRegistry modelSchemaRegistry, @NonNull Gson gson) {
+        this.modelSchemaRegistry = Objects.requireNonNull(modelSchemaRegistry);
+        this.gson = Objects.requireNonNull(gson);
+        this.tables = new ConcurrentHashMap<>();
+        this.converters = new ConcurrentHashMap<>();
+        this.binders = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets the SQLite table for a model schema.
+     * @param modelSchema A model schema
+     * @return The SQLite table for the schema
+     */
+    @NonNull
+    SQLiteTable getTable(@NonNull ModelSchema modelSchema) {
+        SQLiteTable table = tables.get(modelSchema.getName());
+        if (table == null) {
+            table = SQLiteTable.fromSchema(modelSchema);
+            tables.put(modelSchema.getName(), table);
+        }
+        return table;
+    }
+
+    /**
+     * Gets the field type converter for a model schema.
+     * @param modelSchema A model schema
+     * @return The field type converter for the schema
+     */
+    @NonNull
+    SQLiteModelFieldTypeConverter getConverter(@NonNull ModelSchema modelSchema) {
+        SQLiteModelFieldTypeConverter converter = converters.get(modelSchema.getName());
+        if (converter == null) {
+            converter = new SQLiteModelFieldTypeConverter(
+                modelSchema, getTable(modelSchema), modelSchemaRegistry, gson
+            );
+            converters.put(modelSchema.getName(), converter);
+        }
+        return converter;
+    }
+
+    /**
+     * Gets the binder which builds instances of a Java model class from query results.
+     * @param modelClass The Java class of a model
+     * @param modelSchema The schema of the model
+     * @param <T> The type of model
+     * @return A binder for the model class
+     */
+    @SuppressWarnings("unchecked") // Binders are only ever stored against their own model class.
+    @NonNull
+    <T extends Model> SQLiteModelBinder<T> getBinder(
+            @NonNull Class<T> modelClass, @NonNull ModelSchema modelSchema) {
+        SQLiteModelBinder<? extends Model> binder = binders.get(modelClass);
+        if (binder == null) {
+            binder = SQLiteModelBinder.create(
+                modelClass, getConverter(modelSchema).getFields(), modelSchemaRegistry, gson
+            );
+            binders.put(modelClass, binder);
+        }
+        return (SQLiteModelBinder<T>) binder;
+    }
+
+    /**
+     * Removes every entry from the cache.
+     */
+    void clear() {
+        tables.clear();
+        converters.clear();
+        binders.clear();
+    }
+}
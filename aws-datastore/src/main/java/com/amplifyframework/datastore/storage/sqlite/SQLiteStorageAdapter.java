@@ -17,6 +17,7 @@ package com.amplifyframework.datastore.storage.sqlite;
 
 import android.content.Context;
 import android.database.Cursor;
+import android.database.sqlite.SQLiteConstraintException;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteStatement;
 import androidx.annotation.NonNull;
@@ -46,16 +47,15 @@ import com.amplifyframework.datastore.model.CompoundModelProvider;
 import com.amplifyframework.datastore.model.SystemModelsProviderFactory;
 import com.amplifyframework.datastore.storage.LocalStorageAdapter;
 import com.amplifyframework.datastore.storage.StorageItemChange;
+import com.amplifyframework.datastore.storage.StorageWrite;
 import com.amplifyframework.datastore.storage.sqlite.adapter.SQLiteColumn;
 import com.amplifyframework.datastore.storage.sqlite.adapter.SQLiteTable;
 import com.amplifyframework.logging.Logger;
 import com.amplifyframework.util.GsonFactory;
 import com.amplifyframework.util.Immutable;
-import com.amplifyframework.util.Wrap;
 
 import com.google.gson.Gson;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -99,10 +99,13 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
     // ThreadPool for SQLite operations.
     private ExecutorService threadPool;
 
-    // Data is read from SQLite and de-serialized using GSON
-    // into a strongly typed Java object.
+    // Gson is used to convert custom types to and from the JSON that is stored in SQLite.
     private final Gson gson;
 
+    // Tables, converters, and binders derived from each model schema. Data is read from
+    // SQLite and bound directly onto strongly typed Java objects, using these.
+    private final SQLiteSchemaCache schemaCache;
+
     // Used to publish events to the observables subscribed.
     private final Subject<StorageItemChange<? extends Model>> itemChangeSubject;
 
@@ -138,6 +141,7 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
         this.modelSchemaRegistry = modelSchemaRegistry;
         this.modelsProvider = CompoundModelProvider.of(systemModelsProvider, userModelsProvider);
         this.gson = GsonFactory.instance();
+        this.schemaCache = new SQLiteSchemaCache(modelSchemaRegistry, gson);
         this.itemChangeSubject = PublishSubject.<StorageItemChange<? extends Model>>create().toSerialized();
         this.toBeDisposed = new CompositeDisposable();
     }
@@ -178,6 +182,7 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
                  * Start with a fresh registry.
                  */
                 modelSchemaRegistry.clear();
+                schemaCache.clear();
                 /*
                  * Create {@link ModelSchema} objects for the corresponding {@link Model}.
                  * Any exception raised during this when inspecting the Model classes
@@ -190,7 +195,7 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
                  * Models. Instantiate {@link SQLiteStorageHelper} to execute those
                  * create commands.
                  */
-                this.sqlCommandFactory = new SQLiteCommandFactory(modelSchemaRegistry);
+                this.sqlCommandFactory = new SQLiteCommandFactory(modelSchemaRegistry, schemaCache, null);
                 CreateSqlCommands createSqlCommands = getCreateCommands(modelsProvider.modelNames());
                 sqliteStorageHelper = SQLiteStorageHelper.getInstance(
                         context,
@@ -213,7 +218,11 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
                  * All database operations will happen through this handle.
                  */
                 databaseConnectionHandle = sqliteStorageHelper.getWritableDatabase();
-                this.sqlCommandFactory = new SQLiteCommandFactory(modelSchemaRegistry, databaseConnectionHandle);
+                // Keep as many compiled statements as the command factory caches query shapes,
+                // so that a query with a familiar shape is not re-compiled by SQLite.
+                databaseConnectionHandle.setMaxSqlCacheSize(SQLiteCommandFactory.QUERY_CACHE_SIZE);
+                this.sqlCommandFactory =
+                    new SQLiteCommandFactory(modelSchemaRegistry, schemaCache, databaseConnectionHandle);
 
                 /*
                  * Detect if the version of the models stored in SQLite is different
@@ -259,48 +268,60 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
                 final String modelName = getModelName(item);
                 final ModelSchema modelSchema =
                     modelSchemaRegistry.getModelSchemaForModelClass(modelName);
-                final SQLiteTable sqliteTable = SQLiteTable.fromSchema(modelSchema);
+                final SQLiteTable sqliteTable = schemaCache.getTable(modelSchema);
                 final String primaryKeyName = sqliteTable.getPrimaryKeyColumnName();
-                final SqlCommand sqlCommand;
-                final ModelConflictStrategy modelConflictStrategy;
                 final StorageItemChange.Type type;
 
-                if (dataExistsInSQLiteTable(sqliteTable.getName(), primaryKeyName, item.getId())) {
-                    type = StorageItemChange.Type.UPDATE;
+                // Try to update the stored model first. Update always checks for ID first,
+                // so if no rows were updated, the model has not been stored yet (or it did
+                // not meet the conditions of the predicate.) This saves a round-trip to the
+                // database to look for the model, before deciding how to write it.
+                final QueryPredicateOperation<?> idCheck =
+                    QueryField.field(primaryKeyName).eq(item.getId());
+                final QueryPredicate condition = !QueryPredicates.all().equals(predicate)
+                    ? idCheck.and(predicate)
+                    : idCheck;
+                final SqlCommand updateCommand = sqlCommandFactory.updateFor(modelSchema, condition);
+                if (!updateCommand.hasCompiledSqlStatement()) {
+                    onError.accept(new DataStoreException(
+                        "Error in saving the model. No update statement " +
+                            "found for the Model: " + modelSchema.getName(),
+                        AmplifyException.TODO_RECOVERY_SUGGESTION
+                    ));
+                    return;
+                }
 
-                    // update model stored in SQLite
-                    // update always checks for ID first
-                    final QueryPredicateOperation<?> idCheck =
-                        QueryField.field(primaryKeyName).eq(item.getId());
-                    final QueryPredicate condition = !QueryPredicates.all().equals(predicate)
-                        ? idCheck.and(predicate)
-                        : idCheck;
-                    sqlCommand = sqlCommandFactory.updateFor(modelSchema, condition);
-                    if (!sqlCommand.hasCompiledSqlStatement()) {
-                        onError.accept(new DataStoreException(
-                            "Error in saving the model. No update statement " +
-                                "found for the Model: " + modelSchema.getName(),
-                            AmplifyException.TODO_RECOVERY_SUGGESTION
-                        ));
-                        return;
-                    }
-                    modelConflictStrategy = ModelConflictStrategy.OVERWRITE_EXISTING;
+                if (updateModel(item, updateCommand, updateCommand.getBindings()) > 0) {
+                    type = StorageItemChange.Type.UPDATE;
                 } else {
                     // insert model in SQLite
                     type = StorageItemChange.Type.CREATE;
 
-                    sqlCommand = sqlCommandFactory.insertFor(modelSchema);
-                    if (!sqlCommand.hasCompiledSqlStatement()) {
+                    final SqlCommand insertCommand = sqlCommandFactory.insertFor(modelSchema);
+                    if (!insertCommand.hasCompiledSqlStatement()) {
                         onError.accept(new DataStoreException(
                             "No insert statement found for the Model: " + modelSchema.getName(),
                             AmplifyException.TODO_RECOVERY_SUGGESTION
                         ));
                         return;
                     }
-                    modelConflictStrategy = ModelConflictStrategy.THROW_EXCEPTION;
+                    try {
+                        saveModel(item, modelSchema, insertCommand, ModelConflictStrategy.THROW_EXCEPTION);
+                    } catch (SQLiteConstraintException constraintViolation) {
+                        // The model is already stored, so the update above was skipped
+                        // because the stored model did not meet the conditions of the predicate.
+                        if (!QueryPredicates.all().equals(predicate) && modelExists(modelSchema, item.getId())) {
+                            throw new DataStoreException(
+                                "Wanted to update 1 row, but updated 0 rows! The stored model " +
+                                    "did not match the predicate: " + predicate,
+                                constraintViolation,
+                                "Verify that the predicate matches the stored model."
+                            );
+                        }
+                        throw constraintViolation;
+                    }
                 }
 
-                saveModel(item, modelSchema, sqlCommand, modelConflictStrategy);
                 final StorageItemChange<T> change = StorageItemChange.<T>builder()
                     .changeId(item.getId())
                     .item(item)
@@ -324,6 +345,54 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
         });
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * The whole batch is written inside of a single SQLite transaction, re-using one set of
+     * compiled statements for each model type in the batch. Changes are only published
+     * to observers after the transaction has been committed.
+     */
+    @Override
+    public <T extends Model> void saveAll(
+            @NonNull List<T> items,
+            @NonNull StorageItemChange.Initiator initiator,
+            @NonNull Consumer<List<StorageItemChange<T>>> onSuccess,
+            @NonNull Consumer<DataStoreException> onError) {
+        Objects.requireNonNull(items);
+        Objects.requireNonNull(initiator);
+        Objects.requireNonNull(onSuccess);
+        Objects.requireNonNull(onError);
+
+        threadPool.submit(() -> {
+            final List<StorageItemChange<T>> changes = new ArrayList<>(items.size());
+            final BatchCommands batchCommands = new BatchCommands();
+            try {
+                LOG.debug("Writing a batch of " + items.size() + " items in a single transaction.");
+                databaseConnectionHandle.beginTransaction();
+                try {
+                    for (T item : items) {
+                        changes.add(saveInBatch(item, batchCommands, initiator));
+                    }
+                    databaseConnectionHandle.setTransactionSuccessful();
+                } finally {
+                    databaseConnectionHandle.endTransaction();
+                    batchCommands.close();
+                }
+                for (StorageItemChange<T> change : changes) {
+                    itemChangeSubject.onNext(change);
+                }
+                onSuccess.accept(changes);
+            } catch (DataStoreException dataStoreException) {
+                onError.accept(dataStoreException);
+            } catch (Exception someOtherTypeOfException) {
+                onError.accept(new DataStoreException(
+                    "Error in saving a batch of " + items.size() + " models.",
+                    someOtherTypeOfException, "See attached exception for details."
+                ));
+            }
+        });
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -359,8 +428,8 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
                 final List<T> models = new ArrayList<>();
                 final ModelSchema modelSchema =
                     modelSchemaRegistry.getModelSchemaForModelClass(itemClass.getSimpleName());
-                final SQLiteModelFieldTypeConverter converter =
-                    new SQLiteModelFieldTypeConverter(modelSchema, modelSchemaRegistry, gson);
+                final SQLiteModelFieldTypeConverter converter = schemaCache.getConverter(modelSchema);
+                final SQLiteModelBinder<T> binder = schemaCache.getBinder(itemClass, modelSchema);
 
                 if (cursor == null) {
                     onError.accept(new DataStoreException(
@@ -371,9 +440,10 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
                 }
 
                 if (cursor.moveToFirst()) {
+                    final SQLiteModelFieldTypeConverter.ColumnIndexes columnIndexes =
+                        converter.getQueryColumnIndexes(cursor);
                     do {
-                        Map<String, Object> mapForModel = converter.buildMapForModel(cursor);
-                        models.add(deserializeModelFromRawMap(mapForModel, itemClass));
+                        models.add(binder.fromCursor(cursor, converter, columnIndexes));
                     } while (cursor.moveToNext());
                 }
 
@@ -409,8 +479,7 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
                 final Set<Model> models = new HashSet<>();
                 final ModelSchema modelSchema =
                         modelSchemaRegistry.getModelSchemaForModelClass(modelName);
-                final SQLiteModelFieldTypeConverter converter =
-                    new SQLiteModelFieldTypeConverter(modelSchema, modelSchemaRegistry, gson);
+                final SQLiteModelFieldTypeConverter converter = schemaCache.getConverter(modelSchema);
 
                 if (cursor == null) {
                     onError.accept(new DataStoreException(
@@ -478,7 +547,7 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
                 final String modelName = getModelName(item);
                 final ModelSchema modelSchema =
                         modelSchemaRegistry.getModelSchemaForModelClass(modelName);
-                final SQLiteTable sqliteTable = SQLiteTable.fromSchema(modelSchema);
+                final SQLiteTable sqliteTable = schemaCache.getTable(modelSchema);
                 final String primaryKeyName = sqliteTable.getPrimaryKeyColumnName();
 
                 LOG.debug("Deleting item in table: " + sqliteTable.getName() +
@@ -539,6 +608,170 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
         });
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * The whole batch is deleted inside of a single SQLite transaction, re-using one
+     * compiled statement for each model type in the batch. Changes are only published
+     * to observers after the transaction has been committed.
+     */
+    @Override
+    public <T extends Model> void deleteAll(
+            @NonNull List<T> items,
+            @NonNull StorageItemChange.Initiator initiator,
+            @NonNull Consumer<List<StorageItemChange<T>>> onSuccess,
+            @NonNull Consumer<DataStoreException> onError) {
+        Objects.requireNonNull(items);
+        Objects.requireNonNull(initiator);
+        Objects.requireNonNull(onSuccess);
+        Objects.requireNonNull(onError);
+
+        threadPool.submit(() -> {
+            final List<StorageItemChange<T>> changes = new ArrayList<>(items.size());
+            final BatchCommands batchCommands = new BatchCommands();
+            try {
+                LOG.debug("Deleting a batch of " + items.size() + " items in a single transaction.");
+                databaseConnectionHandle.beginTransaction();
+                try {
+                    for (T item : items) {
+                        changes.add(deleteInBatch(item, batchCommands, initiator, false));
+                    }
+                    databaseConnectionHandle.setTransactionSuccessful();
+                } finally {
+                    databaseConnectionHandle.endTransaction();
+                    batchCommands.close();
+                }
+                for (StorageItemChange<T> change : changes) {
+                    itemChangeSubject.onNext(change);
+                }
+                onSuccess.accept(changes);
+            } catch (DataStoreException dataStoreException) {
+                onError.accept(dataStoreException);
+            } catch (Exception someOtherTypeOfException) {
+                onError.accept(new DataStoreException(
+                    "Error in deleting a batch of " + items.size() + " models.",
+                    someOtherTypeOfException, "See attached exception for details."
+                ));
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The whole batch is written inside of a single SQLite transaction, in the order of the
+     * batch, re-using compiled statements for each model type. Changes are only published
+     * to observers after the transaction has been committed.
+     */
+    @Override
+    public void writeAll(
+            @NonNull List<StorageWrite<? extends Model>> writes,
+            @NonNull StorageItemChange.Initiator initiator,
+            @NonNull Consumer<List<StorageItemChange<? extends Model>>> onSuccess,
+            @NonNull Consumer<DataStoreException> onError) {
+        Objects.requireNonNull(writes);
+        Objects.requireNonNull(initiator);
+        Objects.requireNonNull(onSuccess);
+        Objects.requireNonNull(onError);
+
+        threadPool.submit(() -> {
+            final List<StorageItemChange<? extends Model>> changes = new ArrayList<>(writes.size());
+            final BatchCommands batchCommands = new BatchCommands();
+            try {
+                LOG.debug("Writing a batch of " + writes.size() + " saves and deletions in a single transaction.");
+                databaseConnectionHandle.beginTransaction();
+                try {
+                    for (StorageWrite<? extends Model> write : writes) {
+                        if (!write.isDeletion()) {
+                            changes.add(saveInBatch(write.item(), batchCommands, initiator));
+                            continue;
+                        }
+                        final StorageItemChange<? extends Model> change =
+                            deleteInBatch(write.item(), batchCommands, initiator, true);
+                        if (change != null) {
+                            changes.add(change);
+                        }
+                    }
+                    databaseConnectionHandle.setTransactionSuccessful();
+                } finally {
+                    databaseConnectionHandle.endTransaction();
+                    batchCommands.close();
+                }
+                for (StorageItemChange<? extends Model> change : changes) {
+                    itemChangeSubject.onNext(change);
+                }
+                onSuccess.accept(changes);
+            } catch (DataStoreException dataStoreException) {
+                onError.accept(dataStoreException);
+            } catch (Exception someOtherTypeOfException) {
+                onError.accept(new DataStoreException(
+                    "Error in writing a batch of " + writes.size() + " models.",
+                    someOtherTypeOfException, "See attached exception for details."
+                ));
+            }
+        });
+    }
+
+    // Saves one item of a batch, inside of the batch's transaction.
+    private <T extends Model> StorageItemChange<T> saveInBatch(
+            T item, BatchCommands batchCommands, StorageItemChange.Initiator initiator) throws DataStoreException {
+        final ModelSchema modelSchema = modelSchemaRegistry.getModelSchemaForModelClass(getModelName(item));
+        final List<Object> idBinding = Collections.singletonList(item.getId());
+        final StorageItemChange.Type type;
+        if (updateModel(item, batchCommands.updateFor(modelSchema), idBinding) > 0) {
+            type = StorageItemChange.Type.UPDATE;
+        } else {
+            type = StorageItemChange.Type.CREATE;
+            saveModel(item, modelSchema, batchCommands.insertFor(modelSchema), ModelConflictStrategy.THROW_EXCEPTION);
+        }
+        return StorageItemChange.<T>builder()
+            .changeId(item.getId())
+            .item(item)
+            .modelSchema(modelSchema)
+            .type(type)
+            .predicate(QueryPredicates.all())
+            .initiator(initiator)
+            .build();
+    }
+
+    // Deletes one item of a batch, inside of the batch's transaction. An item which is not in
+    // the local store fails the batch, unless skipMissing is set: then there is no change for it,
+    // and null is returned.
+    @Nullable
+    private <T extends Model> StorageItemChange<T> deleteInBatch(
+            T item,
+            BatchCommands batchCommands,
+            StorageItemChange.Initiator initiator,
+            boolean skipMissing) throws DataStoreException {
+        final ModelSchema modelSchema = modelSchemaRegistry.getModelSchemaForModelClass(getModelName(item));
+        final SqlCommand sqlCommand = batchCommands.deleteFor(modelSchema);
+        final SQLiteStatement compiledSqlStatement = sqlCommand.getCompiledSqlStatement();
+        compiledSqlStatement.clearBindings();
+        bindStatementToValues(sqlCommand, null, Collections.singletonList(item.getId()));
+        final int rowsDeleted = compiledSqlStatement.executeUpdateDelete();
+        compiledSqlStatement.clearBindings();
+        if (rowsDeleted == 0 && skipMissing) {
+            LOG.debug("Skipped deleting " + modelSchema.getName() + "[id=" + item.getId() + "], " +
+                "since it is not in the local store.");
+            return null;
+        }
+        if (rowsDeleted != 1) {
+            throw new DataStoreException(
+                "Wanted to delete one row, but deleted " + rowsDeleted + " rows for " +
+                    modelSchema.getName() + "[id=" + item.getId() + "].",
+                "Verify that every item in the batch exists in the local store."
+            );
+        }
+        return StorageItemChange.<T>builder()
+            .changeId(item.getId())
+            .item(item)
+            .modelSchema(modelSchema)
+            .type(StorageItemChange.Type.DELETE)
+            .predicate(QueryPredicates.all())
+            .initiator(initiator)
+            .build();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -649,6 +882,15 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
     private void bindStatementToValues(
             @NonNull SqlCommand sqlCommand,
             @Nullable Model model
+    ) throws DataStoreException {
+        bindStatementToValues(sqlCommand, model, sqlCommand.getBindings());
+    }
+
+    // Binds the model's field values, followed by the provided bindings, onto the compiled statement
+    private void bindStatementToValues(
+            @NonNull SqlCommand sqlCommand,
+            @Nullable Model model,
+            @NonNull List<Object> bindings
     ) throws DataStoreException {
         final SQLiteStatement compiledSqlStatement = sqlCommand.getCompiledSqlStatement();
         // 1-based index for columns
@@ -658,8 +900,7 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
         if (model != null) {
             final String modelName = getModelName(model);
             final ModelSchema schema = modelSchemaRegistry.getModelSchemaForModelClass(modelName);
-            final SQLiteModelFieldTypeConverter converter =
-                    new SQLiteModelFieldTypeConverter(schema, modelSchemaRegistry, gson);
+            final SQLiteModelFieldTypeConverter converter = schemaCache.getConverter(schema);
             final Map<String, ModelField> modelFields = schema.getFields();
 
             final List<SQLiteColumn> columns = sqlCommand.getColumns();
@@ -673,7 +914,7 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
         }
 
         // apply stored bindings after columns were bound
-        for (Object binding : sqlCommand.getBindings()) {
+        for (Object binding : bindings) {
             bindValueToStatement(compiledSqlStatement, columnIndex, binding);
             columnIndex++;
         }
@@ -759,18 +1000,37 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
         }
     }
 
-    private boolean dataExistsInSQLiteTable(
-            @NonNull String tableName,
-            @NonNull String columnName,
-            @NonNull String columnValue) {
-        // SELECT 1 FROM '{tableName}' WHERE {columnName} = '{columnValue}'
-        final String queryString = "" +
-            SqlKeyword.SELECT + SqlKeyword.DELIMITER + "1" + SqlKeyword.DELIMITER +
-            SqlKeyword.FROM + SqlKeyword.DELIMITER + Wrap.inBackticks(tableName) + SqlKeyword.DELIMITER +
-            SqlKeyword.WHERE + SqlKeyword.DELIMITER + columnName + SqlKeyword.DELIMITER +
-            SqlKeyword.EQUAL + SqlKeyword.DELIMITER + Wrap.inSingleQuotes(columnValue);
-        try (Cursor cursor = databaseConnectionHandle.rawQuery(queryString, null)) {
-            return cursor.getCount() > 0;
+    // Bind the values of the fields of a model to a compiled UPDATE statement, followed by the
+    // provided values for its WHERE clause, and execute the statement.
+    // Returns the number of rows updated, which is zero if no stored row matched the WHERE clause.
+    private <T extends Model> int updateModel(
+            @NonNull T model,
+            @NonNull SqlCommand sqlCommand,
+            @NonNull List<Object> bindings) throws DataStoreException {
+        Objects.requireNonNull(model);
+        Objects.requireNonNull(sqlCommand);
+
+        LOG.debug("Updating data in table for: " + model.toString());
+
+        synchronized (sqlCommand.getCompiledSqlStatement()) {
+            final SQLiteStatement compiledSqlStatement = sqlCommand.getCompiledSqlStatement();
+            compiledSqlStatement.clearBindings();
+            bindStatementToValues(sqlCommand, model, bindings);
+            // executeUpdateDelete returns the number of rows affected.
+            final int rowsUpdated = compiledSqlStatement.executeUpdateDelete();
+            compiledSqlStatement.clearBindings();
+            return rowsUpdated;
+        }
+    }
+
+    private boolean modelExists(@NonNull ModelSchema modelSchema, @NonNull String modelId) {
+        final SQLiteStatement compiledSqlStatement =
+            sqlCommandFactory.existsFor(modelSchema).getCompiledSqlStatement();
+        try {
+            compiledSqlStatement.bindString(1, modelId);
+            return compiledSqlStatement.simpleQueryForLong() > 0;
+        } finally {
+            compiledSqlStatement.close();
         }
     }
 
@@ -799,13 +1059,6 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
         }).ignoreElement();
     }
 
-    private <T extends Model> T deserializeModelFromRawMap(
-            @NonNull Map<String, Object> mapForModel,
-            @NonNull Class<T> itemClass) throws IOException {
-        final String modelInJsonFormat = gson.toJson(mapForModel);
-        return gson.getAdapter(itemClass).fromJson(modelInJsonFormat);
-    }
-
     private String getModelName(@NonNull Model model) {
         if (model.getClass() == SerializedModel.class) {
             return ((SerializedModel) model).getModelName();
@@ -824,4 +1077,64 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
         final String[] bindings = sqlCommand.getBindingsAsArray();
         return this.databaseConnectionHandle.rawQuery(rawQuery, bindings);
     }
+
+    /**
+     * The compiled commands used by a single batch operation. Each command is compiled the
+     * first time that a model type is encountered in the batch, and is then re-used for every
+     * other item of that type. Only the primary key is bound per-item, so these commands
+     * must not be shared outside of the batch that created them.
+     */
+    private final class BatchCommands {
+        private final Map<String, SqlCommand> insertCommands = new HashMap<>();
+        private final Map<String, SqlCommand> updateCommands = new HashMap<>();
+        private final Map<String, SqlCommand> deleteCommands = new HashMap<>();
+
+        SqlCommand insertFor(@NonNull ModelSchema modelSchema) {
+            SqlCommand insertCommand = insertCommands.get(modelSchema.getName());
+            if (insertCommand == null) {
+                insertCommand = sqlCommandFactory.insertFor(modelSchema);
+                insertCommands.put(modelSchema.getName(), insertCommand);
+            }
+            return insertCommand;
+        }
+
+        SqlCommand updateFor(@NonNull ModelSchema modelSchema) throws DataStoreException {
+            SqlCommand updateCommand = updateCommands.get(modelSchema.getName());
+            if (updateCommand == null) {
+                updateCommand = sqlCommandFactory.updateFor(modelSchema, idCheckFor(modelSchema));
+                updateCommands.put(modelSchema.getName(), updateCommand);
+            }
+            return updateCommand;
+        }
+
+        SqlCommand deleteFor(@NonNull ModelSchema modelSchema) throws DataStoreException {
+            SqlCommand deleteCommand = deleteCommands.get(modelSchema.getName());
+            if (deleteCommand == null) {
+                deleteCommand = sqlCommandFactory.deleteFor(modelSchema, idCheckFor(modelSchema));
+                deleteCommands.put(modelSchema.getName(), deleteCommand);
+            }
+            return deleteCommand;
+        }
+
+        // The value is a placeholder; the actual ID is bound for each item in the batch.
+        private QueryPredicate idCheckFor(@NonNull ModelSchema modelSchema) {
+            final String primaryKeyName = schemaCache.getTable(modelSchema).getPrimaryKeyColumnName();
+            return QueryField.field(primaryKeyName).eq("");
+        }
+
+        void close() {
+            closeAll(insertCommands);
+            closeAll(updateCommands);
+            closeAll(deleteCommands);
+        }
+
+        private void closeAll(Map<String, SqlCommand> commands) {
+            for (SqlCommand command : commands.values()) {
+                if (command.hasCompiledSqlStatement()) {
+                    command.getCompiledSqlStatement().close();
+                }
+            }
+            commands.clear();
+        }
+    }
 }
@@ -21,6 +21,7 @@ import com.amplifyframework.core.model.query.predicate.ContainsQueryOperator;
 import com.amplifyframework.core.model.query.predicate.EqualQueryOperator;
 import com.amplifyframework.core.model.query.predicate.GreaterOrEqualQueryOperator;
 import com.amplifyframework.core.model.query.predicate.GreaterThanQueryOperator;
+import com.amplifyframework.core.model.query.predicate.InQueryOperator;
 import com.amplifyframework.core.model.query.predicate.LessOrEqualQueryOperator;
 import com.amplifyframework.core.model.query.predicate.LessThanQueryOperator;
 import com.amplifyframework.core.model.query.predicate.NotEqualQueryOperator;
@@ -160,6 +161,22 @@ public final class SQLPredicate {
                         .append(SqlKeyword.LIKE)
                         .append(SqlKeyword.DELIMITER)
                         .append("?");
+            case IN:
+                InQueryOperator inOp = (InQueryOperator) op;
+                builder.append(field)
+                        .append(SqlKeyword.DELIMITER)
+                        .append(SqlKeyword.IN)
+                        .append(SqlKeyword.DELIMITER)
+                        .append("(");
+                Iterator<Object> valueIterator = inOp.values().iterator();
+                while (valueIterator.hasNext()) {
+                    addBinding(valueIterator.next());
+                    builder.append("?");
+                    if (valueIterator.hasNext()) {
+                        builder.append(", ");
+                    }
+                }
+                return builder.append(")");
             case EQUAL:
             case NOT_EQUAL:
             case LESS_THAN:
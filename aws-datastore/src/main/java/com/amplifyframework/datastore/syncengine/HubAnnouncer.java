@@ -0,0 +1,200 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.syncengine;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.amplifyframework.core.Amplify;
+import com.amplifyframework.core.model.Model;
+import com.amplifyframework.datastore.DataStoreChannelEventName;
+import com.amplifyframework.datastore.DataStoreConfiguration;
+import com.amplifyframework.datastore.DataStoreConfigurationProvider;
+import com.amplifyframework.datastore.DataStoreException;
+import com.amplifyframework.datastore.appsync.ModelWithMetadata;
+import com.amplifyframework.datastore.events.OutboxStatusEvent;
+import com.amplifyframework.hub.HubChannel;
+import com.amplifyframework.hub.HubEvent;
+import com.amplifyframework.logging.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.reactivex.rxjava3.schedulers.Schedulers;
+
+/**
+ * Announces the results of the sync engine's work on Hub.
+ *
+ * By default, every merged model and every processed mutation is announced in its own
+ * event, and the outbox status is announced each time it is checked. When a
+ * {@link DataStoreConfiguration#getHubEventBatchSize()} is configured, merged models
+ * and processed mutations are instead collected into lists of up to that many items,
+ * which are announced as {@link DataStoreChannelEventName#SUBSCRIPTION_DATA_BATCH_PROCESSED}
+ * and {@link DataStoreChannelEventName#OUTBOX_MUTATION_BATCH_PROCESSED} events. An incomplete
+ * batch is announced after {@link #BATCH_WINDOW_MS}. In that mode, the outbox status is
+ * only announced when it changes.
+ */
+final class HubAnnouncer {
+    private static final Logger LOG = Amplify.Logging.forNamespace("amplify:aws-datastore");
+    private static final long BATCH_WINDOW_MS = 100;
+
+    private final DataStoreConfigurationProvider configurationProvider;
+    private final Batch<ModelWithMetadata<? extends Model>> mergedModels;
+    private final Batch<OutboxMutationEvent<? extends Model>> processedMutations;
+    private final AtomicReference<Boolean> lastOutboxStatus;
+    private volatile Integer batchSize;
+
+    /**
+     * Constructs a HubAnnouncer which batches events if the DataStore configuration asks for it.
+     * @param configurationProvider Provides the DataStore configuration, once it is available
+     */
+    HubAnnouncer(@Nullable DataStoreConfigurationProvider configurationProvider) {
+        this.configurationProvider = configurationProvider;
+        this.mergedModels = new Batch<>(DataStoreChannelEventName.SUBSCRIPTION_DATA_BATCH_PROCESSED);
+        this.processedMutations = new Batch<>(DataStoreChannelEventName.OUTBOX_MUTATION_BATCH_PROCESSED);
+        this.lastOutboxStatus = new AtomicReference<>();
+    }
+
+    /**
+     * Creates a HubAnnouncer which announces every record in its own event.
+     * @return A HubAnnouncer that never batches
+     */
+    @NonNull
+    static HubAnnouncer perRecord() {
+        return new HubAnnouncer(null);
+    }
+
+    /**
+     * Announce that a model from the cloud was merged into the local store.
+     * @param modelWithMetadata The merged model, with its sync metadata
+     */
+    void announceMerge(@NonNull ModelWithMetadata<? extends Model> modelWithMetadata) {
+        int maxBatchSize = batchSize();
+        if (maxBatchSize > 0) {
+            mergedModels.add(modelWithMetadata, maxBatchSize);
+        } else {
+            Amplify.Hub.publish(HubChannel.DATASTORE,
+                HubEvent.create(DataStoreChannelEventName.SUBSCRIPTION_DATA_PROCESSED, modelWithMetadata)
+            );
+        }
+    }
+
+    /**
+     * Announce that a mutation from the outbox was published to the cloud.
+     * @param mutationEvent Describes the processed mutation
+     */
+    void announceMutationProcessed(@NonNull OutboxMutationEvent<? extends Model> mutationEvent) {
+        int maxBatchSize = batchSize();
+        if (maxBatchSize > 0) {
+            processedMutations.add(mutationEvent, maxBatchSize);
+        } else {
+            Amplify.Hub.publish(HubChannel.DATASTORE,
+                HubEvent.create(DataStoreChannelEventName.OUTBOX_MUTATION_PROCESSED, mutationEvent)
+            );
+        }
+    }
+
+    /**
+     * Announce whether or not the mutation outbox is empty.
+     * @param isEmpty True if there are no mutations in the outbox
+     */
+    void announceOutboxStatus(boolean isEmpty) {
+        Boolean previous = lastOutboxStatus.getAndSet(isEmpty);
+        if (batchSize() > 0 && previous != null && previous == isEmpty) {
+            return;
+        }
+        Amplify.Hub.publish(HubChannel.DATASTORE, new OutboxStatusEvent(isEmpty).toHubEvent());
+    }
+
+    // The configuration is only available once the plugin has been configured, so it is looked
+    // up on first use. Until it is available, records are announced one at a time.
+    private int batchSize() {
+        Integer resolved = batchSize;
+        if (resolved != null) {
+            return resolved;
+        }
+        if (configurationProvider == null) {
+            resolved = 0;
+        } else {
+            try {
+                Integer configured = configurationProvider.getConfiguration().getHubEventBatchSize();
+                resolved = configured == null ? 0 : configured;
+            } catch (DataStoreException configurationUnavailable) {
+                LOG.debug("DataStore configuration not yet available, announcing hub events individually.");
+                return 0;
+            }
+        }
+        batchSize = resolved;
+        return resolved;
+    }
+
+    /**
+     * Items waiting to be announced together, in a single event.
+     * @param <T> Type of item
+     */
+    private static final class Batch<T> {
+        private final DataStoreChannelEventName eventName;
+        private final List<T> pending;
+        private boolean flushScheduled;
+
+        Batch(DataStoreChannelEventName eventName) {
+            this.eventName = eventName;
+            this.pending = new ArrayList<>();
+            this.flushScheduled = false;
+        }
+
+        void add(T item, int maxBatchSize) {
+            List<T> ready = null;
+            synchronized (this) {
+                pending.add(item);
+                if (pending.size() >= maxBatchSize) {
+                    ready = drain();
+                } else if (!flushScheduled) {
+                    flushScheduled = true;
+                    Schedulers.computation().scheduleDirect(this::flush, BATCH_WINDOW_MS, TimeUnit.MILLISECONDS);
+                }
+            }
+            if (ready != null) {
+                publish(ready);
+            }
+        }
+
+        private void flush() {
+            List<T> ready;
+            synchronized (this) {
+                flushScheduled = false;
+                if (pending.isEmpty()) {
+                    return;
+                }
+                ready = drain();
+            }
+            publish(ready);
+        }
+
+        private List<T> drain() {
+            List<T> drained = Collections.unmodifiableList(new ArrayList<>(pending));
+            pending.clear();
+            return drained;
+        }
+
+        private void publish(List<T> items) {
+            Amplify.Hub.publish(HubChannel.DATASTORE, HubEvent.create(eventName, items));
+        }
+    }
+}
@@ -24,16 +24,18 @@ import com.amplifyframework.core.NoOpConsumer;
 import com.amplifyframework.core.model.Model;
 import com.amplifyframework.core.model.query.Where;
 import com.amplifyframework.core.model.query.predicate.QueryPredicates;
-import com.amplifyframework.datastore.DataStoreChannelEventName;
 import com.amplifyframework.datastore.appsync.ModelMetadata;
 import com.amplifyframework.datastore.appsync.ModelWithMetadata;
 import com.amplifyframework.datastore.appsync.SerializedModel;
 import com.amplifyframework.datastore.storage.LocalStorageAdapter;
 import com.amplifyframework.datastore.storage.StorageItemChange;
-import com.amplifyframework.hub.HubChannel;
-import com.amplifyframework.hub.HubEvent;
+import com.amplifyframework.datastore.storage.StorageWrite;
 import com.amplifyframework.logging.Logger;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import io.reactivex.rxjava3.core.Completable;
@@ -49,18 +51,33 @@ final class Merger {
     private final MutationOutbox mutationOutbox;
     private final VersionRepository versionRepository;
     private final LocalStorageAdapter localStorageAdapter;
+    private final HubAnnouncer hubAnnouncer;
 
     /**
-     * Constructs a Merger.
+     * Constructs a Merger, which announces each merged model in its own Hub event.
      * @param localStorageAdapter A local storage adapter
      */
     Merger(
             @NonNull MutationOutbox mutationOutbox,
             @NonNull VersionRepository versionRepository,
             @NonNull LocalStorageAdapter localStorageAdapter) {
+        this(mutationOutbox, versionRepository, localStorageAdapter, HubAnnouncer.perRecord());
+    }
+
+    /**
+     * Constructs a Merger.
+     * @param localStorageAdapter A local storage adapter
+     * @param hubAnnouncer Announces merged models on Hub
+     */
+    Merger(
+            @NonNull MutationOutbox mutationOutbox,
+            @NonNull VersionRepository versionRepository,
+            @NonNull LocalStorageAdapter localStorageAdapter,
+            @NonNull HubAnnouncer hubAnnouncer) {
         this.mutationOutbox = Objects.requireNonNull(mutationOutbox);
         this.versionRepository = Objects.requireNonNull(versionRepository);
         this.localStorageAdapter = Objects.requireNonNull(localStorageAdapter);
+        this.hubAnnouncer = Objects.requireNonNull(hubAnnouncer);
     }
 
     /**
@@ -116,15 +133,127 @@ final class Merger {
             );
     }
 
+    /**
+     * Merge a batch of items back into the local store, such as a page of results from
+     * a sync query. The same rules are applied as in {@link #merge(ModelWithMetadata, Consumer)},
+     * but versions are looked up for the whole batch at once, and the resulting writes are
+     * made in the order of the batch, in a single unit of work. If the batch holds more than
+     * one version of a model, only the highest of them is merged.
+     * @param modelsWithMetadata A batch of models, each combined with metadata about it
+     * @param storageItemChangeConsumer A callback invoked for each model that is saved or deleted.
+     * @return A completable operation to merge the batch of models
+     */
+    Completable mergeAll(List<ModelWithMetadata<? extends Model>> modelsWithMetadata,
+                         Consumer<StorageItemChange<? extends Model>> storageItemChangeConsumer) {
+        // Check if there are pending mutations for any of the models, in the outbox.
+        final List<ModelWithMetadata<? extends Model>> candidates = new ArrayList<>();
+        final List<Model> candidateModels = new ArrayList<>();
+        for (ModelWithMetadata<? extends Model> modelWithMetadata : highestVersions(modelsWithMetadata)) {
+            final Model model = modelWithMetadata.getModel();
+            if (mutationOutbox.hasPendingMutation(model.getId())) {
+                LOG.info("Mutation outbox has pending mutation for " + model.getId() + ", refusing to merge.");
+            } else {
+                candidates.add(modelWithMetadata);
+                candidateModels.add(model);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return Completable.complete();
+        }
+
+        return versionRepository.findModelVersions(candidateModels)
+            .map(currentVersions -> {
+                // Same rules as a single merge: only accept an incoming version that is
+                // strictly newer than the current version, if there is one.
+                final List<ModelWithMetadata<? extends Model>> accepted = new ArrayList<>();
+                for (ModelWithMetadata<? extends Model> modelWithMetadata : candidates) {
+                    final Integer currentVersion = currentVersions.get(modelWithMetadata.getModel().getId());
+                    final Integer incomingVersion = modelWithMetadata.getSyncMetadata().getVersion();
+                    if (currentVersion == null ||
+                            (incomingVersion != null && incomingVersion > currentVersion)) {
+                        accepted.add(modelWithMetadata);
+                    }
+                }
+                return accepted;
+            })
+            .flatMapCompletable(accepted -> writeAll(accepted, storageItemChangeConsumer)
+                .doOnComplete(() -> {
+                    for (ModelWithMetadata<? extends Model> modelWithMetadata : accepted) {
+                        announceSuccessfulMerge(modelWithMetadata);
+                    }
+                    LOG.debug("Sync'd down a batch of " + accepted.size() + " remote models into local storage.");
+                })
+            )
+            .doOnError(failure ->
+                LOG.warn("Failed to sync a batch of " + candidates.size() + " remote models into local storage.",
+                    failure)
+            );
+    }
+
+    // Keeps only the highest version of each model in the batch. It takes the place in the batch
+    // at which that version appears, so that the batch is still written in order.
+    private static List<ModelWithMetadata<? extends Model>> highestVersions(
+            List<ModelWithMetadata<? extends Model>> modelsWithMetadata) {
+        final Map<String, ModelWithMetadata<? extends Model>> highestVersionsByKey = new LinkedHashMap<>();
+        for (ModelWithMetadata<? extends Model> modelWithMetadata : modelsWithMetadata) {
+            final Model model = modelWithMetadata.getModel();
+            final String key = getModelName(model) + "[id=" + model.getId() + "]";
+            final ModelWithMetadata<? extends Model> previous = highestVersionsByKey.get(key);
+            if (previous == null || versionOf(modelWithMetadata) >= versionOf(previous)) {
+                highestVersionsByKey.remove(key);
+                highestVersionsByKey.put(key, modelWithMetadata);
+            }
+        }
+        return new ArrayList<>(highestVersionsByKey.values());
+    }
+
+    private static int versionOf(ModelWithMetadata<? extends Model> modelWithMetadata) {
+        final Integer version = modelWithMetadata.getSyncMetadata().getVersion();
+        return version == null ? -1 : version;
+    }
+
+    // Saves or deletes each model, followed by its metadata, in the order of the batch. Models which
+    // are marked as deleted, but which don't exist locally, are skipped by the local storage adapter.
+    private Completable writeAll(List<ModelWithMetadata<? extends Model>> modelsWithMetadata,
+                                 Consumer<StorageItemChange<? extends Model>> onStorageItemChange) {
+        if (modelsWithMetadata.isEmpty()) {
+            return Completable.complete();
+        }
+        final List<StorageWrite<? extends Model>> writes = new ArrayList<>(2 * modelsWithMetadata.size());
+        for (ModelWithMetadata<? extends Model> modelWithMetadata : modelsWithMetadata) {
+            final ModelMetadata syncMetadata = modelWithMetadata.getSyncMetadata();
+            if (Boolean.TRUE.equals(syncMetadata.isDeleted())) {
+                writes.add(StorageWrite.delete(modelWithMetadata.getModel()));
+            } else {
+                writes.add(StorageWrite.save(modelWithMetadata.getModel()));
+            }
+            writes.add(StorageWrite.save(syncMetadata));
+        }
+        return Completable.defer(() -> Completable.create(emitter ->
+            localStorageAdapter.writeAll(
+                writes,
+                StorageItemChange.Initiator.SYNC_ENGINE,
+                storageItemChanges -> {
+                    for (StorageItemChange<? extends Model> storageItemChange : storageItemChanges) {
+                        // Changes to the models' metadata aren't passed on.
+                        if (!(storageItemChange.item() instanceof ModelMetadata)) {
+                            onStorageItemChange.accept(storageItemChange);
+                        }
+                    }
+                    emitter.onComplete();
+                },
+                emitter::onError
+            )
+        ));
+    }
+
     /**
      * Announce a successful merge over Hub.
      * @param modelWithMetadata Model with metadata that was successfully merged
      * @param <T> Type of model
      */
     private <T extends Model> void announceSuccessfulMerge(ModelWithMetadata<T> modelWithMetadata) {
-        Amplify.Hub.publish(HubChannel.DATASTORE,
-            HubEvent.create(DataStoreChannelEventName.SUBSCRIPTION_DATA_PROCESSED, modelWithMetadata)
-        );
+        hubAnnouncer.announceMerge(modelWithMetadata);
     }
 
     // Delete a model.
@@ -173,13 +302,7 @@ final class Merger {
      * @param onNotPresent If there is NOT a match, perform this action as a fallback
      */
     private void ifPresent(Model model, Action onPresent, Action onNotPresent) {
-        final String modelName;
-        if (model instanceof SerializedModel) {
-            modelName = ((SerializedModel) model).getModelName();
-        } else {
-            modelName = model.getClass().getSimpleName();
-        }
-        localStorageAdapter.query(modelName, Where.id(model.getId()), iterator -> {
+        localStorageAdapter.query(getModelName(model), Where.id(model.getId()), iterator -> {
             if (iterator.hasNext()) {
                 onPresent.call();
             } else {
@@ -187,4 +310,12 @@ final class Merger {
             }
         }, failure -> onNotPresent.call());
     }
+
+    private static String getModelName(Model model) {
+        if (model instanceof SerializedModel) {
+            return ((SerializedModel) model).getModelName();
+        } else {
+            return model.getClass().getSimpleName();
+        }
+    }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.syncengine;
+
+import androidx.annotation.NonNull;
+
+import com.amplifyframework.core.model.query.predicate.QueryField;
+import com.amplifyframework.core.model.query.predicate.QueryPredicate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Utilities to look up many models by ID, in a small number of queries,
+ * instead of issuing one query per model.
+ */
+final class ModelIdBatches {
+    // Keeps the number of bound arguments in a single query well under SQLite's limit of 999.
+    private static final int MAX_IDS_PER_QUERY = 500;
+
+    private ModelIdBatches() {}
+
+    /**
+     * Splits a collection of model IDs into chunks, each small enough to be matched by a single query.
+     * @param ids A collection of model IDs
+     * @return The same IDs, split into a list of non-empty chunks
+     */
+    @NonNull
+    static List<List<String>> chunk(@NonNull Collection<String> ids) {
+        final List<List<String>> chunks = new ArrayList<>();
+        List<String> currentChunk = new ArrayList<>();
+        for (String id : ids) {
+            if (currentChunk.size() == MAX_IDS_PER_QUERY) {
+                chunks.add(currentChunk);
+                currentChunk = new ArrayList<>();
+            }
+            currentChunk.add(id);
+        }
+        if (!currentChunk.isEmpty()) {
+            chunks.add(currentChunk);
+        }
+        return chunks;
+    }
+
+    /**
+     * Builds a predicate that matches any model which has one of the provided IDs. The predicate
+     * always examines the same number of IDs, repeating the last one as needed, so that every
+     * chunk is looked up with the same query, whose text is built only once.
+     * @param ids A non-empty list of model IDs, no longer than a chunk
+     * @return A predicate that matches a model with any of the IDs
+     */
+    @NonNull
+    static QueryPredicate matchingAnyOf(@NonNull List<String> ids) {
+        final List<String> paddedIds = new ArrayList<>(MAX_IDS_PER_QUERY);
+        paddedIds.addAll(ids);
+        final String lastId = ids.get(ids.size() - 1);
+        while (paddedIds.size() < MAX_IDS_PER_QUERY) {
+            paddedIds.add(lastId);
+        }
+        return QueryField.field("id").in(paddedIds);
+    }
+}
@@ -89,6 +89,16 @@ interface MutationOutbox {
     @Nullable
     PendingMutation<? extends Model> peek();
 
+    /**
+     * Take a peek at the next item in the outbox that is ready to be published.
+     * An item is ready if it is not in-flight, and there are no older items in the outbox
+     * for the same model. So, several items may be published at the same time, as long as
+     * they are for different models; items for any one model are published strictly in order.
+     * @return The next pending mutation that is ready to be published, if there is one. Null otherwise.
+     */
+    @Nullable
+    PendingMutation<? extends Model> peekReady();
+
     /**
      * Marks a pending mutation as "in-flight." An in-flight mutation becomes
      * frozen to any further modifications, until it can be removed from the outbox, entirely.
@@ -103,6 +113,14 @@ interface MutationOutbox {
      */
     Completable markInFlight(@NonNull TimeBasedUuid pendingMutationId);
 
+    /**
+     * Returns an in-flight mutation to the pending state, so that it will be offered by
+     * {@link #peekReady()} again. Mutations are returned to this state when their publication
+     * fails, times out, or is abandoned. If the mutation is not in-flight, this does nothing.
+     * @param pendingMutationId The ID of a mutation that was marked as in-flight
+     */
+    void unmarkInFlight(@NonNull TimeBasedUuid pendingMutationId);
+
     /**
      * Observe the enqueue events that occur in the mutation outbox.
      * When one is received, a consumer should inspect {@link #peek()},
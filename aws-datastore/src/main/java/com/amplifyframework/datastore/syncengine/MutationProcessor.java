@@ -23,25 +23,27 @@ import com.amplifyframework.core.Consumer;
 import com.amplifyframework.core.model.Model;
 import com.amplifyframework.core.model.ModelSchema;
 import com.amplifyframework.core.model.ModelSchemaRegistry;
-import com.amplifyframework.datastore.DataStoreChannelEventName;
+import com.amplifyframework.datastore.DataStoreConfigurationProvider;
 import com.amplifyframework.datastore.DataStoreException;
 import com.amplifyframework.datastore.appsync.AppSync;
 import com.amplifyframework.datastore.appsync.AppSyncConflictUnhandledError;
 import com.amplifyframework.datastore.appsync.ModelWithMetadata;
 import com.amplifyframework.datastore.appsync.SerializedModel;
-import com.amplifyframework.datastore.events.OutboxStatusEvent;
-import com.amplifyframework.hub.HubChannel;
-import com.amplifyframework.hub.HubEvent;
 import com.amplifyframework.logging.Logger;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.disposables.CompositeDisposable;
 import io.reactivex.rxjava3.schedulers.Schedulers;
+import io.reactivex.rxjava3.subjects.CompletableSubject;
+import io.reactivex.rxjava3.subjects.PublishSubject;
+import io.reactivex.rxjava3.subjects.Subject;
 
 /**
  * The {@link MutationProcessor} observes the {@link MutationOutbox}, and publishes its items to an
@@ -51,6 +53,7 @@ import io.reactivex.rxjava3.schedulers.Schedulers;
 final class MutationProcessor {
     private static final Logger LOG = Amplify.Logging.forNamespace("amplify:aws-datastore");
     private static final long ITEM_PROCESSING_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(10);
+    private static final int DEFAULT_MAX_CONCURRENT_MUTATIONS = 5;
 
     private final Merger merger;
     private final VersionRepository versionRepository;
@@ -59,6 +62,11 @@ final class MutationProcessor {
     private final AppSync appSync;
     private final ConflictResolver conflictResolver;
     private final CompositeDisposable ongoingOperationsDisposable;
+    private final AtomicInteger inFlightMutationCount;
+    private final Subject<MutationOutbox.OutboxEvent> releasedSlots;
+    private final HubAnnouncer hubAnnouncer;
+    private final DataStoreConfigurationProvider dataStoreConfigurationProvider;
+    private volatile int maxConcurrentMutations;
 
     private MutationProcessor(Builder builder) {
         this.merger = Objects.requireNonNull(builder.merger);
@@ -68,6 +76,11 @@ final class MutationProcessor {
         this.appSync = Objects.requireNonNull(builder.appSync);
         this.conflictResolver = Objects.requireNonNull(builder.conflictResolver);
         this.ongoingOperationsDisposable = new CompositeDisposable();
+        this.inFlightMutationCount = new AtomicInteger(0);
+        this.releasedSlots = PublishSubject.<MutationOutbox.OutboxEvent>create().toSerialized();
+        this.hubAnnouncer = builder.hubAnnouncer;
+        this.dataStoreConfigurationProvider = builder.dataStoreConfigurationProvider;
+        this.maxConcurrentMutations = DEFAULT_MAX_CONCURRENT_MUTATIONS;
     }
 
     /**
@@ -89,7 +102,9 @@ final class MutationProcessor {
      * it again later, when network conditions become favorable again.
      */
     void startDrainingMutationOutbox() {
+        maxConcurrentMutations = resolveMaxConcurrentMutations();
         ongoingOperationsDisposable.add(mutationOutbox.events()
+            .mergeWith(releasedSlots)
             .doOnSubscribe(disposable ->
                 LOG.info(
                     "Started processing the mutation outbox. " +
@@ -107,21 +122,61 @@ final class MutationProcessor {
         );
     }
 
+    // The configuration is only available once the plugin has been configured, so it is looked
+    // up each time that draining starts.
+    private int resolveMaxConcurrentMutations() {
+        if (dataStoreConfigurationProvider == null) {
+            return DEFAULT_MAX_CONCURRENT_MUTATIONS;
+        }
+        try {
+            Integer configured = dataStoreConfigurationProvider.getConfiguration().getOutboxMaxConcurrentMutations();
+            return configured == null ? DEFAULT_MAX_CONCURRENT_MUTATIONS : configured;
+        } catch (DataStoreException configurationUnavailable) {
+            LOG.debug("DataStore configuration not available, publishing up to " +
+                DEFAULT_MAX_CONCURRENT_MUTATIONS + " mutations at a time.");
+            return DEFAULT_MAX_CONCURRENT_MUTATIONS;
+        }
+    }
+
+    /**
+     * Start publishing the mutations that are ready to be published, until the configured
+     * number of them are in flight. Mutations for different models are published concurrently,
+     * while mutations for the same model are published in order, since the outbox will not
+     * offer a model's next mutation until its last one was removed. Each time that an in-flight
+     * mutation is done, its slot is released first, and then this is invoked again to fill it.
+     * @return A Completable which completes when the mutations started by this call have
+     *         been published, or which emits an error if any of them fails to be published
+     */
     private Completable drainMutationOutbox() {
-        PendingMutation<? extends Model> next;
-        do {
-            next = mutationOutbox.peek();
+        final List<Completable> publications = new ArrayList<>();
+        while (inFlightMutationCount.get() < maxConcurrentMutations) {
+            PendingMutation<? extends Model> next = mutationOutbox.peekReady();
             if (next == null) {
-                return Completable.complete();
+                break;
             }
-            boolean itemFailedToProcess = !processOutboxItem(next)
-                .blockingAwait(ITEM_PROCESSING_TIMEOUT_MS, TimeUnit.MILLISECONDS);
-            if (itemFailedToProcess) {
-                return Completable.error(new DataStoreException(
-                    "Failed to process " + next, "Check your internet connection."
-                ));
-            }
-        } while (true);
+            inFlightMutationCount.incrementAndGet();
+            // Subscribe right away: processing begins by marking the item as in-flight, synchronously,
+            // so that the outbox doesn't offer it again when it is next peeked.
+            CompletableSubject publication = CompletableSubject.create();
+            ongoingOperationsDisposable.add(processOutboxItem(next)
+                .timeout(ITEM_PROCESSING_TIMEOUT_MS, TimeUnit.MILLISECONDS)
+                .onErrorResumeNext(failure -> Completable.error(new DataStoreException(
+                    "Failed to process " + next, failure, "Check your internet connection."
+                )))
+                // A mutation that wasn't published must be offered again, once its slot is released.
+                .doOnError(failure -> mutationOutbox.unmarkInFlight(next.getMutationId()))
+                .doOnDispose(() -> mutationOutbox.unmarkInFlight(next.getMutationId()))
+                .doFinally(this::releaseSlot)
+                .subscribe(publication::onComplete, publication::onError)
+            );
+            publications.add(publication);
+        }
+        return Completable.merge(publications);
+    }
+
+    private void releaseSlot() {
+        inFlightMutationCount.decrementAndGet();
+        releasedSlots.onNext(MutationOutbox.OutboxEvent.CONTENT_AVAILABLE);
     }
 
     /**
@@ -160,20 +215,14 @@ final class MutationProcessor {
      * @param <T> Type of model
      */
     private <T extends Model> void announceMutationProcessed(ModelWithMetadata<T> modelWithMetadata) {
-        OutboxMutationEvent<T> mutationEvent =
-            OutboxMutationEvent.fromModelWithMetadata(modelWithMetadata);
-        HubEvent<OutboxMutationEvent<T>> hubEvent =
-            HubEvent.create(DataStoreChannelEventName.OUTBOX_MUTATION_PROCESSED, mutationEvent);
-        Amplify.Hub.publish(HubChannel.DATASTORE, hubEvent);
+        hubAnnouncer.announceMutationProcessed(OutboxMutationEvent.fromModelWithMetadata(modelWithMetadata));
     }
 
     /**
      * Publish current outbox status to hub.
      */
     private void publishCurrentOutboxStatus() {
-        HubEvent<OutboxStatusEvent> hubEvent =
-            new OutboxStatusEvent(mutationOutbox.peek() == null).toHubEvent();
-        Amplify.Hub.publish(HubChannel.DATASTORE, hubEvent);
+        hubAnnouncer.announceOutboxStatus(mutationOutbox.peek() == null);
     }
 
     /**
@@ -338,6 +387,8 @@ final class MutationProcessor {
         private MutationOutbox mutationOutbox;
         private AppSync appSync;
         private ConflictResolver conflictResolver;
+        private HubAnnouncer hubAnnouncer = HubAnnouncer.perRecord();
+        private DataStoreConfigurationProvider dataStoreConfigurationProvider;
 
         @NonNull
         @Override
@@ -381,6 +432,21 @@ final class MutationProcessor {
             return Builder.this;
         }
 
+        @NonNull
+        @Override
+        public BuilderSteps.BuildStep hubAnnouncer(@NonNull HubAnnouncer hubAnnouncer) {
+            this.hubAnnouncer = Objects.requireNonNull(hubAnnouncer);
+            return Builder.this;
+        }
+
+        @NonNull
+        @Override
+        public BuilderSteps.BuildStep dataStoreConfigurationProvider(
+                @NonNull DataStoreConfigurationProvider dataStoreConfigurationProvider) {
+            this.dataStoreConfigurationProvider = Objects.requireNonNull(dataStoreConfigurationProvider);
+            return Builder.this;
+        }
+
         @NonNull
         @Override
         public MutationProcessor build() {
@@ -420,6 +486,25 @@ final class MutationProcessor {
         }
 
         interface BuildStep {
+            /**
+             * Optionally sets how processed mutations and the outbox status are announced on Hub.
+             * By default, each processed mutation is announced in its own event.
+             * @param hubAnnouncer Announces processed mutations on Hub
+             * @return The build step
+             */
+            @NonNull
+            BuildStep hubAnnouncer(@NonNull HubAnnouncer hubAnnouncer);
+
+            /**
+             * Optionally sets where to find the maximum number of mutations that may be in flight
+             * at the same time. By default, up to five mutations are published at the same time.
+             * @param dataStoreConfigurationProvider Provides the DataStore configuration
+             * @return The build step
+             */
+            @NonNull
+            BuildStep dataStoreConfigurationProvider(
+                    @NonNull DataStoreConfigurationProvider dataStoreConfigurationProvider);
+
             @NonNull
             MutationProcessor build();
         }
@@ -21,7 +21,9 @@ import androidx.annotation.Nullable;
 import com.amplifyframework.core.model.Model;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * The {@link MutationQueue} is a LinkedHashMap like container , the goal of using this container is to
@@ -65,6 +67,50 @@ public final class MutationQueue {
         return null;
     }
 
+    /**
+     * Find the last Pending Mutation which its model has the same id. This is the most
+     * recently added mutation for the model.
+     *
+     * @param modelId the model id
+     * @return the {@link PendingMutation} instance, or null if there is no mutation for the model
+     */
+    @Nullable
+    synchronized PendingMutation<? extends Model> latestMutationForModelId(String modelId) {
+        Node tail = dummyTail.prev;
+        while (tail != dummyHead) {
+            if (tail.mutation.getMutatedItem().getId().equals(modelId)) {
+                return tail.mutation;
+            }
+            tail = tail.prev;
+        }
+        return null;
+    }
+
+    /**
+     * Find the first Pending Mutation which is the oldest mutation for its model, and which
+     * is not one of the excluded mutations. Since a mutation is only returned if there
+     * are no older mutations for the same model, mutations for any one model are found
+     * strictly in the order that they were added.
+     *
+     * @param excludedMutationIds IDs of mutations that should not be returned
+     * @return the {@link PendingMutation} instance, or null if there is no such mutation
+     */
+    @Nullable
+    synchronized PendingMutation<? extends Model> nextMutationForAnyModelExcluding(
+            @NonNull Set<TimeBasedUuid> excludedMutationIds) {
+        final Set<String> modelIdsSeen = new HashSet<>();
+        Node head = dummyHead.next;
+        while (head != dummyTail) {
+            // Only the oldest mutation for each model is a candidate.
+            if (modelIdsSeen.add(head.mutation.getMutatedItem().getId()) &&
+                    !excludedMutationIds.contains(head.id)) {
+                return head.mutation;
+            }
+            head = head.next;
+        }
+        return null;
+    }
+
     /**
      * Remove the {@link PendingMutation} from {@link MutationQueue} by its Id.
      * this operation should be consuming constant time.
@@ -99,9 +99,10 @@ public final class Orchestrator {
         Objects.requireNonNull(appSync);
         Objects.requireNonNull(localStorageAdapter);
 
-        this.mutationOutbox = new PersistentMutationOutbox(localStorageAdapter);
+        HubAnnouncer hubAnnouncer = new HubAnnouncer(dataStoreConfigurationProvider);
+        this.mutationOutbox = new PersistentMutationOutbox(localStorageAdapter, hubAnnouncer);
         VersionRepository versionRepository = new VersionRepository(localStorageAdapter);
-        Merger merger = new Merger(mutationOutbox, versionRepository, localStorageAdapter);
+        Merger merger = new Merger(mutationOutbox, versionRepository, localStorageAdapter, hubAnnouncer);
         SyncTimeRegistry syncTimeRegistry = new SyncTimeRegistry(localStorageAdapter);
         ConflictResolver conflictResolver = new ConflictResolver(dataStoreConfigurationProvider, appSync);
         this.queryPredicateProvider = new QueryPredicateProvider(dataStoreConfigurationProvider);
@@ -113,6 +114,8 @@ public final class Orchestrator {
             .mutationOutbox(mutationOutbox)
             .appSync(appSync)
             .conflictResolver(conflictResolver)
+            .hubAnnouncer(hubAnnouncer)
+            .dataStoreConfigurationProvider(dataStoreConfigurationProvider)
             .build();
         this.syncProcessor = SyncProcessor.builder()
             .modelProvider(modelProvider)
@@ -128,6 +131,7 @@ public final class Orchestrator {
                 .modelProvider(modelProvider)
                 .merger(merger)
                 .queryPredicateProvider(queryPredicateProvider)
+                .onSubscriptionsResumed(this::syncAfterSubscriptionsResumed)
                 .build();
         this.storageObserver = new StorageObserver(localStorageAdapter, mutationOutbox);
         this.currentMode = new AtomicReference<>(Mode.STOPPED);
@@ -383,6 +387,26 @@ public final class Orchestrator {
         .onErrorComplete();
     }
 
+    /**
+     * Subscriptions which were resumed on a new connection missed whatever was mutated while
+     * the connection was down. A delta sync, from the last sync time, catches up on it.
+     */
+    private void syncAfterSubscriptionsResumed() {
+        if (!Mode.SYNC_VIA_API.equals(currentMode.get())) {
+            return;
+        }
+        LOG.info("Subscriptions were resumed. Syncing the mutations that they may have missed.");
+        // The sync is disposed along with the orchestrator's other work, when the orchestrator stops.
+        disposables.add(syncProcessor.hydrate()
+            .timeout(adjustedTimeoutSeconds, TimeUnit.SECONDS)
+            .subscribeOn(Schedulers.io())
+            .subscribe(
+                () -> LOG.info("Synced the mutations that were missed while subscriptions were down."),
+                failure -> LOG.warn("Failed to sync after subscriptions were resumed.", failure)
+            )
+        );
+    }
+
     private void stopApiSyncBlocking() {
         try {
             boolean stopped = stopApiSync()
@@ -27,13 +27,13 @@ import com.amplifyframework.core.model.query.predicate.QueryPredicate;
 import com.amplifyframework.core.model.query.predicate.QueryPredicates;
 import com.amplifyframework.datastore.DataStoreChannelEventName;
 import com.amplifyframework.datastore.DataStoreException;
-import com.amplifyframework.datastore.events.OutboxStatusEvent;
 import com.amplifyframework.datastore.storage.LocalStorageAdapter;
 import com.amplifyframework.datastore.storage.StorageItemChange;
 import com.amplifyframework.hub.HubChannel;
 import com.amplifyframework.hub.HubEvent;
 import com.amplifyframework.logging.Logger;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -62,20 +62,33 @@ final class PersistentMutationOutbox implements MutationOutbox {
     private final PendingMutation.Converter converter;
     private final Subject<OutboxEvent> events;
     private final Semaphore semaphore;
+    private final HubAnnouncer hubAnnouncer;
 
     PersistentMutationOutbox(@NonNull final LocalStorageAdapter localStorageAdapter) {
-        this(localStorageAdapter, new MutationQueue());
+        this(localStorageAdapter, HubAnnouncer.perRecord());
+    }
+
+    PersistentMutationOutbox(@NonNull final LocalStorageAdapter localStorageAdapter,
+                             @NonNull final HubAnnouncer hubAnnouncer) {
+        this(localStorageAdapter, new MutationQueue(), hubAnnouncer);
     }
 
     @VisibleForTesting
     PersistentMutationOutbox(@NonNull final LocalStorageAdapter localStorageAdapter,
                              @NonNull MutationQueue mutationQueue) {
+        this(localStorageAdapter, mutationQueue, HubAnnouncer.perRecord());
+    }
+
+    private PersistentMutationOutbox(@NonNull final LocalStorageAdapter localStorageAdapter,
+                                     @NonNull MutationQueue mutationQueue,
+                                     @NonNull HubAnnouncer hubAnnouncer) {
         this.storage = Objects.requireNonNull(localStorageAdapter);
         this.mutationQueue = mutationQueue;
-        this.inFlightMutations = new HashSet<>();
+        this.inFlightMutations = Collections.synchronizedSet(new HashSet<>());
         this.converter = new GsonPendingMutationConverter();
         this.events = PublishSubject.<OutboxEvent>create().toSerialized();
         this.semaphore = new Semaphore(1);
+        this.hubAnnouncer = Objects.requireNonNull(hubAnnouncer);
     }
 
     @Override
@@ -88,11 +101,14 @@ final class PersistentMutationOutbox implements MutationOutbox {
     @Override
     public <T extends Model> Completable enqueue(@NonNull PendingMutation<T> incomingMutation) {
         Objects.requireNonNull(incomingMutation);
-        // If there is no existing mutation for the model, then just apply the incoming
-        // mutation, and be done with this.
+        // The incoming mutation is coalesced with the most recent mutation for the same model.
+        // If there is no such mutation, or if it is already in flight (and so can no longer be
+        // changed), then just apply the incoming mutation, and be done with this. Coalescing
+        // against the latest mutation (rather than the oldest) means that a long run of edits
+        // still folds into a single mutation, even while an earlier one is being published.
         String modelId = incomingMutation.getMutatedItem().getId();
         @SuppressWarnings("unchecked")
-        PendingMutation<T> existingMutation = (PendingMutation<T>) mutationQueue.nextMutationForModelId(modelId);
+        PendingMutation<T> existingMutation = (PendingMutation<T>) mutationQueue.latestMutationForModelId(modelId);
         if (existingMutation == null || inFlightMutations.contains(existingMutation.getMutationId())) {
             return save(incomingMutation)
                 .andThen(notifyContentAvailable());
@@ -159,7 +175,7 @@ final class PersistentMutationOutbox implements MutationOutbox {
                     inFlightMutations.remove(pendingMutationId);
                     LOG.info("Successfully removed from mutations outbox" + pendingMutation);
                     if (!mutationQueue.isEmpty()) {
-                        notifyContentAvailable();
+                        events.onNext(OutboxEvent.CONTENT_AVAILABLE);
                     }
                     semaphore.release();
                     subscriber.onComplete();
@@ -219,6 +235,12 @@ final class PersistentMutationOutbox implements MutationOutbox {
         return mutationQueue.peek();
     }
 
+    @Nullable
+    @Override
+    public PendingMutation<? extends Model> peekReady() {
+        return mutationQueue.nextMutationForAnyModelExcluding(inFlightMutations);
+    }
+
     @NonNull
     @Override
     public Completable markInFlight(@NonNull TimeBasedUuid pendingMutationId) {
@@ -237,6 +259,11 @@ final class PersistentMutationOutbox implements MutationOutbox {
         });
     }
 
+    @Override
+    public void unmarkInFlight(@NonNull TimeBasedUuid pendingMutationId) {
+        inFlightMutations.remove(pendingMutationId);
+    }
+
     /**
      * Publish a successfully enqueued mutation to hub.
      * @param pendingMutation A mutation that has been successfully enqueued to outbox
@@ -255,10 +282,7 @@ final class PersistentMutationOutbox implements MutationOutbox {
      * Publish current outbox status to hub.
      */
     private void publishCurrentOutboxStatus() {
-        Amplify.Hub.publish(
-            HubChannel.DATASTORE,
-            new OutboxStatusEvent(mutationQueue.isEmpty()).toHubEvent()
-        );
+        hubAnnouncer.announceOutboxStatus(mutationQueue.isEmpty());
     }
 
     /**
@@ -353,15 +377,10 @@ final class PersistentMutationOutbox implements MutationOutbox {
         private Completable handleIncomingDelete() {
             switch (existing.getMutationType()) {
                 case CREATE:
-                    //
-                    if (inFlightMutations.contains(existing.getMutationId())) {
-                        // Existing create is already in flight, then save the delete
-                        return save(incoming);
-                    } else {
-                        // The existing create mutation hasn't made it to the remote store, so we
-                        // ignore the incoming and remove the existing create mutation from outbox.
-                        return remove(existing.getMutationId());
-                    }
+                    // The existing create mutation hasn't made it to the remote store (in-flight
+                    // mutations are never coalesced), so we ignore the incoming and remove the
+                    // existing create mutation from outbox.
+                    return remove(existing.getMutationId());
                 case UPDATE:
                 case DELETE:
                     // If there's a pending update OR delete, we want to replace it with the incoming delete.
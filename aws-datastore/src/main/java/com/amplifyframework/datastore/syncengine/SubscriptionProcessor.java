@@ -17,6 +17,7 @@ package com.amplifyframework.datastore.syncengine;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
+import androidx.core.util.Pair;
 
 import com.amplifyframework.AmplifyException;
 import com.amplifyframework.api.graphql.GraphQLResponse;
@@ -28,7 +29,9 @@ import com.amplifyframework.core.async.Cancelable;
 import com.amplifyframework.core.model.Model;
 import com.amplifyframework.core.model.ModelProvider;
 import com.amplifyframework.core.model.ModelSchema;
+import com.amplifyframework.core.model.query.predicate.Evaluable;
 import com.amplifyframework.core.model.query.predicate.QueryPredicate;
+import com.amplifyframework.core.model.query.predicate.QueryPredicates;
 import com.amplifyframework.datastore.AmplifyDisposables;
 import com.amplifyframework.datastore.DataStoreChannelEventName;
 import com.amplifyframework.datastore.DataStoreException;
@@ -42,9 +45,11 @@ import com.amplifyframework.logging.Logger;
 import com.amplifyframework.util.Empty;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
@@ -54,7 +59,9 @@ import java.util.concurrent.atomic.AtomicReference;
 import io.reactivex.rxjava3.core.Observable;
 import io.reactivex.rxjava3.disposables.CompositeDisposable;
 import io.reactivex.rxjava3.schedulers.Schedulers;
+import io.reactivex.rxjava3.subjects.PublishSubject;
 import io.reactivex.rxjava3.subjects.ReplaySubject;
+import io.reactivex.rxjava3.subjects.Subject;
 
 /**
  * Observes mutations occurring on a remote {@link AppSync} system. The mutations arrive
@@ -66,6 +73,8 @@ final class SubscriptionProcessor {
     private static final Logger LOG = Amplify.Logging.forNamespace("amplify:aws-datastore");
     private static final long TIMEOUT_SECONDS_PER_MODEL = 2;
     private static final long NETWORK_OP_TIMEOUT_SECONDS = 10;
+    // Subscriptions share a connection, so they are resumed together. Their resumptions are coalesced.
+    private static final long RESUMPTION_DEBOUNCE_MS = 1_000;
 
     private final AppSync appSync;
     private final ModelProvider modelProvider;
@@ -73,6 +82,9 @@ final class SubscriptionProcessor {
     private final QueryPredicateProvider queryPredicateProvider;
     private final CompositeDisposable ongoingOperationsDisposable;
     private final long adjustedTimeoutSeconds;
+    private final Action onSubscriptionsResumed;
+    private final Subject<String> resumedSubscriptions;
+    private final Map<String, Pair<QueryPredicate, Evaluable<Object>>> compiledSyncPredicates;
     private ReplaySubject<SubscriptionEvent<? extends Model>> buffer;
 
     /**
@@ -85,6 +97,9 @@ final class SubscriptionProcessor {
         this.merger = builder.merger;
         this.queryPredicateProvider = builder.queryPredicateProvider;
         this.ongoingOperationsDisposable = new CompositeDisposable();
+        this.onSubscriptionsResumed = builder.onSubscriptionsResumed;
+        this.resumedSubscriptions = PublishSubject.<String>create().toSerialized();
+        this.compiledSyncPredicates = new HashMap<>();
 
         // Operation times out after 10 seconds. If there are more than 5 models,
         // then 2 seconds are added to the timer per additional model count.
@@ -116,11 +131,17 @@ final class SubscriptionProcessor {
 
         Set<Observable<SubscriptionEvent<? extends Model>>> subscriptions = new HashSet<>();
         for (ModelSchema modelSchema : modelProvider.modelSchemas().values()) {
+            Evaluable<Object> syncPredicate = compileSyncPredicate(modelSchema);
             for (SubscriptionType subscriptionType : SubscriptionType.values()) {
-                subscriptions.add(subscriptionObservable(appSync, subscriptionType, latch, modelSchema));
+                subscriptions.add(subscriptionObservable(appSync, subscriptionType, latch, modelSchema, syncPredicate));
             }
         }
 
+        ongoingOperationsDisposable.add(resumedSubscriptions
+            .debounce(RESUMPTION_DEBOUNCE_MS, TimeUnit.MILLISECONDS)
+            .observeOn(Schedulers.io())
+            .subscribe(modelName -> onSubscriptionsResumed.call())
+        );
         ongoingOperationsDisposable.add(Observable.merge(subscriptions)
             .subscribeOn(Schedulers.io())
             .observeOn(Schedulers.io())
@@ -167,21 +188,54 @@ final class SubscriptionProcessor {
         return false;
     }
 
+    // The sync expressions are resolved each time that DataStore starts, so a compiled one is reused
+    // for as long as its model's sync expression stays the same. Models without a Java class can't
+    // be compiled, so their sync expressions are evaluated as they are.
+    private Evaluable<Object> compileSyncPredicate(ModelSchema modelSchema) {
+        QueryPredicate syncPredicate = queryPredicateProvider.getPredicate(modelSchema.getName());
+        Class<? extends Model> modelClass = modelSchema.getModelClass();
+        if (modelClass == null || SerializedModel.class.equals(modelClass)) {
+            return syncPredicate;
+        }
+        Pair<QueryPredicate, Evaluable<Object>> compiled = compiledSyncPredicates.get(modelSchema.getName());
+        if (compiled != null && syncPredicate.equals(compiled.first)) {
+            return compiled.second;
+        }
+        Evaluable<Object> evaluable;
+        try {
+            evaluable = QueryPredicates.compile(syncPredicate, modelSchema);
+        } catch (DataStoreException notCompiled) {
+            LOG.warn("Unable to compile the sync expression of " + modelSchema.getName() +
+                ", so it will be evaluated without compiling it.", notCompiled);
+            evaluable = syncPredicate;
+        }
+        compiledSyncPredicates.put(modelSchema.getName(), Pair.create(syncPredicate, evaluable));
+        return evaluable;
+    }
+
     private <T extends Model> Observable<SubscriptionEvent<? extends Model>>
             subscriptionObservable(AppSync appSync,
                                    SubscriptionType subscriptionType,
                                    CountDownLatch latch,
-                                   ModelSchema modelSchema) {
+                                   ModelSchema modelSchema,
+                                   Evaluable<Object> predicate) {
         return Observable.<GraphQLResponse<ModelWithMetadata<T>>>create(emitter -> {
             SubscriptionMethod method = subscriptionMethodFor(appSync, subscriptionType);
             AtomicReference<String> subscriptionId = new AtomicReference<>();
             Cancelable cancelable = method.subscribe(
                 modelSchema,
                 token -> {
-                    LOG.debug("Subscription started for " + subscriptionType.name() + " " + modelSchema.getName() +
-                            " subscriptionId: " + token);
-                    subscriptionId.set(token);
-                    latch.countDown();
+                    if (subscriptionId.compareAndSet(null, token)) {
+                        LOG.debug("Subscription started for " + subscriptionType.name() + " " +
+                            modelSchema.getName() + " subscriptionId: " + token);
+                        latch.countDown();
+                    } else {
+                        // The subscription was resumed after its connection was lost, and
+                        // may have missed some mutations in the meantime.
+                        LOG.info("Subscription resumed for " + subscriptionType.name() + " " +
+                            modelSchema.getName() + " subscriptionId: " + token);
+                        resumedSubscriptions.onNext(modelSchema.getName());
+                    }
                 },
                 emitter::onNext,
                 dataStoreException -> {
@@ -216,10 +270,7 @@ final class SubscriptionProcessor {
         .subscribeOn(Schedulers.io())
         .observeOn(Schedulers.io())
         .map(SubscriptionProcessor::unwrapResponse)
-        .filter(modelWithMetadata -> {
-            QueryPredicate predicate = queryPredicateProvider.getPredicate(modelSchema.getName());
-            return predicate.evaluate(modelWithMetadata.getModel());
-        })
+        .filter(modelWithMetadata -> predicate.evaluate(modelWithMetadata.getModel()))
         .map(modelWithMetadata -> SubscriptionEvent.<T>builder()
             .type(fromSubscriptionType(subscriptionType))
             .modelWithMetadata(modelWithMetadata)
@@ -335,6 +386,7 @@ final class SubscriptionProcessor {
         private ModelProvider modelProvider;
         private Merger merger;
         private QueryPredicateProvider queryPredicateProvider;
+        private Action onSubscriptionsResumed = () -> { };
 
         @NonNull
         @Override
@@ -364,6 +416,13 @@ final class SubscriptionProcessor {
             return Builder.this;
         }
 
+        @NonNull
+        @Override
+        public BuildStep onSubscriptionsResumed(@NonNull Action onSubscriptionsResumed) {
+            this.onSubscriptionsResumed = Objects.requireNonNull(onSubscriptionsResumed);
+            return Builder.this;
+        }
+
         @NonNull
         @Override
         public SubscriptionProcessor build() {
@@ -392,6 +451,16 @@ final class SubscriptionProcessor {
     }
 
     interface BuildStep {
+        /**
+         * Optionally sets an action to perform after subscriptions are resumed on a new connection,
+         * such as syncing the mutations which they may have missed while the connection was down.
+         * By default, nothing is done.
+         * @param onSubscriptionsResumed Action to perform once for each group of resumed subscriptions
+         * @return The build step
+         */
+        @NonNull
+        BuildStep onSubscriptionsResumed(@NonNull Action onSubscriptionsResumed);
+
         @NonNull
         SubscriptionProcessor build();
     }
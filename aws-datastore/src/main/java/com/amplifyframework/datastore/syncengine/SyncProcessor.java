@@ -44,13 +44,16 @@ import com.amplifyframework.util.Time;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Flowable;
 import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.processors.BehaviorProcessor;
+import io.reactivex.rxjava3.subjects.CompletableSubject;
 
 /**
  * "Hydrates" the local DataStore, using model metadata receive from the
@@ -96,22 +99,54 @@ final class SyncProcessor {
     /**
      * The task of hydrating the DataStore either succeeds (with no return value),
      * or it fails, with an explanation.
+     *
+     * Up to {@link com.amplifyframework.datastore.DataStoreConfiguration#getSyncMaxConcurrentModels()}
+     * models are hydrated at the same time. A model is only hydrated once all of the models that it
+     * belongs to have been hydrated, so that when we save it, the references will exist.
      * @return An Rx {@link Completable} which can be used to perform the operation.
      */
     Completable hydrate() {
-        final List<Completable> hydrationTasks = new ArrayList<>();
+        return Completable.defer(() -> {
+            final Integer maxConcurrentModels =
+                dataStoreConfigurationProvider.getConfiguration().getSyncMaxConcurrentModels();
+            // If not configured, hydrate one model at a time.
+            return hydrate(maxConcurrentModels == null ? 1 : Math.max(1, maxConcurrentModels));
+        });
+    }
+
+    private Completable hydrate(int maxConcurrentModels) {
         List<ModelSchema> modelSchemas = new ArrayList<>(modelProvider.modelSchemas().values());
 
         // And sort them all, according to their model's topological order,
-        // So that when we save them, the references will exist.
+        // So that a model's hydration task is always started after those of the models it belongs to.
         TopologicalOrdering ordering =
             TopologicalOrdering.forRegisteredModels(modelSchemaRegistry, modelProvider);
         Collections.sort(modelSchemas, ordering::compare);
+
+        // Each hydration task first waits for the tasks of the models that it belongs to.
+        // Completion of each task is signaled through a subject, so that dependent tasks can
+        // wait on it, without subscribing to (and so repeating) the task itself.
+        final Map<String, CompletableSubject> hydrationResults = new HashMap<>();
+        final List<Completable> hydrationTasks = new ArrayList<>();
         for (ModelSchema schema : modelSchemas) {
-            hydrationTasks.add(createHydrationTask(schema));
+            final List<Completable> dependencies = new ArrayList<>();
+            for (ModelSchema associationOwner : ordering.findAssociationOwners(schema)) {
+                CompletableSubject dependency = hydrationResults.get(associationOwner.getName());
+                if (dependency != null) {
+                    dependencies.add(dependency);
+                }
+            }
+            final CompletableSubject hydrationResult = CompletableSubject.create();
+            hydrationResults.put(schema.getName(), hydrationResult);
+            hydrationTasks.add(Completable.merge(dependencies)
+                .andThen(createHydrationTask(schema))
+                .doOnComplete(hydrationResult::onComplete)
+                .doOnError(hydrationResult::onError));
         }
 
-        return Completable.concat(hydrationTasks)
+        // Tasks are subscribed in topological order. So, when a task is waiting on a dependency,
+        // that dependency has already been started.
+        return Completable.merge(Flowable.fromIterable(hydrationTasks), maxConcurrentModels)
             .doOnSubscribe(ignore -> {
                 // This is where we trigger the syncQueriesStarted event since
                 // doOnSubscribe means that all upstream hydration tasks
@@ -137,20 +172,22 @@ final class SyncProcessor {
             .flatMap(lastSyncTime -> {
                 // Sync all the pages
                 return syncModel(schema, lastSyncTime)
-                    // For each ModelWithMetadata, merge it into the local store.
-                    .flatMapCompletable(original -> {
-                        ModelWithMetadata<? extends Model> updated;
-                        if (original.getModel() instanceof SerializedModel) {
-                            SerializedModel originalModel = (SerializedModel) original.getModel();
-                            SerializedModel newModel = SerializedModel.builder()
-                                .serializedData(originalModel.getSerializedData())
-                                .modelSchema(schema)
-                                .build();
-                            updated = new ModelWithMetadata<>(newModel, original.getSyncMetadata());
-                        } else {
-                            updated = original;
+                    // Merge each page of ModelWithMetadata into the local store, as a single batch.
+                    .concatMapCompletable(page -> {
+                        List<ModelWithMetadata<? extends Model>> updatedPage = new ArrayList<>(page.size());
+                        for (ModelWithMetadata<? extends Model> original : page) {
+                            if (original.getModel() instanceof SerializedModel) {
+                                SerializedModel originalModel = (SerializedModel) original.getModel();
+                                SerializedModel newModel = SerializedModel.builder()
+                                    .serializedData(originalModel.getSerializedData())
+                                    .modelSchema(schema)
+                                    .build();
+                                updatedPage.add(new ModelWithMetadata<>(newModel, original.getSyncMetadata()));
+                            } else {
+                                updatedPage.add(original);
+                            }
                         }
-                        return merger.merge(updated, metricsAccumulator::increment);
+                        return merger.mergeAll(updatedPage, metricsAccumulator::increment);
                     })
                     .toSingle(() -> lastSyncTime.exists() ? SyncType.DELTA : SyncType.BASE);
             })
@@ -214,10 +251,11 @@ final class SyncProcessor {
      * @param schema The schema of the model to sync
      * @param syncTime The time of a last successful sync.
      * @param <T> The type of model to sync.
-     * @return a stream of all ModelWithMetadata&lt;T&gt; objects from all pages for the provided model.
+     * @return a stream of batches of ModelWithMetadata&lt;T&gt; objects, from all pages for the provided model.
+     *         Each batch holds at most as many items as the sync page size.
      * @throws DataStoreException if dataStoreConfigurationProvider.getConfiguration() fails
      */
-    private <T extends Model> Flowable<ModelWithMetadata<T>> syncModel(ModelSchema schema, SyncTime syncTime)
+    private <T extends Model> Flowable<List<ModelWithMetadata<T>>> syncModel(ModelSchema schema, SyncTime syncTime)
             throws DataStoreException {
         final Long lastSyncTimeAsLong = syncTime.exists() ? syncTime.toLong() : null;
         final Integer syncPageSize = dataStoreConfigurationProvider.getConfiguration().getSyncPageSize();
@@ -238,7 +276,9 @@ final class SyncProcessor {
                 // Flatten the PaginatedResult objects into a stream of ModelWithMetadata objects.
                 .concatMapIterable(PaginatedResult::getItems)
                 // Stop after fetching the maximum configured records to sync.
-                .take(dataStoreConfigurationProvider.getConfiguration().getSyncMaxRecords());
+                .take(dataStoreConfigurationProvider.getConfiguration().getSyncMaxRecords())
+                // Re-assemble the items into pages, so that each page can be merged as a batch.
+                .buffer(syncPageSize);
     }
 
     /**
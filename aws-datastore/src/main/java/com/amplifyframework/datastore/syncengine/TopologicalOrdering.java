@@ -95,6 +95,30 @@ final class TopologicalOrdering {
         return onePosition - twoPosition;
     }
 
+    /**
+     * Finds the ModelSchema which must come before a given ModelSchema, since the model
+     * belongs to them. Only direct associations are considered, and a model which
+     * belongs to itself is not considered to depend on itself.
+     * @param modelSchema A model schema
+     * @return The schema of each model that the given model belongs to
+     */
+    @NonNull
+    Set<ModelSchema> findAssociationOwners(@NonNull ModelSchema modelSchema) {
+        Objects.requireNonNull(modelSchema);
+        final Set<ModelSchema> associationOwners = new HashSet<>();
+        for (ModelAssociation association : modelSchema.getAssociations().values()) {
+            if (!association.isOwner() || modelSchema.getName().equals(association.getAssociatedType())) {
+                continue;
+            }
+            for (ModelSchema candidate : this.modelSchema) {
+                if (candidate.getName().equals(association.getAssociatedType())) {
+                    associationOwners.add(candidate);
+                }
+            }
+        }
+        return associationOwners;
+    }
+
     /**
      * Check the ordering of a ModelSchema.
      * @param modelSchema A model schema
@@ -26,10 +26,14 @@ import com.amplifyframework.datastore.appsync.ModelMetadata;
 import com.amplifyframework.datastore.storage.LocalStorageAdapter;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
+import io.reactivex.rxjava3.core.Observable;
 import io.reactivex.rxjava3.core.Single;
 
 /**
@@ -68,6 +72,40 @@ final class VersionRepository {
         });
     }
 
+    /**
+     * Find the current versions of a collection of models, that we have in the local store.
+     * The lookup is done in as few queries as possible, instead of one query per model.
+     * @param models A collection of models
+     * @param <T> Type of model
+     * @return A map of model ID to the version that is known locally. Models which do not
+     *         have a version in the local store will not be present in the map.
+     */
+    <T extends Model> Single<Map<String, Integer>> findModelVersions(Collection<T> models) {
+        final List<String> ids = new ArrayList<>();
+        for (T model : models) {
+            ids.add(model.getId());
+        }
+        return Observable.fromIterable(ModelIdBatches.chunk(ids))
+            .concatMapSingle(this::findMetadata)
+            .flatMapIterable(metadata -> metadata)
+            .filter(metadata -> metadata.getVersion() != null)
+            .collect(HashMap::new, (versions, metadata) -> versions.put(metadata.getId(), metadata.getVersion()));
+    }
+
+    private Single<List<ModelMetadata>> findMetadata(List<String> ids) {
+        // The ModelMetadata for each model uses the same ID as an identifier.
+        final QueryPredicate hasMatchingId = ModelIdBatches.matchingAnyOf(ids);
+        return Single.create(emitter -> {
+            localStorageAdapter.query(ModelMetadata.class, Where.matches(hasMatchingId), iterableResults -> {
+                final List<ModelMetadata> results = new ArrayList<>();
+                while (iterableResults.hasNext()) {
+                    results.add(iterableResults.next());
+                }
+                emitter.onSuccess(results);
+            }, emitter::onError);
+        });
+    }
+
     /**
      * Extract a model version from an metadata iterator.
      * @param model The model for which metadata is being interrogated, used only for creating error messages.
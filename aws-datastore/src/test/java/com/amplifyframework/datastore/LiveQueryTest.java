@@ -0,0 +1,150 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore;
+
+import com.amplifyframework.AmplifyException;
+import com.amplifyframework.core.model.Model;
+import com.amplifyframework.core.model.ModelSchema;
+import com.amplifyframework.core.model.query.Page;
+import com.amplifyframework.core.model.query.Where;
+import com.amplifyframework.core.model.query.predicate.QueryField;
+import com.amplifyframework.core.model.query.predicate.QueryPredicates;
+import com.amplifyframework.datastore.DataStoreQuerySnapshot.Change;
+import com.amplifyframework.datastore.storage.InMemoryStorageAdapter;
+import com.amplifyframework.datastore.storage.ItemChangeRouter;
+import com.amplifyframework.datastore.storage.StorageItemChange;
+import com.amplifyframework.testmodels.commentsblog.BlogOwner;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the {@link LiveQuery}.
+ */
+public final class LiveQueryTest {
+    private InMemoryStorageAdapter storageAdapter;
+    private List<DataStoreQuerySnapshot<BlogOwner>> snapshots;
+    private LiveQuery<BlogOwner> liveQuery;
+
+    /**
+     * Observes the first page of two blog owners, sorted by name, in an in-memory storage adapter.
+     * @throws AmplifyException On failure to arrange the model schema
+     */
+    @Before
+    public void setup() throws AmplifyException {
+        storageAdapter = InMemoryStorageAdapter.create();
+        snapshots = new ArrayList<>();
+        liveQuery = new LiveQuery<>(
+            ModelSchema.fromModelClass(BlogOwner.class),
+            QueryPredicates.all(),
+            Where.sorted(BlogOwner.NAME.ascending()).paginated(Page.startingAt(0).withLimit(2)),
+            snapshots::add
+        );
+    }
+
+    /**
+     * The first snapshot holds the current page of results. Later snapshots hold the
+     * changes to the page, which are only emitted when the page changes.
+     */
+    @Test
+    public void snapshotsFollowChangesToThePage() {
+        BlogOwner bob = BlogOwner.builder().name("Bob").build();
+        BlogOwner dan = BlogOwner.builder().name("Dan").build();
+        save(bob);
+        save(dan);
+        startLiveQuery();
+        assertEquals(new DataStoreQuerySnapshot<>(Arrays.asList(bob, dan), Collections.emptyList()), last());
+
+        // Inserted before the last item of the page, pushing it out.
+        BlogOwner amy = BlogOwner.builder().name("Amy").build();
+        save(amy);
+        assertEquals(new DataStoreQuerySnapshot<>(
+            Arrays.asList(amy, bob),
+            Arrays.asList(new Change<>(Change.Type.REMOVED, 1, dan), new Change<>(Change.Type.INSERTED, 0, amy))
+        ), last());
+
+        // Inserted after the page.
+        save(BlogOwner.builder().name("Eve").build());
+        assertEquals(2, snapshots.size());
+
+        // Updated in place.
+        BlogOwner ben = bob.copyOfBuilder().name("Ben").build();
+        save(ben);
+        assertEquals(new DataStoreQuerySnapshot<>(
+            Arrays.asList(amy, ben),
+            Collections.singletonList(new Change<>(Change.Type.CHANGED, 1, ben))
+        ), last());
+
+        // Removed from the page, pulling in the next item.
+        delete(amy);
+        assertEquals(new DataStoreQuerySnapshot<>(
+            Arrays.asList(ben, dan),
+            Arrays.asList(new Change<>(Change.Type.REMOVED, 0, amy), new Change<>(Change.Type.INSERTED, 1, dan))
+        ), last());
+    }
+
+    /**
+     * A live query can't sort its items by a field which isn't in their schema.
+     * @throws AmplifyException Expected, since the sort field is not in the schema
+     */
+    @Test(expected = DataStoreException.class)
+    public void sortingByUnknownFieldFails() throws AmplifyException {
+        new LiveQuery<BlogOwner>(
+            ModelSchema.fromModelClass(BlogOwner.class),
+            QueryPredicates.all(),
+            Where.sorted(QueryField.field("nickname").ascending()),
+            snapshots::add
+        );
+    }
+
+    private void startLiveQuery() {
+        new ItemChangeRouter(storageAdapter).observeModel(
+            "BlogOwner",
+            null,
+            change -> {
+                @SuppressWarnings("unchecked")
+                StorageItemChange<BlogOwner> typedChange = (StorageItemChange<BlogOwner>) change;
+                liveQuery.onItemChange(typedChange);
+            },
+            error -> { },
+            () -> { }
+        );
+        storageAdapter.query(BlogOwner.class, liveQuery::onQueryResults, error -> {
+            throw new RuntimeException(error);
+        });
+    }
+
+    private DataStoreQuerySnapshot<BlogOwner> last() {
+        return snapshots.get(snapshots.size() - 1);
+    }
+
+    private void save(Model model) {
+        storageAdapter.save(model, StorageItemChange.Initiator.DATA_STORE_API, QueryPredicates.all(),
+            change -> { }, error -> { throw new RuntimeException(error); });
+    }
+
+    private void delete(Model model) {
+        storageAdapter.delete(model, StorageItemChange.Initiator.DATA_STORE_API, QueryPredicates.all(),
+            change -> { }, error -> { throw new RuntimeException(error); });
+    }
+}
@@ -27,6 +27,7 @@ import com.amplifyframework.core.model.ModelSchema;
 import com.amplifyframework.core.model.query.QueryOptions;
 import com.amplifyframework.core.model.query.Where;
 import com.amplifyframework.core.model.query.predicate.QueryPredicate;
+import com.amplifyframework.core.model.query.predicate.QueryPredicates;
 import com.amplifyframework.datastore.DataStoreException;
 
 import java.util.ArrayList;
@@ -109,6 +110,24 @@ public final class InMemoryStorageAdapter implements LocalStorageAdapter {
         onSuccess.accept(change);
     }
 
+    @Override
+    public <T extends Model> void saveAll(
+            @NonNull final List<T> items,
+            @NonNull final StorageItemChange.Initiator initiator,
+            @NonNull final Consumer<List<StorageItemChange<T>>> onSuccess,
+            @NonNull final Consumer<DataStoreException> onError) {
+        final List<StorageItemChange<T>> changes = new ArrayList<>();
+        for (T item : items) {
+            final List<DataStoreException> errors = new ArrayList<>();
+            save(item, initiator, QueryPredicates.all(), changes::add, errors::add);
+            if (!errors.isEmpty()) {
+                onError.accept(errors.get(0));
+                return;
+            }
+        }
+        onSuccess.accept(changes);
+    }
+
     @Override
     public <T extends Model> void query(
             @NonNull final Class<T> itemClass,
@@ -197,6 +216,46 @@ public final class InMemoryStorageAdapter implements LocalStorageAdapter {
         onSuccess.accept(deletion);
     }
 
+    @Override
+    public <T extends Model> void deleteAll(
+            @NonNull final List<T> items,
+            @NonNull final StorageItemChange.Initiator initiator,
+            @NonNull final Consumer<List<StorageItemChange<T>>> onSuccess,
+            @NonNull final Consumer<DataStoreException> onError) {
+        final List<StorageItemChange<T>> changes = new ArrayList<>();
+        for (T item : items) {
+            final List<DataStoreException> errors = new ArrayList<>();
+            delete(item, initiator, QueryPredicates.all(), changes::add, errors::add);
+            if (!errors.isEmpty()) {
+                onError.accept(errors.get(0));
+                return;
+            }
+        }
+        onSuccess.accept(changes);
+    }
+
+    @Override
+    public void writeAll(
+            @NonNull final List<StorageWrite<? extends Model>> writes,
+            @NonNull final StorageItemChange.Initiator initiator,
+            @NonNull final Consumer<List<StorageItemChange<? extends Model>>> onSuccess,
+            @NonNull final Consumer<DataStoreException> onError) {
+        final List<StorageItemChange<? extends Model>> changes = new ArrayList<>();
+        for (StorageWrite<? extends Model> write : writes) {
+            final List<DataStoreException> errors = new ArrayList<>();
+            if (!write.isDeletion()) {
+                save(write.item(), initiator, QueryPredicates.all(), changes::add, errors::add);
+            } else if (indexOf(write.item()) >= 0) {
+                delete(write.item(), initiator, QueryPredicates.all(), changes::add, errors::add);
+            }
+            if (!errors.isEmpty()) {
+                onError.accept(errors.get(0));
+                return;
+            }
+        }
+        onSuccess.accept(changes);
+    }
+
     @NonNull
     @Override
     public Cancelable observe(
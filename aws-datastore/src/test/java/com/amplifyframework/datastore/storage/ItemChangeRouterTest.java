@@ -0,0 +1,154 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.storage;
+
+import com.amplifyframework.AmplifyException;
+import com.amplifyframework.core.async.Cancelable;
+import com.amplifyframework.core.model.Model;
+import com.amplifyframework.core.model.ModelSchema;
+import com.amplifyframework.core.model.query.predicate.QueryPredicates;
+import com.amplifyframework.datastore.DataStoreException;
+import com.amplifyframework.testmodels.commentsblog.Blog;
+import com.amplifyframework.testmodels.commentsblog.BlogOwner;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the {@link ItemChangeRouter}.
+ */
+public final class ItemChangeRouterTest {
+    private InMemoryStorageAdapter storageAdapter;
+    private ItemChangeRouter router;
+
+    /**
+     * Creates a router in front of an in-memory storage adapter.
+     */
+    @Before
+    public void setup() {
+        storageAdapter = InMemoryStorageAdapter.create();
+        router = new ItemChangeRouter(storageAdapter);
+    }
+
+    /**
+     * Changes are only routed to the observers of the changed model, or of the
+     * changed item, and only to the model observers whose filter matches the item.
+     * @throws AmplifyException On failure to arrange the model schema, or to compile the filter
+     */
+    @Test
+    public void changesReachOnlyMatchingObservers() throws AmplifyException {
+        BlogOwner joe = BlogOwner.builder().name("Joe").build();
+        BlogOwner jane = BlogOwner.builder().name("Jane").build();
+        Blog blog = Blog.builder().name("Joe's Blog").owner(joe).build();
+
+        List<Model> allChanges = new ArrayList<>();
+        List<Model> ownerChanges = new ArrayList<>();
+        List<Model> joeChanges = new ArrayList<>();
+        List<Model> janeChanges = new ArrayList<>();
+        router.observe(change -> allChanges.add(change.item()), error -> { }, () -> { });
+        router.observeModel("BlogOwner", null, change -> ownerChanges.add(change.item()), error -> { }, () -> { });
+        router.observeItem("BlogOwner", joe.getId(), change -> joeChanges.add(change.item()), error -> { }, () -> { });
+        router.observeModel(
+            "BlogOwner",
+            QueryPredicates.compile(BlogOwner.NAME.eq("Jane"), ModelSchema.fromModelClass(BlogOwner.class)),
+            change -> janeChanges.add(change.item()),
+            error -> { },
+            () -> { }
+        );
+
+        save(joe);
+        save(jane);
+        save(blog);
+
+        assertEquals(Arrays.asList(joe, jane, blog), allChanges);
+        assertEquals(Arrays.asList(joe, jane), ownerChanges);
+        assertEquals(Collections.singletonList(joe), joeChanges);
+        assertEquals(Collections.singletonList(jane), janeChanges);
+    }
+
+    /**
+     * A cancelled observer no longer receives changes.
+     */
+    @Test
+    public void cancelledObserverReceivesNoChanges() {
+        List<Model> changes = new ArrayList<>();
+        Cancelable cancelable =
+            router.observeModel("BlogOwner", null, change -> changes.add(change.item()), error -> { }, () -> { });
+        cancelable.cancel();
+
+        save(BlogOwner.builder().name("Joe").build());
+
+        assertTrue(changes.isEmpty());
+    }
+
+    /**
+     * An observer which throws is told of its failure, and the change still reaches
+     * the observers after it.
+     */
+    @Test
+    public void failingObserverDoesNotKeepChangeFromOthers() {
+        List<DataStoreException> errors = new ArrayList<>();
+        List<Model> changes = new ArrayList<>();
+        router.observeModel("BlogOwner", null, change -> {
+            throw new IllegalStateException("Observer failed.");
+        }, errors::add, () -> { });
+        router.observeModel("BlogOwner", null, change -> changes.add(change.item()), error -> { }, () -> { });
+        BlogOwner joe = BlogOwner.builder().name("Joe").build();
+
+        save(joe);
+
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0).getCause() instanceof IllegalStateException);
+        assertEquals(Collections.singletonList(joe), changes);
+    }
+
+    /**
+     * The storage adapter is only observed while the router has observers.
+     */
+    @Test
+    public void storageObservationIsCancelledWithLastObserver() {
+        LocalStorageAdapter mockAdapter = mock(LocalStorageAdapter.class);
+        Cancelable storageObservation = mock(Cancelable.class);
+        when(mockAdapter.observe(any(), any(), any())).thenReturn(storageObservation);
+        ItemChangeRouter mockRouter = new ItemChangeRouter(mockAdapter);
+        BlogOwner joe = BlogOwner.builder().name("Joe").build();
+
+        Cancelable first = mockRouter.observeItem("BlogOwner", joe.getId(), change -> { }, error -> { }, () -> { });
+        Cancelable second = mockRouter.observeModel("BlogOwner", null, change -> { }, error -> { }, () -> { });
+        first.cancel();
+        verify(storageObservation, never()).cancel();
+        second.cancel();
+        verify(storageObservation).cancel();
+    }
+
+    private void save(Model model) {
+        storageAdapter.save(model, StorageItemChange.Initiator.DATA_STORE_API, QueryPredicates.all(),
+            change -> { }, error -> { throw new RuntimeException(error); });
+    }
+}
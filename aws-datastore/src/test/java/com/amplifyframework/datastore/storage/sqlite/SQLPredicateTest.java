@@ -26,6 +26,8 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.robolectric.RobolectricTestRunner;
 
+import java.util.Arrays;
+
 import static org.junit.Assert.assertEquals;
 
 @RunWith(RobolectricTestRunner.class)
@@ -53,6 +55,18 @@ public class SQLPredicateTest {
         validateSQLExpressionForContains(sqlPredicate, "tags");
     }
 
+    /**
+     * Test that an in condition binds each of its values.
+     * @throws DataStoreException Not thrown.
+     */
+    @Test
+    public void testInBindsEachValue() throws DataStoreException {
+        QueryPredicateOperation<Object> predicate = Blog.NAME.in(Arrays.asList("first", "second"));
+        SQLPredicate sqlPredicate = new SQLPredicate(predicate);
+        assertEquals(Arrays.asList("first", "second"), sqlPredicate.getBindings());
+        assertEquals("name IN (?, ?)", sqlPredicate.toString());
+    }
+
     private void validateSQLExpressionForContains(SQLPredicate sqlPredicate, String fieldName) {
         assertEquals(1, sqlPredicate.getBindings().size());
         assertEquals("something", sqlPredicate.getBindings().get(0));
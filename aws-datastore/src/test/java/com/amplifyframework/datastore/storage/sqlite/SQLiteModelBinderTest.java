@@ -0,0 +1,312 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.storage.sqlite;
+
+import android.database.MatrixCursor;
+import android.os.Build;
+
+import com.amplifyframework.AmplifyException;
+import com.amplifyframework.core.model.Model;
+import com.amplifyframework.core.model.ModelSchemaRegistry;
+import com.amplifyframework.core.model.temporal.Temporal;
+import com.amplifyframework.datastore.DataStoreException;
+import com.amplifyframework.testmodels.commentsblog.Blog;
+import com.amplifyframework.testmodels.commentsblog.BlogOwner;
+import com.amplifyframework.testmodels.commentsblog.Post;
+import com.amplifyframework.testmodels.commentsblog.PostStatus;
+import com.amplifyframework.testmodels.meeting.Meeting;
+import com.amplifyframework.testmodels.parenting.Address;
+import com.amplifyframework.testmodels.parenting.Child;
+import com.amplifyframework.testmodels.parenting.City;
+import com.amplifyframework.testmodels.parenting.Parent;
+import com.amplifyframework.testmodels.parenting.Phonenumber;
+import com.amplifyframework.testmodels.todo.Todo;
+import com.amplifyframework.testmodels.todo.TodoOwner;
+import com.amplifyframework.testmodels.todo.TodoStatus;
+import com.amplifyframework.util.GsonFactory;
+
+import com.google.gson.Gson;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link SQLiteModelBinder}, which builds models from the rows of a query. Each row is
+ * arranged as it would be stored by the {@link SQLiteStorageAdapter}, and read through the
+ * {@link SQLiteModelFieldTypeConverter} for the model, as in a query.
+ */
+@Config(sdk = Build.VERSION_CODES.P, manifest = Config.NONE)
+@RunWith(RobolectricTestRunner.class)
+public final class SQLiteModelBinderTest {
+    private ModelSchemaRegistry modelSchemaRegistry;
+    private Gson gson;
+
+    /**
+     * Registers the schemas of the models that are bound by the tests.
+     * @throws AmplifyException On failure to derive a schema from a model class
+     */
+    @Before
+    public void setup() throws AmplifyException {
+        modelSchemaRegistry = ModelSchemaRegistry.instance();
+        modelSchemaRegistry.register(new HashSet<>(Arrays.asList(
+            BlogOwner.class, Blog.class, Post.class, Meeting.class, Parent.class, Todo.class
+        )));
+        gson = GsonFactory.instance();
+    }
+
+    /**
+     * Each type of column is bound onto the model's field of the matching type: strings,
+     * enums, integers, longs, floats, booleans, dates, and custom types.
+     * @throws DataStoreException On failure to bind the row
+     */
+    @Test
+    public void bindsEachTypeOfColumn() throws DataStoreException {
+        Todo todo = Todo.builder()
+            .title("Laundry")
+            .content("Wash, dry, and fold")
+            .status(TodoStatus.InProgress)
+            .createdAt(new Temporal.DateTime("2020-09-01T12:34:56.789Z"))
+            .duplicate(true)
+            .owner(TodoOwner.builder()
+                .name("Jane")
+                .email("jane@example.com")
+                .build())
+            .lastUpdated(1_600_000_000L)
+            .dueDate(new Temporal.Date("2020-09-15"))
+            .priority(3)
+            .hoursSpent(1.5f)
+            .tags(Arrays.asList("home", "weekly"))
+            .build();
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("Todo_id", todo.getId());
+        row.put("Todo_title", "Laundry");
+        row.put("Todo_content", "Wash, dry, and fold");
+        row.put("Todo_status", "InProgress");
+        row.put("Todo_createdAt", "2020-09-01T12:34:56.789Z");
+        row.put("Todo_duplicate", 1L);
+        row.put("Todo_owner", gson.toJson(todo.getOwner()));
+        row.put("Todo_lastUpdated", 1_600_000_000L);
+        row.put("Todo_dueDate", "2020-09-15");
+        row.put("Todo_priority", 3L);
+        row.put("Todo_hoursSpent", 1.5f);
+        row.put("Todo_tags", gson.toJson(todo.getTags()));
+
+        assertEquals(todo, bind(Todo.class, row));
+    }
+
+    /**
+     * AWSDate, AWSDateTime, AWSTime, and AWSTimestamp columns are bound onto temporal fields.
+     * @throws DataStoreException On failure to bind the row
+     */
+    @Test
+    public void bindsTemporalColumns() throws DataStoreException {
+        Meeting meeting = Meeting.builder()
+            .name("Standup")
+            .date(new Temporal.Date("2020-09-01"))
+            .dateTime(new Temporal.DateTime("2020-09-01T09:30:00-07:00"))
+            .time(new Temporal.Time("09:30:00"))
+            .timestamp(new Temporal.Timestamp(1_598_977_800L, TimeUnit.SECONDS))
+            .build();
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("Meeting_id", meeting.getId());
+        row.put("Meeting_name", "Standup");
+        row.put("Meeting_date", "2020-09-01");
+        row.put("Meeting_dateTime", "2020-09-01T09:30:00-07:00");
+        row.put("Meeting_time", "09:30:00");
+        row.put("Meeting_timestamp", 1_598_977_800L);
+
+        assertEquals(meeting, bind(Meeting.class, row));
+    }
+
+    /**
+     * Null columns leave their fields unset, just as Gson would for a value that was
+     * missing from the JSON.
+     * @throws DataStoreException On failure to bind the row
+     */
+    @Test
+    public void nullColumnsLeaveFieldsUnset() throws DataStoreException {
+        Meeting meeting = Meeting.builder()
+            .name("Unscheduled")
+            .build();
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("Meeting_id", meeting.getId());
+        row.put("Meeting_name", "Unscheduled");
+        row.put("Meeting_date", null);
+        row.put("Meeting_dateTime", null);
+        row.put("Meeting_time", null);
+        row.put("Meeting_timestamp", null);
+
+        Meeting bound = bind(Meeting.class, row);
+        assertEquals(meeting, bound);
+        assertNull(bound.getDate());
+        assertNull(bound.getTimestamp());
+    }
+
+    /**
+     * The columns of associated models are joined into a query. A post belongs to a blog,
+     * which belongs to an owner, so both of those are built from the row, too.
+     * @throws DataStoreException On failure to bind the row
+     */
+    @Test
+    public void bindsNestedBelongsToModels() throws DataStoreException {
+        BlogOwner owner = BlogOwner.builder()
+            .name("Tony")
+            .wea("Sunny")
+            .build();
+        Blog blog = Blog.builder()
+            .name("Tony's Blog")
+            .owner(owner)
+            .build();
+        Post post = Post.builder()
+            .title("Hello, world")
+            .status(PostStatus.ACTIVE)
+            .rating(5)
+            .blog(blog)
+            .build();
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("Post_id", post.getId());
+        row.put("Post_title", "Hello, world");
+        row.put("Post_postBlogId", blog.getId());
+        row.put("Post_status", "ACTIVE");
+        row.put("Post_rating", 5L);
+        row.put("Blog_id", blog.getId());
+        row.put("Blog_name", "Tony's Blog");
+        row.put("Blog_blogOwnerId", owner.getId());
+        row.put("BlogOwner_id", owner.getId());
+        row.put("BlogOwner_name", "Tony");
+        row.put("BlogOwner_wea", "Sunny");
+
+        Post bound = bind(Post.class, row);
+        assertEquals(post, bound);
+        assertEquals(blog, bound.getBlog());
+        assertEquals(owner, bound.getBlog().getOwner());
+    }
+
+    /**
+     * A post that doesn't belong to a blog has no blog, even though the blog's columns
+     * are joined into the row.
+     * @throws DataStoreException On failure to bind the row
+     */
+    @Test
+    public void missingAssociationIsLeftUnset() throws DataStoreException {
+        Post post = Post.builder()
+            .title("Orphan")
+            .status(PostStatus.INACTIVE)
+            .rating(1)
+            .build();
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("Post_id", post.getId());
+        row.put("Post_title", "Orphan");
+        row.put("Post_postBlogId", null);
+        row.put("Post_status", "INACTIVE");
+        row.put("Post_rating", 1L);
+        row.put("Blog_id", null);
+        row.put("Blog_name", null);
+        row.put("Blog_blogOwnerId", null);
+        row.put("BlogOwner_id", null);
+        row.put("BlogOwner_name", null);
+        row.put("BlogOwner_wea", null);
+
+        Post bound = bind(Post.class, row);
+        assertEquals(post, bound);
+        assertNull(bound.getBlog());
+    }
+
+    /**
+     * A value which doesn't match the declared type of its field, such as a list of
+     * custom types, is adapted by Gson.
+     * @throws DataStoreException On failure to bind the row
+     */
+    @Test
+    public void adaptsMismatchedValuesWithGson() throws DataStoreException {
+        Address address = Address.builder()
+            .street("1 Main Street")
+            .street2("Apartment 2")
+            .city(City.FREETOWN)
+            .phonenumber(Phonenumber.builder()
+                .code(232)
+                .carrier(76)
+                .number(123456)
+                .build())
+            .country("Sierra Leone")
+            .build();
+        Parent parent = Parent.builder()
+            .name("Jane")
+            .address(address)
+            .children(Arrays.asList(
+                Child.builder().name("Ann").address(address).build(),
+                Child.builder().name("Ben").address(address).build()
+            ))
+            .build();
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("Parent_id", parent.getId());
+        row.put("Parent_name", "Jane");
+        row.put("Parent_address", gson.toJson(address));
+        row.put("Parent_children", gson.toJson(parent.getChildren()));
+
+        Parent bound = bind(Parent.class, row);
+        assertEquals(parent, bound);
+        assertEquals(parent.getChildren(), bound.getChildren());
+    }
+
+    /**
+     * An associated model which is loaded eagerly is built from a map of its field values.
+     * @throws DataStoreException On failure to bind the values
+     */
+    @Test
+    public void bindsModelFromMap() throws DataStoreException {
+        BlogOwner owner = BlogOwner.builder()
+            .name("Tony")
+            .build();
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", owner.getId());
+        values.put("name", "Tony");
+        values.put("wea", null);
+
+        SQLiteModelFieldTypeConverter converter = new SQLiteModelFieldTypeConverter(
+            modelSchemaRegistry.getModelSchemaForModelClass(BlogOwner.class), modelSchemaRegistry, gson
+        );
+        SQLiteModelBinder<BlogOwner> binder =
+            SQLiteModelBinder.create(BlogOwner.class, converter.getFields(), modelSchemaRegistry, gson);
+        assertEquals(owner, binder.fromMap(values));
+    }
+
+    // Binds a single row, whose columns are named by their aliases, as in a query.
+    private <T extends Model> T bind(Class<T> modelClass, Map<String, Object> row) throws DataStoreException {
+        SQLiteModelFieldTypeConverter converter = new SQLiteModelFieldTypeConverter(
+            modelSchemaRegistry.getModelSchemaForModelClass(modelClass), modelSchemaRegistry, gson
+        );
+        SQLiteModelBinder<T> binder =
+            SQLiteModelBinder.create(modelClass, converter.getFields(), modelSchemaRegistry, gson);
+        MatrixCursor cursor = new MatrixCursor(row.keySet().toArray(new String[0]));
+        cursor.addRow(row.values().toArray());
+        assertTrue(cursor.moveToFirst());
+        return binder.fromCursor(cursor, converter, converter.getQueryColumnIndexes(cursor));
+    }
+}
@@ -37,6 +37,7 @@ import org.junit.runner.RunWith;
 import org.robolectric.RobolectricTestRunner;
 import org.robolectric.annotation.Config;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -44,7 +45,9 @@ import java.util.SortedMap;
 import java.util.TreeMap;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -244,6 +247,27 @@ public class SqlCommandTest {
         assertEquals(0, sqlCommand.getBindings().size());
     }
 
+    /**
+     * Validates that queries of the same shape re-use the same SQL statement, while
+     * each query keeps its own bindings.
+     * @throws DataStoreException From {@link SQLCommandFactory#queryFor(ModelSchema, QueryOptions)}
+     */
+    @Test
+    public void queriesOfSameShapeReuseCachedStatement() throws DataStoreException {
+        final SQLiteCommandFactory factory = new SQLiteCommandFactory(ModelSchemaRegistry.instance());
+        final ModelSchema personSchema = getPersonModelSchema();
+        final SqlCommand first = factory.queryFor(personSchema, Where.id("1234"));
+        final SqlCommand second = factory.queryFor(personSchema, Where.id("5678"));
+
+        // The text of the second query is the one that was cached for the first.
+        assertSame(first.sqlStatement(), second.sqlStatement());
+        assertEquals(Arrays.asList("1234", 1, 0), first.getBindings());
+        assertEquals(Arrays.asList("5678", 1, 0), second.getBindings());
+
+        final SqlCommand unfiltered = factory.queryFor(personSchema, Where.matchesAll());
+        assertNotEquals(first.sqlStatement(), unfiltered.sqlStatement());
+    }
+
     private static ModelSchema getPersonModelSchema() {
         final SortedMap<String, ModelField> fields = getFieldsMap();
         return ModelSchema.builder()
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.syncengine;
+
+import com.amplifyframework.core.model.temporal.Temporal;
+import com.amplifyframework.datastore.DataStoreChannelEventName;
+import com.amplifyframework.datastore.DataStoreConfiguration;
+import com.amplifyframework.datastore.appsync.ModelMetadata;
+import com.amplifyframework.datastore.appsync.ModelWithMetadata;
+import com.amplifyframework.datastore.events.OutboxStatusEvent;
+import com.amplifyframework.hub.HubChannel;
+import com.amplifyframework.hub.HubEvent;
+import com.amplifyframework.testmodels.commentsblog.BlogOwner;
+import com.amplifyframework.testutils.HubAccumulator;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link HubAnnouncer}.
+ */
+@RunWith(RobolectricTestRunner.class)
+public final class HubAnnouncerTest {
+    /**
+     * When a batch size is configured, merged models are announced in lists of up to that
+     * many models. A partial batch is announced shortly after its first model was added.
+     */
+    @Test
+    public void mergedModelsAreAnnouncedInBatches() {
+        HubAnnouncer announcer = new HubAnnouncer(() ->
+            DataStoreConfiguration.builder().hubEventBatchSize(3).build()
+        );
+        HubAccumulator accumulator = HubAccumulator.create(
+            HubChannel.DATASTORE, DataStoreChannelEventName.SUBSCRIPTION_DATA_BATCH_PROCESSED, 2
+        ).start();
+
+        List<ModelWithMetadata<BlogOwner>> merged = new ArrayList<>();
+        for (int index = 0; index < 4; index++) {
+            BlogOwner owner = BlogOwner.builder().name("Owner " + index).build();
+            ModelMetadata metadata = new ModelMetadata(owner.getId(), false, 1, Temporal.Timestamp.now());
+            merged.add(new ModelWithMetadata<>(owner, metadata));
+        }
+        for (ModelWithMetadata<BlogOwner> modelWithMetadata : merged) {
+            announcer.announceMerge(modelWithMetadata);
+        }
+
+        List<HubEvent<?>> events = accumulator.await();
+        List<Object> announced = new ArrayList<>();
+        for (HubEvent<?> event : events) {
+            announced.addAll((List<?>) event.getData());
+        }
+        assertEquals(3, ((List<?>) events.get(0).getData()).size());
+        assertEquals(1, ((List<?>) events.get(1).getData()).size());
+        assertEquals(merged, announced);
+    }
+
+    /**
+     * When a batch size is configured, the outbox status is only announced when it changes.
+     */
+    @Test
+    public void batchedOutboxStatusIsOnlyAnnouncedOnChange() {
+        HubAnnouncer announcer = new HubAnnouncer(() ->
+            DataStoreConfiguration.builder().hubEventBatchSize(10).build()
+        );
+        HubAccumulator accumulator = HubAccumulator.create(
+            HubChannel.DATASTORE, DataStoreChannelEventName.OUTBOX_STATUS, 2
+        ).start();
+
+        announcer.announceOutboxStatus(false);
+        announcer.announceOutboxStatus(false);
+        announcer.announceOutboxStatus(false);
+        announcer.announceOutboxStatus(true);
+
+        List<HubEvent<?>> events = accumulator.await();
+        assertFalse(((OutboxStatusEvent) events.get(0).getData()).isEmpty());
+        assertTrue(((OutboxStatusEvent) events.get(1).getData()).isEmpty());
+    }
+}
@@ -16,6 +16,7 @@
 package com.amplifyframework.datastore.syncengine;
 
 import com.amplifyframework.AmplifyException;
+import com.amplifyframework.core.model.Model;
 import com.amplifyframework.core.model.ModelSchema;
 import com.amplifyframework.core.model.query.Where;
 import com.amplifyframework.core.model.query.predicate.QueryPredicates;
@@ -24,6 +25,7 @@ import com.amplifyframework.datastore.DataStoreException;
 import com.amplifyframework.datastore.appsync.ModelMetadata;
 import com.amplifyframework.datastore.appsync.ModelWithMetadata;
 import com.amplifyframework.datastore.storage.InMemoryStorageAdapter;
+import com.amplifyframework.datastore.storage.StorageItemChange;
 import com.amplifyframework.datastore.storage.SynchronousStorageAdapter;
 import com.amplifyframework.testmodels.commentsblog.BlogOwner;
 import com.amplifyframework.testutils.random.RandomString;
@@ -33,7 +35,10 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.robolectric.RobolectricTestRunner;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -347,4 +352,112 @@ public final class MergerTest {
             storageAdapter.query(ModelMetadata.class, Where.id(existingModel.getId()))
         );
     }
+
+    /**
+     * A batch merge applies the same rules as merging each item by itself: new items are
+     * saved, newer versions of existing items are saved, stale versions are ignored,
+     * and deletions remove existing items. The metadata for every merged item is saved.
+     * @throws DataStoreException On failure to arrange data into store
+     * @throws InterruptedException If interrupted while awaiting terminal result in test observer
+     */
+    @Test
+    public void mergeAllAppliesVersionRulesToEachItem() throws DataStoreException, InterruptedException {
+        // Arrange: three items are already in the store, at version 2.
+        BlogOwner stale = BlogOwner.builder()
+            .name("Stale")
+            .build();
+        BlogOwner updated = BlogOwner.builder()
+            .name("Updated")
+            .build();
+        BlogOwner deleted = BlogOwner.builder()
+            .name("Deleted")
+            .build();
+        ModelMetadata staleMetadata = new ModelMetadata(stale.getId(), false, 2, Temporal.Timestamp.now());
+        storageAdapter.save(stale, staleMetadata);
+        storageAdapter.save(updated, new ModelMetadata(updated.getId(), false, 2, Temporal.Timestamp.now()));
+        storageAdapter.save(deleted, new ModelMetadata(deleted.getId(), false, 2, Temporal.Timestamp.now()));
+
+        // Act: merge a batch with an older version, a newer version, a deletion, and a new item.
+        BlogOwner staleUpdate = stale.copyOfBuilder()
+            .name("Stale, but changed")
+            .build();
+        BlogOwner newerUpdate = updated.copyOfBuilder()
+            .name("Updated, and changed")
+            .build();
+        BlogOwner created = BlogOwner.builder()
+            .name("Created")
+            .build();
+        ModelMetadata newerMetadata = new ModelMetadata(updated.getId(), false, 3, Temporal.Timestamp.now());
+        ModelMetadata deletionMetadata = new ModelMetadata(deleted.getId(), true, 3, Temporal.Timestamp.now());
+        ModelMetadata createdMetadata = new ModelMetadata(created.getId(), false, 1, Temporal.Timestamp.now());
+        List<ModelWithMetadata<? extends Model>> batch = Arrays.asList(
+            new ModelWithMetadata<>(staleUpdate, new ModelMetadata(stale.getId(), false, 1, Temporal.Timestamp.now())),
+            new ModelWithMetadata<>(newerUpdate, newerMetadata),
+            new ModelWithMetadata<>(deleted, deletionMetadata),
+            new ModelWithMetadata<>(created, createdMetadata)
+        );
+        List<StorageItemChange<? extends Model>> changes = new ArrayList<>();
+        TestObserver<Void> observer = merger.mergeAll(batch, changes::add).test();
+        assertTrue(observer.await(REASONABLE_WAIT_TIME, TimeUnit.MILLISECONDS));
+        observer.assertNoErrors().assertComplete();
+
+        // Assert: one change for each merged model, and only the expected models are in the store.
+        assertEquals(3, changes.size());
+        assertEquals(
+            new HashSet<>(Arrays.asList(stale, newerUpdate, created)),
+            new HashSet<>(storageAdapter.query(BlogOwner.class))
+        );
+        assertEquals(
+            new HashSet<>(Arrays.asList(staleMetadata, newerMetadata, deletionMetadata, createdMetadata)),
+            new HashSet<>(storageAdapter.query(ModelMetadata.class))
+        );
+    }
+
+    /**
+     * When a batch holds more than one version of the same item, only the highest of them is
+     * merged, wherever it is in the batch. A deletion of an item which isn't in the store
+     * doesn't fail the batch; its metadata is still saved.
+     * @throws DataStoreException On failure to query results for assertions
+     * @throws InterruptedException If interrupted while awaiting terminal result in test observer
+     */
+    @Test
+    public void mergeAllMergesHighestVersionOfEachItem() throws DataStoreException, InterruptedException {
+        // Arrange: the store is empty. A batch holds three versions of one item, out of order,
+        // and a deletion of another item.
+        BlogOwner original = BlogOwner.builder()
+            .name("Original")
+            .build();
+        BlogOwner latest = original.copyOfBuilder()
+            .name("Latest")
+            .build();
+        BlogOwner older = original.copyOfBuilder()
+            .name("Older")
+            .build();
+        BlogOwner missing = BlogOwner.builder()
+            .name("Missing")
+            .build();
+        ModelMetadata latestMetadata = new ModelMetadata(original.getId(), false, 3, Temporal.Timestamp.now());
+        ModelMetadata deletionMetadata = new ModelMetadata(missing.getId(), true, 2, Temporal.Timestamp.now());
+        List<ModelWithMetadata<? extends Model>> batch = Arrays.asList(
+            new ModelWithMetadata<>(original, new ModelMetadata(original.getId(), false, 1, Temporal.Timestamp.now())),
+            new ModelWithMetadata<>(latest, latestMetadata),
+            new ModelWithMetadata<>(missing, deletionMetadata),
+            new ModelWithMetadata<>(older, new ModelMetadata(original.getId(), false, 2, Temporal.Timestamp.now()))
+        );
+
+        // Act: merge the batch.
+        List<StorageItemChange<? extends Model>> changes = new ArrayList<>();
+        TestObserver<Void> observer = merger.mergeAll(batch, changes::add).test();
+        assertTrue(observer.await(REASONABLE_WAIT_TIME, TimeUnit.MILLISECONDS));
+        observer.assertNoErrors().assertComplete();
+
+        // Assert: only the latest version was saved, and the missing item's deletion was skipped.
+        assertEquals(1, changes.size());
+        assertEquals(latest, changes.get(0).item());
+        assertEquals(Collections.singletonList(latest), storageAdapter.query(BlogOwner.class));
+        assertEquals(
+            new HashSet<>(Arrays.asList(latestMetadata, deletionMetadata)),
+            new HashSet<>(storageAdapter.query(ModelMetadata.class))
+        );
+    }
 }
@@ -19,6 +19,8 @@ import com.amplifyframework.AmplifyException;
 import com.amplifyframework.api.graphql.GraphQLLocation;
 import com.amplifyframework.api.graphql.GraphQLPathSegment;
 import com.amplifyframework.api.graphql.GraphQLResponse;
+import com.amplifyframework.core.Consumer;
+import com.amplifyframework.core.async.NoOpCancelable;
 import com.amplifyframework.core.model.ModelSchema;
 import com.amplifyframework.core.model.ModelSchemaRegistry;
 import com.amplifyframework.core.model.temporal.Temporal;
@@ -55,6 +57,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -89,6 +92,7 @@ public final class MutationProcessorTest {
         Merger merger = new Merger(mutationOutbox, versionRepository, localStorageAdapter);
         this.appSync = mock(AppSync.class);
         this.configurationProvider = mock(DataStoreConfigurationProvider.class);
+        when(configurationProvider.getConfiguration()).thenReturn(DataStoreConfiguration.defaults());
         ConflictResolver conflictResolver = new ConflictResolver(configurationProvider, appSync);
         modelSchemaRegistry = ModelSchemaRegistry.instance();
         modelSchemaRegistry.register(Collections.singleton(BlogOwner.class));
@@ -99,6 +103,7 @@ public final class MutationProcessorTest {
             .mutationOutbox(mutationOutbox)
             .appSync(appSync)
             .conflictResolver(conflictResolver)
+            .dataStoreConfigurationProvider(configurationProvider)
             .build();
     }
 
@@ -171,6 +176,85 @@ public final class MutationProcessorTest {
         verify(appSync).create(eq(tony), any(), any(), any());
     }
 
+    /**
+     * When only one mutation may be in flight at a time, the next mutation is published
+     * after the slot of the previous one has been released.
+     * @throws DataStoreException On failure to interact with storage adapter during arrangement
+     *                            and verification
+     */
+    @Test
+    public void canDrainMutationOutboxOneMutationAtATime() throws DataStoreException {
+        when(configurationProvider.getConfiguration()).thenReturn(DataStoreConfiguration.builder()
+            .outboxMaxConcurrentMutations(1)
+            .build());
+        BlogOwner tony = BlogOwner.builder()
+            .name("Tony Daniels")
+            .build();
+        BlogOwner sam = BlogOwner.builder()
+            .name("Sam Watson")
+            .build();
+        synchronousStorageAdapter.save(tony);
+        synchronousStorageAdapter.save(sam);
+        AppSyncMocking.create(appSync)
+            .mockSuccessResponse(tony)
+            .mockSuccessResponse(sam);
+        HubAccumulator accumulator =
+            HubAccumulator.create(HubChannel.DATASTORE, isProcessed(sam), 1)
+                .start();
+
+        ModelSchema schema = modelSchemaRegistry.getModelSchemaForModelClass(BlogOwner.class);
+        assertTrue(mutationOutbox.enqueue(PendingMutation.creation(tony, schema))
+            .andThen(mutationOutbox.enqueue(PendingMutation.creation(sam, schema)))
+            .blockingAwait(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        mutationProcessor.startDrainingMutationOutbox();
+
+        // The second mutation is published, once the first one is done.
+        assertEquals(1, accumulator.await().size());
+        assertFalse(mutationOutbox.hasPendingMutation(tony.getId()));
+        assertFalse(mutationOutbox.hasPendingMutation(sam.getId()));
+    }
+
+    /**
+     * When a mutation fails to be published, it is no longer in-flight, so that it is
+     * published again when the outbox is next drained.
+     * @throws DataStoreException On failure to interact with storage adapter during arrangement
+     *                            and verification
+     */
+    @Test
+    public void failedMutationIsPublishedAgain() throws DataStoreException {
+        BlogOwner tony = BlogOwner.builder()
+            .name("Tony Daniels")
+            .build();
+        synchronousStorageAdapter.save(tony);
+
+        // The first publication fails.
+        CountDownLatch failedPublication = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            Consumer<DataStoreException> onFailure = invocation.getArgument(3);
+            onFailure.accept(new DataStoreException("Network is unavailable.", "Try again."));
+            failedPublication.countDown();
+            return new NoOpCancelable();
+        }).when(appSync).create(eq(tony), any(), any(), any());
+
+        ModelSchema schema = modelSchemaRegistry.getModelSchemaForModelClass(BlogOwner.class);
+        assertTrue(mutationOutbox.enqueue(PendingMutation.creation(tony, schema))
+            .blockingAwait(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        mutationProcessor.startDrainingMutationOutbox();
+        Latch.await(failedPublication);
+        mutationProcessor.stopDrainingMutationOutbox();
+
+        // The next publication succeeds.
+        AppSyncMocking.create(appSync).mockSuccessResponse(tony);
+        HubAccumulator accumulator =
+            HubAccumulator.create(HubChannel.DATASTORE, isProcessed(tony), 1)
+                .start();
+        mutationProcessor.startDrainingMutationOutbox();
+
+        assertEquals(1, accumulator.await().size());
+        assertFalse(mutationOutbox.hasPendingMutation(tony.getId()));
+    }
+
     /**
      * If the AppSync response to the mutation contains a ConflictUnhandled
      * error in the GraphQLResponse error list, then the user-provided
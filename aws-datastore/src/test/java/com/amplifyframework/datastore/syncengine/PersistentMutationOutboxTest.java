@@ -857,6 +857,82 @@ public final class PersistentMutationOutboxTest {
         assertNull(mutationOutbox.peek());
     }
 
+    /**
+     * A run of edits to the same model is folded into one mutation: a creation followed by
+     * several updates is enqueued as a single creation, with the contents of the last update.
+     * @throws DataStoreException On failure to query storage to inspect mutation records after test action
+     */
+    @Test
+    public void creationFollowedByUpdatesIsCoalescedIntoOneCreation() throws DataStoreException {
+        BlogOwner joe = BlogOwner.builder()
+            .name("Joe")
+            .build();
+        PendingMutation<BlogOwner> creation = PendingMutation.creation(joe, schema);
+        mutationOutbox.enqueue(creation).blockingAwait(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        BlogOwner joeJr = joe.copyOfBuilder()
+            .name("Joe Jr.")
+            .build();
+        mutationOutbox.enqueue(PendingMutation.update(joeJr, schema))
+            .blockingAwait(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        BlogOwner joeTheThird = joe.copyOfBuilder()
+            .name("Joe III")
+            .build();
+        mutationOutbox.enqueue(PendingMutation.update(joeTheThird, schema))
+            .blockingAwait(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+
+        // Only one record is stored, and it is the original creation, with the latest contents.
+        assertEquals(1, storage.query(PersistentRecord.class).size());
+        PendingMutation<BlogOwner> expected = PendingMutation.instance(
+            creation.getMutationId(), joeTheThird, schema, PendingMutation.Type.CREATE, QueryPredicates.all()
+        );
+        assertEquals(expected, mutationOutbox.peek());
+        mutationOutbox.remove(creation.getMutationId()).blockingAwait(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        assertNull(mutationOutbox.peek());
+    }
+
+    /**
+     * An in-flight mutation can't be changed, but mutations that are enqueued behind it
+     * are still coalesced with one another, instead of piling up in the outbox.
+     * @throws DataStoreException On failure to query storage to inspect mutation records after test action
+     */
+    @Test
+    public void mutationsBehindInFlightMutationAreCoalesced() throws DataStoreException {
+        BlogOwner joe = BlogOwner.builder()
+            .name("Joe")
+            .build();
+        PendingMutation<BlogOwner> creation = PendingMutation.creation(joe, schema);
+        mutationOutbox.enqueue(creation)
+            .andThen(mutationOutbox.markInFlight(creation.getMutationId()))
+            .blockingAwait(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+
+        // Two updates arrive whilst the creation is in flight. The second replaces the first.
+        PendingMutation<BlogOwner> firstUpdate = PendingMutation.update(joe.copyOfBuilder()
+            .name("Joe Jr.")
+            .build(), schema);
+        mutationOutbox.enqueue(firstUpdate).blockingAwait(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        PendingMutation<BlogOwner> secondUpdate = PendingMutation.update(joe.copyOfBuilder()
+            .name("Joe III")
+            .build(), schema);
+        mutationOutbox.enqueue(secondUpdate).blockingAwait(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        assertRecordCountForMutationId(firstUpdate.getMutationId().toString(), 0);
+        assertRecordCountForMutationId(secondUpdate.getMutationId().toString(), 1);
+
+        // Then a deletion arrives. It overwrites the pending update.
+        PendingMutation<BlogOwner> deletion = PendingMutation.deletion(joe, schema);
+        mutationOutbox.enqueue(deletion).blockingAwait(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        assertEquals(2, storage.query(PersistentRecord.class).size());
+
+        // The outbox holds the in-flight creation, and one deletion.
+        assertEquals(creation, mutationOutbox.peek());
+        mutationOutbox.remove(creation.getMutationId()).blockingAwait(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        PendingMutation<? extends Model> next = mutationOutbox.peek();
+        assertNotNull(next);
+        assertEquals(PendingMutation.Type.DELETE, next.getMutationType());
+        assertEquals(joe.getId(), next.getMutatedItem().getId());
+        mutationOutbox.remove(next.getMutationId()).blockingAwait(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        assertNull(mutationOutbox.peek());
+    }
+
     /**
      * It is an error to mark an item as in-flight, if it isn't even in the dang queue.
      * @throws InterruptedException If interrupted while awaiting terminal result in test observer
@@ -892,4 +968,59 @@ public final class PersistentMutationOutboxTest {
     private List<PersistentRecord> getPendingMutationRecordFromStorage(String mutationId) throws DataStoreException {
         return storage.query(PersistentRecord.class, Where.id(mutationId));
     }
+
+    /**
+     * The outbox only offers a mutation as ready if it is not in-flight, and if it is the
+     * oldest mutation for its model. So, mutations for different models may be in-flight
+     * at the same time, but a model's next mutation must wait for its in-flight one.
+     */
+    @Test
+    public void peekReadyOffersOldestMutationForEachModelThatIsNotInFlight() {
+        BlogOwner tony = BlogOwner.builder()
+            .name("Tony Daniels")
+            .build();
+        BlogOwner sam = BlogOwner.builder()
+            .name("Sam Watson")
+            .build();
+        PendingMutation<BlogOwner> createTony = PendingMutation.creation(tony, schema);
+        PendingMutation<BlogOwner> createSam = PendingMutation.creation(sam, schema);
+        mutationOutbox.enqueue(createTony).blockingAwait(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        mutationOutbox.enqueue(createSam).blockingAwait(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        // Once Tony's creation is in-flight, a later update for Tony is enqueued behind it.
+        mutationOutbox.markInFlight(createTony.getMutationId()).blockingAwait(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        PendingMutation<BlogOwner> updateTony = PendingMutation.update(tony.copyOfBuilder()
+            .name("Tony Daniels, Jr.")
+            .build(), schema);
+        mutationOutbox.enqueue(updateTony).blockingAwait(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+
+        // Sam's creation is ready, even though Tony's creation is still in-flight.
+        assertEquals(createSam, mutationOutbox.peekReady());
+
+        // Once Sam's creation is in-flight, too, nothing else is ready: Tony's update
+        // must wait for Tony's creation.
+        mutationOutbox.markInFlight(createSam.getMutationId()).blockingAwait(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        assertNull(mutationOutbox.peekReady());
+
+        // When Tony's creation is removed, Tony's update becomes ready.
+        mutationOutbox.remove(createTony.getMutationId()).blockingAwait(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        assertEquals(updateTony, mutationOutbox.peekReady());
+    }
+
+    /**
+     * When a mutation that was in-flight is unmarked, because its publication failed,
+     * the outbox offers it as ready again.
+     */
+    @Test
+    public void unmarkedMutationIsOfferedAgain() {
+        BlogOwner tony = BlogOwner.builder()
+            .name("Tony Daniels")
+            .build();
+        PendingMutation<BlogOwner> createTony = PendingMutation.creation(tony, schema);
+        mutationOutbox.enqueue(createTony).blockingAwait(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        mutationOutbox.markInFlight(createTony.getMutationId()).blockingAwait(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        assertNull(mutationOutbox.peekReady());
+
+        mutationOutbox.unmarkInFlight(createTony.getMutationId());
+        assertEquals(createTony, mutationOutbox.peekReady());
+    }
 }
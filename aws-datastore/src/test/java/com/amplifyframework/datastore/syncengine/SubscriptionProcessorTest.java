@@ -51,10 +51,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Observable;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -68,6 +70,7 @@ import static org.mockito.Mockito.mock;
 @RunWith(RobolectricTestRunner.class)
 public final class SubscriptionProcessorTest {
     private static final long OPERATION_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(1);
+    private static final long RESUMPTION_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(5);
 
     private List<ModelSchema> modelSchemas;
     private AppSync appSync;
@@ -167,6 +170,46 @@ public final class SubscriptionProcessorTest {
         assertFalse(isDataMergedWhenBufferDrainedForBlogOwnerNamed("Paul Hudson"));
     }
 
+    /**
+     * When subscriptions are resumed after their connection was lost, they report having started
+     * again. The processor invokes its resumption action once for all of them, so that the mutations
+     * they missed can be synced.
+     * @throws InterruptedException If interrupted while waiting for the resumption action
+     */
+    @Test
+    public void resumedSubscriptionsAreReportedOnce() throws InterruptedException {
+        CountDownLatch resumed = new CountDownLatch(1);
+        AtomicInteger resumptionCount = new AtomicInteger();
+        QueryPredicateProvider queryPredicateProvider = new QueryPredicateProvider(DataStoreConfiguration::defaults);
+        queryPredicateProvider.resolvePredicates();
+        SubscriptionProcessor resumingProcessor = SubscriptionProcessor.builder()
+            .appSync(appSync)
+            .modelProvider(AmplifyModelProvider.getInstance())
+            .merger(merger)
+            .queryPredicateProvider(queryPredicateProvider)
+            .onSubscriptionsResumed(() -> {
+                resumptionCount.incrementAndGet();
+                resumed.countDown();
+            })
+            .build();
+        // Each subscription is started, and then resumed under the same ID.
+        Answer<Cancelable> answer = invocation -> {
+            final int startConsumerIndex = 1;
+            Consumer<String> onStart = invocation.getArgument(startConsumerIndex);
+            String subscriptionId = RandomString.string();
+            onStart.accept(subscriptionId);
+            onStart.accept(subscriptionId);
+            return new NoOpCancelable();
+        };
+        arrangeSubscriptions(appSync, answer, modelSchemas, SubscriptionType.values());
+
+        resumingProcessor.startSubscriptions();
+
+        assertTrue(resumed.await(RESUMPTION_TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        assertEquals(1, resumptionCount.get());
+        resumingProcessor.stopAllSubscriptionActivity();
+    }
+
     /**
      * Return whether a response with a BlogOwner with the given name gets merged with the merger.
      * @param name name of the BlogOwner returned in the subscription
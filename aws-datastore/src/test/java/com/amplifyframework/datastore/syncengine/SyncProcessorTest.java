@@ -18,8 +18,12 @@ package com.amplifyframework.datastore.syncengine;
 import android.util.Range;
 
 import com.amplifyframework.AmplifyException;
+import com.amplifyframework.api.aws.AppSyncGraphQLRequest;
 import com.amplifyframework.api.graphql.GraphQLRequest;
+import com.amplifyframework.api.graphql.GraphQLResponse;
 import com.amplifyframework.api.graphql.PaginatedResult;
+import com.amplifyframework.core.Consumer;
+import com.amplifyframework.core.async.NoOpCancelable;
 import com.amplifyframework.core.model.Model;
 import com.amplifyframework.core.model.ModelProvider;
 import com.amplifyframework.core.model.ModelSchema;
@@ -44,8 +48,11 @@ import com.amplifyframework.hub.HubChannel;
 import com.amplifyframework.hub.HubEvent;
 import com.amplifyframework.hub.HubEventFilter;
 import com.amplifyframework.testmodels.commentsblog.AmplifyModelProvider;
+import com.amplifyframework.testmodels.commentsblog.Blog;
 import com.amplifyframework.testmodels.commentsblog.BlogOwner;
+import com.amplifyframework.testmodels.commentsblog.Comment;
 import com.amplifyframework.testmodels.commentsblog.Post;
+import com.amplifyframework.testmodels.commentsblog.PostStatus;
 import com.amplifyframework.testutils.HubAccumulator;
 import com.amplifyframework.testutils.random.RandomString;
 import com.amplifyframework.util.ForEach;
@@ -59,9 +66,12 @@ import org.robolectric.RobolectricTestRunner;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
@@ -79,6 +89,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -137,6 +148,7 @@ public final class SyncProcessorTest {
             .syncInterval(BASE_SYNC_INTERVAL_MINUTES, TimeUnit.MINUTES)
             .syncMaxRecords(syncMaxRecords)
             .syncPageSize(1_000)
+            .syncMaxConcurrentModels(4)
             .errorHandler(dataStoreException -> errorHandlerCallCount++)
             .syncExpression(BlogOwner.class, () -> BlogOwner.NAME.beginsWith("J"))
             .build();
@@ -342,6 +354,87 @@ public final class SyncProcessorTest {
         hydrationObserver.dispose();
     }
 
+    /**
+     * Models are hydrated concurrently, but a model is only written once the models that it
+     * belongs to have been written. Here, the responses for the parents (the blog owner, and
+     * then the blog) arrive late, while responses for their children arrive right away.
+     * Still, each parent is written to the local store before its children.
+     * @throws AmplifyException On failure to arrange the sync responses
+     * @throws InterruptedException If interrupted while awaiting terminal result in test observer
+     */
+    @Test
+    public void parentsAreWrittenBeforeChildrenWhenHydratedConcurrently()
+            throws AmplifyException, InterruptedException {
+        BlogOwner owner = BlogOwner.builder()
+            .name("Jean")
+            .build();
+        Blog blog = Blog.builder()
+            .name("Jean's Blog")
+            .owner(owner)
+            .build();
+        Post post = Post.builder()
+            .title("Hello, world")
+            .status(PostStatus.ACTIVE)
+            .rating(5)
+            .blog(blog)
+            .build();
+        Comment comment = Comment.builder()
+            .content("Welcome!")
+            .post(post)
+            .build();
+        final Map<String, Model> remoteModels = new HashMap<>();
+        remoteModels.put("BlogOwner", owner);
+        remoteModels.put("Blog", blog);
+        remoteModels.put("Post", post);
+        remoteModels.put("Comment", comment);
+        final Map<String, Long> responseDelaysMs = new HashMap<>();
+        responseDelaysMs.put("BlogOwner", 250L);
+        responseDelaysMs.put("Blog", 100L);
+
+        // Each of the four models has a single item. Every other model has none.
+        AppSyncMocking.sync(appSync);
+        doAnswer(invocation -> {
+            AppSyncGraphQLRequest<?> request = invocation.getArgument(0);
+            Consumer<GraphQLResponse<PaginatedResult<ModelWithMetadata<Model>>>> onResponse =
+                invocation.getArgument(1);
+            String modelName = request.getModelSchema().getName();
+            Model model = remoteModels.get(modelName);
+            List<ModelWithMetadata<Model>> items = model == null ? Collections.emptyList() :
+                Collections.singletonList(new ModelWithMetadata<>(model,
+                    new ModelMetadata(model.getId(), false, 1, Temporal.Timestamp.now())));
+            GraphQLResponse<PaginatedResult<ModelWithMetadata<Model>>> response =
+                new GraphQLResponse<>(new PaginatedResult<>(items, null), Collections.emptyList());
+            Long delayMs = responseDelaysMs.get(modelName);
+            if (delayMs == null) {
+                onResponse.accept(response);
+            } else {
+                Completable.timer(delayMs, TimeUnit.MILLISECONDS)
+                    .subscribe(() -> onResponse.accept(response));
+            }
+            return new NoOpCancelable();
+        }).when(appSync).sync(any(), any(), any());
+        final TestObserver<StorageItemChange<? extends Model>> adapterObserver = storageAdapter.observe().test();
+
+        TestObserver<ModelWithMetadata<? extends Model>> hydrationObserver = TestObserver.create();
+        syncProcessor.hydrate().subscribe(hydrationObserver);
+        assertTrue(hydrationObserver.await(OP_TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        hydrationObserver.assertNoErrors();
+        hydrationObserver.assertComplete();
+
+        assertEquals(
+            Arrays.asList("BlogOwner", "Blog", "Post", "Comment"),
+            Observable.fromIterable(adapterObserver.values())
+                .map(StorageItemChange::item)
+                .filter(item -> remoteModels.containsKey(item.getClass().getSimpleName()))
+                .map(item -> item.getClass().getSimpleName())
+                .toList()
+                .blockingGet()
+        );
+
+        adapterObserver.dispose();
+        hydrationObserver.dispose();
+    }
+
     /**
      * Suppose that the remote AppSync endpoint has a deleted record, and tells the client to
      * delete a record. But suppose the client is sync'ing for the first time. So, the client
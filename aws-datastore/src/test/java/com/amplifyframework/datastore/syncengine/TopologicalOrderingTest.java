@@ -27,6 +27,9 @@ import com.amplifyframework.testmodels.commentsblog.Post;
 
 import org.junit.Test;
 
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -65,6 +68,33 @@ public final class TopologicalOrderingTest {
         assertTrue(topologicalOrdering.check(postSchema).isAfter(blogSchema));
     }
 
+    /**
+     * The association owners of a model are the models that it belongs to,
+     * and only those models.
+     * @throws AmplifyException On failure to load model schema into registry
+     */
+    @Test
+    public void associationOwnersAreDirectBelongsToModels() throws AmplifyException {
+        final SimpleModelProvider provider =
+            SimpleModelProvider.withRandomVersion(Comment.class, Blog.class, BlogOwner.class, Post.class);
+
+        final ModelSchemaRegistry registry = ModelSchemaRegistry.instance();
+        registry.clear();
+        registry.register(provider.models());
+
+        ModelSchema commentSchema = findSchema(registry, Comment.class);
+        ModelSchema postSchema = findSchema(registry, Post.class);
+        ModelSchema blogSchema = findSchema(registry, Blog.class);
+        ModelSchema blogOwnerSchema = findSchema(registry, BlogOwner.class);
+
+        TopologicalOrdering topologicalOrdering = TopologicalOrdering.forRegisteredModels(registry, provider);
+
+        assertEquals(Collections.singleton(postSchema), topologicalOrdering.findAssociationOwners(commentSchema));
+        assertEquals(Collections.singleton(blogSchema), topologicalOrdering.findAssociationOwners(postSchema));
+        assertEquals(Collections.singleton(blogOwnerSchema), topologicalOrdering.findAssociationOwners(blogSchema));
+        assertEquals(Collections.emptySet(), topologicalOrdering.findAssociationOwners(blogOwnerSchema));
+    }
+
     /**
      * Find a {@link ModelSchema} in an {@link ModelSchemaRegistry}, looking up by the
      * model's {@link Class}.
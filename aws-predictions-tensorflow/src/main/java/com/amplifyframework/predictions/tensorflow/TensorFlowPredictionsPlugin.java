@@ -34,10 +34,12 @@ import com.amplifyframework.predictions.options.IdentifyOptions;
 import com.amplifyframework.predictions.options.InterpretOptions;
 import com.amplifyframework.predictions.options.TextToSpeechOptions;
 import com.amplifyframework.predictions.options.TranslateTextOptions;
+import com.amplifyframework.predictions.result.BatchResult;
 import com.amplifyframework.predictions.result.IdentifyResult;
 import com.amplifyframework.predictions.result.InterpretResult;
 import com.amplifyframework.predictions.result.TextToSpeechResult;
 import com.amplifyframework.predictions.result.TranslateTextResult;
+import com.amplifyframework.predictions.tensorflow.operation.TensorFlowBatchInterpretOperation;
 import com.amplifyframework.predictions.tensorflow.operation.TensorFlowIdentifyOperation;
 import com.amplifyframework.predictions.tensorflow.operation.TensorFlowInterpretOperation;
 import com.amplifyframework.predictions.tensorflow.operation.TensorFlowTextToSpeechOperation;
@@ -47,6 +49,8 @@ import com.amplifyframework.predictions.tensorflow.service.TensorFlowPredictions
 
 import org.json.JSONObject;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -239,4 +243,66 @@ public final class TensorFlowPredictionsPlugin extends PredictionsPlugin<TensorF
         operation.start();
         return operation;
     }
+
+    @NonNull
+    @Override
+    public IdentifyOperation<?> identifyAll(
+            @NonNull IdentifyAction actionType,
+            @NonNull List<Bitmap> images,
+            @NonNull Consumer<BatchResult<IdentifyResult>> onSuccess,
+            @NonNull Consumer<PredictionsException> onError
+    ) {
+        return identifyAll(actionType, images, IdentifyOptions.defaults(), onSuccess, onError);
+    }
+
+    @NonNull
+    @Override
+    public IdentifyOperation<?> identifyAll(
+            @NonNull IdentifyAction actionType,
+            @NonNull List<Bitmap> images,
+            @NonNull IdentifyOptions options,
+            @NonNull Consumer<BatchResult<IdentifyResult>> onSuccess,
+            @NonNull Consumer<PredictionsException> onError
+    ) {
+        TensorFlowIdentifyOperation operation =
+                new TensorFlowIdentifyOperation(actionType, onError);
+        operation.start();
+        return operation;
+    }
+
+    @NonNull
+    @Override
+    public InterpretOperation<?> interpretAll(
+            @NonNull List<String> texts,
+            @NonNull Consumer<BatchResult<InterpretResult>> onSuccess,
+            @NonNull Consumer<PredictionsException> onError
+    ) {
+        return interpretAll(texts, InterpretOptions.defaults(), onSuccess, onError);
+    }
+
+    @NonNull
+    @Override
+    public InterpretOperation<?> interpretAll(
+            @NonNull List<String> texts,
+            @NonNull InterpretOptions options,
+            @NonNull Consumer<BatchResult<InterpretResult>> onSuccess,
+            @NonNull Consumer<PredictionsException> onError
+    ) {
+        // Create interpret request for TensorFlow Lite interpreter, for each text
+        List<TensorFlowTextClassificationRequest> requests = new ArrayList<>();
+        for (String text : texts) {
+            requests.add(new TensorFlowTextClassificationRequest(text));
+        }
+
+        TensorFlowBatchInterpretOperation operation = new TensorFlowBatchInterpretOperation(
+                predictionsService,
+                executorService,
+                requests,
+                onSuccess
+        );
+
+        // Start operation and return
+        operation.start();
+        return operation;
+    }
 }
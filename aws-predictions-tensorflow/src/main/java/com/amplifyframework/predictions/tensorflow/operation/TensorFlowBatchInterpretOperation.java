@@ -0,0 +1,84 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.predictions.tensorflow.operation;
+
+import androidx.annotation.NonNull;
+
+import com.amplifyframework.core.Consumer;
+import com.amplifyframework.predictions.PredictionsException;
+import com.amplifyframework.predictions.operation.InterpretOperation;
+import com.amplifyframework.predictions.result.BatchResult;
+import com.amplifyframework.predictions.result.InterpretResult;
+import com.amplifyframework.predictions.tensorflow.request.TensorFlowTextClassificationRequest;
+import com.amplifyframework.predictions.tensorflow.service.TensorFlowPredictionsService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Operation that uses pre-trained TensorFlow Lite model to
+ * interpret many texts in an offline state. The texts are
+ * classified one after another, on a single worker thread.
+ */
+public final class TensorFlowBatchInterpretOperation
+        extends InterpretOperation<List<TensorFlowTextClassificationRequest>> {
+    private final TensorFlowPredictionsService predictionsService;
+    private final ExecutorService executorService;
+    private final Consumer<BatchResult<InterpretResult>> onSuccess;
+
+    /**
+     * Constructs an instance of {@link TensorFlowBatchInterpretOperation}.
+     * @param predictionsService instance of tflite service
+     * @param executorService async task executor service
+     * @param requests predictions interpret request for each text
+     * @param onSuccess lambda to execute upon task completion
+     */
+    public TensorFlowBatchInterpretOperation(
+            @NonNull TensorFlowPredictionsService predictionsService,
+            @NonNull ExecutorService executorService,
+            @NonNull List<TensorFlowTextClassificationRequest> requests,
+            @NonNull Consumer<BatchResult<InterpretResult>> onSuccess
+    ) {
+        super(Objects.requireNonNull(requests));
+        this.predictionsService = Objects.requireNonNull(predictionsService);
+        this.executorService = Objects.requireNonNull(executorService);
+        this.onSuccess = Objects.requireNonNull(onSuccess);
+    }
+
+    @Override
+    public void start() {
+        executorService.execute(() -> {
+            List<BatchResult.Item<InterpretResult>> items = new ArrayList<>();
+            for (TensorFlowTextClassificationRequest request : getRequest()) {
+                // Classification is synchronous; keep whichever outcome is reported first
+                AtomicReference<BatchResult.Item<InterpretResult>> item = new AtomicReference<>();
+                predictionsService.classify(
+                        request.getText(),
+                        result -> item.compareAndSet(null, BatchResult.Item.success(result)),
+                        error -> item.compareAndSet(null, BatchResult.Item.failure(error))
+                );
+                items.add(item.get() != null ? item.get() : BatchResult.Item.failure(new PredictionsException(
+                        "Text classification did not produce a result.",
+                        "Please verify that the text classification assets are loaded."
+                )));
+            }
+            onSuccess.accept(BatchResult.fromItems(items));
+        });
+    }
+}
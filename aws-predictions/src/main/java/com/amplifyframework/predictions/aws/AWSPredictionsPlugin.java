@@ -25,11 +25,15 @@ import com.amplifyframework.core.Consumer;
 import com.amplifyframework.predictions.PredictionsException;
 import com.amplifyframework.predictions.PredictionsPlugin;
 import com.amplifyframework.predictions.aws.models.AWSVoiceType;
+import com.amplifyframework.predictions.aws.operation.AWSBatchIdentifyOperation;
+import com.amplifyframework.predictions.aws.operation.AWSBatchInterpretOperation;
 import com.amplifyframework.predictions.aws.operation.AWSIdentifyOperation;
 import com.amplifyframework.predictions.aws.operation.AWSInterpretOperation;
 import com.amplifyframework.predictions.aws.operation.AWSTextToSpeechOperation;
 import com.amplifyframework.predictions.aws.operation.AWSTranslateTextOperation;
+import com.amplifyframework.predictions.aws.request.AWSComprehendBatchRequest;
 import com.amplifyframework.predictions.aws.request.AWSComprehendRequest;
+import com.amplifyframework.predictions.aws.request.AWSImageIdentifyBatchRequest;
 import com.amplifyframework.predictions.aws.request.AWSImageIdentifyRequest;
 import com.amplifyframework.predictions.aws.request.AWSPollyRequest;
 import com.amplifyframework.predictions.aws.request.AWSTranslateRequest;
@@ -44,6 +48,7 @@ import com.amplifyframework.predictions.options.IdentifyOptions;
 import com.amplifyframework.predictions.options.InterpretOptions;
 import com.amplifyframework.predictions.options.TextToSpeechOptions;
 import com.amplifyframework.predictions.options.TranslateTextOptions;
+import com.amplifyframework.predictions.result.BatchResult;
 import com.amplifyframework.predictions.result.IdentifyResult;
 import com.amplifyframework.predictions.result.InterpretResult;
 import com.amplifyframework.predictions.result.TextToSpeechResult;
@@ -53,6 +58,7 @@ import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.mobile.client.AWSMobileClient;
 import org.json.JSONObject;
 
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -283,7 +289,7 @@ public final class AWSPredictionsPlugin extends PredictionsPlugin<AWSPredictions
             @NonNull Consumer<InterpretResult> onSuccess,
             @NonNull Consumer<PredictionsException> onError) {
         // Create interpret request for AWS Comprehend
-        AWSComprehendRequest request = new AWSComprehendRequest(text);
+        AWSComprehendRequest request = new AWSComprehendRequest(text, options.getLanguage());
 
         AWSInterpretOperation operation = new AWSInterpretOperation(
                 predictionsService,
@@ -297,4 +303,75 @@ public final class AWSPredictionsPlugin extends PredictionsPlugin<AWSPredictions
         operation.start();
         return operation;
     }
+
+    @NonNull
+    @Override
+    public IdentifyOperation<?> identifyAll(
+            @NonNull IdentifyAction actionType,
+            @NonNull List<Bitmap> images,
+            @NonNull Consumer<BatchResult<IdentifyResult>> onSuccess,
+            @NonNull Consumer<PredictionsException> onError
+    ) {
+        return identifyAll(actionType, images, IdentifyOptions.defaults(), onSuccess, onError);
+    }
+
+    @NonNull
+    @Override
+    public IdentifyOperation<?> identifyAll(
+            @NonNull IdentifyAction actionType,
+            @NonNull List<Bitmap> images,
+            @NonNull IdentifyOptions options,
+            @NonNull Consumer<BatchResult<IdentifyResult>> onSuccess,
+            @NonNull Consumer<PredictionsException> onError
+    ) {
+        // Create batch identify request for AWS Rekognition/Textract
+        AWSImageIdentifyBatchRequest request = new AWSImageIdentifyBatchRequest(images);
+
+        AWSBatchIdentifyOperation operation = new AWSBatchIdentifyOperation(
+                predictionsService,
+                executorService,
+                actionType,
+                request,
+                onSuccess,
+                onError
+        );
+
+        // Start operation and return
+        operation.start();
+        return operation;
+    }
+
+    @NonNull
+    @Override
+    public InterpretOperation<?> interpretAll(
+            @NonNull List<String> texts,
+            @NonNull Consumer<BatchResult<InterpretResult>> onSuccess,
+            @NonNull Consumer<PredictionsException> onError
+    ) {
+        return interpretAll(texts, InterpretOptions.defaults(), onSuccess, onError);
+    }
+
+    @NonNull
+    @Override
+    public InterpretOperation<?> interpretAll(
+            @NonNull List<String> texts,
+            @NonNull InterpretOptions options,
+            @NonNull Consumer<BatchResult<InterpretResult>> onSuccess,
+            @NonNull Consumer<PredictionsException> onError
+    ) {
+        // Create batch interpret request for AWS Comprehend
+        AWSComprehendBatchRequest request = new AWSComprehendBatchRequest(texts, options.getLanguage());
+
+        AWSBatchInterpretOperation operation = new AWSBatchInterpretOperation(
+                predictionsService,
+                executorService,
+                request,
+                onSuccess,
+                onError
+        );
+
+        // Start operation and return
+        operation.start();
+        return operation;
+    }
 }
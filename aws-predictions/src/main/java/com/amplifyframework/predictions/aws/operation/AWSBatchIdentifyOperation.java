@@ -0,0 +1,199 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package com.amplifyframework.predictions.aws.operation;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+
+import com.amplifyframework.core.Consumer;
+import com.amplifyframework.predictions.PredictionsException;
+import com.amplifyframework.predictions.aws.request.AWSImageIdentifyBatchRequest;
+import com.amplifyframework.predictions.aws.service.AWSPredictionsService;
+import com.amplifyframework.predictions.models.IdentifyAction;
+import com.amplifyframework.predictions.operation.IdentifyOperation;
+import com.amplifyframework.predictions.result.BatchResult;
+import com.amplifyframework.predictions.result.IdentifyResult;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Operation that identifies objects within many images via
+ * Amazon Rekognition and Amazon Textract. Neither service accepts
+ * more than one image per request, so a bounded number of requests
+ * are made concurrently instead.
+ *
+ * An image which is not identified in time fails with its own error,
+ * as does every image after it, if the ongoing requests stop finishing.
+ * The results of the other images are still reported.
+ */
+public final class AWSBatchIdentifyOperation
+        extends IdentifyOperation<AWSImageIdentifyBatchRequest> {
+    private static final int MAX_CONCURRENT_REQUESTS = 4;
+    private static final long IDENTIFY_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(60);
+
+    private final AWSPredictionsService predictionsService;
+    private final ExecutorService executorService;
+    private final Consumer<BatchResult<IdentifyResult>> onSuccess;
+    private final Consumer<PredictionsException> onError;
+    private final long timeoutMs;
+
+    /**
+     * Constructs an instance of {@link AWSBatchIdentifyOperation}.
+     * @param predictionsService instance of AWS predictions service
+     * @param executorService async task executor service
+     * @param actionType the type of identification action
+     * @param request predictions batch identify request
+     * @param onSuccess lambda to execute upon task completion
+     * @param onError lambda to execute upon task failure
+     */
+    public AWSBatchIdentifyOperation(
+            @NonNull AWSPredictionsService predictionsService,
+            @NonNull ExecutorService executorService,
+            @NonNull IdentifyAction actionType,
+            @NonNull AWSImageIdentifyBatchRequest request,
+            @NonNull Consumer<BatchResult<IdentifyResult>> onSuccess,
+            @NonNull Consumer<PredictionsException> onError
+    ) {
+        this(predictionsService, executorService, actionType, request, onSuccess, onError, IDENTIFY_TIMEOUT_MS);
+    }
+
+    @VisibleForTesting
+    AWSBatchIdentifyOperation(
+            @NonNull AWSPredictionsService predictionsService,
+            @NonNull ExecutorService executorService,
+            @NonNull IdentifyAction actionType,
+            @NonNull AWSImageIdentifyBatchRequest request,
+            @NonNull Consumer<BatchResult<IdentifyResult>> onSuccess,
+            @NonNull Consumer<PredictionsException> onError,
+            long timeoutMs
+    ) {
+        super(actionType, Objects.requireNonNull(request));
+        this.predictionsService = Objects.requireNonNull(predictionsService);
+        this.executorService = Objects.requireNonNull(executorService);
+        this.onSuccess = Objects.requireNonNull(onSuccess);
+        this.onError = Objects.requireNonNull(onError);
+        this.timeoutMs = timeoutMs;
+    }
+
+    @Override
+    public void start() {
+        try {
+            executorService.execute(this::identifyAll);
+        } catch (RejectedExecutionException rejected) {
+            onError.accept(new PredictionsException(
+                    "Image identification could not be started.",
+                    rejected,
+                    "Retry the identification."
+            ));
+        }
+    }
+
+    private void identifyAll() {
+        final int size = getRequest().size();
+        final AtomicReferenceArray<BatchResult.Item<IdentifyResult>> items = new AtomicReferenceArray<>(size);
+        final Semaphore permits = new Semaphore(MAX_CONCURRENT_REQUESTS);
+        final CountDownLatch remaining = new CountDownLatch(size);
+        try {
+            // Wait for one of the ongoing requests to finish, before making another.
+            // If none of them finishes in time, the remaining images aren't requested.
+            int requested = 0;
+            while (requested < size && permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS)) {
+                final int position = requested++;
+                final Consumer<BatchResult.Item<IdentifyResult>> onItem = item -> {
+                    // Only the first outcome for an image counts
+                    if (items.compareAndSet(position, null, item)) {
+                        permits.release();
+                        remaining.countDown();
+                    }
+                };
+                try {
+                    executorService.execute(() -> identify(position, onItem));
+                } catch (RejectedExecutionException rejected) {
+                    onItem.accept(BatchResult.Item.failure(new PredictionsException(
+                            "Image identification could not be started.",
+                            rejected,
+                            "Retry the identification of this image."
+                    )));
+                }
+            }
+            if (requested == size) {
+                remaining.await(timeoutMs, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            onError.accept(new PredictionsException(
+                    "Image identification was interrupted.",
+                    interruptedException,
+                    "Retry the identification."
+            ));
+            return;
+        }
+
+        final List<BatchResult.Item<IdentifyResult>> results = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            // An image without an outcome by now has timed out. Its outcome is ignored, if it comes later.
+            items.compareAndSet(index, null, BatchResult.Item.failure(new PredictionsException(
+                    "Image identification timed out.",
+                    "Retry the identification of this image."
+            )));
+            results.add(items.get(index));
+        }
+        onSuccess.accept(BatchResult.fromItems(results));
+    }
+
+    private void identify(int index, Consumer<BatchResult.Item<IdentifyResult>> onItem) {
+        final Consumer<IdentifyResult> onResult = result -> onItem.accept(BatchResult.Item.success(result));
+        final Consumer<PredictionsException> onFailure = error -> onItem.accept(BatchResult.Item.failure(error));
+        try {
+            final ByteBuffer imageData = getRequest().getImageData(index);
+            switch (getIdentifyAction().getType()) {
+                case DETECT_CELEBRITIES:
+                    predictionsService.recognizeCelebrities(imageData, onResult, onFailure);
+                    return;
+                case DETECT_LABELS:
+                    predictionsService.detectLabels(getIdentifyAction(), imageData, onResult, onFailure);
+                    return;
+                case DETECT_ENTITIES:
+                    predictionsService.detectEntities(imageData, onResult, onFailure);
+                    return;
+                case DETECT_TEXT:
+                    predictionsService.detectText(getIdentifyAction(), imageData, onResult, onFailure);
+                    return;
+                default:
+                    onFailure.accept(new PredictionsException(
+                            "Identification action type is not supported.",
+                            "Use one of the types of IdentifyActionType."
+                    ));
+            }
+        } catch (RuntimeException exception) {
+            onFailure.accept(new PredictionsException(
+                    "Encountered an error while identifying the image.",
+                    exception,
+                    "See attached exception for more details."
+            ));
+        }
+    }
+}
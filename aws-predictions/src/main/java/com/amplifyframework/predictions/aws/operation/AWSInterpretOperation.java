@@ -64,6 +64,8 @@ public final class AWSInterpretOperation
     public void start() {
         executorService.execute(() -> predictionsService.comprehend(
                 getRequest().getText(),
+                getRequest().getLanguage(),
+                executorService,
                 onSuccess,
                 onError)
         );
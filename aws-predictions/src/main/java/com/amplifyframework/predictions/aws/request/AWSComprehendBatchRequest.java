@@ -0,0 +1,62 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package com.amplifyframework.predictions.aws.request;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.amplifyframework.predictions.models.LanguageType;
+import com.amplifyframework.util.Immutable;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Simple request instance for batch text interpretation operation.
+ */
+public final class AWSComprehendBatchRequest {
+    private final List<String> texts;
+    private final LanguageType language;
+
+    /**
+     * Constructs an instance of {@link AWSComprehendBatchRequest}.
+     * @param texts the texts to interpret
+     * @param language the language of every text, or null to detect the language of each
+     */
+    public AWSComprehendBatchRequest(@NonNull List<String> texts, @Nullable LanguageType language) {
+        this.texts = Immutable.of(Objects.requireNonNull(texts));
+        this.language = language;
+    }
+
+    /**
+     * Gets the texts to interpret.
+     * @return the input texts
+     */
+    @NonNull
+    public List<String> getTexts() {
+        return texts;
+    }
+
+    /**
+     * Gets the language of the texts to interpret.
+     * @return the language of every text, or null if it should be detected for each
+     */
+    @Nullable
+    public LanguageType getLanguage() {
+        return language;
+    }
+}
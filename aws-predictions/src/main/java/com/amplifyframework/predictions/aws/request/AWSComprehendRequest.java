@@ -16,6 +16,9 @@
 package com.amplifyframework.predictions.aws.request;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.amplifyframework.predictions.models.LanguageType;
 
 import java.util.Objects;
 
@@ -24,13 +27,25 @@ import java.util.Objects;
  */
 public final class AWSComprehendRequest {
     private final String text;
+    private final LanguageType language;
 
     /**
      * Constructs an instance of {@link AWSComprehendRequest}.
      * @param text the text to interpret
      */
     public AWSComprehendRequest(@NonNull String text) {
+        this(text, null);
+    }
+
+    /**
+     * Constructs an instance of {@link AWSComprehendRequest}
+     * for text in a known language.
+     * @param text the text to interpret
+     * @param language the language of the text, or null to detect it
+     */
+    public AWSComprehendRequest(@NonNull String text, @Nullable LanguageType language) {
         this.text = Objects.requireNonNull(text);
+        this.language = language;
     }
 
     /**
@@ -41,4 +56,13 @@ public final class AWSComprehendRequest {
     public String getText() {
         return text;
     }
+
+    /**
+     * Gets the language of the text to interpret.
+     * @return the language of the text, or null if it should be detected
+     */
+    @Nullable
+    public LanguageType getLanguage() {
+        return language;
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package com.amplifyframework.predictions.aws.request;
+
+import android.graphics.Bitmap;
+import androidx.annotation.NonNull;
+
+import com.amplifyframework.util.Immutable;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Simple request instance for batch image identification operation.
+ * The images are only compressed when their data is requested, so
+ * that the images can be compressed concurrently.
+ */
+public final class AWSImageIdentifyBatchRequest {
+    private final List<Bitmap> images;
+
+    /**
+     * Constructs an instance of {@link AWSImageIdentifyBatchRequest}.
+     * @param images the input images to analyze
+     */
+    public AWSImageIdentifyBatchRequest(@NonNull List<Bitmap> images) {
+        this.images = Immutable.of(Objects.requireNonNull(images));
+    }
+
+    /**
+     * Gets the number of images to analyze.
+     * @return the number of images
+     */
+    public int size() {
+        return images.size();
+    }
+
+    /**
+     * Gets the byte data of one of the input images.
+     * @param index the position of the image
+     * @return the byte buffer of the image
+     */
+    @NonNull
+    public ByteBuffer getImageData(int index) {
+        return AWSImageIdentifyRequest.fromBitmap(images.get(index)).getImageData();
+    }
+}
@@ -16,6 +16,8 @@
 package com.amplifyframework.predictions.aws.service;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 
 import com.amplifyframework.core.Consumer;
 import com.amplifyframework.predictions.PredictionsException;
@@ -33,6 +35,7 @@ import com.amplifyframework.predictions.models.Sentiment;
 import com.amplifyframework.predictions.models.SentimentType;
 import com.amplifyframework.predictions.models.SpeechType;
 import com.amplifyframework.predictions.models.Syntax;
+import com.amplifyframework.predictions.result.BatchResult;
 import com.amplifyframework.predictions.result.InterpretResult;
 import com.amplifyframework.util.UserAgent;
 
@@ -40,6 +43,22 @@ import com.amazonaws.AmazonClientException;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.services.comprehend.AmazonComprehendClient;
+import com.amazonaws.services.comprehend.model.BatchDetectDominantLanguageItemResult;
+import com.amazonaws.services.comprehend.model.BatchDetectDominantLanguageRequest;
+import com.amazonaws.services.comprehend.model.BatchDetectDominantLanguageResult;
+import com.amazonaws.services.comprehend.model.BatchDetectEntitiesItemResult;
+import com.amazonaws.services.comprehend.model.BatchDetectEntitiesRequest;
+import com.amazonaws.services.comprehend.model.BatchDetectEntitiesResult;
+import com.amazonaws.services.comprehend.model.BatchDetectKeyPhrasesItemResult;
+import com.amazonaws.services.comprehend.model.BatchDetectKeyPhrasesRequest;
+import com.amazonaws.services.comprehend.model.BatchDetectKeyPhrasesResult;
+import com.amazonaws.services.comprehend.model.BatchDetectSentimentItemResult;
+import com.amazonaws.services.comprehend.model.BatchDetectSentimentRequest;
+import com.amazonaws.services.comprehend.model.BatchDetectSentimentResult;
+import com.amazonaws.services.comprehend.model.BatchDetectSyntaxItemResult;
+import com.amazonaws.services.comprehend.model.BatchDetectSyntaxRequest;
+import com.amazonaws.services.comprehend.model.BatchDetectSyntaxResult;
+import com.amazonaws.services.comprehend.model.BatchItemError;
 import com.amazonaws.services.comprehend.model.DetectDominantLanguageRequest;
 import com.amazonaws.services.comprehend.model.DetectDominantLanguageResult;
 import com.amazonaws.services.comprehend.model.DetectEntitiesRequest;
@@ -53,15 +72,26 @@ import com.amazonaws.services.comprehend.model.DetectSyntaxResult;
 import com.amazonaws.services.comprehend.model.DominantLanguage;
 import com.amazonaws.services.comprehend.model.PartOfSpeechTag;
 import com.amazonaws.services.comprehend.model.SentimentScore;
+import com.amazonaws.services.comprehend.model.SyntaxToken;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Predictions service for performing text interpretation.
  */
 final class AWSComprehendService {
     private static final int PERCENT = 100;
+    private static final int MAX_BATCH_SIZE = 25;
 
     private final AmazonComprehendClient comprehend;
     private final AWSPredictionsPluginConfiguration pluginConfiguration;
@@ -69,11 +99,18 @@ final class AWSComprehendService {
     AWSComprehendService(
             @NonNull AWSPredictionsPluginConfiguration pluginConfiguration,
             @NonNull AWSCredentialsProvider credentialsProvider) {
-        this.comprehend = createComprehendClient(credentialsProvider);
+        this(pluginConfiguration, createComprehendClient(credentialsProvider));
+    }
+
+    @VisibleForTesting
+    AWSComprehendService(
+            @NonNull AWSPredictionsPluginConfiguration pluginConfiguration,
+            @NonNull AmazonComprehendClient comprehend) {
+        this.comprehend = comprehend;
         this.pluginConfiguration = pluginConfiguration;
     }
 
-    private AmazonComprehendClient createComprehendClient(@NonNull AWSCredentialsProvider credentialsProvider) {
+    private static AmazonComprehendClient createComprehendClient(@NonNull AWSCredentialsProvider credentialsProvider) {
         ClientConfiguration configuration = new ClientConfiguration();
         configuration.setUserAgent(UserAgent.string());
         return new AmazonComprehendClient(credentialsProvider, configuration);
@@ -81,32 +118,365 @@ final class AWSComprehendService {
 
     void comprehend(
             @NonNull String text,
+            @Nullable LanguageType knownLanguage,
+            @NonNull ExecutorService executorService,
             @NonNull Consumer<InterpretResult> onSuccess,
             @NonNull Consumer<PredictionsException> onError
     ) {
+        final List<Future<?>> detections = new ArrayList<>();
         try {
-            // First obtain the dominant language to begin analysis
-            final Language dominantLanguage = fetchPredominantLanguage(text);
+            // First obtain the dominant language to begin analysis, unless it is already known
+            final Language dominantLanguage = knownLanguage != null
+                    ? Language.builder().value(knownLanguage).confidence(PERCENT).build()
+                    : fetchPredominantLanguage(text);
             final LanguageType language = dominantLanguage.getValue();
 
-            // Actually analyze text in the context of dominant language
-            final Sentiment sentiment = fetchSentiment(text, language);
-            final List<KeyPhrase> keyPhrases = fetchKeyPhrases(text, language);
-            final List<Entity> entities = fetchEntities(text, language);
-            final List<Syntax> syntax = fetchSyntax(text, language);
+            // Actually analyze text in the context of dominant language.
+            // These detections are independent of each other, so they are made concurrently.
+            final Future<Sentiment> sentiment = submit(executorService, () -> fetchSentiment(text, language));
+            detections.add(sentiment);
+            final Future<List<KeyPhrase>> keyPhrases = submit(executorService, () -> fetchKeyPhrases(text, language));
+            detections.add(keyPhrases);
+            final Future<List<Entity>> entities = submit(executorService, () -> fetchEntities(text, language));
+            detections.add(entities);
+            final Future<List<Syntax>> syntax = submit(executorService, () -> fetchSyntax(text, language));
+            detections.add(syntax);
 
             onSuccess.accept(InterpretResult.builder()
                     .language(dominantLanguage)
-                    .sentiment(sentiment)
-                    .keyPhrases(keyPhrases)
-                    .entities(entities)
-                    .syntax(syntax)
+                    .sentiment(await(sentiment))
+                    .keyPhrases(await(keyPhrases))
+                    .entities(await(entities))
+                    .syntax(await(syntax))
                     .build());
         } catch (PredictionsException exception) {
+            // Don't wait on the other detections, once one has failed
+            for (Future<?> detection : detections) {
+                detection.cancel(true);
+            }
+            onError.accept(exception);
+        }
+    }
+
+    // Submits a detection to the executor, which may reject it if it is shutting down or saturated.
+    private static <T> Future<T> submit(ExecutorService executorService, Callable<T> detection)
+            throws PredictionsException {
+        try {
+            return executorService.submit(detection);
+        } catch (RejectedExecutionException rejected) {
+            throw new PredictionsException(
+                    "AWS Comprehend could not start interpreting the text.",
+                    rejected,
+                    "Retry the interpretation."
+            );
+        }
+    }
+
+    private static <T> T await(Future<T> detection) throws PredictionsException {
+        try {
+            return detection.get();
+        } catch (ExecutionException executionException) {
+            Throwable cause = executionException.getCause();
+            if (cause instanceof PredictionsException) {
+                throw (PredictionsException) cause;
+            }
+            throw new PredictionsException(
+                    "AWS Comprehend encountered an error while interpreting text.",
+                    cause,
+                    "See attached exception for more details."
+            );
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            throw new PredictionsException(
+                    "Text interpretation was interrupted.",
+                    interruptedException,
+                    "Retry the interpretation."
+            );
+        }
+    }
+
+    void comprehendBatch(
+            @NonNull List<String> texts,
+            @Nullable LanguageType knownLanguage,
+            @NonNull ExecutorService executorService,
+            @NonNull Consumer<BatchResult<InterpretResult>> onSuccess,
+            @NonNull Consumer<PredictionsException> onError
+    ) {
+        // Split the texts into the largest batches that AWS Comprehend accepts,
+        // and interpret the batches concurrently
+        final List<Future<List<BatchResult.Item<InterpretResult>>>> batches = new ArrayList<>();
+        try {
+            for (int start = 0; start < texts.size(); start += MAX_BATCH_SIZE) {
+                final List<String> batch = texts.subList(start, Math.min(texts.size(), start + MAX_BATCH_SIZE));
+                batches.add(submit(executorService, () -> comprehendBatch(batch, knownLanguage, executorService)));
+            }
+
+            final List<BatchResult.Item<InterpretResult>> items = new ArrayList<>(texts.size());
+            for (Future<List<BatchResult.Item<InterpretResult>>> batch : batches) {
+                items.addAll(await(batch));
+            }
+            onSuccess.accept(BatchResult.fromItems(items));
+        } catch (PredictionsException exception) {
+            for (Future<?> batch : batches) {
+                batch.cancel(true);
+            }
             onError.accept(exception);
         }
     }
 
+    private List<BatchResult.Item<InterpretResult>> comprehendBatch(
+            List<String> texts,
+            @Nullable LanguageType knownLanguage,
+            ExecutorService executorService
+    ) throws PredictionsException, InterruptedException {
+        final List<Integer> allIndices = new ArrayList<>();
+        for (int index = 0; index < texts.size(); index++) {
+            allIndices.add(index);
+        }
+        final List<PredictionsException> errors = nulls(texts.size());
+
+        // First obtain the dominant language of each text, unless it is already known
+        final List<Language> languages = nulls(texts.size());
+        if (knownLanguage != null) {
+            Language language = Language.builder().value(knownLanguage).confidence(PERCENT).build();
+            Collections.fill(languages, language);
+        } else {
+            try {
+                collect(detectDominantLanguages(texts), allIndices, languages, errors);
+            } catch (PredictionsException exception) {
+                Collections.fill(errors, exception);
+            }
+        }
+
+        // Every other detection is made for texts of a single language, so group the texts by language
+        final Map<LanguageType, List<Integer>> indicesByLanguage = new LinkedHashMap<>();
+        for (int index = 0; index < texts.size(); index++) {
+            if (errors.get(index) == null) {
+                LanguageType language = languages.get(index).getValue();
+                List<Integer> indices = indicesByLanguage.get(language);
+                if (indices == null) {
+                    indices = new ArrayList<>();
+                    indicesByLanguage.put(language, indices);
+                }
+                indices.add(index);
+            }
+        }
+
+        // Make the remaining detections for every language at once
+        final List<Sentiment> sentiments = nulls(texts.size());
+        final List<List<KeyPhrase>> keyPhrases = nulls(texts.size());
+        final List<List<Entity>> entities = nulls(texts.size());
+        final List<List<Syntax>> syntax = nulls(texts.size());
+        final List<PendingDetection<?>> detections = new ArrayList<>();
+        for (Map.Entry<LanguageType, List<Integer>> group : indicesByLanguage.entrySet()) {
+            final LanguageType language = group.getKey();
+            final List<Integer> indices = group.getValue();
+            final List<String> groupTexts = new ArrayList<>();
+            for (int index : indices) {
+                groupTexts.add(texts.get(index));
+            }
+            if (isResourceConfigured(InterpretTextConfiguration.InterpretType.SENTIMENT)) {
+                detections.add(PendingDetection.start(executorService, indices, sentiments,
+                        () -> detectSentiments(groupTexts, language)));
+            }
+            if (isResourceConfigured(InterpretTextConfiguration.InterpretType.KEY_PHRASES)) {
+                detections.add(PendingDetection.start(executorService, indices, keyPhrases,
+                        () -> detectKeyPhrases(groupTexts, language)));
+            }
+            if (isResourceConfigured(InterpretTextConfiguration.InterpretType.ENTITIES)) {
+                detections.add(PendingDetection.start(executorService, indices, entities,
+                        () -> detectEntities(groupTexts, language)));
+            }
+            if (isResourceConfigured(InterpretTextConfiguration.InterpretType.SYNTAX)) {
+                detections.add(PendingDetection.start(executorService, indices, syntax,
+                        () -> detectSyntax(groupTexts, language)));
+            }
+        }
+        try {
+            for (PendingDetection<?> detection : detections) {
+                detection.collectInto(errors);
+            }
+        } catch (InterruptedException interruptedException) {
+            for (PendingDetection<?> detection : detections) {
+                detection.cancel();
+            }
+            throw interruptedException;
+        }
+
+        // Assemble the results of each text, in order
+        final List<BatchResult.Item<InterpretResult>> items = new ArrayList<>(texts.size());
+        for (int index = 0; index < texts.size(); index++) {
+            if (errors.get(index) != null) {
+                items.add(BatchResult.Item.failure(errors.get(index)));
+            } else {
+                items.add(BatchResult.Item.success(InterpretResult.builder()
+                        .language(languages.get(index))
+                        .sentiment(sentiments.get(index))
+                        .keyPhrases(keyPhrases.get(index))
+                        .entities(entities.get(index))
+                        .syntax(syntax.get(index))
+                        .build()));
+            }
+        }
+        return items;
+    }
+
+    private BatchDetection<Language> detectDominantLanguages(List<String> texts) throws PredictionsException {
+        // Language is a required field for other detections.
+        // Always fetch language regardless of what configuration says.
+        isResourceConfigured(InterpretTextConfiguration.InterpretType.LANGUAGE);
+
+        BatchDetectDominantLanguageRequest request = new BatchDetectDominantLanguageRequest()
+                .withTextList(texts);
+
+        // Detect dominant language of each text via AWS Comprehend
+        final BatchDetectDominantLanguageResult result;
+        try {
+            result = comprehend.batchDetectDominantLanguage(request);
+        } catch (AmazonClientException serviceException) {
+            throw new PredictionsException(
+                    "AWS Comprehend encountered an error while detecting dominant language.",
+                    serviceException,
+                    "See attached service exception for more details."
+            );
+        }
+
+        BatchDetection<Language> detection = new BatchDetection<>("dominant language", result.getErrorList());
+        for (BatchDetectDominantLanguageItemResult item : result.getResultList()) {
+            try {
+                detection.results.put(item.getIndex(), toLanguage(item.getLanguages()));
+            } catch (PredictionsException noLanguage) {
+                detection.errors.put(item.getIndex(), noLanguage);
+            }
+        }
+        return detection;
+    }
+
+    private BatchDetection<Sentiment> detectSentiments(List<String> texts, LanguageType language)
+            throws PredictionsException {
+        BatchDetectSentimentRequest request = new BatchDetectSentimentRequest()
+                .withTextList(texts)
+                .withLanguageCode(language.getLanguageCode());
+
+        // Detect sentiment of each text via AWS Comprehend
+        final BatchDetectSentimentResult result;
+        try {
+            result = comprehend.batchDetectSentiment(request);
+        } catch (AmazonClientException serviceException) {
+            throw new PredictionsException(
+                    "AWS Comprehend encountered an error while detecting sentiment.",
+                    serviceException,
+                    "See attached service exception for more details."
+            );
+        }
+
+        BatchDetection<Sentiment> detection = new BatchDetection<>("sentiment", result.getErrorList());
+        for (BatchDetectSentimentItemResult item : result.getResultList()) {
+            detection.results.put(item.getIndex(), toSentiment(item.getSentiment(), item.getSentimentScore()));
+        }
+        return detection;
+    }
+
+    private BatchDetection<List<KeyPhrase>> detectKeyPhrases(List<String> texts, LanguageType language)
+            throws PredictionsException {
+        BatchDetectKeyPhrasesRequest request = new BatchDetectKeyPhrasesRequest()
+                .withTextList(texts)
+                .withLanguageCode(language.getLanguageCode());
+
+        // Detect key phrases of each text via AWS Comprehend
+        final BatchDetectKeyPhrasesResult result;
+        try {
+            result = comprehend.batchDetectKeyPhrases(request);
+        } catch (AmazonClientException serviceException) {
+            throw new PredictionsException(
+                    "AWS Comprehend encountered an error while detecting key phrases.",
+                    serviceException,
+                    "See attached service exception for more details."
+            );
+        }
+
+        BatchDetection<List<KeyPhrase>> detection = new BatchDetection<>("key phrases", result.getErrorList());
+        for (BatchDetectKeyPhrasesItemResult item : result.getResultList()) {
+            detection.results.put(item.getIndex(), toKeyPhrases(item.getKeyPhrases()));
+        }
+        return detection;
+    }
+
+    private BatchDetection<List<Entity>> detectEntities(List<String> texts, LanguageType language)
+            throws PredictionsException {
+        BatchDetectEntitiesRequest request = new BatchDetectEntitiesRequest()
+                .withTextList(texts)
+                .withLanguageCode(language.getLanguageCode());
+
+        // Detect entities of each text via AWS Comprehend
+        final BatchDetectEntitiesResult result;
+        try {
+            result = comprehend.batchDetectEntities(request);
+        } catch (AmazonClientException serviceException) {
+            throw new PredictionsException(
+                    "AWS Comprehend encountered an error while detecting entities.",
+                    serviceException,
+                    "See attached service exception for more details."
+            );
+        }
+
+        BatchDetection<List<Entity>> detection = new BatchDetection<>("entities", result.getErrorList());
+        for (BatchDetectEntitiesItemResult item : result.getResultList()) {
+            detection.results.put(item.getIndex(), toEntities(item.getEntities()));
+        }
+        return detection;
+    }
+
+    private BatchDetection<List<Syntax>> detectSyntax(List<String> texts, LanguageType language)
+            throws PredictionsException {
+        BatchDetectSyntaxRequest request = new BatchDetectSyntaxRequest()
+                .withTextList(texts)
+                .withLanguageCode(language.getLanguageCode());
+
+        // Detect syntax of each text via AWS Comprehend
+        final BatchDetectSyntaxResult result;
+        try {
+            result = comprehend.batchDetectSyntax(request);
+        } catch (AmazonClientException serviceException) {
+            throw new PredictionsException(
+                    "AWS Comprehend encountered an error while detecting syntax.",
+                    serviceException,
+                    "See attached service exception for more details."
+            );
+        }
+
+        BatchDetection<List<Syntax>> detection = new BatchDetection<>("syntax", result.getErrorList());
+        for (BatchDetectSyntaxItemResult item : result.getResultList()) {
+            detection.results.put(item.getIndex(), toSyntax(item.getSyntaxTokens()));
+        }
+        return detection;
+    }
+
+    // Copies the results of a detection on some of the texts of a batch into the results of
+    // the whole batch. The first error for a text is kept.
+    private static <T> void collect(
+            BatchDetection<T> detection,
+            List<Integer> indices,
+            List<T> results,
+            List<PredictionsException> errors
+    ) {
+        for (int position = 0; position < indices.size(); position++) {
+            int index = indices.get(position);
+            PredictionsException error = detection.errors.get(position);
+            if (error != null) {
+                if (errors.get(index) == null) {
+                    errors.set(index, error);
+                }
+            } else {
+                results.set(index, detection.results.get(position));
+            }
+        }
+    }
+
+    private static <T> List<T> nulls(int size) {
+        return new ArrayList<>(Collections.<T>nCopies(size, null));
+    }
+
     private Language fetchPredominantLanguage(String text) throws PredictionsException {
         // Language is a required field for other detections.
         // Always fetch language regardless of what configuration says.
@@ -127,9 +497,13 @@ final class AWSComprehendService {
             );
         }
 
+        return toLanguage(result.getLanguages());
+    }
+
+    private static Language toLanguage(List<DominantLanguage> languages) throws PredictionsException {
         // Find the most dominant language from the list
         DominantLanguage dominantLanguage = null;
-        for (DominantLanguage language : result.getLanguages()) {
+        for (DominantLanguage language : languages) {
             if (dominantLanguage == null
                     || language.getScore() > dominantLanguage.getScore()) {
                 dominantLanguage = language;
@@ -176,9 +550,11 @@ final class AWSComprehendService {
             );
         }
 
+        return toSentiment(result.getSentiment(), result.getSentimentScore());
+    }
+
+    private static Sentiment toSentiment(String comprehendSentiment, SentimentScore sentimentScore) {
         // Convert AWS Comprehend's detection result to Amplify-compatible format
-        String comprehendSentiment = result.getSentiment();
-        SentimentScore sentimentScore = result.getSentimentScore();
         SentimentType predominantSentiment = SentimentTypeAdapter.fromComprehend(comprehendSentiment);
         final float score;
         switch (predominantSentiment) {
@@ -226,9 +602,14 @@ final class AWSComprehendService {
             );
         }
 
+        return toKeyPhrases(result.getKeyPhrases());
+    }
+
+    private static List<KeyPhrase> toKeyPhrases(
+            List<com.amazonaws.services.comprehend.model.KeyPhrase> comprehendKeyPhrases) {
         // Convert AWS Comprehend's detection result to Amplify-compatible format
         List<KeyPhrase> keyPhrases = new ArrayList<>();
-        for (com.amazonaws.services.comprehend.model.KeyPhrase comprehendKeyPhrase : result.getKeyPhrases()) {
+        for (com.amazonaws.services.comprehend.model.KeyPhrase comprehendKeyPhrase : comprehendKeyPhrases) {
             KeyPhrase amplifyKeyPhrase = KeyPhrase.builder()
                     .value(comprehendKeyPhrase.getText())
                     .confidence(comprehendKeyPhrase.getScore() * PERCENT)
@@ -263,9 +644,13 @@ final class AWSComprehendService {
             );
         }
 
+        return toEntities(result.getEntities());
+    }
+
+    private static List<Entity> toEntities(List<com.amazonaws.services.comprehend.model.Entity> comprehendEntities) {
         // Convert AWS Comprehend's detection result to Amplify-compatible format
         List<Entity> entities = new ArrayList<>();
-        for (com.amazonaws.services.comprehend.model.Entity comprehendEntity : result.getEntities()) {
+        for (com.amazonaws.services.comprehend.model.Entity comprehendEntity : comprehendEntities) {
             EntityType entityType = EntityTypeAdapter.fromComprehend(comprehendEntity.getType());
             Entity amplifyEntity = Entity.builder()
                     .value(entityType)
@@ -301,9 +686,13 @@ final class AWSComprehendService {
             );
         }
 
+        return toSyntax(result.getSyntaxTokens());
+    }
+
+    private static List<Syntax> toSyntax(List<SyntaxToken> comprehendSyntaxTokens) {
         // Convert AWS Comprehend's detection result to Amplify-compatible format
         List<Syntax> syntaxTokens = new ArrayList<>();
-        for (com.amazonaws.services.comprehend.model.SyntaxToken comprehendSyntax : result.getSyntaxTokens()) {
+        for (SyntaxToken comprehendSyntax : comprehendSyntaxTokens) {
             PartOfSpeechTag comprehendPartOfSpeech = comprehendSyntax.getPartOfSpeech();
             SpeechType partOfSpeech = SpeechTypeAdapter.fromComprehend(comprehendPartOfSpeech.getTag());
             Syntax amplifySyntax = Syntax.builder()
@@ -337,4 +726,93 @@ final class AWSComprehendService {
     AmazonComprehendClient getClient() {
         return comprehend;
     }
+
+    /**
+     * The results of a single batch detection call, by the position
+     * of each text in the call.
+     * @param <T> the type of the detected feature
+     */
+    private static final class BatchDetection<T> {
+        private final Map<Integer, T> results;
+        private final Map<Integer, PredictionsException> errors;
+
+        BatchDetection(String feature, List<BatchItemError> itemErrors) {
+            this.results = new HashMap<>();
+            this.errors = new HashMap<>();
+            for (BatchItemError itemError : itemErrors) {
+                errors.put(itemError.getIndex(), new PredictionsException(
+                        "AWS Comprehend could not detect " + feature + " of this text: " +
+                                itemError.getErrorMessage(),
+                        "See the error code " + itemError.getErrorCode() + " for more details."
+                ));
+            }
+        }
+    }
+
+    /**
+     * A batch detection which is being made for some of the texts of a batch.
+     * @param <T> the type of the detected feature
+     */
+    private static final class PendingDetection<T> {
+        private final List<Integer> indices;
+        private final List<T> results;
+        private final Future<BatchDetection<T>> future;
+        private final PredictionsException rejection;
+
+        private PendingDetection(List<Integer> indices, List<T> results,
+                                 Future<BatchDetection<T>> future, PredictionsException rejection) {
+            this.indices = indices;
+            this.results = results;
+            this.future = future;
+            this.rejection = rejection;
+        }
+
+        // Submits the detection. If the executor rejects it, the detection fails for each of its texts.
+        static <T> PendingDetection<T> start(ExecutorService executorService, List<Integer> indices,
+                                             List<T> results, Callable<BatchDetection<T>> detection) {
+            try {
+                return new PendingDetection<>(indices, results, submit(executorService, detection), null);
+            } catch (PredictionsException rejection) {
+                return new PendingDetection<>(indices, results, null, rejection);
+            }
+        }
+
+        void cancel() {
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+
+        // Waits for the detection, and then copies its results into the results of the whole batch.
+        // When the whole detection call fails, its error is reported for each of its texts.
+        void collectInto(List<PredictionsException> errors) throws InterruptedException {
+            if (rejection != null) {
+                failEach(rejection, errors);
+                return;
+            }
+            final BatchDetection<T> detection;
+            try {
+                detection = future.get();
+            } catch (ExecutionException executionException) {
+                Throwable cause = executionException.getCause();
+                PredictionsException error = cause instanceof PredictionsException
+                        ? (PredictionsException) cause
+                        : new PredictionsException(
+                                "AWS Comprehend encountered an error while interpreting text.",
+                                cause,
+                                "See attached exception for more details.");
+                failEach(error, errors);
+                return;
+            }
+            collect(detection, indices, results, errors);
+        }
+
+        private void failEach(PredictionsException error, List<PredictionsException> errors) {
+            for (int index : indices) {
+                if (errors.get(index) == null) {
+                    errors.set(index, error);
+                }
+            }
+        }
+    }
 }
@@ -16,6 +16,7 @@
 package com.amplifyframework.predictions.aws.service;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import com.amplifyframework.core.Consumer;
 import com.amplifyframework.predictions.PredictionsException;
@@ -25,6 +26,7 @@ import com.amplifyframework.predictions.models.IdentifyAction;
 import com.amplifyframework.predictions.models.LabelType;
 import com.amplifyframework.predictions.models.LanguageType;
 import com.amplifyframework.predictions.models.TextFormatType;
+import com.amplifyframework.predictions.result.BatchResult;
 import com.amplifyframework.predictions.result.IdentifyResult;
 import com.amplifyframework.predictions.result.InterpretResult;
 import com.amplifyframework.predictions.result.TextToSpeechResult;
@@ -38,6 +40,8 @@ import com.amazonaws.services.textract.AmazonTextractClient;
 import com.amazonaws.services.translate.AmazonTranslateClient;
 
 import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Predictions service that makes inferences via AWS cloud computing.
@@ -188,15 +192,38 @@ public final class AWSPredictionsService {
     /**
      * Delegate to {@link AWSComprehendService} to make text interpretation.
      * @param text the input text to interpret
+     * @param language the language of the text, or null to detect it
+     * @param executorService executor on which the independent detections are made concurrently
      * @param onSuccess triggered upon successful result
      * @param onError triggered upon encountering error
      */
     public void comprehend(
             @NonNull String text,
+            @Nullable LanguageType language,
+            @NonNull ExecutorService executorService,
             @NonNull Consumer<InterpretResult> onSuccess,
             @NonNull Consumer<PredictionsException> onError
     ) {
-        comprehendService.comprehend(text, onSuccess, onError);
+        comprehendService.comprehend(text, language, executorService, onSuccess, onError);
+    }
+
+    /**
+     * Delegate to {@link AWSComprehendService} to make text interpretation
+     * of many texts, with batch requests.
+     * @param texts the input texts to interpret
+     * @param language the language of every text, or null to detect the language of each
+     * @param executorService executor on which the batch requests are made concurrently
+     * @param onSuccess triggered with the result or error for each text, in order
+     * @param onError triggered upon encountering an error which affects every text
+     */
+    public void comprehendBatch(
+            @NonNull List<String> texts,
+            @Nullable LanguageType language,
+            @NonNull ExecutorService executorService,
+            @NonNull Consumer<BatchResult<InterpretResult>> onSuccess,
+            @NonNull Consumer<PredictionsException> onError
+    ) {
+        comprehendService.comprehendBatch(texts, language, executorService, onSuccess, onError);
     }
 
     /**
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.predictions.aws.operation;
+
+import com.amplifyframework.core.Consumer;
+import com.amplifyframework.predictions.PredictionsException;
+import com.amplifyframework.predictions.aws.request.AWSImageIdentifyBatchRequest;
+import com.amplifyframework.predictions.aws.service.AWSPredictionsService;
+import com.amplifyframework.predictions.models.LabelType;
+import com.amplifyframework.predictions.result.BatchResult;
+import com.amplifyframework.predictions.result.IdentifyResult;
+import com.amplifyframework.testutils.Await;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests that the {@link AWSBatchIdentifyOperation} identifies a bounded number of images
+ * at a time, and reports the outcome of each image in the order of the batch.
+ */
+@RunWith(RobolectricTestRunner.class)
+public final class AWSBatchIdentifyOperationTest {
+    private static final long TIMEOUT_MS = TimeUnit.SECONDS.toMillis(5);
+    private static final long SHORT_TIMEOUT_MS = 200;
+    private static final int MAX_CONCURRENT_REQUESTS = 4;
+
+    private AWSPredictionsService predictionsService;
+    private ExecutorService executorService;
+    // The callbacks of each ongoing identification, by the position of its image in the batch.
+    private Map<Integer, Consumer<IdentifyResult>> onResults;
+    private Map<Integer, Consumer<PredictionsException>> onErrors;
+    // Released once for each identification that is requested.
+    private Semaphore requests;
+
+    /**
+     * Sets up a mock service, which holds on to the callbacks of each identification
+     * until the test completes them.
+     */
+    @Before
+    public void setup() {
+        predictionsService = mock(AWSPredictionsService.class);
+        executorService = Executors.newCachedThreadPool();
+        onResults = new ConcurrentHashMap<>();
+        onErrors = new ConcurrentHashMap<>();
+        requests = new Semaphore(0);
+        doAnswer(invocation -> {
+            // Each image's data is its position in the batch.
+            int position = ((ByteBuffer) invocation.getArgument(1)).get(0);
+            onResults.put(position, invocation.getArgument(2));
+            onErrors.put(position, invocation.getArgument(3));
+            requests.release();
+            return null;
+        }).when(predictionsService).detectLabels(any(), any(), any(), any());
+    }
+
+    /**
+     * Stops the executor.
+     */
+    @After
+    public void shutdown() {
+        executorService.shutdownNow();
+    }
+
+    /**
+     * No more than four images are identified at a time. The outcome of each image is
+     * reported in the order of the batch, regardless of the order in which they finish,
+     * and the failure of one image doesn't fail the others.
+     * @throws InterruptedException If interrupted while waiting for requests or results
+     */
+    @Test
+    public void outcomesAreReportedInOrderOfBatch() throws InterruptedException {
+        List<IdentifyResult> results = new ArrayList<>();
+        for (int position = 0; position < 6; position++) {
+            results.add(mock(IdentifyResult.class));
+        }
+        PredictionsException error = new PredictionsException("Image is unreadable.", "Use another image.");
+        BlockingQueue<BatchResult<IdentifyResult>> batchResults = new LinkedBlockingQueue<>();
+        operation(6, batchResults::add, failure -> { }, TIMEOUT_MS).start();
+
+        // Only the first four images are requested, until one of them finishes.
+        assertTrue(requests.tryAcquire(MAX_CONCURRENT_REQUESTS, TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        assertFalse(requests.tryAcquire(SHORT_TIMEOUT_MS, TimeUnit.MILLISECONDS));
+
+        // Finish them in reverse order. The third image fails.
+        onResults.get(3).accept(results.get(3));
+        onErrors.get(2).accept(error);
+        onResults.get(1).accept(results.get(1));
+        onResults.get(0).accept(results.get(0));
+        assertTrue(requests.tryAcquire(2, TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        onResults.get(5).accept(results.get(5));
+        onResults.get(4).accept(results.get(4));
+
+        BatchResult<IdentifyResult> batchResult = batchResults.poll(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        assertNotNull(batchResult);
+        assertTrue(batchResult.hasFailures());
+        List<BatchResult.Item<IdentifyResult>> items = batchResult.getItems();
+        assertEquals(6, items.size());
+        for (int position = 0; position < 6; position++) {
+            if (position == 2) {
+                assertFalse(items.get(position).isSuccessful());
+                assertSame(error, items.get(position).getError());
+            } else {
+                assertTrue(items.get(position).isSuccessful());
+                assertSame(results.get(position), items.get(position).getResult());
+            }
+        }
+    }
+
+    /**
+     * An image whose identification doesn't finish in time fails, while the
+     * images which were identified in time still have their results.
+     * @throws PredictionsException Not expected, since only single images fail
+     */
+    @Test
+    public void unfinishedImagesTimeOut() throws PredictionsException {
+        IdentifyResult result = mock(IdentifyResult.class);
+        doAnswer(invocation -> {
+            // Only the first image is ever identified.
+            if (((ByteBuffer) invocation.getArgument(1)).get(0) == 0) {
+                Consumer<IdentifyResult> onResult = invocation.getArgument(2);
+                onResult.accept(result);
+            }
+            return null;
+        }).when(predictionsService).detectLabels(any(), any(), any(), any());
+
+        BatchResult<IdentifyResult> batchResult = Await.<BatchResult<IdentifyResult>, PredictionsException>result(
+            TIMEOUT_MS, (onResult, onError) -> operation(5, onResult, onError, SHORT_TIMEOUT_MS).start()
+        );
+
+        List<BatchResult.Item<IdentifyResult>> items = batchResult.getItems();
+        assertEquals(5, items.size());
+        assertSame(result, items.get(0).getResult());
+        for (int position = 1; position < 5; position++) {
+            assertFalse(items.get(position).isSuccessful());
+            assertEquals("Image identification timed out.", items.get(position).getError().getMessage());
+        }
+    }
+
+    /**
+     * When none of the ongoing identifications finishes in time, the rest of the
+     * images are not requested at all, and fail.
+     * @throws PredictionsException Not expected, since only single images fail
+     */
+    @Test
+    public void remainingImagesFailWhenRequestsStall() throws PredictionsException {
+        BatchResult<IdentifyResult> batchResult = Await.<BatchResult<IdentifyResult>, PredictionsException>result(
+            TIMEOUT_MS, (onResult, onError) -> operation(6, onResult, onError, SHORT_TIMEOUT_MS).start()
+        );
+
+        assertEquals(MAX_CONCURRENT_REQUESTS, requests.availablePermits());
+        List<BatchResult.Item<IdentifyResult>> items = batchResult.getItems();
+        assertEquals(6, items.size());
+        for (BatchResult.Item<IdentifyResult> item : items) {
+            assertFalse(item.isSuccessful());
+        }
+    }
+
+    /**
+     * When the executor rejects the operation, its error callback is invoked,
+     * instead of neither callback.
+     */
+    @Test
+    public void rejectedOperationFails() {
+        executorService.shutdown();
+
+        PredictionsException error = Await.<BatchResult<IdentifyResult>, PredictionsException>error(
+            TIMEOUT_MS, (onResult, onError) -> operation(2, onResult, onError, TIMEOUT_MS).start()
+        );
+
+        assertEquals("Image identification could not be started.", error.getMessage());
+    }
+
+    /**
+     * When the executor rejects the identification of an image, that image fails,
+     * and the outcome of the batch is still reported.
+     * @throws PredictionsException Not expected, since only single images fail
+     */
+    @Test
+    public void imagesWhoseRequestsAreRejectedFail() throws PredictionsException {
+        // The only thread runs the operation itself, so the identification of each image is rejected.
+        executorService.shutdown();
+        executorService = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new SynchronousQueue<>());
+
+        BatchResult<IdentifyResult> batchResult = Await.<BatchResult<IdentifyResult>, PredictionsException>result(
+            TIMEOUT_MS, (onResult, onError) -> operation(3, onResult, onError, TIMEOUT_MS).start()
+        );
+
+        List<BatchResult.Item<IdentifyResult>> items = batchResult.getItems();
+        assertEquals(3, items.size());
+        for (BatchResult.Item<IdentifyResult> item : items) {
+            assertFalse(item.isSuccessful());
+            assertEquals("Image identification could not be started.", item.getError().getMessage());
+        }
+    }
+
+    private AWSBatchIdentifyOperation operation(
+            int size,
+            Consumer<BatchResult<IdentifyResult>> onSuccess,
+            Consumer<PredictionsException> onError,
+            long timeoutMs) {
+        AWSImageIdentifyBatchRequest request = mock(AWSImageIdentifyBatchRequest.class);
+        when(request.size()).thenReturn(size);
+        for (int position = 0; position < size; position++) {
+            when(request.getImageData(position)).thenReturn(ByteBuffer.wrap(new byte[] {(byte) position}));
+        }
+        return new AWSBatchIdentifyOperation(
+            predictionsService, executorService, LabelType.ALL, request, onSuccess, onError, timeoutMs
+        );
+    }
+}
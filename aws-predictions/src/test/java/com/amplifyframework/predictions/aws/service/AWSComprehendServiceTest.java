@@ -0,0 +1,457 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.predictions.aws.service;
+
+import com.amplifyframework.predictions.PredictionsException;
+import com.amplifyframework.predictions.aws.AWSPredictionsPluginConfiguration;
+import com.amplifyframework.predictions.aws.configuration.InterpretTextConfiguration;
+import com.amplifyframework.predictions.models.EntityType;
+import com.amplifyframework.predictions.models.LanguageType;
+import com.amplifyframework.predictions.models.SentimentType;
+import com.amplifyframework.predictions.models.SpeechType;
+import com.amplifyframework.predictions.result.BatchResult;
+import com.amplifyframework.predictions.result.InterpretResult;
+import com.amplifyframework.testutils.Await;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.comprehend.AmazonComprehendClient;
+import com.amazonaws.services.comprehend.model.BatchDetectDominantLanguageItemResult;
+import com.amazonaws.services.comprehend.model.BatchDetectDominantLanguageRequest;
+import com.amazonaws.services.comprehend.model.BatchDetectDominantLanguageResult;
+import com.amazonaws.services.comprehend.model.BatchDetectEntitiesItemResult;
+import com.amazonaws.services.comprehend.model.BatchDetectEntitiesRequest;
+import com.amazonaws.services.comprehend.model.BatchDetectEntitiesResult;
+import com.amazonaws.services.comprehend.model.BatchDetectKeyPhrasesItemResult;
+import com.amazonaws.services.comprehend.model.BatchDetectKeyPhrasesRequest;
+import com.amazonaws.services.comprehend.model.BatchDetectKeyPhrasesResult;
+import com.amazonaws.services.comprehend.model.BatchDetectSentimentItemResult;
+import com.amazonaws.services.comprehend.model.BatchDetectSentimentRequest;
+import com.amazonaws.services.comprehend.model.BatchDetectSentimentResult;
+import com.amazonaws.services.comprehend.model.BatchDetectSyntaxItemResult;
+import com.amazonaws.services.comprehend.model.BatchDetectSyntaxRequest;
+import com.amazonaws.services.comprehend.model.BatchDetectSyntaxResult;
+import com.amazonaws.services.comprehend.model.BatchItemError;
+import com.amazonaws.services.comprehend.model.DetectDominantLanguageResult;
+import com.amazonaws.services.comprehend.model.DetectEntitiesRequest;
+import com.amazonaws.services.comprehend.model.DetectEntitiesResult;
+import com.amazonaws.services.comprehend.model.DetectKeyPhrasesRequest;
+import com.amazonaws.services.comprehend.model.DetectKeyPhrasesResult;
+import com.amazonaws.services.comprehend.model.DetectSentimentResult;
+import com.amazonaws.services.comprehend.model.DetectSyntaxRequest;
+import com.amazonaws.services.comprehend.model.DetectSyntaxResult;
+import com.amazonaws.services.comprehend.model.DominantLanguage;
+import com.amazonaws.services.comprehend.model.Entity;
+import com.amazonaws.services.comprehend.model.KeyPhrase;
+import com.amazonaws.services.comprehend.model.PartOfSpeechTag;
+import com.amazonaws.services.comprehend.model.SentimentScore;
+import com.amazonaws.services.comprehend.model.SyntaxToken;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests that the {@link AWSComprehendService} combines the detections that it makes
+ * with Amazon Comprehend into interpretation results, for a single text or a batch of texts.
+ */
+@RunWith(RobolectricTestRunner.class)
+public final class AWSComprehendServiceTest {
+    private static final long TIMEOUT_MS = TimeUnit.SECONDS.toMillis(5);
+    private static final int MAX_BATCH_SIZE = 25;
+
+    private AmazonComprehendClient comprehend;
+    private ExecutorService executorService;
+    private AWSComprehendService comprehendService;
+
+    /**
+     * Sets up the service with a mock Comprehend client, configured to make every detection.
+     * @throws PredictionsException On failure to mock the plugin configuration
+     * @throws JSONException On failure to arrange the interpretation configuration
+     */
+    @Before
+    public void setup() throws PredictionsException, JSONException {
+        comprehend = mock(AmazonComprehendClient.class);
+        executorService = Executors.newCachedThreadPool();
+        AWSPredictionsPluginConfiguration pluginConfiguration = mock(AWSPredictionsPluginConfiguration.class);
+        when(pluginConfiguration.getInterpretTextConfiguration()).thenReturn(InterpretTextConfiguration.fromJson(
+            new JSONObject()
+                .put("interpretText", new JSONObject()
+                    .put("type", "ALL")
+                    .put("defaultNetworkPolicy", "auto"))
+        ));
+        comprehendService = new AWSComprehendService(pluginConfiguration, comprehend);
+    }
+
+    /**
+     * Stops the executor.
+     */
+    @After
+    public void shutdown() {
+        executorService.shutdownNow();
+    }
+
+    /**
+     * Texts are interpreted in batches of at most 25, and the results of each text
+     * are reported in the order of the texts.
+     * @throws PredictionsException Not expected
+     */
+    @Test
+    public void batchesAreChunkedAndResultsAreInOrder() throws PredictionsException {
+        answerEveryBatchDetection();
+        List<String> texts = new ArrayList<>();
+        for (int index = 0; index < 30; index++) {
+            texts.add("Text number " + index);
+        }
+
+        BatchResult<InterpretResult> batchResult = comprehendBatch(texts, LanguageType.ENGLISH);
+
+        assertFalse(batchResult.hasFailures());
+        assertEquals(texts.size(), batchResult.getItems().size());
+        for (int index = 0; index < texts.size(); index++) {
+            InterpretResult result = batchResult.getItems().get(index).getResult();
+            assertEquals(texts.get(index), result.getKeyPhrases().get(0).getValue());
+            assertEquals(LanguageType.ENGLISH, result.getLanguage().getValue());
+        }
+        verify(comprehend, times(2)).batchDetectSentiment(any());
+        verify(comprehend).batchDetectSentiment(argThat(request -> request.getTextList().size() == MAX_BATCH_SIZE));
+        verify(comprehend).batchDetectSentiment(argThat(request -> request.getTextList().size() == 5));
+        verify(comprehend, never()).batchDetectDominantLanguage(any());
+    }
+
+    /**
+     * When Comprehend can't make a detection for one text of a batch, only
+     * that text fails.
+     * @throws PredictionsException Not expected, since only a single text fails
+     */
+    @Test
+    public void itemErrorFailsOnlyThatText() throws PredictionsException {
+        answerEveryBatchDetection();
+        doAnswer(invocation -> {
+            BatchDetectSentimentRequest request = invocation.getArgument(0);
+            BatchDetectSentimentResult result = sentiments(request);
+            // The second text has no sentiment, but an error instead.
+            List<BatchDetectSentimentItemResult> items = new ArrayList<>(result.getResultList());
+            items.remove(1);
+            return result
+                .withResultList(items)
+                .withErrorList(Collections.singletonList(new BatchItemError()
+                    .withIndex(1)
+                    .withErrorCode("TEXT_SIZE_LIMIT_EXCEEDED")
+                    .withErrorMessage("Text is too long.")));
+        }).when(comprehend).batchDetectSentiment(any());
+
+        BatchResult<InterpretResult> batchResult =
+            comprehendBatch(Arrays.asList("First", "Second", "Third"), LanguageType.ENGLISH);
+
+        List<BatchResult.Item<InterpretResult>> items = batchResult.getItems();
+        assertTrue(batchResult.hasFailures());
+        assertTrue(items.get(0).isSuccessful());
+        assertFalse(items.get(1).isSuccessful());
+        assertTrue(items.get(1).getError().getMessage().contains("Text is too long."));
+        assertTrue(items.get(2).isSuccessful());
+    }
+
+    /**
+     * Texts are grouped by their dominant language. When a detection call fails as a whole,
+     * only the texts of its language fail, while the texts of other languages succeed.
+     * @throws PredictionsException Not expected, since only some texts fail
+     */
+    @Test
+    public void failedCallFailsOnlyTextsOfItsLanguage() throws PredictionsException {
+        answerEveryBatchDetection();
+        doAnswer(invocation -> {
+            BatchDetectDominantLanguageRequest request = invocation.getArgument(0);
+            List<BatchDetectDominantLanguageItemResult> items = new ArrayList<>();
+            for (int index = 0; index < request.getTextList().size(); index++) {
+                String languageCode = request.getTextList().get(index).startsWith("Hola") ? "es" : "en";
+                items.add(new BatchDetectDominantLanguageItemResult()
+                    .withIndex(index)
+                    .withLanguages(new DominantLanguage().withLanguageCode(languageCode).withScore(0.5f)));
+            }
+            return new BatchDetectDominantLanguageResult()
+                .withResultList(items)
+                .withErrorList(Collections.emptyList());
+        }).when(comprehend).batchDetectDominantLanguage(any());
+        doThrow(new AmazonServiceException("Syntax is unavailable."))
+            .when(comprehend).batchDetectSyntax(argThat(request -> "es".equals(request.getLanguageCode())));
+
+        BatchResult<InterpretResult> batchResult =
+            comprehendBatch(Arrays.asList("Hello", "Hola", "Goodbye"), null);
+
+        List<BatchResult.Item<InterpretResult>> items = batchResult.getItems();
+        assertEquals(LanguageType.ENGLISH, items.get(0).getResult().getLanguage().getValue());
+        assertEquals("Hello", items.get(0).getResult().getKeyPhrases().get(0).getValue());
+        assertFalse(items.get(1).isSuccessful());
+        assertEquals(
+            "AWS Comprehend encountered an error while detecting syntax.",
+            items.get(1).getError().getMessage()
+        );
+        assertEquals("Goodbye", items.get(2).getResult().getKeyPhrases().get(0).getValue());
+    }
+
+    /**
+     * The language, sentiment, key phrases, entities, and syntax which are detected
+     * in a text are combined into a single result.
+     * @throws PredictionsException Not expected
+     */
+    @Test
+    public void combinesDetectionsIntoOneResult() throws PredictionsException {
+        answerEveryDetection();
+
+        InterpretResult result = comprehend("Amazon", null);
+
+        assertEquals(LanguageType.ENGLISH, result.getLanguage().getValue());
+        assertEquals(50f, result.getLanguage().getConfidence(), 0f);
+        assertEquals(SentimentType.POSITIVE, result.getSentiment().getValue());
+        assertEquals(50f, result.getSentiment().getConfidence(), 0f);
+        assertEquals("Amazon", result.getKeyPhrases().get(0).getValue());
+        assertEquals(EntityType.ORGANIZATION, result.getEntities().get(0).getValue());
+        assertEquals("Amazon", result.getEntities().get(0).getTargetText());
+        assertEquals(SpeechType.NOUN, result.getSyntax().get(0).getValue());
+        assertEquals("Amazon", result.getSyntax().get(0).getTargetText());
+    }
+
+    /**
+     * Once one detection fails, the interpretation fails with its error, and the
+     * detections which are still ongoing are cancelled rather than awaited.
+     * @throws InterruptedException If interrupted while waiting for the cancellation
+     */
+    @Test
+    public void remainingDetectionsAreCancelledWhenOneFails() throws InterruptedException {
+        answerEveryDetection();
+        CountDownLatch keyPhrasesStarted = new CountDownLatch(1);
+        CountDownLatch keyPhrasesInterrupted = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            // Fail only once the detection of key phrases is underway.
+            keyPhrasesStarted.await(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            throw new AmazonServiceException("Sentiment is unavailable.");
+        }).when(comprehend).detectSentiment(any());
+        doAnswer(invocation -> {
+            keyPhrasesStarted.countDown();
+            try {
+                // Never finishes by itself.
+                new CountDownLatch(1).await();
+            } catch (InterruptedException interrupted) {
+                keyPhrasesInterrupted.countDown();
+                throw interrupted;
+            }
+            return null;
+        }).when(comprehend).detectKeyPhrases(any());
+
+        PredictionsException error = Await.<InterpretResult, PredictionsException>error((onResult, onError) ->
+            comprehendService.comprehend("Amazon", null, executorService, onResult, onError)
+        );
+
+        assertEquals("AWS Comprehend encountered an error while detecting sentiment.", error.getMessage());
+        assertTrue(keyPhrasesInterrupted.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * When the executor rejects the detections, the interpretation fails, and the batch
+     * interpretation fails too, instead of neither invoking a callback.
+     */
+    @Test
+    public void interpretationFailsWhenExecutorRejectsDetections() {
+        executorService.shutdown();
+
+        PredictionsException error = Await.<InterpretResult, PredictionsException>error((onResult, onError) ->
+            comprehendService.comprehend("Amazon", LanguageType.ENGLISH, executorService, onResult, onError)
+        );
+        assertEquals("AWS Comprehend could not start interpreting the text.", error.getMessage());
+
+        PredictionsException batchError = Await.<BatchResult<InterpretResult>, PredictionsException>error(
+            (onResult, onError) -> comprehendService.comprehendBatch(
+                Arrays.asList("Amazon", "Seattle"), LanguageType.ENGLISH, executorService, onResult, onError)
+        );
+        assertEquals("AWS Comprehend could not start interpreting the text.", batchError.getMessage());
+    }
+
+    /**
+     * When the language of a text is already known, it isn't detected again. The other
+     * detections are made in the known language, which is reported with full confidence.
+     * @throws PredictionsException Not expected
+     */
+    @Test
+    public void languageDetectionIsSkippedWhenKnown() throws PredictionsException {
+        answerEveryDetection();
+
+        InterpretResult result = comprehend("Hola", LanguageType.SPANISH);
+
+        assertEquals(LanguageType.SPANISH, result.getLanguage().getValue());
+        assertEquals(100f, result.getLanguage().getConfidence(), 0f);
+        verify(comprehend, never()).detectDominantLanguage(any());
+        verify(comprehend).detectSentiment(argThat(request -> "es".equals(request.getLanguageCode())));
+        verify(comprehend).detectSyntax(argThat(request -> "es".equals(request.getLanguageCode())));
+    }
+
+    private InterpretResult comprehend(String text, LanguageType language) throws PredictionsException {
+        return Await.<InterpretResult, PredictionsException>result((onResult, onError) ->
+            comprehendService.comprehend(text, language, executorService, onResult, onError)
+        );
+    }
+
+    private BatchResult<InterpretResult> comprehendBatch(List<String> texts, LanguageType language)
+            throws PredictionsException {
+        return Await.<BatchResult<InterpretResult>, PredictionsException>result((onResult, onError) ->
+            comprehendService.comprehendBatch(texts, language, executorService, onResult, onError)
+        );
+    }
+
+    // Answers each detection of a single text. The dominant language is English, and the text
+    // is its own key phrase, entity, and syntax token.
+    private void answerEveryDetection() {
+        when(comprehend.detectDominantLanguage(any())).thenReturn(new DetectDominantLanguageResult()
+            .withLanguages(new DominantLanguage().withLanguageCode("en").withScore(0.5f)));
+        when(comprehend.detectSentiment(any())).thenReturn(new DetectSentimentResult()
+            .withSentiment("POSITIVE")
+            .withSentimentScore(sentimentScore()));
+        when(comprehend.detectKeyPhrases(any())).thenAnswer(invocation -> {
+            DetectKeyPhrasesRequest request = invocation.getArgument(0);
+            return new DetectKeyPhrasesResult().withKeyPhrases(keyPhrase(request.getText()));
+        });
+        when(comprehend.detectEntities(any())).thenAnswer(invocation -> {
+            DetectEntitiesRequest request = invocation.getArgument(0);
+            return new DetectEntitiesResult().withEntities(entity(request.getText()));
+        });
+        when(comprehend.detectSyntax(any())).thenAnswer(invocation -> {
+            DetectSyntaxRequest request = invocation.getArgument(0);
+            return new DetectSyntaxResult().withSyntaxTokens(syntaxToken(request.getText()));
+        });
+    }
+
+    // Answers each batch detection with a result for every text. Each text is its own key phrase.
+    private void answerEveryBatchDetection() {
+        when(comprehend.batchDetectDominantLanguage(any())).thenAnswer(invocation -> {
+            BatchDetectDominantLanguageRequest request = invocation.getArgument(0);
+            List<BatchDetectDominantLanguageItemResult> items = new ArrayList<>();
+            for (int index = 0; index < request.getTextList().size(); index++) {
+                items.add(new BatchDetectDominantLanguageItemResult()
+                    .withIndex(index)
+                    .withLanguages(new DominantLanguage().withLanguageCode("en").withScore(0.5f)));
+            }
+            return new BatchDetectDominantLanguageResult()
+                .withResultList(items)
+                .withErrorList(Collections.emptyList());
+        });
+        when(comprehend.batchDetectSentiment(any())).thenAnswer(invocation ->
+            sentiments(invocation.getArgument(0)));
+        when(comprehend.batchDetectKeyPhrases(any())).thenAnswer(invocation -> {
+            BatchDetectKeyPhrasesRequest request = invocation.getArgument(0);
+            List<BatchDetectKeyPhrasesItemResult> items = new ArrayList<>();
+            for (int index = 0; index < request.getTextList().size(); index++) {
+                items.add(new BatchDetectKeyPhrasesItemResult()
+                    .withIndex(index)
+                    .withKeyPhrases(keyPhrase(request.getTextList().get(index))));
+            }
+            return new BatchDetectKeyPhrasesResult()
+                .withResultList(items)
+                .withErrorList(Collections.emptyList());
+        });
+        when(comprehend.batchDetectEntities(any())).thenAnswer(invocation -> {
+            BatchDetectEntitiesRequest request = invocation.getArgument(0);
+            List<BatchDetectEntitiesItemResult> items = new ArrayList<>();
+            for (int index = 0; index < request.getTextList().size(); index++) {
+                items.add(new BatchDetectEntitiesItemResult()
+                    .withIndex(index)
+                    .withEntities(entity(request.getTextList().get(index))));
+            }
+            return new BatchDetectEntitiesResult()
+                .withResultList(items)
+                .withErrorList(Collections.emptyList());
+        });
+        when(comprehend.batchDetectSyntax(any())).thenAnswer(invocation -> {
+            BatchDetectSyntaxRequest request = invocation.getArgument(0);
+            List<BatchDetectSyntaxItemResult> items = new ArrayList<>();
+            for (int index = 0; index < request.getTextList().size(); index++) {
+                items.add(new BatchDetectSyntaxItemResult()
+                    .withIndex(index)
+                    .withSyntaxTokens(syntaxToken(request.getTextList().get(index))));
+            }
+            return new BatchDetectSyntaxResult()
+                .withResultList(items)
+                .withErrorList(Collections.emptyList());
+        });
+    }
+
+    private static BatchDetectSentimentResult sentiments(BatchDetectSentimentRequest request) {
+        List<BatchDetectSentimentItemResult> items = new ArrayList<>();
+        for (int index = 0; index < request.getTextList().size(); index++) {
+            items.add(new BatchDetectSentimentItemResult()
+                .withIndex(index)
+                .withSentiment("POSITIVE")
+                .withSentimentScore(sentimentScore()));
+        }
+        return new BatchDetectSentimentResult()
+            .withResultList(items)
+            .withErrorList(Collections.emptyList());
+    }
+
+    private static SentimentScore sentimentScore() {
+        return new SentimentScore()
+            .withPositive(0.5f)
+            .withNegative(0.25f)
+            .withNeutral(0.25f)
+            .withMixed(0f);
+    }
+
+    private static KeyPhrase keyPhrase(String text) {
+        return new KeyPhrase()
+            .withText(text)
+            .withScore(0.5f)
+            .withBeginOffset(0);
+    }
+
+    private static Entity entity(String text) {
+        return new Entity()
+            .withType("ORGANIZATION")
+            .withText(text)
+            .withScore(0.5f)
+            .withBeginOffset(0);
+    }
+
+    private static SyntaxToken syntaxToken(String text) {
+        return new SyntaxToken()
+            .withTokenId(1)
+            .withText(text)
+            .withBeginOffset(0)
+            .withPartOfSpeech(new PartOfSpeechTag().withTag("NOUN").withScore(0.5f));
+    }
+}
@@ -324,7 +324,10 @@ public final class AWSS3StoragePlugin extends StoragePlugin<AmazonS3Client> {
                 options instanceof AWSS3StorageUploadFileOptions
                         ? ((AWSS3StorageUploadFileOptions) options).getServerSideEncryption()
                         : ServerSideEncryption.NONE,
-                options.getMetadata()
+                options.getMetadata(),
+                options instanceof AWSS3StorageUploadFileOptions
+                        ? ((AWSS3StorageUploadFileOptions) options).getPartSize()
+                        : 0
         );
 
         AWSS3StorageUploadFileOperation operation = new AWSS3StorageUploadFileOperation(
@@ -380,7 +383,10 @@ public final class AWSS3StoragePlugin extends StoragePlugin<AmazonS3Client> {
                 options instanceof AWSS3StorageUploadInputStreamOptions
                         ? ((AWSS3StorageUploadInputStreamOptions) options).getServerSideEncryption()
                         : ServerSideEncryption.NONE,
-                options.getMetadata()
+                options.getMetadata(),
+                options instanceof AWSS3StorageUploadInputStreamOptions
+                        ? ((AWSS3StorageUploadInputStreamOptions) options).getPartSize()
+                        : 0
         );
 
         AWSS3StorageUploadInputStreamOperation operation = new AWSS3StorageUploadInputStreamOperation(
@@ -454,7 +460,9 @@ public final class AWSS3StoragePlugin extends StoragePlugin<AmazonS3Client> {
                 options.getAccessLevel() != null
                         ? options.getAccessLevel()
                         : defaultAccessLevel,
-                options.getTargetIdentityId()
+                options.getTargetIdentityId(),
+                options.getPageSize(),
+                options.getNextToken()
         );
 
         AWSS3StorageListOperation operation =
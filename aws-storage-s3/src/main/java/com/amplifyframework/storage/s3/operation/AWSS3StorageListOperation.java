@@ -88,9 +88,17 @@ public final class AWSS3StorageListOperation extends StorageListOperation<AWSS3S
                         getRequest().getPath()
                 );
 
-                List<StorageItem> listedItems = storageService.listFiles(serviceKey);
+                if (getRequest().getPageSize() > 0) {
+                    onSuccess.accept(storageService.listFiles(
+                            serviceKey,
+                            getRequest().getPageSize(),
+                            getRequest().getNextToken()
+                    ));
+                } else {
+                    List<StorageItem> listedItems = storageService.listFiles(serviceKey);
 
-                onSuccess.accept(StorageListResult.fromItems(listedItems));
+                    onSuccess.accept(StorageListResult.fromItems(listedItems));
+                }
             } catch (Exception exception) {
                 onError.accept(new StorageException(
                     "Something went wrong with your AWS S3 Storage list operation",
@@ -118,7 +118,12 @@ public final class AWSS3StorageUploadFileOperation extends StorageUploadFileOper
 
         // Upload!
         try {
-            transferObserver = storageService.uploadFile(serviceKey, file, objectMetadata);
+            if (getRequest().getPartSize() > 0) {
+                transferObserver = storageService.uploadFile(
+                        serviceKey, file, objectMetadata, getRequest().getPartSize());
+            } else {
+                transferObserver = storageService.uploadFile(serviceKey, file, objectMetadata);
+            }
             transferObserver.setTransferListener(new UploadTransferListener());
         } catch (Exception exception) {
             onError.accept(new StorageException(
@@ -120,7 +120,12 @@ public final class AWSS3StorageUploadInputStreamOperation
 
         // Upload!
         try {
-            transferObserver = storageService.uploadInputStream(serviceKey, inputStream, objectMetadata);
+            if (getRequest().getPartSize() > 0) {
+                transferObserver = storageService.uploadInputStream(
+                        serviceKey, inputStream, objectMetadata, getRequest().getPartSize());
+            } else {
+                transferObserver = storageService.uploadInputStream(serviceKey, inputStream, objectMetadata);
+            }
             transferObserver.setTransferListener(new UploadTransferListener());
         } catch (IOException ioException) {
             onError.accept(new StorageException(
@@ -55,7 +55,9 @@ public final class AWSS3StorageListOptions extends StorageListOptions {
     public static Builder from(@NonNull final AWSS3StorageListOptions options) {
         return builder()
             .accessLevel(options.getAccessLevel())
-            .targetIdentityId(options.getTargetIdentityId());
+            .targetIdentityId(options.getTargetIdentityId())
+            .pageSize(options.getPageSize())
+            .nextToken(options.getNextToken());
     }
 
     /**
@@ -76,7 +78,9 @@ public final class AWSS3StorageListOptions extends StorageListOptions {
         } else {
             AWSS3StorageListOptions that = (AWSS3StorageListOptions) obj;
             return ObjectsCompat.equals(getAccessLevel(), that.getAccessLevel()) &&
-                    ObjectsCompat.equals(getTargetIdentityId(), that.getTargetIdentityId());
+                    ObjectsCompat.equals(getTargetIdentityId(), that.getTargetIdentityId()) &&
+                    getPageSize() == that.getPageSize() &&
+                    ObjectsCompat.equals(getNextToken(), that.getNextToken());
         }
     }
 
@@ -84,7 +88,9 @@ public final class AWSS3StorageListOptions extends StorageListOptions {
     public int hashCode() {
         return ObjectsCompat.hash(
                 getAccessLevel(),
-                getTargetIdentityId()
+                getTargetIdentityId(),
+                getPageSize(),
+                getNextToken()
         );
     }
 
@@ -94,6 +100,8 @@ public final class AWSS3StorageListOptions extends StorageListOptions {
         return "AWSS3StorageListOptions {" +
                 "accessLevel=" + getAccessLevel() +
                 ", targetIdentityId=" + getTargetIdentityId() +
+                ", pageSize=" + getPageSize() +
+                ", nextToken=" + getNextToken() +
                 '}';
     }
 
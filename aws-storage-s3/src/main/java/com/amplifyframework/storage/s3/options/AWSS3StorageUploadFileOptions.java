@@ -27,11 +27,18 @@ import java.util.Objects;
  * Options to specify attributes of object upload operation to an AWS S3 bucket.
  */
 public final class AWSS3StorageUploadFileOptions extends StorageUploadFileOptions {
+    /**
+     * The smallest part size, in bytes, that S3 accepts for the parts of a multipart upload.
+     */
+    public static final long MINIMUM_PART_SIZE = 5L * 1024 * 1024;
+
     private final ServerSideEncryption serverSideEncryption;
+    private final long partSize;
 
     private AWSS3StorageUploadFileOptions(final Builder builder) {
         super(builder);
         this.serverSideEncryption = builder.getServerSideEncryption();
+        this.partSize = builder.partSize;
     }
 
     /**
@@ -43,6 +50,15 @@ public final class AWSS3StorageUploadFileOptions extends StorageUploadFileOption
         return serverSideEncryption;
     }
 
+    /**
+     * Size, in bytes, of the parts that a multipart upload is split into.
+     * If 0, the default part size of {@value #MINIMUM_PART_SIZE} bytes is used.
+     * @return Size of upload parts in bytes, or 0 for the default
+     */
+    public long getPartSize() {
+        return partSize;
+    }
+
     /**
      * Factory method to create a new instance of the
      * {@link Builder}.  The builder can be
@@ -72,7 +88,8 @@ public final class AWSS3StorageUploadFileOptions extends StorageUploadFileOption
             .targetIdentityId(options.getTargetIdentityId())
             .contentType(options.getContentType())
             .serverSideEncryption(options.getServerSideEncryption())
-            .metadata(options.getMetadata());
+            .metadata(options.getMetadata())
+            .partSize(options.getPartSize());
     }
 
     /**
@@ -96,7 +113,8 @@ public final class AWSS3StorageUploadFileOptions extends StorageUploadFileOption
                     ObjectsCompat.equals(getTargetIdentityId(), that.getTargetIdentityId()) &&
                     ObjectsCompat.equals(getContentType(), that.getContentType()) &&
                     ObjectsCompat.equals(getServerSideEncryption(), that.getServerSideEncryption()) &&
-                    ObjectsCompat.equals(getMetadata(), that.getMetadata());
+                    ObjectsCompat.equals(getMetadata(), that.getMetadata()) &&
+                    getPartSize() == that.getPartSize();
         }
     }
 
@@ -107,7 +125,8 @@ public final class AWSS3StorageUploadFileOptions extends StorageUploadFileOption
                 getTargetIdentityId(),
                 getContentType(),
                 getServerSideEncryption(),
-                getMetadata()
+                getMetadata(),
+                getPartSize()
         );
     }
 
@@ -120,6 +139,7 @@ public final class AWSS3StorageUploadFileOptions extends StorageUploadFileOption
                 ", contentType=" + getContentType() +
                 ", serverSideEncryption=" + getServerSideEncryption().getName() +
                 ", metadata=" + getMetadata() +
+                ", partSize=" + getPartSize() +
                 '}';
     }
 
@@ -130,6 +150,7 @@ public final class AWSS3StorageUploadFileOptions extends StorageUploadFileOption
      */
     public static final class Builder extends StorageUploadFileOptions.Builder<Builder> {
         private ServerSideEncryption serverSideEncryption;
+        private long partSize;
 
         private Builder() {
             super();
@@ -152,6 +173,25 @@ public final class AWSS3StorageUploadFileOptions extends StorageUploadFileOption
             return serverSideEncryption;
         }
 
+        /**
+         * Configures the size, in bytes, of the parts that a multipart upload is split into.
+         * Larger parts mean fewer requests for large objects. The size is rounded up to whole
+         * megabytes, and must be at least {@link #MINIMUM_PART_SIZE}. Defaults to 0, which
+         * uses the minimum part size.
+         * @param partSize Size of upload parts in bytes, or 0 for the default
+         * @return Current Builder instance for fluent chaining
+         * @throws IllegalArgumentException If the part size is neither 0 nor at least the minimum
+         */
+        @NonNull
+        public Builder partSize(long partSize) {
+            if (partSize != 0 && partSize < MINIMUM_PART_SIZE) {
+                throw new IllegalArgumentException(
+                    "Part size must be at least " + MINIMUM_PART_SIZE + " bytes, was " + partSize);
+            }
+            this.partSize = partSize;
+            return this;
+        }
+
         @Override
         @NonNull
         public AWSS3StorageUploadFileOptions build() {
@@ -27,6 +27,8 @@ public final class AWSS3StorageListRequest {
     private final String path;
     private final StorageAccessLevel accessLevel;
     private final String targetIdentityId;
+    private final int pageSize;
+    private final String nextToken;
 
     /**
      * Constructs a new AWSS3StorageListRequest.
@@ -39,10 +41,31 @@ public final class AWSS3StorageListRequest {
             @NonNull String path,
             @NonNull StorageAccessLevel accessLevel,
             @Nullable String targetIdentityId
+    ) {
+        this(path, accessLevel, targetIdentityId, 0, null);
+    }
+
+    /**
+     * Constructs a new AWSS3StorageListRequest for a single page of items.
+     * @param path the path in S3 to list items from
+     * @param accessLevel Storage access level
+     * @param targetIdentityId If set, this should override the current user's identity ID.
+     *                         If null, the operation will fetch the current identity ID.
+     * @param pageSize Maximum number of items to list. If 0, all items are listed at once.
+     * @param nextToken Token of the page to list. If null, the first page is listed.
+     */
+    public AWSS3StorageListRequest(
+            @NonNull String path,
+            @NonNull StorageAccessLevel accessLevel,
+            @Nullable String targetIdentityId,
+            int pageSize,
+            @Nullable String nextToken
     ) {
         this.path = path;
         this.accessLevel = accessLevel;
         this.targetIdentityId = targetIdentityId;
+        this.pageSize = pageSize;
+        this.nextToken = nextToken;
     }
 
     /**
@@ -71,5 +94,21 @@ public final class AWSS3StorageListRequest {
     public String getTargetIdentityId() {
         return targetIdentityId;
     }
-}
 
+    /**
+     * Gets the maximum number of items to list. If 0, all items are listed at once.
+     * @return page size
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Gets the token of the page to list. If null, the first page is listed.
+     * @return next token
+     */
+    @Nullable
+    public String getNextToken() {
+        return nextToken;
+    }
+}
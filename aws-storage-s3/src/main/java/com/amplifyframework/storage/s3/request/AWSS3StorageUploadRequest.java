@@ -36,6 +36,7 @@ public final class AWSS3StorageUploadRequest<L> {
     private final String contentType;
     private final ServerSideEncryption serverSideEncryption;
     private final Map<String, String> metadata;
+    private final long partSize;
 
     /**
      * Constructs a new AWSS3StorageUploadRequest.
@@ -56,6 +57,32 @@ public final class AWSS3StorageUploadRequest<L> {
             @Nullable String contentType,
             @NonNull ServerSideEncryption serverSideEncryption,
             @Nullable Map<String, String> metadata
+    ) {
+        this(key, local, accessLevel, targetIdentityId, contentType, serverSideEncryption, metadata, 0);
+    }
+
+    /**
+     * Constructs a new AWSS3StorageUploadRequest with a custom multipart upload part size.
+     * @param key key for item to upload
+     * @param local object to upload (e.g. File or InputStream)
+     * @param accessLevel Storage access level
+     * @param targetIdentityId If set, this should override the current user's identity ID.
+     *                         If null, the operation will fetch the current identity ID.
+     * @param contentType The standard MIME type describing the format of the object to store
+     * @param serverSideEncryption server side encryption type for the current storage bucket
+     * @param metadata Metadata for the object to store
+     * @param partSize Size of multipart upload parts in bytes. If 0, the default size is used.
+     */
+    @SuppressWarnings("ParameterNumber")
+    public AWSS3StorageUploadRequest(
+            @NonNull String key,
+            @NonNull L local,
+            @NonNull StorageAccessLevel accessLevel,
+            @Nullable String targetIdentityId,
+            @Nullable String contentType,
+            @NonNull ServerSideEncryption serverSideEncryption,
+            @Nullable Map<String, String> metadata,
+            long partSize
     ) {
         this.key = key;
         this.local = local;
@@ -67,6 +94,7 @@ public final class AWSS3StorageUploadRequest<L> {
         if (metadata != null) {
             this.metadata.putAll(metadata);
         }
+        this.partSize = partSize;
     }
 
     /**
@@ -131,5 +159,12 @@ public final class AWSS3StorageUploadRequest<L> {
     public Map<String, String> getMetadata() {
         return metadata;
     }
-}
 
+    /**
+     * Gets the size of multipart upload parts in bytes. If 0, the default size is used.
+     * @return part size
+     */
+    public long getPartSize() {
+        return partSize;
+    }
+}
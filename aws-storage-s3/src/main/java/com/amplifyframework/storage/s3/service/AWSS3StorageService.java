@@ -18,9 +18,11 @@ package com.amplifyframework.storage.s3.service;
 import android.content.Context;
 import android.content.Intent;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import com.amplifyframework.storage.StorageException;
 import com.amplifyframework.storage.StorageItem;
+import com.amplifyframework.storage.result.StorageListResult;
 import com.amplifyframework.storage.s3.CognitoAuthProvider;
 import com.amplifyframework.storage.s3.utils.S3Keys;
 import com.amplifyframework.util.UserAgent;
@@ -29,6 +31,7 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.mobileconnectors.s3.transferutility.TransferObserver;
 import com.amazonaws.mobileconnectors.s3.transferutility.TransferService;
 import com.amazonaws.mobileconnectors.s3.transferutility.TransferUtility;
+import com.amazonaws.mobileconnectors.s3.transferutility.TransferUtilityOptions;
 import com.amazonaws.mobileconnectors.s3.transferutility.UploadOptions;
 import com.amazonaws.regions.Region;
 import com.amazonaws.services.s3.AmazonS3Client;
@@ -45,12 +48,15 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 
 /**
  * A representation of an S3 backend service endpoint.
  */
 public final class AWSS3StorageService implements StorageService {
+    private static final long BYTES_PER_MB = 1024L * 1024L;
 
     private final Context context;
     private final String bucket;
@@ -58,6 +64,8 @@ public final class AWSS3StorageService implements StorageService {
     private final AmazonS3Client client;
     private final CognitoAuthProvider cognitoAuthProvider;
 
+    private final ConcurrentMap<Integer, TransferUtility> transferUtilitiesByPartSize;
+
     private boolean transferUtilityServiceStarted = false;
 
     /**
@@ -94,6 +102,7 @@ public final class AWSS3StorageService implements StorageService {
                     .context(this.context)
                     .s3Client(client)
                     .build();
+            this.transferUtilitiesByPartSize = new ConcurrentHashMap<>();
         } catch (StorageException exception) {
             throw new IllegalStateException(
                 "AWSS3StoragePlugin depends on AWSCognitoAuthPlugin but it is currently missing.");
@@ -150,6 +159,25 @@ public final class AWSS3StorageService implements StorageService {
         return transferUtility.upload(bucket, serviceKey, file, metadata);
     }
 
+    /**
+     * Begin uploading a file in parts of a custom size.
+     * @param serviceKey S3 service key
+     * @param file Target file
+     * @param metadata Object metadata to associate with upload
+     * @param partSize Size of multipart upload parts in bytes
+     * @return A transfer observer
+     */
+    @NonNull
+    public TransferObserver uploadFile(
+            @NonNull String serviceKey,
+            @NonNull File file,
+            @NonNull ObjectMetadata metadata,
+            long partSize
+    ) {
+        startServiceIfNotAlreadyStarted();
+        return transferUtilityForPartSize(partSize).upload(bucket, serviceKey, file, metadata);
+    }
+
     /**
      * Begin uploading an inputStream.
      * @param serviceKey S3 service key
@@ -172,6 +200,53 @@ public final class AWSS3StorageService implements StorageService {
         return transferUtility.upload(serviceKey, inputStream, uploadOptions);
     }
 
+    /**
+     * Begin uploading an inputStream in parts of a custom size.
+     * @param serviceKey S3 service key
+     * @param inputStream Target InputStream
+     * @param metadata Object metadata to associate with upload
+     * @param partSize Size of multipart upload parts in bytes
+     * @return A transfer observer
+     * @throws IOException An IOException thrown during the process writing an InputStream into a file
+     */
+    @NonNull
+    public TransferObserver uploadInputStream(
+            @NonNull String serviceKey,
+            @NonNull InputStream inputStream,
+            @NonNull ObjectMetadata metadata,
+            long partSize
+    ) throws IOException {
+        startServiceIfNotAlreadyStarted();
+        UploadOptions uploadOptions = UploadOptions.builder()
+                                                    .bucket(bucket)
+                                                    .objectMetadata(metadata)
+                                                    .build();
+        return transferUtilityForPartSize(partSize).upload(serviceKey, inputStream, uploadOptions);
+    }
+
+    // The part size of a multipart upload is fixed by the TransferUtility that enqueues it,
+    // and its parts are recorded in the shared transfer database at that point. So one
+    // TransferUtility is kept per part size, while pausing, resuming and cancelling
+    // transfers by ID can go through the default one.
+    private TransferUtility transferUtilityForPartSize(long partSize) {
+        int partSizeInMB = (int) ((partSize + BYTES_PER_MB - 1) / BYTES_PER_MB);
+        TransferUtility utility = transferUtilitiesByPartSize.get(partSizeInMB);
+        if (utility == null) {
+            TransferUtilityOptions options = new TransferUtilityOptions();
+            options.setMinimumUploadPartSizeInMB(partSizeInMB);
+            utility = TransferUtility.builder()
+                    .context(context)
+                    .s3Client(client)
+                    .transferUtilityOptions(options)
+                    .build();
+            TransferUtility existing = transferUtilitiesByPartSize.putIfAbsent(partSizeInMB, utility);
+            if (existing != null) {
+                utility = existing;
+            }
+        }
+        return utility;
+    }
+
     /**
      * List items inside an S3 path.
      * @param path The path to list items from
@@ -187,20 +262,7 @@ public final class AWSS3StorageService implements StorageService {
 
         do {
             result = client.listObjectsV2(request);
-
-            for (S3ObjectSummary objectSummary : result.getObjectSummaries()) {
-                // Remove the access level prefix from service key
-                String serviceKey = objectSummary.getKey();
-                String amplifyKey = S3Keys.extractAmplifyKey(serviceKey);
-
-                itemList.add(new StorageItem(
-                        amplifyKey,
-                        objectSummary.getSize(),
-                        objectSummary.getLastModified(),
-                        objectSummary.getETag(),
-                        null
-                ));
-            }
+            itemList.addAll(toStorageItems(result));
             // If there are more than maxKeys keys in the bucket, get a continuation token
             // and fetch the next batch of objects.
             String token = result.getNextContinuationToken();
@@ -210,6 +272,47 @@ public final class AWSS3StorageService implements StorageService {
         return itemList;
     }
 
+    /**
+     * List a single page of items inside an S3 path.
+     * @param path The path to list items from
+     * @param pageSize The maximum number of items to list
+     * @param nextToken The continuation token of the page to list, or null for the first page
+     * @return A page of parsed items, with the continuation token of the next page, if any
+     */
+    @NonNull
+    public StorageListResult listFiles(@NonNull String path, int pageSize, @Nullable String nextToken) {
+        startServiceIfNotAlreadyStarted();
+        ListObjectsV2Request request = new ListObjectsV2Request()
+                .withBucketName(this.bucket)
+                .withPrefix(path)
+                .withMaxKeys(pageSize)
+                .withContinuationToken(nextToken);
+        ListObjectsV2Result result = client.listObjectsV2(request);
+
+        return StorageListResult.fromItems(
+                toStorageItems(result),
+                result.isTruncated() ? result.getNextContinuationToken() : null
+        );
+    }
+
+    private static List<StorageItem> toStorageItems(@NonNull ListObjectsV2Result result) {
+        List<StorageItem> items = new ArrayList<>(result.getObjectSummaries().size());
+        for (S3ObjectSummary objectSummary : result.getObjectSummaries()) {
+            // Remove the access level prefix from service key
+            String serviceKey = objectSummary.getKey();
+            String amplifyKey = S3Keys.extractAmplifyKey(serviceKey);
+
+            items.add(new StorageItem(
+                    amplifyKey,
+                    objectSummary.getSize(),
+                    objectSummary.getLastModified(),
+                    objectSummary.getETag(),
+                    null
+            ));
+        }
+        return items;
+    }
+
     /**
      * Synchronous operation to delete a file in s3.
      * @param serviceKey Fully specified path to file to delete (including public/private/protected folder)
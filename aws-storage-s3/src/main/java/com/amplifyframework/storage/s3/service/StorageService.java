@@ -17,8 +17,10 @@ package com.amplifyframework.storage.s3.service;
 
 import android.content.Context;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import com.amplifyframework.storage.StorageItem;
+import com.amplifyframework.storage.result.StorageListResult;
 
 import com.amazonaws.mobileconnectors.s3.transferutility.TransferObserver;
 import com.amazonaws.regions.Region;
@@ -66,6 +68,20 @@ public interface StorageService {
                                 @NonNull File file,
                                 @NonNull ObjectMetadata metadata);
 
+    /**
+     * Begin uploading a file to a key in storage, splitting it into parts
+     * of the given size if it is uploaded in multiple parts.
+     * @param serviceKey key to uniquely label item in storage
+     * @param file file to upload
+     * @param metadata metadata to attach to uploaded item
+     * @param partSize size of multipart upload parts in bytes
+     * @return An instance of {@link TransferObserver} to monitor upload
+     */
+    TransferObserver uploadFile(@NonNull String serviceKey,
+                                @NonNull File file,
+                                @NonNull ObjectMetadata metadata,
+                                long partSize);
+
     /**
      * Begin uploading an InputStream to a key in storage and return an observer
      * to monitor upload progress. This item will be stored with specified
@@ -81,6 +97,22 @@ public interface StorageService {
                                        @NonNull InputStream inputStream,
                                        @NonNull ObjectMetadata metadata) throws IOException;
 
+    /**
+     * Begin uploading an InputStream to a key in storage, splitting it into
+     * parts of the given size if it is uploaded in multiple parts.
+     * @param serviceKey key to uniquely label item in storage
+     * @param inputStream InputStream from which to read content
+     * @param metadata metadata to attach to uploaded item
+     * @param partSize size of multipart upload parts in bytes
+     * @return An instance of {@link TransferObserver} to monitor upload
+     * @throws IOException on error reading the InputStream, or saving it to a temporary
+     *         File before the upload begins.
+     */
+    TransferObserver uploadInputStream(@NonNull String serviceKey,
+                                       @NonNull InputStream inputStream,
+                                       @NonNull ObjectMetadata metadata,
+                                       long partSize) throws IOException;
+
     /**
      * Returns a list of items from provided path inside the storage.
      * @param path path inside storage to inspect for list of items
@@ -88,6 +120,16 @@ public interface StorageService {
      */
     List<StorageItem> listFiles(@NonNull String path);
 
+    /**
+     * Returns a single page of items from provided path inside the storage.
+     * @param path path inside storage to inspect for list of items
+     * @param pageSize maximum number of items to return in the page
+     * @param nextToken token of the page to list, or null to list the first page
+     * @return A page of parsed items present inside given path, along with the
+     *         token of the following page, if there is one
+     */
+    StorageListResult listFiles(@NonNull String path, int pageSize, @Nullable String nextToken);
+
     /**
      * Delete an object with specific key inside the storage.
      * @param serviceKey Key of the item to remove from storage
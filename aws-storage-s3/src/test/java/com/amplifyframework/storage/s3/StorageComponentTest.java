@@ -26,6 +26,7 @@ import com.amplifyframework.storage.result.StorageListResult;
 import com.amplifyframework.storage.result.StorageRemoveResult;
 import com.amplifyframework.storage.result.StorageUploadFileResult;
 import com.amplifyframework.storage.result.StorageUploadInputStreamResult;
+import com.amplifyframework.storage.s3.options.AWSS3StorageUploadFileOptions;
 import com.amplifyframework.storage.s3.service.StorageService;
 import com.amplifyframework.testutils.Await;
 import com.amplifyframework.testutils.random.RandomBytes;
@@ -59,6 +60,7 @@ import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -268,6 +270,43 @@ public final class StorageComponentTest {
         assertEquals(toRemoteKey, result.getKey());
     }
 
+    /**
+     * Test that a part size in the {@link AWSS3StorageUploadFileOptions} is
+     * passed through to the storage service when uploading a file.
+     *
+     * @throws Exception when an error is encountered while uploading
+     */
+    @Test
+    public void testUploadFileUsesPartSize() throws Exception {
+        final String toRemoteKey = RandomString.string();
+        final File fromLocalFile = new RandomTempFile(FILE_SIZE);
+        final long partSize = 2 * AWSS3StorageUploadFileOptions.MINIMUM_PART_SIZE;
+
+        TransferObserver observer = mock(TransferObserver.class);
+        when(storageService.uploadFile(anyString(), any(File.class), any(ObjectMetadata.class), eq(partSize)))
+                .thenReturn(observer);
+
+        doAnswer(invocation -> {
+            TransferListener listener = invocation.getArgument(0);
+            listener.onStateChanged(0, TransferState.COMPLETED);
+            return null;
+        }).when(observer)
+                .setTransferListener(any(TransferListener.class));
+
+        StorageUploadFileResult result =
+                Await.<StorageUploadFileResult, StorageException>result((onResult, onError) ->
+                        storage.uploadFile(
+                                toRemoteKey,
+                                fromLocalFile,
+                                AWSS3StorageUploadFileOptions.builder().partSize(partSize).build(),
+                                onResult,
+                                onError
+                        )
+                );
+
+        assertEquals(toRemoteKey, result.getKey());
+    }
+
     /**
      * Test that calling upload inputStream method from Storage category correctly
      * invokes the registered AWSS3StoragePlugin instance and returns a
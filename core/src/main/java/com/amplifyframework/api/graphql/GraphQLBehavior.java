@@ -134,7 +134,9 @@ public interface GraphQLBehavior {
      *
      * @param graphQlRequest Wrapper for request details
      * @param onSubscriptionEstablished
-     *        Called when a subscription has been established over the network
+     *        Called when a subscription has been established over the network.
+     *        If the connection is lost and the subscription is re-established,
+     *        this is called again; responses sent in the meantime are missed.
      * @param onNextResponse
      *        Consumes a stream of responses on the subscription. This may be
      *        called 0..n times per subscription.
@@ -169,7 +171,9 @@ public interface GraphQLBehavior {
      * @param apiName The name of a configured API
      * @param graphQlRequest Wrapper for request details
      * @param onSubscriptionEstablished
-     *        Called when a subscription has been established over the network
+     *        Called when a subscription has been established over the network.
+     *        If the connection is lost and the subscription is re-established,
+     *        this is called again; responses sent in the meantime are missed.
      * @param onNextResponse
      *        Consumes a stream of responses on the subscription. This may be
      *        called 0..n times per subscription.
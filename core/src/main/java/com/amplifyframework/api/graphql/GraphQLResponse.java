@@ -19,9 +19,12 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.core.util.ObjectsCompat;
 
+import com.amplifyframework.AmplifyException;
 import com.amplifyframework.api.ApiException;
 import com.amplifyframework.util.Immutable;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
@@ -34,6 +37,9 @@ import java.util.Objects;
  * @param <R> queried data type
  */
 public final class GraphQLResponse<R> {
+    // The number of characters that are read from a response stream at a time.
+    private static final int RESPONSE_BUFFER_SIZE = 8 * 1024;
+
     private final R data;
     private final List<Error> errors;
 
@@ -242,5 +248,36 @@ public final class GraphQLResponse<R> {
          */
         <R> GraphQLResponse<R> buildResponse(GraphQLRequest<R> request, String apiResponseJson, Type typeOfR)
             throws ApiException;
+
+        /**
+         * Deserializes a JSON response which is read from a stream, into an object of the provided typeOfR.
+         * Implementations may parse the response as it is read, instead of holding all of it in memory.
+         * By default, the whole stream is read into a String, which is passed to
+         * {@link #buildResponse(GraphQLRequest, String, Type)}.
+         * @param request The request which resulted in this GraphQLResponse
+         * @param apiResponseReader A reader of the response from the endpoint
+         * @param typeOfR The typeOfR to which the JSON should be interpreted
+         * @param <R> The typeOfR of the response object
+         * @return An instance of provided typeOfR which models the data provided in the response JSON
+         * @throws ApiException If the response can't be read, or if the class provided mismatches the data
+         */
+        default <R> GraphQLResponse<R> buildResponse(
+                GraphQLRequest<R> request, Reader apiResponseReader, Type typeOfR) throws ApiException {
+            final StringBuilder apiResponseJson = new StringBuilder();
+            final char[] buffer = new char[RESPONSE_BUFFER_SIZE];
+            try {
+                int charsRead;
+                while ((charsRead = apiResponseReader.read(buffer)) != -1) {
+                    apiResponseJson.append(buffer, 0, charsRead);
+                }
+            } catch (IOException readFailure) {
+                throw new ApiException(
+                    "Could not read the response from the API.",
+                    readFailure,
+                    AmplifyException.TODO_RECOVERY_SUGGESTION
+                );
+            }
+            return buildResponse(request, apiResponseJson.toString(), typeOfR);
+        }
     }
 }
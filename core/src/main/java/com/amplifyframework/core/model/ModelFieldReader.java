@@ -0,0 +1,98 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.core.model;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.amplifyframework.AmplifyException;
+import com.amplifyframework.util.FieldFinder;
+
+import java.lang.reflect.Field;
+import java.util.Objects;
+
+/**
+ * Reads the value of a model's field, by the name that the field has in the model's schema.
+ * The name may also be the target name of an association, such as the "postBlogId" of a
+ * post which belongs to a blog. The model holds the associated blog in its "blog" field,
+ * so the value which is read is the ID of that blog.
+ */
+public final class ModelFieldReader {
+    private final Field field;
+    private final boolean readsAssociatedId;
+
+    private ModelFieldReader(Field field, boolean readsAssociatedId) {
+        this.field = field;
+        this.readsAssociatedId = readsAssociatedId;
+    }
+
+    /**
+     * Finds the field of the schema's model class which holds the value of the named field.
+     * @param modelSchema Schema of the model
+     * @param fieldName Name of a field of the schema, or the target name of one of its associations
+     * @return A reader for the value of the field
+     * @throws AmplifyException If the schema has no such field or association, or if the
+     *         schema's model class doesn't declare the Java field that holds its value
+     */
+    @NonNull
+    public static ModelFieldReader forField(@NonNull ModelSchema modelSchema, @NonNull String fieldName)
+            throws AmplifyException {
+        Objects.requireNonNull(modelSchema);
+        Objects.requireNonNull(fieldName);
+        Class<? extends Model> modelClass = modelSchema.getModelClass();
+        try {
+            if (modelSchema.getFields().containsKey(fieldName)) {
+                return new ModelFieldReader(FieldFinder.findDeclaredField(modelClass, fieldName), false);
+            }
+            for (ModelAssociation association : modelSchema.getAssociations().values()) {
+                if (fieldName.equals(association.getTargetName())) {
+                    Field associationField = FieldFinder.findDeclaredField(modelClass, association.getName());
+                    return new ModelFieldReader(associationField, true);
+                }
+            }
+        } catch (NoSuchFieldException noSuchField) {
+            throw new AmplifyException(
+                modelClass.getSimpleName() + " does not declare the field that holds " + fieldName + ".",
+                noSuchField,
+                "Verify that " + modelClass.getSimpleName() + " was generated from its schema."
+            );
+        }
+        throw new AmplifyException(
+            modelSchema.getName() + " has no field or association named " + fieldName + ".",
+            "Use the name of one of the fields of " + modelSchema.getName() + "."
+        );
+    }
+
+    /**
+     * Reads the value of the field from a model.
+     * @param model An instance of the schema's model class
+     * @return The value of the field, which is the ID of the associated model for an
+     *         association's target name. Null if the field has no value.
+     */
+    @Nullable
+    public Object read(@NonNull Object model) {
+        final Object value;
+        try {
+            value = field.get(model);
+        } catch (IllegalAccessException illegalAccess) {
+            return null;
+        }
+        if (readsAssociatedId && value instanceof Model) {
+            return ((Model) value).getId();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.core.model.query.predicate;
+
+import androidx.core.util.ObjectsCompat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Represents a membership condition with a list of target values for comparison.
+ */
+public final class InQueryOperator extends QueryOperator<Object> {
+    private final List<Object> values;
+
+    /**
+     * Constructs a membership condition.
+     * @param values the values to be used in the comparison
+     */
+    InQueryOperator(List<?> values) {
+        super(Type.IN);
+        this.values = Collections.unmodifiableList(new ArrayList<>(values));
+    }
+
+    /**
+     * Returns the values to be used in the comparison.
+     * @return the values to be used in the comparison
+     */
+    public List<Object> values() {
+        return values;
+    }
+
+    /**
+     * Returns true if the provided field value equals
+     * one of the values associated with this operator.
+     * @param field the field value to operate on
+     * @return evaluated result of the operator
+     */
+    public boolean evaluate(Object field) {
+        return values.contains(field);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        } else if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        } else {
+            InQueryOperator op = (InQueryOperator) obj;
+
+            return ObjectsCompat.equals(type(), op.type()) &&
+                    ObjectsCompat.equals(values(), op.values());
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return ObjectsCompat.hash(
+                type(),
+                values()
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "InQueryOperator { " +
+            "type: " + type() +
+            ", values: " + values() +
+            " }";
+    }
+}
@@ -18,6 +18,8 @@ package com.amplifyframework.core.model.query.predicate;
 import com.amplifyframework.core.model.query.QuerySortBy;
 import com.amplifyframework.core.model.query.QuerySortOrder;
 
+import java.util.List;
+
 /**
  * Represents a property in a model with methods for chaining conditions.
  */
@@ -129,6 +131,16 @@ public final class QueryField {
         return new QueryPredicateOperation<>(fieldName, new ContainsQueryOperator(value));
     }
 
+    /**
+     * Generates a new membership comparison object to compare this field to the specified values.
+     * Local queries support this condition, but the GraphQL API does not.
+     * @param values the values to be compared
+     * @return an operation object representing the membership condition
+     */
+    public QueryPredicateOperation<Object> in(List<?> values) {
+        return new QueryPredicateOperation<>(fieldName, new InQueryOperator(values));
+    }
+
     /**
      * Generates a new sort object specifying a field that should be sorted in ascending order for a query.
      *
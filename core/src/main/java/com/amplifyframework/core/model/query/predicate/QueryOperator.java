@@ -78,6 +78,10 @@ public abstract class QueryOperator<T> implements Evaluable<T> {
         /**
          * Begins with some value comparison.
          */
-        BEGINS_WITH
+        BEGINS_WITH,
+        /**
+         * Equals one of some values comparison.
+         */
+        IN
     }
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.core.model.query.predicate;
+
+import androidx.annotation.NonNull;
+
+import com.amplifyframework.AmplifyException;
+import com.amplifyframework.core.model.ModelFieldReader;
+import com.amplifyframework.core.model.ModelSchema;
+import com.amplifyframework.datastore.DataStoreException;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Compiles a {@link QueryPredicate} against a model schema, into an {@link Evaluable}
+ * which has already looked up the fields that the predicate examines. Evaluating
+ * the compiled predicate only reads those fields, without searching the class for
+ * them again. Fields are found by their names in the schema, so a predicate may
+ * also examine the target name of an association, such as a post's "postBlogId".
+ */
+final class QueryPredicateCompiler {
+    private QueryPredicateCompiler() {}
+
+    /**
+     * Compiles a predicate against a model schema.
+     * @param predicate Predicate to compile
+     * @param modelSchema Schema of the models that the predicate will evaluate
+     * @return An evaluable which gives the same results as the predicate, for models of the
+     *         schema, and which also resolves the target names of the schema's associations
+     * @throws DataStoreException If the predicate examines a field that can't be found
+     *         through the schema
+     */
+    @NonNull
+    static Evaluable<Object> compile(@NonNull QueryPredicate predicate, @NonNull ModelSchema modelSchema)
+            throws DataStoreException {
+        Objects.requireNonNull(predicate);
+        Objects.requireNonNull(modelSchema);
+        if (predicate instanceof QueryPredicateOperation) {
+            QueryPredicateOperation<?> operation = (QueryPredicateOperation<?>) predicate;
+            final ModelFieldReader reader;
+            try {
+                reader = ModelFieldReader.forField(modelSchema, operation.field());
+            } catch (AmplifyException fieldNotFound) {
+                throw new DataStoreException(
+                    "Unable to compile a predicate on the field " + operation.field() +
+                        ", which is not in the schema of " + modelSchema.getName() + ".",
+                    fieldNotFound,
+                    "Build the predicate from the QueryFields of " + modelSchema.getName() + "."
+                );
+            }
+            return new CompiledOperation(operation, modelSchema.getModelClass(), reader);
+        } else if (predicate instanceof QueryPredicateGroup) {
+            QueryPredicateGroup group = (QueryPredicateGroup) predicate;
+            List<QueryPredicate> predicates = group.predicates();
+            @SuppressWarnings("unchecked")
+            Evaluable<Object>[] compiled = new Evaluable[predicates.size()];
+            for (int index = 0; index < compiled.length; index++) {
+                compiled[index] = compile(predicates.get(index), modelSchema);
+            }
+            return new CompiledGroup(group.type(), compiled);
+        } else {
+            // Match-all, or a predicate type that can't be compiled.
+            return predicate;
+        }
+    }
+
+    /**
+     * A predicate operation whose field has been looked up on the model class.
+     * Objects of any other class are evaluated by the operation itself.
+     */
+    private static final class CompiledOperation implements Evaluable<Object> {
+        private final QueryPredicateOperation<?> operation;
+        private final Class<?> modelClass;
+        private final ModelFieldReader reader;
+
+        CompiledOperation(QueryPredicateOperation<?> operation, Class<?> modelClass, ModelFieldReader reader) {
+            this.operation = operation;
+            this.modelClass = modelClass;
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean evaluate(Object target) {
+            if (target == null || target.getClass() != modelClass) {
+                return operation.evaluate(target);
+            }
+            return operation.evaluateValue(reader.read(target));
+        }
+    }
+
+    /**
+     * A predicate group whose members have each been compiled.
+     */
+    private static final class CompiledGroup implements Evaluable<Object> {
+        private final QueryPredicateGroup.Type type;
+        private final Evaluable<Object>[] predicates;
+
+        CompiledGroup(QueryPredicateGroup.Type type, Evaluable<Object>[] predicates) {
+            this.type = type;
+            this.predicates = predicates;
+        }
+
+        @Override
+        public boolean evaluate(Object target) {
+            switch (type) {
+                case OR:
+                    for (Evaluable<Object> predicate : predicates) {
+                        if (predicate.evaluate(target)) {
+                            return true;
+                        }
+                    }
+                    return false;
+                case AND:
+                    for (Evaluable<Object> predicate : predicates) {
+                        if (!predicate.evaluate(target)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                case NOT:
+                    // predicates should never be empty!
+                    return !predicates[0].evaluate(target);
+                default:
+                    return false;
+            }
+        }
+    }
+}
@@ -96,11 +96,28 @@ public final class QueryPredicateOperation<T> implements QueryPredicate {
      *          has a data type that cannot be evaluated
      */
     @Override
-    @SuppressWarnings("unchecked")
     public boolean evaluate(@NonNull Object object) throws IllegalArgumentException {
+        final Object fieldValue;
+        try {
+            fieldValue = FieldFinder.extractFieldValue(object, field);
+        } catch (Exception exception) {
+            return false;
+        }
+        return evaluateValue(fieldValue);
+    }
+
+    /**
+     * Evaluate the operation on a value that has already been
+     * read from the operation's field.
+     * @param fieldValue Value of the field being examined
+     * @return Evaluated result of this operation on the value
+     * @throws IllegalArgumentException when the value has a data
+     *          type that cannot be evaluated
+     */
+    @SuppressWarnings("unchecked")
+    boolean evaluateValue(Object fieldValue) throws IllegalArgumentException {
         try {
-            T fieldValue = (T) FieldFinder.extractFieldValue(object, field);
-            return operator.evaluate(fieldValue);
+            return operator.evaluate((T) fieldValue);
         } catch (ClassCastException castException) {
             throw new IllegalArgumentException(field + " field inside " +
                     "provided object cannot be evaluated by the operator " +
@@ -15,6 +15,11 @@
 
 package com.amplifyframework.core.model.query.predicate;
 
+import androidx.annotation.NonNull;
+
+import com.amplifyframework.core.model.ModelSchema;
+import com.amplifyframework.datastore.DataStoreException;
+
 /**
  * A factory class for building {@link QueryPredicate}s.
  */
@@ -28,4 +33,22 @@ public final class QueryPredicates {
     public static MatchAllQueryPredicate all() {
         return MatchAllQueryPredicate.instance();
     }
+
+    /**
+     * Compiles a {@link QueryPredicate} for repeated evaluation against models of the
+     * provided schema. The fields which the predicate examines are looked up once, here,
+     * instead of every time the predicate is evaluated. Fields are looked up by their names
+     * in the schema, so that the target name of an association, such as a post's "postBlogId",
+     * is evaluated against the ID of the associated model.
+     * @param predicate Predicate to compile
+     * @param modelSchema Schema of the models that the predicate will evaluate
+     * @return An evaluable form of the predicate, for models of the schema
+     * @throws DataStoreException If the predicate examines a field which is neither
+     *         a field of the schema nor the target name of one of its associations
+     */
+    @NonNull
+    public static Evaluable<Object> compile(@NonNull QueryPredicate predicate, @NonNull ModelSchema modelSchema)
+            throws DataStoreException {
+        return QueryPredicateCompiler.compile(predicate, modelSchema);
+    }
 }
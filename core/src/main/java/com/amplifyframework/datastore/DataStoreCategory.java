@@ -27,6 +27,7 @@ import com.amplifyframework.core.model.query.QueryOptions;
 import com.amplifyframework.core.model.query.predicate.QueryPredicate;
 
 import java.util.Iterator;
+import java.util.List;
 
 /**
  * DataStore simplifies local storage of your application data on the
@@ -71,6 +72,17 @@ public final class DataStoreCategory
         getSelectedPlugin().save(item, predicate, onItemSaved, onFailureToSave);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends Model> void saveAll(
+            @NonNull List<T> items,
+            @NonNull Consumer<List<DataStoreItemChange<T>>> onItemsSaved,
+            @NonNull Consumer<DataStoreException> onFailureToSave) {
+        getSelectedPlugin().saveAll(items, onItemsSaved, onFailureToSave);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -94,6 +106,17 @@ public final class DataStoreCategory
         getSelectedPlugin().delete(object, predicate, onItemDeleted, onFailureToDelete);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends Model> void deleteAll(
+            @NonNull List<T> items,
+            @NonNull Consumer<List<DataStoreItemChange<T>>> onItemsDeleted,
+            @NonNull Consumer<DataStoreException> onFailureToDelete) {
+        getSelectedPlugin().deleteAll(items, onItemsDeleted, onFailureToDelete);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -183,6 +206,21 @@ public final class DataStoreCategory
             onObservationStarted, onDataStoreItemChange, onObservationFailure, onObservationCompleted);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends Model> void observeQuery(
+            @NonNull Class<T> itemClass,
+            @NonNull QueryOptions options,
+            @NonNull Consumer<Cancelable> onObservationStarted,
+            @NonNull Consumer<DataStoreQuerySnapshot<T>> onQuerySnapshot,
+            @NonNull Consumer<DataStoreException> onObservationFailure,
+            @NonNull Action onObservationCompleted) {
+        getSelectedPlugin().observeQuery(itemClass, options,
+            onObservationStarted, onQuerySnapshot, onObservationFailure, onObservationCompleted);
+    }
+
     @Override
     public void start(@NonNull Action onComplete, @NonNull Consumer<DataStoreException> onError) {
         getSelectedPlugin().start(onComplete, onError);
@@ -26,6 +26,7 @@ import com.amplifyframework.core.model.query.QueryOptions;
 import com.amplifyframework.core.model.query.predicate.QueryPredicate;
 
 import java.util.Iterator;
+import java.util.List;
 
 /**
  * A DataStore is a high-level abstraction of an object repository.
@@ -67,6 +68,23 @@ public interface DataStoreCategoryBehavior {
             @NonNull Consumer<DataStoreException> onFailureToSave
     );
 
+    /**
+     * Saves a batch of items into the DataStore, as a single unit of work. Either all
+     * of the items are saved, or none of them are. Observers of the DataStore are notified
+     * of a change for each item in the batch. This is much faster than saving the items
+     * one-at-a-time, when importing a large number of items.
+     * @param items Items to save
+     * @param onItemsSaved Called upon successful save of all items, with one change per item
+     *                     in the same order as the provided items
+     * @param onFailureToSave Called upon failure to save the batch of items
+     * @param <T> The type of items being saved
+     */
+    <T extends Model> void saveAll(
+            @NonNull List<T> items,
+            @NonNull Consumer<List<DataStoreItemChange<T>>> onItemsSaved,
+            @NonNull Consumer<DataStoreException> onFailureToSave
+    );
+
     /**
      * Deletes an item from the DataStore.
      * @param item An item to delete from the DataStore
@@ -97,6 +115,22 @@ public interface DataStoreCategoryBehavior {
             @NonNull Consumer<DataStoreException> onFailureToDelete
     );
 
+    /**
+     * Deletes a batch of items from the DataStore, as a single unit of work. Either all
+     * of the items are deleted, or none of them are. Observers of the DataStore are notified
+     * of a change for each item in the batch.
+     * @param items Items to delete from the DataStore
+     * @param onItemsDeleted Called upon successful deletion of all items, with one change per
+     *                       item in the same order as the provided items
+     * @param onFailureToDelete Called upon failure to delete the batch of items
+     * @param <T> The type of items being deleted
+     */
+    <T extends Model> void deleteAll(
+            @NonNull List<T> items,
+            @NonNull Consumer<List<DataStoreItemChange<T>>> onItemsDeleted,
+            @NonNull Consumer<DataStoreException> onFailureToDelete
+    );
+
     /**
      * Query the DataStore to find all items of the requested Java class.
      * @param itemClass Items of this class will be targeted by this query
@@ -226,6 +260,30 @@ public interface DataStoreCategoryBehavior {
             @NonNull Action onObservationCompleted
     );
 
+    /**
+     * Observe the results of a query, as they change. The query is run once, and its results
+     * are then kept up to date in memory, by applying each change to the queried items. A
+     * {@link DataStoreQuerySnapshot} is emitted with the initial results, and then again whenever
+     * a change alters them, along with the insertions, removals and updates that it made.
+     * @param itemClass The class of the item(s) to query
+     * @param options Filtering, sorting and pagination of the results
+     * @param <T> The type of the item(s) to query
+     * @param onObservationStarted Called when observation begins
+     * @param onQuerySnapshot Called with the initial results, and then 0..n times,
+     *                        whenever the results change
+     * @param onObservationFailure Called if observation of the DataStore terminates
+     *                             with a non-recoverable failure
+     * @param onObservationCompleted Called when observation completes gracefully
+     */
+    <T extends Model> void observeQuery(
+            @NonNull Class<T> itemClass,
+            @NonNull QueryOptions options,
+            @NonNull Consumer<Cancelable> onObservationStarted,
+            @NonNull Consumer<DataStoreQuerySnapshot<T>> onQuerySnapshot,
+            @NonNull Consumer<DataStoreException> onObservationFailure,
+            @NonNull Action onObservationCompleted
+    );
+
     /**
      * Starts the DataStore's synchronization with a remote system, if DataStore is configured to support
      * remote synchronization. This only needs to be called if you wish to start the synchronization eagerly.
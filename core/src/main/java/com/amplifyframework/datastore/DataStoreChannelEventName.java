@@ -53,6 +53,13 @@ public enum DataStoreChannelEventName {
      */
     SUBSCRIPTION_DATA_PROCESSED("subscriptionDataProcessed"),
 
+    /**
+     * A batch of data from the server was successfully melded back into the local store.
+     * Published instead of {@link #SUBSCRIPTION_DATA_PROCESSED}, when the DataStore is
+     * configured to batch its hub events. The event data is a list of the merged models.
+     */
+    SUBSCRIPTION_DATA_BATCH_PROCESSED("subscriptionDataBatchProcessed"),
+
     /**
      * Notifies if there are mutations in the outbox.
      */
@@ -68,6 +75,13 @@ public enum DataStoreChannelEventName {
      */
     OUTBOX_MUTATION_PROCESSED("outboxMutationProcessed"),
 
+    /**
+     * A batch of mutations from the outbox has been successfully sent and merged to the backend.
+     * Published instead of {@link #OUTBOX_MUTATION_PROCESSED}, when the DataStore is
+     * configured to batch its hub events. The event data is a list of the processed mutations.
+     */
+    OUTBOX_MUTATION_BATCH_PROCESSED("outboxMutationBatchProcessed"),
+
     /**
      * The DataStore is about to start the Sync Queries.
      */
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore;
+
+import androidx.annotation.NonNull;
+import androidx.core.util.ObjectsCompat;
+
+import com.amplifyframework.core.model.Model;
+import com.amplifyframework.util.Immutable;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The results of a live query, at one point in time. A snapshot holds the items which
+ * currently match the query, in the order of the query, along with the changes that
+ * turned the previous snapshot's items into this snapshot's items. The first snapshot
+ * of a live query has no changes.
+ * @param <T> The type of the queried items
+ */
+public final class DataStoreQuerySnapshot<T extends Model> {
+    private final List<T> items;
+    private final List<Change<T>> changes;
+
+    /**
+     * Constructs a new DataStoreQuerySnapshot.
+     * @param items The items which match the query, in order
+     * @param changes The changes since the previous snapshot, in the order they apply
+     */
+    public DataStoreQuerySnapshot(@NonNull List<T> items, @NonNull List<Change<T>> changes) {
+        this.items = Immutable.of(Objects.requireNonNull(items));
+        this.changes = Immutable.of(Objects.requireNonNull(changes));
+    }
+
+    /**
+     * Gets the items which match the query, in the order of the query.
+     * @return Matching items
+     */
+    @NonNull
+    public List<T> items() {
+        return items;
+    }
+
+    /**
+     * Gets the changes which turn the previous snapshot's items into this snapshot's items.
+     * Each change's position is relative to the items as they are after the changes before it.
+     * @return Changes since the previous snapshot
+     */
+    @NonNull
+    public List<Change<T>> changes() {
+        return changes;
+    }
+
+    @Override
+    public boolean equals(Object thatObject) {
+        if (this == thatObject) {
+            return true;
+        }
+        if (thatObject == null || getClass() != thatObject.getClass()) {
+            return false;
+        }
+
+        DataStoreQuerySnapshot<?> that = (DataStoreQuerySnapshot<?>) thatObject;
+        return ObjectsCompat.equals(items, that.items) &&
+            ObjectsCompat.equals(changes, that.changes);
+    }
+
+    @Override
+    public int hashCode() {
+        return ObjectsCompat.hash(items, changes);
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "DataStoreQuerySnapshot{" +
+            "items=" + items +
+            ", changes=" + changes +
+            '}';
+    }
+
+    /**
+     * A change to a single position in the results of a live query.
+     * @param <T> The type of the queried items
+     */
+    public static final class Change<T extends Model> {
+        private final Type type;
+        private final int position;
+        private final T item;
+
+        /**
+         * Constructs a new Change.
+         * @param type The type of the change
+         * @param position The position of the changed item in the results
+         * @param item The item which was inserted, removed or changed
+         */
+        public Change(@NonNull Type type, int position, @NonNull T item) {
+            this.type = Objects.requireNonNull(type);
+            this.position = position;
+            this.item = Objects.requireNonNull(item);
+        }
+
+        /**
+         * Gets the type of the change.
+         * @return Type of change
+         */
+        @NonNull
+        public Type type() {
+            return type;
+        }
+
+        /**
+         * Gets the position of the changed item in the results. For an insertion, this
+         * is the item's new position. For a removal, it is the position the item was at.
+         * @return Position of the changed item
+         */
+        public int position() {
+            return position;
+        }
+
+        /**
+         * Gets the item which was inserted, removed or changed.
+         * @return The changed item
+         */
+        @NonNull
+        public T item() {
+            return item;
+        }
+
+        @Override
+        public boolean equals(Object thatObject) {
+            if (this == thatObject) {
+                return true;
+            }
+            if (thatObject == null || getClass() != thatObject.getClass()) {
+                return false;
+            }
+
+            Change<?> that = (Change<?>) thatObject;
+            return position == that.position &&
+                type == that.type &&
+                ObjectsCompat.equals(item, that.item);
+        }
+
+        @Override
+        public int hashCode() {
+            return ObjectsCompat.hash(type, position, item);
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return "Change{" +
+                "type=" + type +
+                ", position=" + position +
+                ", item=" + item +
+                '}';
+        }
+
+        /**
+         * The ways in which a position in the results can change.
+         */
+        public enum Type {
+            /**
+             * An item was inserted at the position.
+             */
+            INSERTED,
+
+            /**
+             * The item at the position was removed.
+             */
+            REMOVED,
+
+            /**
+             * The item at the position was updated, and stayed at the same position.
+             */
+            CHANGED
+        }
+    }
+}
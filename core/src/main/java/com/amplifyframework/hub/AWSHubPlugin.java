@@ -24,44 +24,101 @@ import com.amplifyframework.core.BuildConfig;
 
 import org.json.JSONObject;
 
-import java.util.HashSet;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * An implementation of the {@link HubPlugin} which dispatches messages via
  * an {@link ExecutorService}.
+ *
+ * Subscriptions are indexed by {@link HubChannel}, in copy-on-write lists, so
+ * publishing never takes a lock and only visits the subscribers of one channel.
+ * Events are delivered on a bounded pool of dispatch threads. By default, a
+ * subscriber may receive events concurrently and in any order; a plugin built with
+ * {@link Builder#orderedDelivery(boolean)} delivers events to each subscriber one
+ * at a time, in the order they were published.
+ *
+ * Since the pool is bounded, a subscriber which blocks holds on to a dispatch thread
+ * until it returns. With the default delivery, a subscriber that blocks on each of many
+ * events can hold every dispatch thread, so that events for all other subscribers wait
+ * behind it. With ordered delivery, a subscriber holds at most one dispatch thread at a
+ * time, though as many subscribers as there are threads can still starve the rest.
+ * Subscribers should return promptly, and hand any blocking work to their own threads.
  */
 public final class AWSHubPlugin extends HubPlugin<Void> {
-    private final Set<Subscription> subscriptions;
+    private static final int MIN_DISPATCH_THREADS = 2;
+    private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 60;
+
+    private final Map<HubChannel, List<Subscription>> subscriptionsByChannel;
+    private final Map<SubscriptionToken, Subscription> subscriptionsByToken;
     private final ExecutorService executorService;
+    private final boolean orderedDelivery;
+    private final DispatchMetrics dispatchMetrics;
 
     /**
      * Constructs a new AWSHubPlugin.
      */
     @SuppressWarnings("WeakerAccess") // This is a public API
     public AWSHubPlugin() {
-        this.subscriptions = new HashSet<>();
-        this.executorService = Executors.newCachedThreadPool();
+        this(builder());
+    }
+
+    private AWSHubPlugin(Builder builder) {
+        Map<HubChannel, List<Subscription>> channelIndex = new EnumMap<>(HubChannel.class);
+        for (HubChannel hubChannel : HubChannel.values()) {
+            channelIndex.put(hubChannel, new CopyOnWriteArrayList<>());
+        }
+        this.subscriptionsByChannel = Collections.unmodifiableMap(channelIndex);
+        this.subscriptionsByToken = new ConcurrentHashMap<>();
+        ThreadPoolExecutor dispatcher = new ThreadPoolExecutor(
+            builder.maxDispatchThreads,
+            builder.maxDispatchThreads,
+            IDLE_THREAD_KEEP_ALIVE_SECONDS,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>()
+        );
+        dispatcher.allowCoreThreadTimeOut(true);
+        this.executorService = dispatcher;
+        this.orderedDelivery = builder.orderedDelivery;
+        this.dispatchMetrics = new DispatchMetrics();
+    }
+
+    /**
+     * Creates a builder for an {@link AWSHubPlugin} with non-default dispatch behavior.
+     * @return A new builder
+     */
+    @NonNull
+    public static Builder builder() {
+        return new Builder();
     }
 
     @Override
     public <T> void publish(@NonNull HubChannel hubChannel, @NonNull HubEvent<T> hubEvent) {
         Objects.requireNonNull(hubChannel);
         Objects.requireNonNull(hubEvent);
-        executorService.execute(() -> {
-            synchronized (subscriptions) {
-                for (Subscription subscription : subscriptions) {
-                    if (subscription.getHubChannel().equals(hubChannel) &&
-                            subscription.getHubEventFilter().filter(hubEvent)) {
-                        executorService.execute(() -> subscription.getHubSubscriber().onEvent(hubEvent));
-                    }
-                }
+        long publishedAt = System.nanoTime();
+        for (Subscription subscription : subscriptionsByChannel.get(hubChannel)) {
+            Delivery delivery = new Delivery(subscription, hubEvent, publishedAt);
+            if (orderedDelivery) {
+                subscription.enqueue(delivery, executorService);
+            } else {
+                executorService.execute(delivery);
             }
-        });
+        }
+        dispatchMetrics.recordPublish(System.nanoTime() - publishedAt);
     }
 
     @NonNull
@@ -81,25 +138,31 @@ public final class AWSHubPlugin extends HubPlugin<Void> {
         Objects.requireNonNull(hubEventFilter);
         Objects.requireNonNull(hubSubscriber);
         SubscriptionToken token = SubscriptionToken.create();
-        synchronized (subscriptions) {
-            subscriptions.add(new Subscription(token, hubChannel, hubEventFilter, hubSubscriber));
-        }
+        Subscription subscription = new Subscription(token, hubChannel, hubEventFilter, hubSubscriber);
+        subscriptionsByToken.put(token, subscription);
+        subscriptionsByChannel.get(hubChannel).add(subscription);
         return token;
     }
 
     @Override
     public void unsubscribe(@NonNull SubscriptionToken subscriptionToken) {
         Objects.requireNonNull(subscriptionToken);
-        synchronized (subscriptions) {
-            Iterator<Subscription> iterator = subscriptions.iterator();
-            while (iterator.hasNext()) {
-                if (iterator.next().getSubscriptionToken().equals(subscriptionToken)) {
-                    iterator.remove();
-                }
-            }
+        Subscription subscription = subscriptionsByToken.remove(subscriptionToken);
+        if (subscription != null) {
+            subscription.cancel();
+            subscriptionsByChannel.get(subscription.getHubChannel()).remove(subscription);
         }
     }
 
+    /**
+     * Gets the counters this plugin keeps about publishing and delivering events.
+     * @return Dispatch metrics for this plugin
+     */
+    @NonNull
+    public DispatchMetrics getDispatchMetrics() {
+        return dispatchMetrics;
+    }
+
     @NonNull
     @Override
     public String getPluginKey() {
@@ -130,6 +193,9 @@ public final class AWSHubPlugin extends HubPlugin<Void> {
         private final HubChannel channel;
         private final HubEventFilter hubEventFilter;
         private final HubSubscriber hubSubscriber;
+        private final Queue<Delivery> pendingDeliveries;
+        private final AtomicBoolean draining;
+        private volatile boolean cancelled;
 
         Subscription(
                 @NonNull SubscriptionToken subscriptionToken,
@@ -140,6 +206,46 @@ public final class AWSHubPlugin extends HubPlugin<Void> {
             this.channel = Objects.requireNonNull(channel);
             this.hubEventFilter = Objects.requireNonNull(hubEventFilter);
             this.hubSubscriber = Objects.requireNonNull(hubSubscriber);
+            this.pendingDeliveries = new ConcurrentLinkedQueue<>();
+            this.draining = new AtomicBoolean(false);
+        }
+
+        /**
+         * Queues a delivery for this subscriber. Deliveries are drained by at most one
+         * dispatch thread at a time, so the subscriber sees them in the order they were queued.
+         * @param delivery A delivery to make to this subscriber
+         * @param executorService Executor on which to drain the queue
+         */
+        void enqueue(Delivery delivery, ExecutorService executorService) {
+            pendingDeliveries.add(delivery);
+            if (draining.compareAndSet(false, true)) {
+                executorService.execute(() -> drain(executorService));
+            }
+        }
+
+        private void drain(ExecutorService executorService) {
+            try {
+                Delivery delivery;
+                while ((delivery = pendingDeliveries.poll()) != null) {
+                    delivery.run();
+                }
+            } finally {
+                draining.set(false);
+                // A delivery may have been queued after the last poll but before the flag was cleared,
+                // or the subscriber may have thrown, leaving deliveries behind.
+                if (!pendingDeliveries.isEmpty() && draining.compareAndSet(false, true)) {
+                    executorService.execute(() -> drain(executorService));
+                }
+            }
+        }
+
+        void cancel() {
+            cancelled = true;
+            pendingDeliveries.clear();
+        }
+
+        boolean isCancelled() {
+            return cancelled;
         }
 
         SubscriptionToken getSubscriptionToken() {
@@ -200,4 +306,151 @@ public final class AWSHubPlugin extends HubPlugin<Void> {
                 '}';
         }
     }
+
+    /**
+     * A single event, on its way to a single subscriber.
+     */
+    private final class Delivery implements Runnable {
+        private final Subscription subscription;
+        private final HubEvent<?> hubEvent;
+        private final long publishedAt;
+
+        Delivery(Subscription subscription, HubEvent<?> hubEvent, long publishedAt) {
+            this.subscription = subscription;
+            this.hubEvent = hubEvent;
+            this.publishedAt = publishedAt;
+        }
+
+        @Override
+        public void run() {
+            if (subscription.isCancelled() || !subscription.getHubEventFilter().filter(hubEvent)) {
+                return;
+            }
+            dispatchMetrics.recordDelivery(System.nanoTime() - publishedAt);
+            subscription.getHubSubscriber().onEvent(hubEvent);
+        }
+    }
+
+    /**
+     * Counters about the events published through an {@link AWSHubPlugin}.
+     *
+     * Publish latency is the time spent inside {@link AWSHubPlugin#publish(HubChannel, HubEvent)}.
+     * Delivery latency is the time from publication until the event is handed to a subscriber,
+     * including any time the event spent waiting for a dispatch thread.
+     */
+    public static final class DispatchMetrics {
+        private final AtomicLong publishedEventCount = new AtomicLong();
+        private final AtomicLong totalPublishNanos = new AtomicLong();
+        private final AtomicLong deliveredEventCount = new AtomicLong();
+        private final AtomicLong totalDeliveryNanos = new AtomicLong();
+
+        DispatchMetrics() {}
+
+        void recordPublish(long nanos) {
+            publishedEventCount.incrementAndGet();
+            totalPublishNanos.addAndGet(nanos);
+        }
+
+        void recordDelivery(long nanos) {
+            deliveredEventCount.incrementAndGet();
+            totalDeliveryNanos.addAndGet(nanos);
+        }
+
+        /**
+         * Gets the number of events that have been published.
+         * @return Number of published events
+         */
+        public long getPublishedEventCount() {
+            return publishedEventCount.get();
+        }
+
+        /**
+         * Gets the total time spent publishing events, in nanoseconds.
+         * @return Total publish latency, in nanoseconds
+         */
+        public long getTotalPublishNanos() {
+            return totalPublishNanos.get();
+        }
+
+        /**
+         * Gets the number of events that have been handed to a subscriber. An event
+         * delivered to several subscribers is counted once for each of them.
+         * @return Number of deliveries
+         */
+        public long getDeliveredEventCount() {
+            return deliveredEventCount.get();
+        }
+
+        /**
+         * Gets the total time from publication to delivery, over all deliveries, in nanoseconds.
+         * @return Total delivery latency, in nanoseconds
+         */
+        public long getTotalDeliveryNanos() {
+            return totalDeliveryNanos.get();
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return "DispatchMetrics{" +
+                "publishedEventCount=" + publishedEventCount +
+                ", totalPublishNanos=" + totalPublishNanos +
+                ", deliveredEventCount=" + deliveredEventCount +
+                ", totalDeliveryNanos=" + totalDeliveryNanos +
+                '}';
+        }
+    }
+
+    /**
+     * Builds an {@link AWSHubPlugin}.
+     */
+    public static final class Builder {
+        private int maxDispatchThreads;
+        private boolean orderedDelivery;
+
+        Builder() {
+            this.maxDispatchThreads = Math.max(MIN_DISPATCH_THREADS, Runtime.getRuntime().availableProcessors());
+            this.orderedDelivery = false;
+        }
+
+        /**
+         * Sets the maximum number of threads used to deliver events to subscribers.
+         * Defaults to the number of available processors, but at least two. Subscribers
+         * which block can occupy all of these threads, delaying delivery to every other
+         * subscriber until they return.
+         * @param maxDispatchThreads Maximum number of dispatch threads, at least one
+         * @return Current builder instance, for fluent construction
+         * @throws IllegalArgumentException If fewer than one thread is requested
+         */
+        @NonNull
+        public Builder maxDispatchThreads(int maxDispatchThreads) {
+            if (maxDispatchThreads < 1) {
+                throw new IllegalArgumentException("At least one dispatch thread is required.");
+            }
+            this.maxDispatchThreads = maxDispatchThreads;
+            return this;
+        }
+
+        /**
+         * Sets whether each subscriber receives its events one at a time, in the order
+         * they were published. Defaults to false. When true, a subscriber which blocks
+         * occupies only one dispatch thread, and delays only its own later events.
+         * @param orderedDelivery True to deliver events to each subscriber in order
+         * @return Current builder instance, for fluent construction
+         */
+        @NonNull
+        public Builder orderedDelivery(boolean orderedDelivery) {
+            this.orderedDelivery = orderedDelivery;
+            return this;
+        }
+
+        /**
+         * Builds an {@link AWSHubPlugin}.
+         * @return A new hub plugin
+         */
+        @NonNull
+        public AWSHubPlugin build() {
+            return new AWSHubPlugin(this);
+        }
+    }
 }
@@ -28,7 +28,9 @@ import com.amplifyframework.core.Consumer;
  */
 public interface HubSubscriber {
     /**
-     * Called to notify that there is a new event available in the Hub.
+     * Called to notify that there is a new event available in the Hub. The
+     * {@link AWSHubPlugin} delivers events on a bounded pool of threads which is
+     * shared by all subscribers, so this method should return promptly, and not block.
      * @param hubEvent A hub event
      */
     void onEvent(@NonNull HubEvent<?> hubEvent);
@@ -31,11 +31,14 @@ import com.amplifyframework.predictions.options.IdentifyOptions;
 import com.amplifyframework.predictions.options.InterpretOptions;
 import com.amplifyframework.predictions.options.TextToSpeechOptions;
 import com.amplifyframework.predictions.options.TranslateTextOptions;
+import com.amplifyframework.predictions.result.BatchResult;
 import com.amplifyframework.predictions.result.IdentifyResult;
 import com.amplifyframework.predictions.result.InterpretResult;
 import com.amplifyframework.predictions.result.TextToSpeechResult;
 import com.amplifyframework.predictions.result.TranslateTextResult;
 
+import java.util.List;
+
 /**
  * Defines the API that a consuming application uses to perform predictions.
  * Internally routes calls to the registered plugins of the category.
@@ -159,4 +162,48 @@ public final class PredictionsCategory extends Category<PredictionsPlugin<?>> im
     ) {
         return getSelectedPlugin().interpret(text, options, onSuccess, onError);
     }
+
+    @NonNull
+    @Override
+    public IdentifyOperation<?> identifyAll(
+            @NonNull IdentifyAction actionType,
+            @NonNull List<Bitmap> images,
+            @NonNull Consumer<BatchResult<IdentifyResult>> onSuccess,
+            @NonNull Consumer<PredictionsException> onError
+    ) {
+        return getSelectedPlugin().identifyAll(actionType, images, onSuccess, onError);
+    }
+
+    @NonNull
+    @Override
+    public IdentifyOperation<?> identifyAll(
+            @NonNull IdentifyAction actionType,
+            @NonNull List<Bitmap> images,
+            @NonNull IdentifyOptions options,
+            @NonNull Consumer<BatchResult<IdentifyResult>> onSuccess,
+            @NonNull Consumer<PredictionsException> onError
+    ) {
+        return getSelectedPlugin().identifyAll(actionType, images, options, onSuccess, onError);
+    }
+
+    @NonNull
+    @Override
+    public InterpretOperation<?> interpretAll(
+            @NonNull List<String> texts,
+            @NonNull Consumer<BatchResult<InterpretResult>> onSuccess,
+            @NonNull Consumer<PredictionsException> onError
+    ) {
+        return getSelectedPlugin().interpretAll(texts, onSuccess, onError);
+    }
+
+    @NonNull
+    @Override
+    public InterpretOperation<?> interpretAll(
+            @NonNull List<String> texts,
+            @NonNull InterpretOptions options,
+            @NonNull Consumer<BatchResult<InterpretResult>> onSuccess,
+            @NonNull Consumer<PredictionsException> onError
+    ) {
+        return getSelectedPlugin().interpretAll(texts, options, onSuccess, onError);
+    }
 }
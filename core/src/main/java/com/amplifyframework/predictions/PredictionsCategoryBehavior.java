@@ -29,11 +29,14 @@ import com.amplifyframework.predictions.options.IdentifyOptions;
 import com.amplifyframework.predictions.options.InterpretOptions;
 import com.amplifyframework.predictions.options.TextToSpeechOptions;
 import com.amplifyframework.predictions.options.TranslateTextOptions;
+import com.amplifyframework.predictions.result.BatchResult;
 import com.amplifyframework.predictions.result.IdentifyResult;
 import com.amplifyframework.predictions.result.InterpretResult;
 import com.amplifyframework.predictions.result.TextToSpeechResult;
 import com.amplifyframework.predictions.result.TranslateTextResult;
 
+import java.util.List;
+
 /**
  * The Predictions category includes functionality to convert and translate text,
  * perform text analysis, and detect features in an image, using Machine Learning.
@@ -216,4 +219,80 @@ public interface PredictionsCategoryBehavior {
             @NonNull Consumer<InterpretResult> onSuccess,
             @NonNull Consumer<PredictionsException> onError
     );
+
+    /**
+     * Identify specific features of many input images at once.
+     * The images are identified concurrently, and the identification
+     * of one image may fail without failing the others.
+     * @param actionType the type of identification to perform
+     * @param images the Bitmap images
+     * @param onSuccess Triggered with a result for each image, in the order of the images
+     * @param onError Triggered upon encountering an error which affects every image
+     * @return The predictions operation object that can be used to directly access
+     *          the ongoing identification operation
+     */
+    @NonNull
+    IdentifyOperation<?> identifyAll(
+            @NonNull IdentifyAction actionType,
+            @NonNull List<Bitmap> images,
+            @NonNull Consumer<BatchResult<IdentifyResult>> onSuccess,
+            @NonNull Consumer<PredictionsException> onError
+    );
+
+    /**
+     * Identify specific features of many input images at once.
+     * The images are identified concurrently, and the identification
+     * of one image may fail without failing the others.
+     * @param actionType the type of identification to perform
+     * @param images the Bitmap images
+     * @param options Parameters to specific plugin behavior
+     * @param onSuccess Triggered with a result for each image, in the order of the images
+     * @param onError Triggered upon encountering an error which affects every image
+     * @return The predictions operation object that can be used to directly access
+     *          the ongoing identification operation
+     */
+    @NonNull
+    IdentifyOperation<?> identifyAll(
+            @NonNull IdentifyAction actionType,
+            @NonNull List<Bitmap> images,
+            @NonNull IdentifyOptions options,
+            @NonNull Consumer<BatchResult<IdentifyResult>> onSuccess,
+            @NonNull Consumer<PredictionsException> onError
+    );
+
+    /**
+     * Interpret many texts at once, to detect and analyze their associated
+     * sentiments, entities, language, syntax, and key phrases. The interpretation
+     * of one text may fail without failing the others.
+     * @param texts The texts to interpret
+     * @param onSuccess Triggered with a result for each text, in the order of the texts
+     * @param onError Triggered upon encountering an error which affects every text
+     * @return The predictions operation object that can be used to directly access
+     *          the ongoing interpretation operation
+     */
+    @NonNull
+    InterpretOperation<?> interpretAll(
+            @NonNull List<String> texts,
+            @NonNull Consumer<BatchResult<InterpretResult>> onSuccess,
+            @NonNull Consumer<PredictionsException> onError
+    );
+
+    /**
+     * Interpret many texts at once, to detect and analyze their associated
+     * sentiments, entities, language, syntax, and key phrases. The interpretation
+     * of one text may fail without failing the others.
+     * @param texts The texts to interpret
+     * @param options Parameters to specific plugin behavior
+     * @param onSuccess Triggered with a result for each text, in the order of the texts
+     * @param onError Triggered upon encountering an error which affects every text
+     * @return The predictions operation object that can be used to directly access
+     *          the ongoing interpretation operation
+     */
+    @NonNull
+    InterpretOperation<?> interpretAll(
+            @NonNull List<String> texts,
+            @NonNull InterpretOptions options,
+            @NonNull Consumer<BatchResult<InterpretResult>> onSuccess,
+            @NonNull Consumer<PredictionsException> onError
+    );
 }
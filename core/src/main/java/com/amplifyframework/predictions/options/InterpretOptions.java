@@ -16,14 +16,21 @@
 package com.amplifyframework.predictions.options;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.util.ObjectsCompat;
+
+import com.amplifyframework.predictions.models.LanguageType;
+
+import java.util.Objects;
 
 /**
  * Options for text interpretation operation.
  */
 public final class InterpretOptions {
+    private final LanguageType language;
 
-    private InterpretOptions() {
-        // TODO: Add options
+    private InterpretOptions(final Builder builder) {
+        this.language = builder.language;
     }
 
     /**
@@ -32,6 +39,82 @@ public final class InterpretOptions {
      */
     @NonNull
     public static InterpretOptions defaults() {
-        return new InterpretOptions();
+        return builder().build();
+    }
+
+    /**
+     * Gets a builder to help easily construct an instance of options.
+     * @return an unassigned builder instance
+     */
+    @NonNull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets the language of the text to interpret, if it is already known.
+     * When it is null, the language of the text is detected first.
+     * @return the language of the text, or null if it should be detected
+     */
+    @Nullable
+    public LanguageType getLanguage() {
+        return language;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        } else if (!(obj instanceof InterpretOptions)) {
+            return false;
+        } else {
+            InterpretOptions that = (InterpretOptions) obj;
+            return ObjectsCompat.equals(language, that.language);
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return ObjectsCompat.hash(language);
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "InterpretOptions {" +
+                "language=" + language +
+                '}';
+    }
+
+    /**
+     * Builder for {@link InterpretOptions}.
+     */
+    public static final class Builder {
+        private LanguageType language;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the language of the text to interpret, so that it does not
+         * need to be detected before the text is interpreted.
+         * @param language the language of the text
+         * @return this builder instance
+         */
+        @NonNull
+        public Builder language(@NonNull LanguageType language) {
+            this.language = Objects.requireNonNull(language);
+            return this;
+        }
+
+        /**
+         * Constructs a new instance of {@link InterpretOptions} using
+         * the values assigned to this builder.
+         * @return an instance of options
+         */
+        @NonNull
+        public InterpretOptions build() {
+            return new InterpretOptions(this);
+        }
     }
 }
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.predictions.result;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.util.ObjectsCompat;
+
+import com.amplifyframework.predictions.PredictionsException;
+import com.amplifyframework.util.Immutable;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The result of a call to make a prediction on many inputs at once.
+ * There is one item per input, in the same order as the inputs. Each item
+ * holds either the result for its input, or the error that prevented it.
+ * @param <R> the type of result for a single input
+ */
+public final class BatchResult<R> {
+    private final List<Item<R>> items;
+
+    private BatchResult(List<Item<R>> items) {
+        this.items = Immutable.of(items);
+    }
+
+    /**
+     * Constructs a batch result from the items for each input.
+     * @param items one item per input, in the order of the inputs
+     * @param <R> the type of result for a single input
+     * @return a batch result
+     */
+    @NonNull
+    public static <R> BatchResult<R> fromItems(@NonNull List<Item<R>> items) {
+        return new BatchResult<>(Objects.requireNonNull(items));
+    }
+
+    /**
+     * Gets the items for each input, in the order of the inputs.
+     * @return the items of this batch
+     */
+    @NonNull
+    public List<Item<R>> getItems() {
+        return items;
+    }
+
+    /**
+     * Checks whether the prediction failed for any of the inputs.
+     * @return true if at least one item holds an error
+     */
+    public boolean hasFailures() {
+        for (Item<R> item : items) {
+            if (!item.isSuccessful()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        BatchResult<?> that = (BatchResult<?>) obj;
+        return ObjectsCompat.equals(items, that.items);
+    }
+
+    @Override
+    public int hashCode() {
+        return ObjectsCompat.hash(items);
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "BatchResult{" +
+                "items=" + items +
+                '}';
+    }
+
+    /**
+     * The outcome of the prediction on a single input of a batch.
+     * @param <R> the type of result for a single input
+     */
+    public static final class Item<R> {
+        private final R result;
+        private final PredictionsException error;
+
+        private Item(R result, PredictionsException error) {
+            this.result = result;
+            this.error = error;
+        }
+
+        /**
+         * Constructs an item for an input whose prediction succeeded.
+         * @param result the result for the input
+         * @param <R> the type of result for a single input
+         * @return a successful item
+         */
+        @NonNull
+        public static <R> Item<R> success(@NonNull R result) {
+            return new Item<>(Objects.requireNonNull(result), null);
+        }
+
+        /**
+         * Constructs an item for an input whose prediction failed.
+         * @param error the reason that the prediction failed
+         * @param <R> the type of result for a single input
+         * @return a failed item
+         */
+        @NonNull
+        public static <R> Item<R> failure(@NonNull PredictionsException error) {
+            return new Item<>(null, Objects.requireNonNull(error));
+        }
+
+        /**
+         * Checks whether the prediction succeeded for this input.
+         * @return true if this item holds a result, false if it holds an error
+         */
+        public boolean isSuccessful() {
+            return error == null;
+        }
+
+        /**
+         * Gets the result for this input.
+         * @return the result, or null if the prediction failed
+         */
+        @Nullable
+        public R getResult() {
+            return result;
+        }
+
+        /**
+         * Gets the reason that the prediction failed for this input.
+         * @return the error, or null if the prediction succeeded
+         */
+        @Nullable
+        public PredictionsException getError() {
+            return error;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            Item<?> that = (Item<?>) obj;
+            return ObjectsCompat.equals(result, that.result) &&
+                    ObjectsCompat.equals(error, that.error);
+        }
+
+        @Override
+        public int hashCode() {
+            return ObjectsCompat.hash(result, error);
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return "Item{" +
+                    "result=" + result +
+                    ", error=" + error +
+                    '}';
+        }
+    }
+}
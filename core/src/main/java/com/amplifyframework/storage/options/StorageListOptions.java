@@ -16,13 +16,17 @@
 package com.amplifyframework.storage.options;
 
 import android.annotation.SuppressLint;
+import androidx.annotation.IntRange;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.core.util.ObjectsCompat;
 
 /**
  * Options to specify attributes of list API invocation.
  */
 public class StorageListOptions extends StorageOptions {
+    private final int pageSize;
+    private final String nextToken;
 
     /**
      * Constructs a StorageListOptions instance with the
@@ -31,6 +35,29 @@ public class StorageListOptions extends StorageOptions {
      */
     protected StorageListOptions(final Builder<?> builder) {
         super(builder.getAccessLevel(), builder.getTargetIdentityId());
+        this.pageSize = builder.getPageSize();
+        this.nextToken = builder.getNextToken();
+    }
+
+    /**
+     * Gets the maximum number of items to list in a single page of results.
+     * If 0, all of the items under the path are listed at once.
+     * @return Maximum number of items per page, or 0 to list all items
+     */
+    @IntRange(from = 0)
+    public final int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Gets the token which identifies the page of results to list. This is the
+     * {@link com.amplifyframework.storage.result.StorageListResult#getNextToken()}
+     * of the previous page. If null, the first page is listed.
+     * @return Token for the page to list, or null for the first page
+     */
+    @Nullable
+    public final String getNextToken() {
+        return nextToken;
     }
 
     /**
@@ -57,7 +84,9 @@ public class StorageListOptions extends StorageOptions {
     public static Builder<?> from(@NonNull final StorageListOptions options) {
         return builder()
             .accessLevel(options.getAccessLevel())
-            .targetIdentityId(options.getTargetIdentityId());
+            .targetIdentityId(options.getTargetIdentityId())
+            .pageSize(options.getPageSize())
+            .nextToken(options.getNextToken());
     }
 
     /**
@@ -82,7 +111,9 @@ public class StorageListOptions extends StorageOptions {
         } else {
             StorageListOptions that = (StorageListOptions) obj;
             return ObjectsCompat.equals(getAccessLevel(), that.getAccessLevel()) &&
-                    ObjectsCompat.equals(getTargetIdentityId(), that.getTargetIdentityId());
+                    ObjectsCompat.equals(getTargetIdentityId(), that.getTargetIdentityId()) &&
+                    getPageSize() == that.getPageSize() &&
+                    ObjectsCompat.equals(getNextToken(), that.getNextToken());
         }
     }
 
@@ -93,7 +124,9 @@ public class StorageListOptions extends StorageOptions {
     public int hashCode() {
         return ObjectsCompat.hash(
                 getAccessLevel(),
-                getTargetIdentityId()
+                getTargetIdentityId(),
+                getPageSize(),
+                getNextToken()
         );
     }
 
@@ -106,6 +139,8 @@ public class StorageListOptions extends StorageOptions {
         return "StorageListOptions {" +
                 "accessLevel=" + getAccessLevel() +
                 ", targetIdentityId=" + getTargetIdentityId() +
+                ", pageSize=" + getPageSize() +
+                ", nextToken=" + getNextToken() +
                 '}';
     }
 
@@ -115,6 +150,46 @@ public class StorageListOptions extends StorageOptions {
      * @param <B> the type of builder to chain with
      */
     public static class Builder<B extends Builder<B>> extends StorageOptions.Builder<B, StorageListOptions> {
+        private int pageSize;
+        private String nextToken;
+
+        /**
+         * Configures the maximum number of items to list in a single page of results.
+         * When this is set, the result holds a token for the following page, if there is one.
+         * Defaults to 0, which lists all of the items under the path at once.
+         * @param pageSize Maximum number of items per page, or 0 to list all items
+         * @return Current Builder instance, for fluent method chaining
+         */
+        @SuppressWarnings("unchecked")
+        @NonNull
+        public final B pageSize(@IntRange(from = 0) int pageSize) {
+            this.pageSize = pageSize;
+            return (B) this;
+        }
+
+        /**
+         * Configures the token of the page of results to list, as returned in
+         * the previous page's result. Defaults to null, to list the first page.
+         * @param nextToken Token for the page to list, or null for the first page
+         * @return Current Builder instance, for fluent method chaining
+         */
+        @SuppressWarnings("unchecked")
+        @NonNull
+        public final B nextToken(@Nullable String nextToken) {
+            this.nextToken = nextToken;
+            return (B) this;
+        }
+
+        @IntRange(from = 0)
+        public final int getPageSize() {
+            return pageSize;
+        }
+
+        @Nullable
+        public final String getNextToken() {
+            return nextToken;
+        }
+
         /**
          * Returns an instance of StorageListOptions with the parameters
          * specified by this builder.
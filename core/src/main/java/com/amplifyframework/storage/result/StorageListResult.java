@@ -29,9 +29,11 @@ import java.util.List;
  */
 public final class StorageListResult {
     private final List<StorageItem> items;
+    private final String nextToken;
 
-    private StorageListResult(List<StorageItem> items) {
+    private StorageListResult(List<StorageItem> items, String nextToken) {
         this.items = items;
+        this.nextToken = nextToken;
     }
 
     /**
@@ -41,11 +43,22 @@ public final class StorageListResult {
      */
     @NonNull
     public static StorageListResult fromItems(@Nullable List<StorageItem> items) {
+        return fromItems(items, null);
+    }
+
+    /**
+     * Factory method to construct a storage list result from one page of items.
+     * @param items A possibly null, possibly empty list of items
+     * @param nextToken Token to list the next page of items, or null if this is the last page
+     * @return A new immutable instance of StorageListResult
+     */
+    @NonNull
+    public static StorageListResult fromItems(@Nullable List<StorageItem> items, @Nullable String nextToken) {
         final List<StorageItem> safeItems = new ArrayList<>();
         if (items != null) {
             safeItems.addAll(items);
         }
-        return new StorageListResult(Collections.unmodifiableList(safeItems));
+        return new StorageListResult(Collections.unmodifiableList(safeItems), nextToken);
     }
 
     /**
@@ -56,4 +69,15 @@ public final class StorageListResult {
     public List<StorageItem> getItems() {
         return items;
     }
+
+    /**
+     * Gets the token to pass to
+     * {@link com.amplifyframework.storage.options.StorageListOptions.Builder#nextToken(String)}
+     * in order to list the page of items after this one. Only paginated list requests return a token.
+     * @return Token for the next page of items, or null if there are no more items
+     */
+    @Nullable
+    public String getNextToken() {
+        return nextToken;
+    }
 }
@@ -25,13 +25,17 @@ import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility that operates on the fields of a
  * {@link com.amplifyframework.core.model.Model}.
  */
 public final class FieldFinder {
+    private static final Map<Class<?>, Map<String, Field>> DECLARED_FIELDS = new ConcurrentHashMap<>();
 
     /**
      * Dis-allows instantiation of this utility.
@@ -88,6 +92,35 @@ public final class FieldFinder {
         return Immutable.of(fields);
     }
 
+    /**
+     * Find a field declared by a class, by name. The field is made accessible,
+     * so that its value can be read. The declared fields of a class are only
+     * looked up the first time that class is examined.
+     * @param clazz Class which declares the field
+     * @param fieldName Name of the field to find
+     * @return The accessible field
+     * @throws NoSuchFieldException if the class does not declare
+     *         a field that matches fieldName
+     */
+    @NonNull
+    public static Field findDeclaredField(@NonNull Class<?> clazz,
+                                          @NonNull String fieldName) throws NoSuchFieldException {
+        Map<String, Field> fields = DECLARED_FIELDS.get(clazz);
+        if (fields == null) {
+            fields = new HashMap<>();
+            for (Field field : clazz.getDeclaredFields()) {
+                field.setAccessible(true);
+                fields.put(field.getName(), field);
+            }
+            DECLARED_FIELDS.put(clazz, fields);
+        }
+        Field field = fields.get(fieldName);
+        if (field == null) {
+            throw new NoSuchFieldException(fieldName);
+        }
+        return field;
+    }
+
     /**
      * Extract the value of a field in an Object by field name.
      * @param object Object to obtain field value from
@@ -99,12 +132,9 @@ public final class FieldFinder {
     @Nullable
     public static Object extractFieldValue(@NonNull Object object,
                                        @NonNull String fieldName) throws NoSuchFieldException {
+        Field objectField = findDeclaredField(object.getClass(), fieldName);
         try {
-            Field objectField = object.getClass().getDeclaredField(fieldName);
-            objectField.setAccessible(true);
             return objectField.get(object);
-        } catch (NoSuchFieldException noSuchFieldException) {
-            throw noSuchFieldException;
         } catch (Exception exception) {
             return null;
         }
@@ -15,11 +15,19 @@
 
 package com.amplifyframework.core.model.query.predicate;
 
+import com.amplifyframework.AmplifyException;
+import com.amplifyframework.core.model.ModelSchema;
+import com.amplifyframework.datastore.DataStoreException;
+import com.amplifyframework.testmodels.commentsblog.Blog;
+import com.amplifyframework.testmodels.commentsblog.BlogOwner;
+import com.amplifyframework.testmodels.commentsblog.Post;
+import com.amplifyframework.testmodels.commentsblog.PostStatus;
 import com.amplifyframework.testmodels.personcar.Person;
 
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.List;
 
 import static com.amplifyframework.core.model.query.predicate.QueryPredicateOperation.not;
 import static org.junit.Assert.assertEquals;
@@ -112,5 +120,66 @@ public final class PredicateTest {
         assertFalse(not(Person.AGE.eq(21))
                 .evaluate(jane));
     }
-}
 
+    /**
+     * Tests that a predicate compiled against a model schema evaluates
+     * models the same way as the predicate does.
+     * @throws AmplifyException if the model schema cannot be created, or a predicate cannot be compiled
+     */
+    @Test
+    public void testCompiledPredicateEvaluation() throws AmplifyException {
+        final Person jane = Person.builder()
+                .firstName("Jane")
+                .lastName("Doe")
+                .age(21)
+                .build();
+        final ModelSchema schema = ModelSchema.fromModelClass(Person.class);
+
+        List<QueryPredicate> predicates = Arrays.asList(
+                Person.AGE.gt(20),
+                Person.FIRST_NAME.beginsWith("J"),
+                Person.FIRST_NAME.in(Arrays.asList("Jane", "Joan")),
+                Person.LAST_NAME.eq("Jane"),
+                Person.AGE.eq(21).and(Person.FIRST_NAME.eq("Jane")),
+                Person.AGE.gt(121).or(Person.LAST_NAME.eq("Jane")),
+                not(Person.AGE.eq(21)),
+                QueryPredicates.all()
+        );
+        for (QueryPredicate predicate : predicates) {
+            assertEquals(predicate.evaluate(jane), QueryPredicates.compile(predicate, schema).evaluate(jane));
+        }
+    }
+
+    /**
+     * A compiled predicate evaluates the target name of an association against
+     * the ID of the associated model.
+     * @throws AmplifyException if the model schema cannot be created, or the predicate cannot be compiled
+     */
+    @Test
+    public void testCompiledPredicateResolvesAssociationTargetName() throws AmplifyException {
+        Blog blog = Blog.builder()
+                .name("Jane's Blog")
+                .owner(BlogOwner.builder().name("Jane").build())
+                .build();
+        Post post = Post.builder()
+                .title("Hello")
+                .status(PostStatus.ACTIVE)
+                .rating(5)
+                .blog(blog)
+                .build();
+        ModelSchema schema = ModelSchema.fromModelClass(Post.class);
+
+        assertTrue(QueryPredicates.compile(Post.BLOG.eq(blog.getId()), schema).evaluate(post));
+        assertFalse(QueryPredicates.compile(Post.BLOG.eq("some-other-blog"), schema).evaluate(post));
+    }
+
+    /**
+     * A predicate on a field that can't be found through the schema isn't compiled.
+     * @throws AmplifyException expected as a {@link DataStoreException}, since the field is not in the schema
+     */
+    @Test(expected = DataStoreException.class)
+    public void testCompilingPredicateOnUnknownFieldFails() throws AmplifyException {
+        ModelSchema schema = ModelSchema.fromModelClass(Person.class);
+        QueryPredicates.compile(QueryField.field("nickname").eq("Jay"), schema);
+    }
+}
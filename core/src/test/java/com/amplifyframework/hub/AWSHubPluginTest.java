@@ -20,12 +20,15 @@ import com.amplifyframework.testutils.Latch;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 
@@ -126,6 +129,54 @@ public final class AWSHubPluginTest {
         }
     }
 
+    /**
+     * Validates that a plugin built for ordered delivery hands events to a subscriber
+     * one at a time, in the order they were published.
+     */
+    @Test
+    public void orderedDeliveryPreservesPublicationOrder() {
+        AWSHubPlugin orderedHub = AWSHubPlugin.builder()
+            .orderedDelivery(true)
+            .maxDispatchThreads(4)
+            .build();
+        int eventCount = 500;
+        List<Integer> received = new ArrayList<>();
+        CountDownLatch latch = new CountDownLatch(eventCount);
+        SubscriptionToken token = orderedHub.subscribe(HubChannel.DATASTORE, event -> {
+            received.add((Integer) event.getData());
+            latch.countDown();
+        });
+        List<Integer> published = new ArrayList<>();
+        for (int index = 0; index < eventCount; index++) {
+            published.add(index);
+            orderedHub.publish(HubChannel.DATASTORE, HubEvent.create("ordered", index));
+        }
+        Latch.await(latch);
+        orderedHub.unsubscribe(token);
+        assertEquals(published, received);
+    }
+
+    /**
+     * Validates that publications are counted, and that deliveries are counted only for
+     * subscribers on the event's channel.
+     */
+    @Test
+    public void dispatchMetricsCountPublicationsAndDeliveries() {
+        CountDownLatch latch = new CountDownLatch(2);
+        SubscriptionToken first = hub.subscribe(HubChannel.API, event -> latch.countDown());
+        SubscriptionToken second = hub.subscribe(HubChannel.API, event -> latch.countDown());
+        SubscriptionToken other = hub.subscribe(HubChannel.STORAGE, event -> latch.countDown());
+        hub.publish(HubChannel.API, HubEvent.create("api event"));
+        Latch.await(latch);
+        hub.unsubscribe(first);
+        hub.unsubscribe(second);
+        hub.unsubscribe(other);
+
+        AWSHubPlugin.DispatchMetrics metrics = hub.getDispatchMetrics();
+        assertEquals(1, metrics.getPublishedEventCount());
+        assertEquals(2, metrics.getDeliveredEventCount());
+    }
+
     enum Musician {
         JON_PARDI,
         MEMPHIS_SLIM,
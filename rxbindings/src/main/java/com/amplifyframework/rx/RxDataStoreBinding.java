@@ -21,18 +21,24 @@ import androidx.annotation.VisibleForTesting;
 import com.amplifyframework.core.Amplify;
 import com.amplifyframework.core.async.Cancelable;
 import com.amplifyframework.core.model.Model;
+import com.amplifyframework.core.model.query.Page;
 import com.amplifyframework.core.model.query.QueryOptions;
 import com.amplifyframework.core.model.query.predicate.QueryPredicate;
 import com.amplifyframework.datastore.DataStoreCategory;
 import com.amplifyframework.datastore.DataStoreCategoryBehavior;
 import com.amplifyframework.datastore.DataStoreException;
 import com.amplifyframework.datastore.DataStoreItemChange;
+import com.amplifyframework.datastore.DataStoreQuerySnapshot;
 import com.amplifyframework.rx.RxAdapters.VoidBehaviors;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Flowable;
 import io.reactivex.rxjava3.core.Observable;
 
 final class RxDataStoreBinding implements RxDataStoreCategoryBehavior {
@@ -59,6 +65,13 @@ final class RxDataStoreBinding implements RxDataStoreCategoryBehavior {
         return toCompletable((onResult, onError) -> dataStore.save(item, predicate, onResult, onError));
     }
 
+    @NonNull
+    @Override
+    public <T extends Model> Completable saveAll(@NonNull List<T> items) {
+        return VoidBehaviors.<List<DataStoreItemChange<T>>, DataStoreException>toSingle((onResult, onError) ->
+            dataStore.saveAll(items, onResult, onError)).ignoreElement();
+    }
+
     @NonNull
     @Override
     public <T extends Model> Completable delete(@NonNull T item) {
@@ -72,6 +85,13 @@ final class RxDataStoreBinding implements RxDataStoreCategoryBehavior {
             dataStore.delete(item, predicate, onResult, onError));
     }
 
+    @NonNull
+    @Override
+    public <T extends Model> Completable deleteAll(@NonNull List<T> items) {
+        return VoidBehaviors.<List<DataStoreItemChange<T>>, DataStoreException>toSingle((onResult, onError) ->
+            dataStore.deleteAll(items, onResult, onError)).ignoreElement();
+    }
+
     @NonNull
     @Override
     public <T extends Model> Observable<T> query(@NonNull Class<T> itemClass) {
@@ -94,6 +114,37 @@ final class RxDataStoreBinding implements RxDataStoreCategoryBehavior {
             dataStore.query(itemClass, options, onResult, onError));
     }
 
+    @NonNull
+    @Override
+    public <T extends Model> Flowable<T> stream(@NonNull Class<T> itemClass, @NonNull QueryOptions options) {
+        return stream(itemClass, options, DEFAULT_STREAM_WINDOW_SIZE);
+    }
+
+    @NonNull
+    @Override
+    public <T extends Model> Flowable<T> stream(
+            @NonNull Class<T> itemClass, @NonNull QueryOptions options, int windowSize) {
+        if (windowSize <= 0) {
+            return Flowable.error(new IllegalArgumentException("Window size must be positive, was " + windowSize));
+        }
+        // Each window is only queried once every item of the previous window has been
+        // requested. A window that comes back short is the last one, so there's no need
+        // to query for another.
+        return Flowable.defer(() -> {
+            AtomicBoolean exhausted = new AtomicBoolean(false);
+            return Flowable.range(0, Integer.MAX_VALUE)
+                .takeWhile(page -> !exhausted.get())
+                .concatMap(page -> exhausted.get() ? Flowable.<T>empty() :
+                    VoidBehaviors.<Iterator<T>, DataStoreException>toSingle((onResult, onError) ->
+                        dataStore.query(itemClass, options.paginated(Page.startingAt(page).withLimit(windowSize)),
+                            onResult, onError)
+                    )
+                    .map(RxDataStoreBinding::toList)
+                    .doOnSuccess(window -> exhausted.set(window.size() < windowSize))
+                    .flattenAsFlowable(window -> window), 1);
+        });
+    }
+
     @NonNull
     @Override
     public Observable<DataStoreItemChange<? extends Model>> observe() {
@@ -126,6 +177,15 @@ final class RxDataStoreBinding implements RxDataStoreCategoryBehavior {
         );
     }
 
+    @NonNull
+    @Override
+    public <T extends Model> Observable<DataStoreQuerySnapshot<T>> observeQuery(
+            @NonNull Class<T> itemClass, @NonNull QueryOptions options) {
+        return toObservable((onStart, onItem, onError, onComplete) ->
+            dataStore.observeQuery(itemClass, options, onStart, onItem, onError, onComplete)
+        );
+    }
+
     @Override
     public Completable start() {
         return VoidBehaviors.toCompletable(dataStore::start);
@@ -152,6 +212,14 @@ final class RxDataStoreBinding implements RxDataStoreCategoryBehavior {
             }));
     }
 
+    private static <T> List<T> toList(Iterator<T> iterator) {
+        List<T> list = new ArrayList<>();
+        while (iterator.hasNext()) {
+            list.add(iterator.next());
+        }
+        return list;
+    }
+
     private static <T> Observable<T> toObservable(
             VoidBehaviors.StreamEmitter<Cancelable, T, DataStoreException> method) {
         // The provided behavior receives a cancelable in callback.
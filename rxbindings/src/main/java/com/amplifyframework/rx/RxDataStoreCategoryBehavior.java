@@ -22,14 +22,23 @@ import com.amplifyframework.core.model.query.QueryOptions;
 import com.amplifyframework.core.model.query.predicate.QueryPredicate;
 import com.amplifyframework.datastore.DataStoreCategoryBehavior;
 import com.amplifyframework.datastore.DataStoreItemChange;
+import com.amplifyframework.datastore.DataStoreQuerySnapshot;
+
+import java.util.List;
 
 import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Flowable;
 import io.reactivex.rxjava3.core.Observable;
 
 /**
  * An Rx-idiomatic expression of the behaviors in {@link DataStoreCategoryBehavior}.
  */
 public interface RxDataStoreCategoryBehavior {
+    /**
+     * The number of items that {@link #stream(Class, QueryOptions)} reads from
+     * the DataStore at once.
+     */
+    int DEFAULT_STREAM_WINDOW_SIZE = 500;
 
     /**
      * Saves an item into the DataStore.
@@ -55,6 +64,17 @@ public interface RxDataStoreCategoryBehavior {
             @NonNull QueryPredicate predicate
     );
 
+    /**
+     * Saves a batch of items into the DataStore, as a single unit of work.
+     * @param <T> The type of items being saved
+     * @param items Items to save
+     * @return A {@link Completable} which completes when all items are saved, emits error on error
+     */
+    @NonNull
+    <T extends Model> Completable saveAll(
+            @NonNull List<T> items
+    );
+
     /**
      * Deletes an item from the DataStore.
      * @param <T> The type of item being deleted
@@ -79,6 +99,17 @@ public interface RxDataStoreCategoryBehavior {
             @NonNull QueryPredicate predicate
     );
 
+    /**
+     * Deletes a batch of items from the DataStore, as a single unit of work.
+     * @param <T> The type of items being deleted
+     * @param items Items to delete from the DataStore
+     * @return A {@link Completable} which completes when all items are deleted, emits error on error
+     */
+    @NonNull
+    <T extends Model> Completable deleteAll(
+            @NonNull List<T> items
+    );
+
     /**
      * Query the DataStore to find all items of the requested Java class.
      * @param itemClass Items of this class will be targeted by this query
@@ -121,6 +152,44 @@ public interface RxDataStoreCategoryBehavior {
             @NonNull QueryOptions options
     );
 
+    /**
+     * Streams the items of the requested Java class that match the provided {@link QueryOptions}.
+     * Unlike {@link #query(Class, QueryOptions)}, the results are not all loaded into memory
+     * at once. Instead, they are read from the DataStore one window of
+     * {@link #DEFAULT_STREAM_WINDOW_SIZE} items at a time, as the subscriber requests them.
+     * Any pagination in the provided options is replaced by these windows. If items may be
+     * changed while the stream is being consumed, the options should include a sort order,
+     * so that the windows line up with one another.
+     * @param itemClass Class of items that will be queried
+     * @param options Filtering and sorting options
+     * @param <T> The type of items being queried
+     * @return A backpressure-aware stream of 0..n query results, which then terminates
+     *         with either a completion or an error
+     */
+    @NonNull
+    <T extends Model> Flowable<T> stream(
+            @NonNull Class<T> itemClass,
+            @NonNull QueryOptions options
+    );
+
+    /**
+     * Streams the items of the requested Java class that match the provided {@link QueryOptions},
+     * reading them from the DataStore one window of {@code windowSize} items at a time, as the
+     * subscriber requests them. See {@link #stream(Class, QueryOptions)}.
+     * @param itemClass Class of items that will be queried
+     * @param options Filtering and sorting options
+     * @param windowSize The maximum number of items to read from the DataStore at once
+     * @param <T> The type of items being queried
+     * @return A backpressure-aware stream of 0..n query results, which then terminates
+     *         with either a completion or an error
+     */
+    @NonNull
+    <T extends Model> Flowable<T> stream(
+            @NonNull Class<T> itemClass,
+            @NonNull QueryOptions options,
+            int windowSize
+    );
+
     /**
      * Observe all changes to any/all item(s) in the DataStore.
      * @return An observable stream of {@link DataStoreItemChange}s,
@@ -176,6 +245,21 @@ public interface RxDataStoreCategoryBehavior {
             @NonNull QueryPredicate selectionCriteria
     );
 
+    /**
+     * Observe the results of a query, as they change. The first snapshot holds the items which
+     * currently match the query. Each later snapshot holds the changed results, along with
+     * the insertions, removals and changes which led to them.
+     * @param itemClass The class of the items to query
+     * @param options Filtering, paging, and sorting options
+     * @param <T> The type of the items to query
+     * @return An observable stream of {@link DataStoreQuerySnapshot}s of the query's results
+     */
+    @NonNull
+    <T extends Model> Observable<DataStoreQuerySnapshot<T>> observeQuery(
+            @NonNull Class<T> itemClass,
+            @NonNull QueryOptions options
+    );
+
     /**
      * Starts the DataStore.  This only needs to be called if you wish to start eagerly.  If you don't call it,
      * it will be called automatically prior to executing any other operations (#query, #save, #delete, #observe).
@@ -28,12 +28,14 @@ import com.amplifyframework.predictions.options.IdentifyOptions;
 import com.amplifyframework.predictions.options.InterpretOptions;
 import com.amplifyframework.predictions.options.TextToSpeechOptions;
 import com.amplifyframework.predictions.options.TranslateTextOptions;
+import com.amplifyframework.predictions.result.BatchResult;
 import com.amplifyframework.predictions.result.IdentifyResult;
 import com.amplifyframework.predictions.result.InterpretResult;
 import com.amplifyframework.predictions.result.TextToSpeechResult;
 import com.amplifyframework.predictions.result.TranslateTextResult;
 import com.amplifyframework.rx.RxAdapters.VoidBehaviors;
 
+import java.util.List;
 import java.util.Objects;
 
 import io.reactivex.rxjava3.core.Single;
@@ -119,6 +121,33 @@ final class RxPredictionsBinding implements RxPredictionsCategoryBehavior {
         return toSingle((onResult, onError) -> delegate.interpret(text, options, onResult, onError));
     }
 
+    @Override
+    public Single<BatchResult<IdentifyResult>> identifyAll(
+            @NonNull IdentifyAction actionType,
+            @NonNull List<Bitmap> images) {
+        return toSingle((onResult, onError) -> delegate.identifyAll(actionType, images, onResult, onError));
+    }
+
+    @Override
+    public Single<BatchResult<IdentifyResult>> identifyAll(
+            @NonNull IdentifyAction actionType,
+            @NonNull List<Bitmap> images,
+            @NonNull IdentifyOptions options) {
+        return toSingle((onResult, onError) ->
+            delegate.identifyAll(actionType, images, options, onResult, onError));
+    }
+
+    @Override
+    public Single<BatchResult<InterpretResult>> interpretAll(@NonNull List<String> texts) {
+        return toSingle((onResult, onError) -> delegate.interpretAll(texts, onResult, onError));
+    }
+
+    @Override
+    public Single<BatchResult<InterpretResult>> interpretAll(
+            @NonNull List<String> texts, @NonNull InterpretOptions options) {
+        return toSingle((onResult, onError) -> delegate.interpretAll(texts, options, onResult, onError));
+    }
+
     private static <T> Single<T> toSingle(VoidBehaviors.ResultEmitter<T, PredictionsException> behavior) {
         return VoidBehaviors.toSingle(behavior);
     }
@@ -26,11 +26,14 @@ import com.amplifyframework.predictions.options.IdentifyOptions;
 import com.amplifyframework.predictions.options.InterpretOptions;
 import com.amplifyframework.predictions.options.TextToSpeechOptions;
 import com.amplifyframework.predictions.options.TranslateTextOptions;
+import com.amplifyframework.predictions.result.BatchResult;
 import com.amplifyframework.predictions.result.IdentifyResult;
 import com.amplifyframework.predictions.result.InterpretResult;
 import com.amplifyframework.predictions.result.TextToSpeechResult;
 import com.amplifyframework.predictions.result.TranslateTextResult;
 
+import java.util.List;
+
 import io.reactivex.rxjava3.core.Single;
 
 /**
@@ -160,4 +163,52 @@ public interface RxPredictionsCategoryBehavior {
             @NonNull String text,
             @NonNull InterpretOptions options
     );
+
+    /**
+     * Identify features in many images at once.
+     * @param actionType Type of identification to run
+     * @param images Images in which features will be detected
+     * @return A Single which emits a {@link BatchResult} with an {@link IdentifyResult}
+     *         or error for each image, in order, or {@link PredictionsException} on failure
+     */
+    Single<BatchResult<IdentifyResult>> identifyAll(
+            @NonNull IdentifyAction actionType,
+            @NonNull List<Bitmap> images
+    );
+
+    /**
+     * Identify features in many images at once.
+     * @param actionType Type of identification to run
+     * @param images Images in which features will be detected
+     * @param options Additional identification options
+     * @return A Single which emits a {@link BatchResult} with an {@link IdentifyResult}
+     *         or error for each image, in order, or {@link PredictionsException} on failure
+     */
+    Single<BatchResult<IdentifyResult>> identifyAll(
+            @NonNull IdentifyAction actionType,
+            @NonNull List<Bitmap> images,
+            @NonNull IdentifyOptions options
+    );
+
+    /**
+     * Interpret many pieces of text at once.
+     * @param texts Texts to interpret
+     * @return A single which emits a {@link BatchResult} with an {@link InterpretResult}
+     *         or error for each text, in order, or {@link PredictionsException} on failure
+     */
+    Single<BatchResult<InterpretResult>> interpretAll(
+            @NonNull List<String> texts
+    );
+
+    /**
+     * Interpret many pieces of text at once.
+     * @param texts Texts to interpret
+     * @param options Interpret options
+     * @return A single which emits a {@link BatchResult} with an {@link InterpretResult}
+     *         or error for each text, in order, or {@link PredictionsException} on failure
+     */
+    Single<BatchResult<InterpretResult>> interpretAll(
+            @NonNull List<String> texts,
+            @NonNull InterpretOptions options
+    );
 }
@@ -39,7 +39,10 @@ import com.amplifyframework.storage.result.StorageUploadInputStreamResult;
 
 import java.io.File;
 import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
+import io.reactivex.rxjava3.core.Flowable;
 import io.reactivex.rxjava3.core.Observable;
 import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.subjects.PublishSubject;
@@ -144,6 +147,27 @@ public final class RxStorageBinding implements RxStorageCategoryBehavior {
         });
     }
 
+    @NonNull
+    @Override
+    public Flowable<StorageListResult> listPages(@NonNull String path, @NonNull StorageListOptions options) {
+        // Each page is listed once the previous one has been emitted, starting from the
+        // token of the previous page. With a prefetch of 1, concatMap lists at most one
+        // page ahead of the subscriber's requests. A page without a token is the last one.
+        return Flowable.defer(() -> {
+            AtomicReference<String> nextToken = new AtomicReference<>(options.getNextToken());
+            AtomicBoolean exhausted = new AtomicBoolean(false);
+            return Flowable.range(0, Integer.MAX_VALUE)
+                .takeWhile(page -> !exhausted.get())
+                .concatMap(page -> exhausted.get() ? Flowable.<StorageListResult>empty() :
+                    list(path, StorageListOptions.from(options).nextToken(nextToken.get()).build())
+                        .doOnSuccess(result -> {
+                            nextToken.set(result.getNextToken());
+                            exhausted.set(result.getNextToken() == null);
+                        })
+                        .toFlowable(), 1);
+        });
+    }
+
     private <T> Single<T> toSingle(CancelableBehaviors.ResultEmitter<T, StorageException> method) {
         return CancelableBehaviors.toSingle(method);
     }
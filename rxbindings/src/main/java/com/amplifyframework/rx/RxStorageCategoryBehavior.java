@@ -36,6 +36,7 @@ import com.amplifyframework.storage.result.StorageUploadInputStreamResult;
 import java.io.File;
 import java.io.InputStream;
 
+import io.reactivex.rxjava3.core.Flowable;
 import io.reactivex.rxjava3.core.Single;
 
 /**
@@ -187,6 +188,27 @@ public interface RxStorageCategoryBehavior {
             @NonNull StorageListOptions options
     );
 
+    /**
+     * Lists remote files one page at a time. Each page holds at most
+     * {@link StorageListOptions#getPageSize()} items. The first page is listed on
+     * subscription, and each following page is listed once the page before it has
+     * been emitted, so at most one page is listed ahead of the subscriber's requests.
+     * This way, a large path can be processed without holding all of its items in
+     * memory. If the options do not specify a page size, all of the items are
+     * emitted in a single page.
+     * @param path Remote path where files are found
+     * @param options Storage listing options, including the page size and the token
+     *                of the first page to list
+     * @return A flowable which emits each page of the list result, and then completes,
+     *         or emits an error on failure. The listing does not begin until subscription.
+     *         You can stop listing further pages by disposing the subscription.
+     */
+    @NonNull
+    Flowable<StorageListResult> listPages(
+            @NonNull String path,
+            @NonNull StorageListOptions options
+    );
+
     /**
      * Type alias that defines the generic parameters for a download operation.
      * @param <T> The type that represents the result of a given operation.
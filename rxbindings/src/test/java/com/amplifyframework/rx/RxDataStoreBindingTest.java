@@ -23,6 +23,8 @@ import com.amplifyframework.core.Consumer;
 import com.amplifyframework.core.async.Cancelable;
 import com.amplifyframework.core.async.NoOpCancelable;
 import com.amplifyframework.core.model.Model;
+import com.amplifyframework.core.model.query.QueryOptions;
+import com.amplifyframework.core.model.query.Where;
 import com.amplifyframework.datastore.DataStoreCategory;
 import com.amplifyframework.datastore.DataStoreCategoryConfiguration;
 import com.amplifyframework.datastore.DataStoreException;
@@ -42,12 +44,15 @@ import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import io.reactivex.rxjava3.observers.TestObserver;
+import io.reactivex.rxjava3.subscribers.TestSubscriber;
 
 import static com.amplifyframework.rx.Matchers.anyAction;
 import static com.amplifyframework.rx.Matchers.anyConsumer;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -266,6 +271,46 @@ public final class RxDataStoreBindingTest {
             .query(eq(Model.class), anyConsumer(), anyConsumer());
     }
 
+    /**
+     * A stream reads the query results one window at a time, and only reads the
+     * next window once the subscriber has asked for more items.
+     * @throws InterruptedException If interrupted while test subscriber is awaiting terminal event
+     */
+    @Test
+    public void streamQueriesOneWindowAtATimeAsItemsAreRequested() throws InterruptedException {
+        // Arrange: the category behavior returns the requested page of five models.
+        List<Model> models = Arrays.asList(
+            RandomModel.model(), RandomModel.model(), RandomModel.model(), RandomModel.model(), RandomModel.model()
+        );
+        doAnswer(invocation -> {
+            QueryOptions options = invocation.getArgument(1);
+            Consumer<Iterator<Model>> resultConsumer = invocation.getArgument(2);
+            int limit = options.getPaginationInput().getLimit();
+            int start = Math.min(models.size(), options.getPaginationInput().getPage() * limit);
+            int end = Math.min(models.size(), start + limit);
+            resultConsumer.accept(models.subList(start, end).iterator());
+            return null;
+        }).when(delegate)
+            .query(eq(Model.class), any(QueryOptions.class), anyConsumer(), anyConsumer());
+
+        // Act: stream the models, two at a time, asking for only one of them.
+        TestSubscriber<Model> subscriber = rxDataStore.stream(Model.class, Where.matchesAll(), 2).test(1);
+
+        // Assert: only the first window has been queried.
+        subscriber.assertValues(models.get(0));
+        verify(delegate, times(1))
+            .query(eq(Model.class), any(QueryOptions.class), anyConsumer(), anyConsumer());
+
+        // Act: ask for the rest.
+        subscriber.request(Long.MAX_VALUE);
+
+        // Assert: every model was emitted. The last window was short, so no further query was needed.
+        subscriber.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        subscriber.assertValueSequence(models).assertComplete();
+        verify(delegate, times(3))
+            .query(eq(Model.class), any(QueryOptions.class), anyConsumer(), anyConsumer());
+    }
+
     /**
      * The Rx binding for observing the DataStore should be an Observable stream
      * of DataStore changes. It should emit events whenever they are observed
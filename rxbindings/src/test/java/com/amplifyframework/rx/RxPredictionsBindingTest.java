@@ -27,6 +27,7 @@ import com.amplifyframework.predictions.operation.IdentifyOperation;
 import com.amplifyframework.predictions.operation.InterpretOperation;
 import com.amplifyframework.predictions.operation.TextToSpeechOperation;
 import com.amplifyframework.predictions.operation.TranslateTextOperation;
+import com.amplifyframework.predictions.result.BatchResult;
 import com.amplifyframework.predictions.result.IdentifyDocumentTextResult;
 import com.amplifyframework.predictions.result.IdentifyResult;
 import com.amplifyframework.predictions.result.InterpretResult;
@@ -40,7 +41,9 @@ import org.junit.runner.RunWith;
 import org.robolectric.RobolectricTestRunner;
 
 import java.io.ByteArrayInputStream;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import io.reactivex.rxjava3.core.Single;
@@ -244,4 +247,27 @@ public final class RxPredictionsBindingTest {
         observer.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
         observer.assertError(predictionsException);
     }
+
+    /**
+     * When the delegate of {@link RxPredictionsBinding#interpretAll(List)} emits a batch result,
+     * it should be propagated via the returned {@link Single}.
+     * @throws InterruptedException If interrupted while test observer is awaiting terminal event
+     */
+    @Test
+    public void testSuccessfulBatchTextInterpretation() throws InterruptedException {
+        List<String> texts = Arrays.asList(RandomString.string(), RandomString.string());
+        BatchResult<InterpretResult> result = BatchResult.fromItems(Arrays.asList(
+            BatchResult.Item.success(InterpretResult.builder().build()),
+            BatchResult.Item.failure(new PredictionsException("Uh", "Oh"))
+        ));
+        doAnswer(invocation -> {
+            final int indexOfResultConsumer = 1; // 0 = texts, 1 = result, 2 = error
+            Consumer<BatchResult<InterpretResult>> onResult = invocation.getArgument(indexOfResultConsumer);
+            onResult.accept(result);
+            return mock(InterpretOperation.class);
+        }).when(delegate).interpretAll(eq(texts), anyConsumer(), anyConsumer());
+        TestObserver<BatchResult<InterpretResult>> observer = rxPredictions.interpretAll(texts).test();
+        observer.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        observer.assertValue(result);
+    }
 }
@@ -30,6 +30,7 @@ import com.amplifyframework.storage.operation.StorageRemoveOperation;
 import com.amplifyframework.storage.operation.StorageUploadFileOperation;
 import com.amplifyframework.storage.operation.StorageUploadInputStreamOperation;
 import com.amplifyframework.storage.options.StorageDownloadFileOptions;
+import com.amplifyframework.storage.options.StorageListOptions;
 import com.amplifyframework.storage.options.StorageUploadFileOptions;
 import com.amplifyframework.storage.options.StorageUploadInputStreamOptions;
 import com.amplifyframework.storage.result.StorageDownloadFileResult;
@@ -51,15 +52,19 @@ import java.io.InputStream;
 import java.util.Collections;
 import java.util.concurrent.TimeUnit;
 
+import io.reactivex.rxjava3.core.Flowable;
 import io.reactivex.rxjava3.core.Observable;
 import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.observers.TestObserver;
+import io.reactivex.rxjava3.subscribers.TestSubscriber;
 
 import static com.amplifyframework.rx.Matchers.anyConsumer;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -350,6 +355,65 @@ public final class RxStorageBindingTest {
             .assertError(error);
     }
 
+    /**
+     * When {@link StorageCategoryBehavior#list(String, StorageListOptions, Consumer, Consumer)}
+     * returns a page with a next token, the {@link Flowable} returned by
+     * {@link RxStorageCategoryBehavior#listPages(String, StorageListOptions)} should list the
+     * following page with that token, and complete after the page that has no next token.
+     */
+    @Test
+    public void listPagesFollowsNextTokens() {
+        StorageListResult firstPage = StorageListResult.fromItems(Collections.emptyList(), "token");
+        StorageListResult lastPage = StorageListResult.fromItems(Collections.emptyList(), null);
+        doAnswer(invocation -> {
+            final int indexOfResultConsumer = 2; // 0 path, 1 options, 2 onResult, 3 onError
+            StorageListOptions options = invocation.getArgument(1);
+            Consumer<StorageListResult> resultConsumer = invocation.getArgument(indexOfResultConsumer);
+            resultConsumer.accept(options.getNextToken() == null ? firstPage : lastPage);
+            return mock(StorageListOperation.class);
+        })
+        .when(delegate)
+            .list(eq(remoteKey), any(StorageListOptions.class), anyConsumer(), anyConsumer());
+
+        rxStorage
+            .listPages(remoteKey, StorageListOptions.builder().pageSize(1).build())
+            .test()
+            .assertValues(firstPage, lastPage)
+            .assertComplete();
+    }
+
+    /**
+     * {@link RxStorageCategoryBehavior#listPages(String, StorageListOptions)} should list at
+     * most one page ahead of the pages that its subscriber has requested.
+     */
+    @Test
+    public void listPagesListsAtMostOnePageAhead() {
+        doAnswer(invocation -> {
+            final int indexOfResultConsumer = 2; // 0 path, 1 options, 2 onResult, 3 onError
+            StorageListOptions options = invocation.getArgument(1);
+            Consumer<StorageListResult> resultConsumer = invocation.getArgument(indexOfResultConsumer);
+            // Each page's token is the number of the page after it.
+            int page = options.getNextToken() == null ? 1 : Integer.parseInt(options.getNextToken());
+            resultConsumer.accept(StorageListResult.fromItems(Collections.emptyList(), String.valueOf(page + 1)));
+            return mock(StorageListOperation.class);
+        })
+        .when(delegate)
+            .list(eq(remoteKey), any(StorageListOptions.class), anyConsumer(), anyConsumer());
+
+        TestSubscriber<StorageListResult> subscriber = rxStorage
+            .listPages(remoteKey, StorageListOptions.builder().pageSize(1).build())
+            .test(1);
+        subscriber.assertValueCount(1);
+        verify(delegate, times(2))
+            .list(eq(remoteKey), any(StorageListOptions.class), anyConsumer(), anyConsumer());
+
+        subscriber.request(1);
+        subscriber.assertValueCount(2);
+        verify(delegate, times(3))
+            .list(eq(remoteKey), any(StorageListOptions.class), anyConsumer(), anyConsumer());
+        subscriber.cancel();
+    }
+
     /**
      * When the {@link StorageCategoryBehavior#remove(String, Consumer, Consumer)} emits
      * a result, the {@link Single} returned by {@link RxStorageCategoryBehavior#remove(String)} should